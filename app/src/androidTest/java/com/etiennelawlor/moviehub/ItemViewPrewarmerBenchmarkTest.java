@@ -0,0 +1,284 @@
+package com.etiennelawlor.moviehub;
+
+import android.annotation.TargetApi;
+import android.app.Activity;
+import android.app.Instrumentation;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.filters.LargeTest;
+import android.support.test.rule.ActivityTestRule;
+import android.support.test.runner.AndroidJUnit4;
+import android.support.v7.widget.RecyclerView;
+import android.support.v7.widget.StaggeredGridLayoutManager;
+import android.view.FrameMetrics;
+import android.view.ViewGroup;
+import android.view.Window;
+
+import com.etiennelawlor.moviehub.data.network.response.Movie;
+import com.etiennelawlor.moviehub.presentation.common.ItemViewPrewarmer;
+import com.etiennelawlor.moviehub.presentation.main.MainActivity;
+import com.etiennelawlor.moviehub.presentation.movies.MoviesAdapter;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import timber.log.Timber;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures the first page of movies, with the cards inflated in the frame that shows them and
+ * with them prewarmed. Once as the main thread time spent creating the holders, and once as the
+ * duration of the frames rendered while the page goes on screen, as reported by FrameMetrics.
+ *
+ * The frame times land in logcat as the median, 90th and 99th percentile of the frame laying out
+ * the page, and the count of frames over the 16ms budget. They are also sent as instrumentation
+ * status, so {@code am instrument -r} prints them as INSTRUMENTATION_STATUS lines per variant.
+ */
+
+@RunWith(AndroidJUnit4.class)
+@LargeTest
+public class ItemViewPrewarmerBenchmarkTest {
+
+    // region Constants
+    private static final int SPAN_COUNT = 2;
+    private static final double CARD_HEIGHT_RATIO = 3.0D/2.0D;
+    private static final int MEASURED_ROUNDS = 20;
+    private static final long PREWARM_TIMEOUT_MILLIS = 5000L;
+    private static final long POLL_INTERVAL_MILLIS = 10L;
+    private static final long FRAME_BUDGET_NANOS = 16666667L;
+    // FrameMetrics reports a frame once the render thread is done with it, after the main thread is idle
+    private static final long FRAME_METRICS_DELAY_MILLIS = 500L;
+    // endregion
+
+    // region Member Variables
+    @Rule
+    public ActivityTestRule<MainActivity> activityRule = new ActivityTestRule(MainActivity.class);
+    // endregion
+
+    // region Test Methods
+    @Test
+    public void createViewHolder_shouldTakeLessMainThreadTime_whenItemViewsArePrewarmed() {
+        // 1. (Given) Set up conditions required for the test
+        Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
+        Activity activity = activityRule.getActivity();
+        int itemCount = ItemViewPrewarmer.getScreenfulItemCount(activity, SPAN_COUNT, CARD_HEIGHT_RATIO);
+        long[] inflatedNanos = new long[MEASURED_ROUNDS];
+        long[] prewarmedNanos = new long[MEASURED_ROUNDS];
+
+        // 2. (When) Then perform one or more actions
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            int round = i;
+            instrumentation.runOnMainSync(() -> {
+                MoviesAdapter moviesAdapter = new MoviesAdapter(activity);
+                inflatedNanos[round] = createFirstPage(moviesAdapter, createRecyclerView(activity), itemCount);
+            });
+
+            RecyclerView[] recyclerView = new RecyclerView[1];
+            ItemViewPrewarmer[] itemViewPrewarmer = new ItemViewPrewarmer[1];
+            instrumentation.runOnMainSync(() -> {
+                recyclerView[0] = createRecyclerView(activity);
+                itemViewPrewarmer[0] = new ItemViewPrewarmer(activity);
+                itemViewPrewarmer[0].prewarm(recyclerView[0], R.layout.movie_card, itemCount);
+            });
+            awaitPrewarm(instrumentation, itemViewPrewarmer[0], itemCount);
+
+            instrumentation.runOnMainSync(() -> {
+                MoviesAdapter moviesAdapter = new MoviesAdapter(activity);
+                moviesAdapter.setItemViewPrewarmer(itemViewPrewarmer[0]);
+                prewarmedNanos[round] = createFirstPage(moviesAdapter, recyclerView[0], itemCount);
+            });
+        }
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        Arrays.sort(inflatedNanos);
+        Arrays.sort(prewarmedNanos);
+        long inflatedMedianNanos = inflatedNanos[MEASURED_ROUNDS / 2];
+        long prewarmedMedianNanos = prewarmedNanos[MEASURED_ROUNDS / 2];
+        Timber.i("First page of %d cards: inflated %dus, prewarmed %dus",
+                itemCount, inflatedMedianNanos / 1000, prewarmedMedianNanos / 1000);
+        assertTrue(String.format("Prewarmed page took %dns, inflated page %dns", prewarmedMedianNanos, inflatedMedianNanos),
+                prewarmedMedianNanos < inflatedMedianNanos);
+    }
+
+    @Test
+    public void firstPageFrame_shouldRenderFaster_whenItemViewsArePrewarmed() {
+        // 1. (Given) Set up conditions required for the test
+        assumeTrue(Build.VERSION.SDK_INT >= Build.VERSION_CODES.N);
+        Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
+        Activity activity = activityRule.getActivity();
+        int itemCount = ItemViewPrewarmer.getScreenfulItemCount(activity, SPAN_COUNT, CARD_HEIGHT_RATIO);
+        HandlerThread frameMetricsThread = new HandlerThread("FrameMetrics");
+        frameMetricsThread.start();
+        Handler frameMetricsHandler = new Handler(frameMetricsThread.getLooper());
+
+        // 2. (When) Then perform one or more actions
+        FrameTimes inflatedFrameTimes;
+        FrameTimes prewarmedFrameTimes;
+        try {
+            inflatedFrameTimes = measureFirstPageFrames(instrumentation, activity, frameMetricsHandler, itemCount, false);
+            prewarmedFrameTimes = measureFirstPageFrames(instrumentation, activity, frameMetricsHandler, itemCount, true);
+        } finally {
+            frameMetricsThread.quit();
+        }
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        Timber.i("First page frame of %d cards, inflated: %s", itemCount, inflatedFrameTimes);
+        Timber.i("First page frame of %d cards, prewarmed: %s", itemCount, prewarmedFrameTimes);
+        Bundle results = new Bundle();
+        results.putInt("item_count", itemCount);
+        inflatedFrameTimes.putResults(results, "inflated");
+        prewarmedFrameTimes.putResults(results, "prewarmed");
+        instrumentation.sendStatus(0, results);
+        assertTrue(String.format("Prewarmed page frame took %dns, inflated page frame %dns",
+                prewarmedFrameTimes.getPercentile(50), inflatedFrameTimes.getPercentile(50)),
+                prewarmedFrameTimes.getPercentile(50) < inflatedFrameTimes.getPercentile(50));
+    }
+    // endregion
+
+    // region Helper Methods
+    private RecyclerView createRecyclerView(Activity activity) {
+        RecyclerView recyclerView = new RecyclerView(activity);
+        recyclerView.setLayoutManager(new StaggeredGridLayoutManager(SPAN_COUNT, StaggeredGridLayoutManager.VERTICAL));
+        return recyclerView;
+    }
+
+    // What the frame binding the first page spends creating its holders
+    private long createFirstPage(MoviesAdapter moviesAdapter, RecyclerView recyclerView, int itemCount) {
+        long start = System.nanoTime();
+        for (int i = 0; i < itemCount; i++) {
+            moviesAdapter.createViewHolder(recyclerView, moviesAdapter.getItemType());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void awaitPrewarm(Instrumentation instrumentation, ItemViewPrewarmer itemViewPrewarmer, int itemCount) {
+        long deadline = SystemClock.elapsedRealtime() + PREWARM_TIMEOUT_MILLIS;
+        int[] readyViewCount = new int[1];
+        while (SystemClock.elapsedRealtime() < deadline) {
+            instrumentation.runOnMainSync(() -> readyViewCount[0] = itemViewPrewarmer.getReadyViewCount(R.layout.movie_card));
+            if (readyViewCount[0] == itemCount)
+                return;
+            SystemClock.sleep(POLL_INTERVAL_MILLIS);
+        }
+        throw new AssertionError(String.format("Only %d of %d cards prewarmed", readyViewCount[0], itemCount));
+    }
+
+    // Adds a page of cards to the window each round and records the frames drawn until it is idle
+    @TargetApi(Build.VERSION_CODES.N)
+    private FrameTimes measureFirstPageFrames(Instrumentation instrumentation, Activity activity, Handler frameMetricsHandler, int itemCount, boolean prewarmed) {
+        List<Movie> movies = getMovies(itemCount);
+        FrameTimes frameTimes = new FrameTimes();
+
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            List<Long> frameNanos = Collections.synchronizedList(new ArrayList<>());
+            Window.OnFrameMetricsAvailableListener onFrameMetricsAvailableListener = (window, frameMetrics, dropCountSinceLastInvocation) ->
+                    frameNanos.add(frameMetrics.getMetric(FrameMetrics.TOTAL_DURATION));
+
+            RecyclerView[] recyclerView = new RecyclerView[1];
+            ItemViewPrewarmer[] itemViewPrewarmer = new ItemViewPrewarmer[1];
+            instrumentation.runOnMainSync(() -> {
+                recyclerView[0] = createRecyclerView(activity);
+                if (prewarmed) {
+                    itemViewPrewarmer[0] = new ItemViewPrewarmer(activity);
+                    itemViewPrewarmer[0].prewarm(recyclerView[0], R.layout.movie_card, itemCount);
+                }
+            });
+            if (prewarmed)
+                awaitPrewarm(instrumentation, itemViewPrewarmer[0], itemCount);
+
+            instrumentation.runOnMainSync(() -> {
+                activity.getWindow().addOnFrameMetricsAvailableListener(onFrameMetricsAvailableListener, frameMetricsHandler);
+                MoviesAdapter moviesAdapter = new MoviesAdapter(activity);
+                moviesAdapter.setItemViewPrewarmer(itemViewPrewarmer[0]);
+                moviesAdapter.addAll(movies);
+                recyclerView[0].setAdapter(moviesAdapter);
+                activity.addContentView(recyclerView[0], new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+            });
+            instrumentation.waitForIdleSync();
+            SystemClock.sleep(FRAME_METRICS_DELAY_MILLIS);
+
+            instrumentation.runOnMainSync(() -> {
+                activity.getWindow().removeOnFrameMetricsAvailableListener(onFrameMetricsAvailableListener);
+                ((ViewGroup) recyclerView[0].getParent()).removeView(recyclerView[0]);
+            });
+            instrumentation.waitForIdleSync();
+
+            synchronized (frameNanos) {
+                frameTimes.addRound(frameNanos);
+            }
+        }
+
+        return frameTimes;
+    }
+
+    // Without a poster path the image load fails off the main thread, the frames only measure the cards
+    private List<Movie> getMovies(int itemCount) {
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            Movie movie = new Movie();
+            movie.setId(i + 1);
+            movie.setTitle("Movie " + (i + 1));
+            movies.add(movie);
+        }
+        return movies;
+    }
+    // endregion
+
+    // region Inner Classes
+
+    private static class FrameTimes {
+        // region Member Variables
+        private final List<Long> firstPageFrameNanos = new ArrayList<>();
+        private int frameCount;
+        private int jankyFrameCount;
+        // endregion
+
+        // The longest frame of a round is the one laying out the page
+        private void addRound(List<Long> frameNanos) {
+            if (frameNanos.isEmpty())
+                throw new AssertionError("No frames were reported for the first page");
+
+            firstPageFrameNanos.add(Collections.max(frameNanos));
+            frameCount += frameNanos.size();
+            for (long nanos : frameNanos) {
+                if (nanos > FRAME_BUDGET_NANOS)
+                    jankyFrameCount++;
+            }
+        }
+
+        private long getPercentile(int percentile) {
+            List<Long> sortedNanos = new ArrayList<>(firstPageFrameNanos);
+            Collections.sort(sortedNanos);
+            return sortedNanos.get((sortedNanos.size() - 1) * percentile / 100);
+        }
+
+        private void putResults(Bundle results, String variant) {
+            results.putLong(variant + "_p50_nanos", getPercentile(50));
+            results.putLong(variant + "_p90_nanos", getPercentile(90));
+            results.putLong(variant + "_p99_nanos", getPercentile(99));
+            results.putInt(variant + "_janky_frames", jankyFrameCount);
+            results.putInt(variant + "_frames", frameCount);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("p50 %.1fms, p90 %.1fms, p99 %.1fms, %d of %d frames janky",
+                    getPercentile(50) / 1e6, getPercentile(90) / 1e6, getPercentile(99) / 1e6,
+                    jankyFrameCount, frameCount);
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,306 @@
+package com.etiennelawlor.moviehub;
+
+import android.content.res.AssetManager;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.filters.LargeTest;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.etiennelawlor.moviehub.data.database.MovieHubRealmMigration;
+import com.etiennelawlor.moviehub.data.database.models.RealmMovie;
+import com.etiennelawlor.moviehub.data.database.models.RealmMoviesPage;
+import com.etiennelawlor.moviehub.data.database.models.RealmMovieDetails;
+import com.etiennelawlor.moviehub.data.database.models.RealmPalette;
+import com.etiennelawlor.moviehub.data.database.models.RealmSearch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+
+import io.realm.DynamicRealm;
+import io.realm.DynamicRealmObject;
+import io.realm.Realm;
+import io.realm.RealmConfiguration;
+import io.realm.RealmList;
+import io.realm.RealmSchema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Opens Realm files written at older schema versions and checks that the cached data survives
+ * the upgrade.
+ *
+ * Each fixture is the current schema taken back to the older version's shape, filled with rows
+ * as that version wrote them. Since that shape is written alongside the migration, one test also
+ * opens {@code baseline-v0.realm} from the test assets: a file written by the app as it was
+ * before migrations existed, at schema version 0. That version cached popular pages only, it had
+ * no search cache. To write it, check out the baseline commit, install it, open the popular
+ * movies, TV shows and people tabs, then run
+ * {@code adb exec-out run-as com.etiennelawlor.moviehub cat files/default.realm > app/src/androidTest/assets/baseline-v0.realm}.
+ */
+
+@RunWith(AndroidJUnit4.class)
+@LargeTest
+public class MovieHubRealmMigrationTest {
+
+    // region Constants
+    private static final String FIXTURE_NAME = "migration-fixture.realm";
+    private static final String BASELINE_FIXTURE_ASSET = "baseline-v0.realm";
+    private static final int MOVIES_PER_PAGE = 20;
+    private static final int LARGE_PAGE_COUNT = 250;
+    private static final String[] CACHE_ENTRY_CLASSES = {"RealmMoviesPage", "RealmTelevisionShowsPage",
+            "RealmPersonsPage", "RealmSearch", "RealmMovieDetails", "RealmTelevisionShowDetails", "RealmPersonDetails"};
+    // endregion
+
+    // region Member Variables
+    private RealmConfiguration configuration;
+    // endregion
+
+    @Before
+    public void setUp() {
+        configuration = new RealmConfiguration.Builder()
+                .name(FIXTURE_NAME)
+                .schemaVersion(MovieHubRealmMigration.SCHEMA_VERSION)
+                .migration(new MovieHubRealmMigration())
+                .build();
+        Realm.deleteRealm(configuration);
+    }
+
+    // region Test Methods
+    @Test
+    public void migrate_shouldCollapseDuplicateMovies_whenUpgradingFromVersion0() {
+        // 1. (Given) Set up conditions required for the test
+        writeFixture(0, realm -> {
+            DynamicRealmObject staleMovie = createMovie(realm, 1, "Stale title");
+            DynamicRealmObject freshMovie = createMovie(realm, 1, "Fresh title");
+            DynamicRealmObject moviesPage = realm.createObject("RealmMoviesPage", 1);
+            moviesPage.getList("movies").add(staleMovie);
+            moviesPage.getList("movies").add(freshMovie);
+            moviesPage.setDate("expiredAt", getFutureDate());
+        });
+
+        // 2. (When) Then perform one or more actions
+        Realm realm = Realm.getInstance(configuration);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        try {
+            assertEquals(1, realm.where(RealmMovie.class).count());
+            RealmMoviesPage realmMoviesPage = realm.where(RealmMoviesPage.class).equalTo("pageNumber", 1).findFirst();
+            assertNotNull(realmMoviesPage);
+            assertEquals(2, realmMoviesPage.getMovies().size());
+            assertEquals("Fresh title", realmMoviesPage.getMovies().get(0).getTitle());
+            assertEquals(0, realm.where(RealmSearch.class).count());
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void migrate_shouldKeepCachedPages_whenUpgradingFromVersion1() {
+        // 1. (Given) Set up conditions required for the test
+        writeFixture(1, realm -> {
+            DynamicRealmObject moviesPage = realm.createObject("RealmMoviesPage", 1);
+            moviesPage.getList("movies").add(createMovie(realm, 1, "Cached title"));
+            moviesPage.setDate("expiredAt", getFutureDate());
+        });
+
+        // 2. (When) Then perform one or more actions
+        Realm realm = Realm.getInstance(configuration);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        try {
+            RealmMoviesPage realmMoviesPage = realm.where(RealmMoviesPage.class).equalTo("pageNumber", 1).findFirst();
+            assertNotNull(realmMoviesPage);
+            assertEquals("Cached title", realmMoviesPage.getMovies().get(0).getTitle());
+            assertNotNull(realmMoviesPage.getLastAccessedAt());
+            assertEquals(0, realm.where(RealmMovieDetails.class).count());
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void migrate_shouldAddPaletteSchema_whenUpgradingFromVersion3() {
+        // 1. (Given) Set up conditions required for the test
+        writeFixture(3, realm -> {
+            DynamicRealmObject moviesPage = realm.createObject("RealmMoviesPage", 1);
+            moviesPage.getList("movies").add(createMovie(realm, 1, "Cached title"));
+            moviesPage.setDate("expiredAt", getFutureDate());
+            moviesPage.setDate("lastAccessedAt", new Date());
+        });
+
+        // 2. (When) Then perform one or more actions
+        Realm realm = Realm.getInstance(configuration);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        try {
+            assertTrue(realm.getSchema().get("RealmPalette").hasField("lastAccessedAt"));
+            Date lastAccessedAt = new Date();
+            realm.executeTransaction(transactionRealm -> {
+                RealmPalette realmPalette = transactionRealm.createObject(RealmPalette.class, "/poster.jpg");
+                realmPalette.setRgb(0xFF336699);
+                realmPalette.setLastAccessedAt(lastAccessedAt);
+            });
+            RealmPalette realmPalette = realm.where(RealmPalette.class).equalTo("imagePath", "/poster.jpg").findFirst();
+            assertNotNull(realmPalette);
+            assertEquals(0xFF336699, realmPalette.getRgb());
+            assertEquals(lastAccessedAt, realmPalette.getLastAccessedAt());
+            assertEquals(1, realm.where(RealmMoviesPage.class).count());
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void migrate_shouldKeepCachedPages_whenUpgradingBaselineFile() throws IOException {
+        // 1. (Given) Set up conditions required for the test
+        AssetManager assets = InstrumentationRegistry.getContext().getAssets();
+        assumeTrue(BASELINE_FIXTURE_ASSET + " has not been written from the baseline build yet",
+                Arrays.asList(assets.list("")).contains(BASELINE_FIXTURE_ASSET));
+        copyAsset(assets, BASELINE_FIXTURE_ASSET, new File(configuration.getPath()));
+
+        // 2. (When) Then perform one or more actions
+        Realm realm = Realm.getInstance(configuration);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        try {
+            assertTrue(realm.where(RealmMoviesPage.class).count() > 0);
+            for (RealmMoviesPage realmMoviesPage : realm.where(RealmMoviesPage.class).findAll()) {
+                assertTrue(realmMoviesPage.getMovies().size() > 0);
+                assertNotNull(realmMoviesPage.getMovies().get(0).getTitle());
+                assertNotNull(realmMoviesPage.getLastAccessedAt());
+            }
+            assertEquals(0, realm.where(RealmSearch.class).count());
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void migrate_shouldFinishWithinBudget_whenUpgradingLargeStoreFromVersion0() {
+        // 1. (Given) Set up conditions required for the test
+        writeFixture(0, realm -> {
+            for (int pageNumber = 1; pageNumber <= LARGE_PAGE_COUNT; pageNumber++) {
+                DynamicRealmObject moviesPage = realm.createObject("RealmMoviesPage", pageNumber);
+                RealmList<DynamicRealmObject> movies = moviesPage.getList("movies");
+                for (int i = 0; i < MOVIES_PER_PAGE; i++) {
+                    // Neighbouring pages overlap by half, like popular lists refreshed over days
+                    int movieId = pageNumber * MOVIES_PER_PAGE / 2 + i;
+                    movies.add(createMovie(realm, movieId, "Movie " + movieId));
+                }
+                moviesPage.setDate("expiredAt", getFutureDate());
+            }
+        });
+
+        // 2. (When) Then perform one or more actions
+        long startMillis = SystemClock.elapsedRealtime();
+        Realm realm = Realm.getInstance(configuration);
+        long migrationMillis = SystemClock.elapsedRealtime() - startMillis;
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        try {
+            assertEquals(LARGE_PAGE_COUNT, realm.where(RealmMoviesPage.class).count());
+            assertEquals((LARGE_PAGE_COUNT + 1) * MOVIES_PER_PAGE / 2, realm.where(RealmMovie.class).count());
+            assertTrue(String.format("Migration took %dms", migrationMillis),
+                    migrationMillis < MovieHubRealmMigration.MIGRATION_BUDGET_MILLIS);
+        } finally {
+            realm.close();
+        }
+    }
+    // endregion
+
+    @After
+    public void tearDown() {
+        Realm.deleteRealm(configuration);
+    }
+
+    // region Helper Methods
+    private void writeFixture(long version, DynamicRealm.Transaction transaction) {
+        // Creates the file with the current schema
+        Realm.getInstance(configuration).close();
+
+        DynamicRealm realm = DynamicRealm.getInstance(configuration);
+        try {
+            realm.executeTransaction(dynamicRealm -> {
+                downgradeSchema(dynamicRealm.getSchema(), version);
+                dynamicRealm.setVersion(version);
+                transaction.execute(dynamicRealm);
+            });
+        } finally {
+            realm.close();
+        }
+    }
+
+    // Undoes the migration steps above the given version, newest first
+    private void downgradeSchema(RealmSchema schema, long version) {
+        if (version < 4) {
+            schema.remove("RealmPalette");
+        }
+
+        if (version < 3) {
+            for (String className : CACHE_ENTRY_CLASSES) {
+                schema.get(className).removeField("lastAccessedAt");
+            }
+        }
+
+        if (version < 2) {
+            schema.remove("RealmMovieDetails");
+            schema.remove("RealmTelevisionShowDetails");
+            schema.remove("RealmPersonDetails");
+            schema.remove("RealmCredit");
+            schema.remove("RealmPersonCredit");
+        }
+
+        if (version < 1) {
+            schema.remove("RealmSearch");
+            schema.get("RealmMovie").removePrimaryKey();
+            schema.get("RealmTelevisionShow").removePrimaryKey();
+            schema.get("RealmPerson").removePrimaryKey();
+        }
+    }
+
+    private void copyAsset(AssetManager assets, String assetName, File destination) throws IOException {
+        InputStream inputStream = assets.open(assetName);
+        try {
+            OutputStream outputStream = new FileOutputStream(destination);
+            try {
+                byte[] buffer = new byte[8192];
+                int count;
+                while ((count = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, count);
+                }
+            } finally {
+                outputStream.close();
+            }
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    private DynamicRealmObject createMovie(DynamicRealm realm, int id, String title) {
+        DynamicRealmObject movie = realm.createObject("RealmMovie");
+        movie.setInt("id", id);
+        movie.setString("title", title);
+        return movie;
+    }
+
+    private Date getFutureDate() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.DATE, 1);
+        return calendar.getTime();
+    }
+    // endregion
+}
@@ -0,0 +1,189 @@
+package com.etiennelawlor.moviehub;
+
+import android.os.Debug;
+import android.support.test.filters.LargeTest;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.etiennelawlor.moviehub.data.database.RealmUtility;
+import com.etiennelawlor.moviehub.data.database.models.RealmMoviesPage;
+import com.etiennelawlor.moviehub.data.network.response.Genre;
+import com.etiennelawlor.moviehub.data.network.response.Movie;
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MovieItem;
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+
+import io.realm.Realm;
+import io.realm.RealmConfiguration;
+import timber.log.Timber;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares reading a cached page through the mapper, which copies every field of every movie,
+ * against binding the live Realm movies, which reads only the fields a list item displays.
+ *
+ * The live page is only usable on the thread that opened its Realm and until it is closed, and
+ * Realm 4 cannot freeze it for the main thread, so the app keeps the mapper copies.
+ */
+
+@RunWith(AndroidJUnit4.class)
+@LargeTest
+public class MovieReadPathBenchmarkTest {
+
+    // region Constants
+    private static final int MOVIES_PER_PAGE = 20;
+    private static final int GENRES_PER_MOVIE = 3;
+    private static final int PAGE_NUMBER = 1;
+    private static final int WARM_UP_READS = 50;
+    private static final int MEASURED_READS = 200;
+    // endregion
+
+    // region Member Variables
+    private RealmConfiguration previousConfiguration;
+    // In-memory Realms are discarded once their last instance closes, so hold one open
+    private Realm realm;
+    // endregion
+
+    @Before
+    public void setUp() {
+        previousConfiguration = Realm.getDefaultConfiguration();
+        Realm.setDefaultConfiguration(new RealmConfiguration.Builder()
+                .name("movie-read-path-benchmark.realm")
+                .inMemory()
+                .build());
+        realm = Realm.getDefaultInstance();
+        realm.executeTransaction(realm -> realm.deleteAll());
+
+        RealmUtility.saveMoviesPage(getMoviesPage());
+    }
+
+    // region Test Methods
+    @Test
+    public void getMovieItems_shouldReadSameFieldsAsMapper() {
+        // 1. (Given) Set up conditions required for the test
+        List<Movie> movies = RealmUtility.getMoviesPage(PAGE_NUMBER).getMovies();
+
+        // 2. (When) Then perform one or more actions
+        List<? extends MovieItem> movieItems = getMovieItems(PAGE_NUMBER);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        assertEquals(movies.size(), movieItems.size());
+        for (int i = 0; i < movies.size(); i++) {
+            assertEquals(movies.get(i).getId(), movieItems.get(i).getId());
+            assertEquals(movies.get(i).getTitle(), movieItems.get(i).getTitle());
+            assertEquals(movies.get(i).getPosterUrl(), movieItems.get(i).getPosterUrl());
+            assertEquals(movies.get(i).getReleaseYear(), movieItems.get(i).getReleaseYear());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void getMovieItems_shouldAllocateLessThanMapper_whenBindingPage() {
+        // 1. (Given) Set up conditions required for the test
+        for (int i = 0; i < WARM_UP_READS; i++) {
+            bindMapperPage();
+            bindLivePage();
+        }
+
+        // 2. (When) Then perform one or more actions
+        Debug.startAllocCounting();
+        Debug.resetThreadAllocCount();
+        long mapperNanos = measure(this::bindMapperPage);
+        int mapperAllocations = Debug.getThreadAllocCount();
+
+        Debug.resetThreadAllocCount();
+        long liveNanos = measure(this::bindLivePage);
+        int liveAllocations = Debug.getThreadAllocCount();
+        Debug.stopAllocCounting();
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        Timber.i("Page bind: mapper %dns %d allocations, live %dns %d allocations",
+                mapperNanos, mapperAllocations / MEASURED_READS, liveNanos, liveAllocations / MEASURED_READS);
+        assertTrue(String.format("Live path allocated %d, mapper path %d", liveAllocations, mapperAllocations),
+                liveAllocations < mapperAllocations);
+    }
+    // endregion
+
+    @After
+    public void tearDown() {
+        realm.close();
+        Realm.setDefaultConfiguration(previousConfiguration);
+    }
+
+    // region Helper Methods
+    // Reads what MoviesAdapter displays for each movie of the page
+    private void bindMapperPage() {
+        for (Movie movie : RealmUtility.getMoviesPage(PAGE_NUMBER).getMovies()) {
+            bind(movie);
+        }
+    }
+
+    private void bindLivePage() {
+        for (MovieItem movieItem : getMovieItems(PAGE_NUMBER)) {
+            bind(movieItem);
+        }
+    }
+
+    private List<? extends MovieItem> getMovieItems(int pageNumber) {
+        RealmMoviesPage realmMoviesPage = realm.where(RealmMoviesPage.class)
+                .equalTo("pageNumber", pageNumber)
+                .findFirst();
+        if (realmMoviesPage == null)
+            return Collections.emptyList();
+
+        return realmMoviesPage.getMovies();
+    }
+
+    private void bind(MovieItem movieItem) {
+        movieItem.getTitle();
+        movieItem.getPosterUrl();
+        movieItem.getReleaseYear();
+    }
+
+    // Median time of one page read
+    private long measure(Runnable read) {
+        long[] durations = new long[MEASURED_READS];
+        for (int i = 0; i < MEASURED_READS; i++) {
+            long start = System.nanoTime();
+            read.run();
+            durations[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(durations);
+        return durations[MEASURED_READS / 2];
+    }
+
+    private MoviesPage getMoviesPage() {
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < MOVIES_PER_PAGE; i++) {
+            Movie movie = new Movie();
+            movie.setId(i);
+            movie.setTitle("Movie " + i);
+            movie.setPosterPath("/poster" + i + ".jpg");
+            movie.setReleaseDate("2017-06-0" + (i % 9 + 1));
+            movie.setOverview("Overview " + i);
+
+            List<Genre> genres = new ArrayList<>();
+            for (int j = 0; j < GENRES_PER_MOVIE; j++) {
+                Genre genre = new Genre();
+                genre.setId(j);
+                genre.setName("Genre " + j);
+                genres.add(genre);
+            }
+            movie.setGenres(genres);
+            movies.add(movie);
+        }
+        return new MoviesPage(movies, PAGE_NUMBER, false, Calendar.getInstance().getTime());
+    }
+    // endregion
+}
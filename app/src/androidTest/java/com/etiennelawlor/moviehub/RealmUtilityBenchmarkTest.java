@@ -0,0 +1,206 @@
+package com.etiennelawlor.moviehub;
+
+import android.support.test.filters.LargeTest;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.etiennelawlor.moviehub.data.database.RealmSweeper;
+import com.etiennelawlor.moviehub.data.database.RealmUtility;
+import com.etiennelawlor.moviehub.data.database.models.RealmMovie;
+import com.etiennelawlor.moviehub.data.network.response.Movie;
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+
+import io.realm.Realm;
+import io.realm.RealmConfiguration;
+import timber.log.Timber;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that page lookups go through the primary key, that saving a page twice updates it
+ * in place and that the sweeper removes what expired.
+ */
+
+@RunWith(AndroidJUnit4.class)
+@LargeTest
+public class RealmUtilityBenchmarkTest {
+
+    // region Constants
+    private static final int MOVIES_PER_PAGE = 20;
+    private static final int SMALL_PAGE_COUNT = 10;
+    private static final int LARGE_PAGE_COUNT = 500;
+    private static final int WARM_UP_LOOKUPS = 50;
+    private static final int MEASURED_LOOKUPS = 200;
+    // Generous so the test is not flaky on slow emulators, a findAll() scan grows ~50x here
+    private static final double MAX_SLOWDOWN = 3.0;
+    // endregion
+
+    // region Member Variables
+    private RealmConfiguration previousConfiguration;
+    // In-memory Realms are discarded once their last instance closes, so hold one open
+    private Realm realm;
+    // endregion
+
+    @Before
+    public void setUp() {
+        previousConfiguration = Realm.getDefaultConfiguration();
+        Realm.setDefaultConfiguration(new RealmConfiguration.Builder()
+                .name("realm-utility-benchmark.realm")
+                .inMemory()
+                .build());
+        realm = Realm.getDefaultInstance();
+        // Start every test from an empty store
+        realm.executeTransaction(realm -> realm.deleteAll());
+    }
+
+    // region Test Methods
+    @Test
+    public void getMoviesPage_shouldFindPage_whenPagesWereSavedOutOfOrder() {
+        // 1. (Given) Set up conditions required for the test
+        RealmUtility.saveMoviesPage(getMoviesPage(3));
+        RealmUtility.saveMoviesPage(getMoviesPage(1));
+
+        // 2. (When) Then perform one or more actions
+        MoviesPage moviesPage = RealmUtility.getMoviesPage(3);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        assertNotNull(moviesPage);
+        assertEquals(3, moviesPage.getPageNumber());
+        assertNull(RealmUtility.getMoviesPage(2));
+    }
+
+    @Test
+    public void saveMoviesPage_shouldReplacePage_whenPageIsSavedAgain() {
+        // 1. (Given) Set up conditions required for the test
+        RealmUtility.saveMoviesPage(getMoviesPage(1));
+        MoviesPage refreshedMoviesPage = getMoviesPage(1);
+        refreshedMoviesPage.getMovies().remove(0);
+        refreshedMoviesPage.setLastPage(true);
+
+        // 2. (When) Then perform one or more actions
+        RealmUtility.saveMoviesPage(refreshedMoviesPage);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        MoviesPage moviesPage = RealmUtility.getMoviesPage(1);
+        assertEquals(MOVIES_PER_PAGE - 1, moviesPage.getMovies().size());
+        assertTrue(moviesPage.isLastPage());
+    }
+
+    @Test
+    public void saveMoviesPage_shouldNotDuplicateMovies_whenPageIsSavedAgain() {
+        // 1. (Given) Set up conditions required for the test
+        RealmUtility.saveMoviesPage(getMoviesPage(1));
+
+        // 2. (When) Then perform one or more actions
+        RealmUtility.saveMoviesPage(getMoviesPage(1));
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        assertEquals(MOVIES_PER_PAGE, realm.where(RealmMovie.class).count());
+    }
+
+    @Test
+    public void saveMoviesPage_shouldCloseEveryInstance_whenPageIsMapped() {
+        // 1. (Given) Set up conditions required for the test
+        MoviesPage moviesPage = getMoviesPage(1);
+
+        // 2. (When) Then perform one or more actions
+        RealmUtility.saveMoviesPage(moviesPage);
+        RealmUtility.getMoviesPage(1);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        assertEquals(0, RealmUtility.getOpenInstanceCount());
+    }
+
+    @Test
+    public void sweep_shouldDeleteExpiredPageAndItsMovies_whenPageIsPastRetention() {
+        // 1. (Given) Set up conditions required for the test
+        MoviesPage expiredMoviesPage = getMoviesPage(1);
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.DATE, -30);
+        expiredMoviesPage.setExpiredAt(calendar.getTime());
+        RealmUtility.saveMoviesPage(expiredMoviesPage);
+        RealmUtility.saveMoviesPage(getMoviesPage(2));
+
+        // 2. (When) Then perform one or more actions
+        RealmSweeper.Report report = RealmSweeper.sweep(Realm.getDefaultConfiguration(), Long.MAX_VALUE);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        realm.refresh();
+        assertEquals(1, report.expiredCount);
+        assertEquals(MOVIES_PER_PAGE, report.orphanCount);
+        assertNull(RealmUtility.getMoviesPage(1));
+        assertNotNull(RealmUtility.getMoviesPage(2));
+        assertEquals(MOVIES_PER_PAGE, realm.where(RealmMovie.class).count());
+    }
+
+    @Test
+    public void getMoviesPage_shouldTakeConstantTime_whenPageCountGrows() {
+        // 1. (Given) Set up conditions required for the test
+        savePages(1, SMALL_PAGE_COUNT);
+        long smallStoreNanos = measureLookup(SMALL_PAGE_COUNT);
+        savePages(SMALL_PAGE_COUNT + 1, LARGE_PAGE_COUNT);
+
+        // 2. (When) Then perform one or more actions
+        long largeStoreNanos = measureLookup(LARGE_PAGE_COUNT);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        Timber.i("getMoviesPage: %d pages %dns, %d pages %dns",
+                SMALL_PAGE_COUNT, smallStoreNanos, LARGE_PAGE_COUNT, largeStoreNanos);
+        assertTrue(String.format("Lookup went from %dns to %dns", smallStoreNanos, largeStoreNanos),
+                largeStoreNanos < smallStoreNanos * MAX_SLOWDOWN);
+    }
+    // endregion
+
+    @After
+    public void tearDown() {
+        realm.close();
+        Realm.setDefaultConfiguration(previousConfiguration);
+    }
+
+    // region Helper Methods
+    private void savePages(int firstPageNumber, int lastPageNumber) {
+        for (int pageNumber = firstPageNumber; pageNumber <= lastPageNumber; pageNumber++) {
+            RealmUtility.saveMoviesPage(getMoviesPage(pageNumber));
+        }
+    }
+
+    // Median time to read the last page, which was the worst case for a positional scan
+    private long measureLookup(int pageNumber) {
+        for (int i = 0; i < WARM_UP_LOOKUPS; i++) {
+            RealmUtility.getMoviesPage(pageNumber);
+        }
+
+        long[] durations = new long[MEASURED_LOOKUPS];
+        for (int i = 0; i < MEASURED_LOOKUPS; i++) {
+            long start = System.nanoTime();
+            RealmUtility.getMoviesPage(pageNumber);
+            durations[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(durations);
+        return durations[MEASURED_LOOKUPS / 2];
+    }
+
+    private MoviesPage getMoviesPage(int pageNumber) {
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < MOVIES_PER_PAGE; i++) {
+            Movie movie = new Movie();
+            movie.setId(pageNumber * MOVIES_PER_PAGE + i);
+            movie.setTitle("Movie " + pageNumber + "-" + i);
+            movies.add(movie);
+        }
+        return new MoviesPage(movies, pageNumber, false, Calendar.getInstance().getTime());
+    }
+    // endregion
+}
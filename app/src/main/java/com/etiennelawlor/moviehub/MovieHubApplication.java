@@ -2,10 +2,14 @@ package com.etiennelawlor.moviehub;
 
 import android.app.Application;
 import android.content.Context;
+import android.os.StrictMode;
 import android.support.multidex.MultiDex;
 import android.support.v7.app.AppCompatDelegate;
 import android.util.Log;
 
+import com.etiennelawlor.moviehub.data.database.MovieHubRealmMigration;
+import com.etiennelawlor.moviehub.data.database.RealmMaintenanceJobService;
+import com.etiennelawlor.moviehub.data.network.ImageLoader;
 import com.squareup.leakcanary.LeakCanary;
 import com.squareup.leakcanary.RefWatcher;
 
@@ -38,10 +42,24 @@ public class MovieHubApplication extends Application {
         super.onCreate();
 
         initializeTimber();
+        initializeStrictMode();
         initializeLeakCanary();
         initializeRealm();
+        initializeRealmMaintenance();
 
         currentApplication = this;
+
+        // After currentApplication is set, the image client is built from the API client and its cache
+        initializeImageLoader();
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+
+        // The app just went to the background, report how the image caches did meanwhile
+        if (level == TRIM_MEMORY_UI_HIDDEN)
+            ImageLoader.logStats();
     }
     // endregion
 
@@ -65,6 +83,10 @@ public class MovieHubApplication extends Application {
         return application.refWatcher;
     }
 
+    private void initializeImageLoader() {
+        ImageLoader.initialize(this);
+    }
+
     private void initializeLeakCanary() {
         if (LeakCanary.isInAnalyzerProcess(this)) {
             // This process is dedicated to LeakCanary for heap analysis.
@@ -78,7 +100,8 @@ public class MovieHubApplication extends Application {
         Realm.init(this);
         RealmConfiguration realmConfiguration =
                 new RealmConfiguration.Builder()
-                        .deleteRealmIfMigrationNeeded()
+                        .schemaVersion(MovieHubRealmMigration.SCHEMA_VERSION)
+                        .migration(new MovieHubRealmMigration())
                         .build();
 
         // Deletes the realm
@@ -87,6 +110,22 @@ public class MovieHubApplication extends Application {
         Realm.setDefaultConfiguration(realmConfiguration);
     }
 
+    private void initializeRealmMaintenance() {
+        RealmMaintenanceJobService.schedule(this, RealmMaintenanceJobService.DEFAULT_DISK_BUDGET_BYTES);
+    }
+
+    private void initializeStrictMode() {
+        if (BuildConfig.DEBUG) {
+            // Flags disk access on the main thread, e.g. a local data source read that was not
+            // moved onto DatabaseScheduler
+            StrictMode.setThreadPolicy(new StrictMode.ThreadPolicy.Builder()
+                    .detectDiskReads()
+                    .detectDiskWrites()
+                    .penaltyLog()
+                    .build());
+        }
+    }
+
     private void initializeTimber() {
         if (BuildConfig.DEBUG) {
             Timber.plant(new Timber.DebugTree() {
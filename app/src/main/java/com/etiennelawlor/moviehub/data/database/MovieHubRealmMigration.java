@@ -0,0 +1,230 @@
+package com.etiennelawlor.moviehub.data.database;
+
+import android.os.SystemClock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.realm.DynamicRealm;
+import io.realm.DynamicRealmObject;
+import io.realm.FieldAttribute;
+import io.realm.RealmList;
+import io.realm.RealmMigration;
+import io.realm.RealmObjectSchema;
+import io.realm.RealmSchema;
+import timber.log.Timber;
+
+/**
+ * Upgrades an existing Realm file in place instead of deleting it.
+ *
+ * Version 1 keys movies, TV shows and persons by TMDB id. Before that every page save created
+ * new rows, so the same title could be stored many times over. Duplicates are collapsed onto the
+ * most recently written row, with every page and search pointed at it, before the primary key is
+ * added.
+ *
+ * Version 2 adds the detail screen caches, keyed by the id of the movie, TV show or person they
+ * describe.
+ *
+ * Version 3 records when each page, search and details entry was last read, for the sweeper's
+ * LRU eviction.
+ *
+ * Version 4 keeps the colors extracted from poster, profile and backdrop images, with when each
+ * palette was last read so the sweeper evicts palettes as well.
+ */
+
+public class MovieHubRealmMigration implements RealmMigration {
+
+    // region Constants
+    // Migrations run on the first open after an update, while the first screen waits on its data
+    public static final long MIGRATION_BUDGET_MILLIS = 2000L;
+    // endregion
+
+    // region Static Variables
+    // Step n upgrades schema version n to n + 1. Append new steps, never edit one that has shipped
+    private static final List<MigrationStep> MIGRATION_STEPS = Arrays.asList(
+            MovieHubRealmMigration::keyEntitiesById,
+            MovieHubRealmMigration::addDetailsSchema,
+            MovieHubRealmMigration::addLastAccessedAt,
+            MovieHubRealmMigration::addPaletteSchema);
+    public static final long SCHEMA_VERSION = MIGRATION_STEPS.size();
+    // endregion
+
+    // region RealmMigration Methods
+    @Override
+    public void migrate(DynamicRealm realm, long oldVersion, long newVersion) {
+        long migrationStartMillis = SystemClock.elapsedRealtime();
+
+        for (long version = oldVersion; version < newVersion; version++) {
+            long stepStartMillis = SystemClock.elapsedRealtime();
+            MIGRATION_STEPS.get((int) version).migrate(realm);
+            Timber.i("Migrated Realm schema %d to %d in %dms", version, version + 1, SystemClock.elapsedRealtime() - stepStartMillis);
+        }
+
+        long migrationMillis = SystemClock.elapsedRealtime() - migrationStartMillis;
+        if (migrationMillis > MIGRATION_BUDGET_MILLIS)
+            Timber.w("Realm migration %d to %d took %dms, over the %dms budget", oldVersion, newVersion, migrationMillis, MIGRATION_BUDGET_MILLIS);
+    }
+
+    // Realm compares configurations, and so their migrations, when the same file is opened again
+    @Override
+    public boolean equals(Object object) {
+        return object instanceof MovieHubRealmMigration;
+    }
+
+    @Override
+    public int hashCode() {
+        return MovieHubRealmMigration.class.hashCode();
+    }
+    // endregion
+
+    // region Migration Steps
+
+    // Version 1
+    private static void keyEntitiesById(DynamicRealm realm) {
+        addSearchSchema(realm.getSchema());
+        deduplicate(realm, "RealmMovie", "RealmMoviesPage", "movies");
+        deduplicate(realm, "RealmTelevisionShow", "RealmTelevisionShowsPage", "televisionShows");
+        deduplicate(realm, "RealmPerson", "RealmPersonsPage", "persons");
+    }
+
+    // Version 2
+    private static void addDetailsSchema(DynamicRealm realm) {
+        RealmSchema schema = realm.getSchema();
+
+        RealmObjectSchema creditSchema = schema.create("RealmCredit")
+                .addField("id", int.class)
+                .addField("creditId", String.class)
+                .addField("job", String.class)
+                .addField("character", String.class)
+                .addField("name", String.class)
+                .addField("department", String.class)
+                .addField("profilePath", String.class);
+
+        RealmObjectSchema personCreditSchema = schema.create("RealmPersonCredit")
+                .addField("id", int.class)
+                .addField("creditId", String.class)
+                .addField("job", String.class)
+                .addField("character", String.class)
+                .addField("title", String.class)
+                .addField("name", String.class)
+                .addField("department", String.class)
+                .addField("posterPath", String.class)
+                .addField("firstAirDate", String.class)
+                .addField("releaseDate", String.class)
+                .addField("mediaType", String.class);
+
+        schema.create("RealmMovieDetails")
+                .addField("movieId", int.class, FieldAttribute.PRIMARY_KEY)
+                .addRealmObjectField("movie", schema.get("RealmMovie"))
+                .addRealmListField("cast", creditSchema)
+                .addRealmListField("crew", creditSchema)
+                .addRealmListField("similarMovies", schema.get("RealmMovie"))
+                .addField("rating", String.class)
+                .addField("expiredAt", Date.class);
+
+        schema.create("RealmTelevisionShowDetails")
+                .addField("televisionShowId", int.class, FieldAttribute.PRIMARY_KEY)
+                .addRealmObjectField("televisionShow", schema.get("RealmTelevisionShow"))
+                .addRealmListField("cast", creditSchema)
+                .addRealmListField("crew", creditSchema)
+                .addRealmListField("similarTelevisionShows", schema.get("RealmTelevisionShow"))
+                .addField("rating", String.class)
+                .addField("expiredAt", Date.class);
+
+        schema.create("RealmPersonDetails")
+                .addField("personId", int.class, FieldAttribute.PRIMARY_KEY)
+                .addRealmObjectField("person", schema.get("RealmPerson"))
+                .addRealmListField("cast", personCreditSchema)
+                .addRealmListField("crew", personCreditSchema)
+                .addField("expiredAt", Date.class);
+    }
+
+    // Version 3, existing entries count as used at upgrade time rather than being evicted first
+    private static void addLastAccessedAt(DynamicRealm realm) {
+        RealmSchema schema = realm.getSchema();
+        Date now = new Date();
+        for (String className : new String[]{"RealmMoviesPage", "RealmTelevisionShowsPage", "RealmPersonsPage",
+                "RealmSearch", "RealmMovieDetails", "RealmTelevisionShowDetails", "RealmPersonDetails"}) {
+            schema.get(className)
+                    .addField("lastAccessedAt", Date.class)
+                    .transform(realmObject -> realmObject.setDate("lastAccessedAt", now));
+        }
+    }
+
+    // Version 4
+    private static void addPaletteSchema(DynamicRealm realm) {
+        realm.getSchema().create("RealmPalette")
+                .addField("imagePath", String.class, FieldAttribute.PRIMARY_KEY)
+                .addField("rgb", int.class)
+                .addField("population", int.class)
+                .addField("lastAccessedAt", Date.class);
+    }
+
+    // endregion
+
+    // region Helper Methods
+
+    // Search results were added without a version bump, so the class may or may not exist yet
+    private static void addSearchSchema(RealmSchema schema) {
+        RealmObjectSchema searchSchema = schema.get("RealmSearch");
+        if (searchSchema == null) {
+            searchSchema = schema.create("RealmSearch")
+                    .addField("query", String.class, FieldAttribute.PRIMARY_KEY)
+                    .addRealmListField("movies", schema.get("RealmMovie"))
+                    .addRealmListField("televisionShows", schema.get("RealmTelevisionShow"))
+                    .addRealmListField("persons", schema.get("RealmPerson"))
+                    .addField("expiredAt", Date.class);
+        }
+
+        for (String field : new String[]{"isMoviesLastPage", "isTelevisionShowsLastPage", "isPersonsLastPage"}) {
+            if (!searchSchema.hasField(field)) {
+                searchSchema.addField(field, boolean.class);
+            }
+        }
+    }
+
+    private static void deduplicate(DynamicRealm realm, String className, String pageClassName, String listField) {
+        List<DynamicRealmObject> rows = new ArrayList<>(realm.where(className).findAll());
+
+        // Later rows were written by later saves, so the last one for an id wins
+        Map<Integer, DynamicRealmObject> canonicalRows = new HashMap<>();
+        for (DynamicRealmObject row : rows) {
+            canonicalRows.put(row.getInt("id"), row);
+        }
+
+        if (canonicalRows.size() < rows.size()) {
+            repointLists(realm, pageClassName, listField, canonicalRows);
+            repointLists(realm, "RealmSearch", listField, canonicalRows);
+
+            for (DynamicRealmObject row : rows) {
+                if (!row.equals(canonicalRows.get(row.getInt("id")))) {
+                    row.deleteFromRealm();
+                }
+            }
+        }
+
+        Timber.i("Migrated %s: %d rows collapsed to %d", className, rows.size(), canonicalRows.size());
+        realm.getSchema().get(className).addPrimaryKey("id");
+    }
+
+    private static void repointLists(DynamicRealm realm, String className, String listField, Map<Integer, DynamicRealmObject> canonicalRows) {
+        for (DynamicRealmObject owner : realm.where(className).findAll()) {
+            RealmList<DynamicRealmObject> list = owner.getList(listField);
+            for (int i = 0; i < list.size(); i++) {
+                list.set(i, canonicalRows.get(list.get(i).getInt("id")));
+            }
+        }
+    }
+
+    // endregion
+
+    // region Inner Classes
+    private interface MigrationStep {
+        void migrate(DynamicRealm realm);
+    }
+    // endregion
+}
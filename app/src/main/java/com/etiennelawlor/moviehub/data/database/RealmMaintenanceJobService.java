@@ -0,0 +1,83 @@
+package com.etiennelawlor.moviehub.data.database;
+
+import android.app.job.JobInfo;
+import android.app.job.JobParameters;
+import android.app.job.JobScheduler;
+import android.app.job.JobService;
+import android.content.ComponentName;
+import android.content.Context;
+import android.os.PersistableBundle;
+
+import com.etiennelawlor.moviehub.util.rxjava.DatabaseScheduler;
+
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import rx.Observable;
+import rx.Subscription;
+import timber.log.Timber;
+
+/**
+ * Runs {@link RealmSweeper} about once a day while the device is idle and charging.
+ */
+
+public class RealmMaintenanceJobService extends JobService {
+
+    // region Constants
+    public static final long DEFAULT_DISK_BUDGET_BYTES = 50L * 1024L * 1024L;
+    private static final int JOB_ID = 1;
+    private static final long INTERVAL_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final String KEY_DISK_BUDGET_BYTES = "KEY_DISK_BUDGET_BYTES";
+    // endregion
+
+    // region Member Variables
+    private Subscription subscription;
+    // endregion
+
+    public static void schedule(Context context, long diskBudgetBytes) {
+        JobScheduler jobScheduler = (JobScheduler) context.getSystemService(Context.JOB_SCHEDULER_SERVICE);
+
+        // Scheduling again on every launch would keep pushing the next run back
+        for (JobInfo jobInfo : jobScheduler.getAllPendingJobs()) {
+            if (jobInfo.getId() == JOB_ID
+                    && jobInfo.getExtras().getLong(KEY_DISK_BUDGET_BYTES) == diskBudgetBytes)
+                return;
+        }
+
+        PersistableBundle extras = new PersistableBundle();
+        extras.putLong(KEY_DISK_BUDGET_BYTES, diskBudgetBytes);
+
+        jobScheduler.schedule(new JobInfo.Builder(JOB_ID, new ComponentName(context, RealmMaintenanceJobService.class))
+                .setRequiresDeviceIdle(true)
+                .setRequiresCharging(true)
+                .setPeriodic(INTERVAL_MILLIS)
+                .setExtras(extras)
+                .build());
+    }
+
+    // region JobService Methods
+    @Override
+    public boolean onStartJob(JobParameters params) {
+        long diskBudgetBytes = params.getExtras().getLong(KEY_DISK_BUDGET_BYTES, DEFAULT_DISK_BUDGET_BYTES);
+
+        subscription = Observable.defer(() -> Observable.just(RealmSweeper.sweep(Realm.getDefaultConfiguration(), diskBudgetBytes)))
+                .subscribeOn(DatabaseScheduler.getInstance())
+                .subscribe(report -> {
+                    Timber.i("Realm maintenance: %s", report);
+                    jobFinished(params, false);
+                }, throwable -> {
+                    Timber.e(throwable, "Realm maintenance failed");
+                    jobFinished(params, true);
+                });
+        return true;
+    }
+
+    @Override
+    public boolean onStopJob(JobParameters params) {
+        // Each pass commits on its own, whatever was swept so far is kept and the rest is retried
+        if (subscription != null)
+            subscription.unsubscribe();
+        return true;
+    }
+    // endregion
+}
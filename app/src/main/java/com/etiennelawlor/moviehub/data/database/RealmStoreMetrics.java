@@ -0,0 +1,82 @@
+package com.etiennelawlor.moviehub.data.database;
+
+import com.etiennelawlor.moviehub.data.database.models.RealmMovie;
+import com.etiennelawlor.moviehub.data.database.models.RealmMoviesPage;
+import com.etiennelawlor.moviehub.data.database.models.RealmPerson;
+import com.etiennelawlor.moviehub.data.database.models.RealmPersonsPage;
+import com.etiennelawlor.moviehub.data.database.models.RealmSearch;
+import com.etiennelawlor.moviehub.data.database.models.RealmTelevisionShow;
+import com.etiennelawlor.moviehub.data.database.models.RealmTelevisionShowsPage;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.realm.Realm;
+
+/**
+ * Size of the Realm store and how many entity writes were inserts versus in place updates.
+ *
+ * With entities keyed by TMDB id the entity counts track the number of distinct titles and people
+ * seen, not the number of times a page was refreshed.
+ */
+
+public final class RealmStoreMetrics {
+
+    // region Static Variables
+    private static final AtomicLong insertCount = new AtomicLong();
+    private static final AtomicLong updateCount = new AtomicLong();
+    // endregion
+
+    // region Constructors
+    private RealmStoreMetrics() {
+    }
+    // endregion
+
+    public static void recordInsert() {
+        insertCount.incrementAndGet();
+    }
+
+    public static void recordUpdate() {
+        updateCount.incrementAndGet();
+    }
+
+    public static Snapshot getSnapshot(Realm realm) {
+        Snapshot snapshot = new Snapshot();
+        snapshot.fileSizeBytes = new File(realm.getPath()).length();
+        snapshot.movieCount = realm.where(RealmMovie.class).count();
+        snapshot.televisionShowCount = realm.where(RealmTelevisionShow.class).count();
+        snapshot.personCount = realm.where(RealmPerson.class).count();
+        snapshot.pageCount = realm.where(RealmMoviesPage.class).count()
+                + realm.where(RealmTelevisionShowsPage.class).count()
+                + realm.where(RealmPersonsPage.class).count();
+        snapshot.searchCount = realm.where(RealmSearch.class).count();
+        snapshot.insertCount = insertCount.get();
+        snapshot.updateCount = updateCount.get();
+        return snapshot;
+    }
+
+    // region Inner Classes
+    public static class Snapshot {
+
+        // region Member Variables
+        public long fileSizeBytes;
+        public long movieCount;
+        public long televisionShowCount;
+        public long personCount;
+        public long pageCount;
+        public long searchCount;
+        public long insertCount;
+        public long updateCount;
+        // endregion
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                    "Realm %d KB: %d movies, %d TV shows, %d persons, %d pages, %d searches, %d inserts, %d updates",
+                    fileSizeBytes / 1024, movieCount, televisionShowCount, personCount, pageCount,
+                    searchCount, insertCount, updateCount);
+        }
+    }
+    // endregion
+}
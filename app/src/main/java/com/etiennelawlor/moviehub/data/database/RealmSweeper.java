@@ -0,0 +1,299 @@
+package com.etiennelawlor.moviehub.data.database;
+
+import com.etiennelawlor.moviehub.data.database.mappers.MovieRealmMapper;
+import com.etiennelawlor.moviehub.data.database.mappers.PersonRealmMapper;
+import com.etiennelawlor.moviehub.data.database.mappers.TelevisionShowRealmMapper;
+import com.etiennelawlor.moviehub.data.database.models.RealmCacheEntry;
+import com.etiennelawlor.moviehub.data.database.models.RealmCredit;
+import com.etiennelawlor.moviehub.data.database.models.RealmMovie;
+import com.etiennelawlor.moviehub.data.database.models.RealmMovieDetails;
+import com.etiennelawlor.moviehub.data.database.models.RealmMoviesPage;
+import com.etiennelawlor.moviehub.data.database.models.RealmPalette;
+import com.etiennelawlor.moviehub.data.database.models.RealmPerson;
+import com.etiennelawlor.moviehub.data.database.models.RealmPersonCredit;
+import com.etiennelawlor.moviehub.data.database.models.RealmPersonDetails;
+import com.etiennelawlor.moviehub.data.database.models.RealmPersonsPage;
+import com.etiennelawlor.moviehub.data.database.models.RealmSearch;
+import com.etiennelawlor.moviehub.data.database.models.RealmTelevisionShow;
+import com.etiennelawlor.moviehub.data.database.models.RealmTelevisionShowDetails;
+import com.etiennelawlor.moviehub.data.database.models.RealmTelevisionShowsPage;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.RealmConfiguration;
+import io.realm.RealmObject;
+
+/**
+ * Keeps the Realm cache from growing without bound.
+ *
+ * Expired entries are kept for a while, since stale-while-revalidate still shows them, and then
+ * deleted. If the live data is still over the disk budget the least recently used pages, searches,
+ * details and palettes go next. Movies, TV shows and persons that nothing points at anymore are deleted
+ * after every pass, and dropped from the {@link SearchIndex}. The file is compacted once enough of
+ * it is free space.
+ *
+ * The live data is estimated from row counts. Measuring it exactly means writing a compacted copy
+ * of the whole file, which costs as much flash and free disk as the file itself on every pass.
+ */
+
+public final class RealmSweeper {
+
+    // region Constants
+    private static final long STALE_RETENTION_MILLIS = TimeUnit.DAYS.toMillis(7);
+    private static final float EVICTION_BATCH_RATIO = 0.1f;
+    private static final int MAX_EVICTION_PASSES = 5;
+    // Realm files grow in place and only give space back to the file system when compacted
+    private static final float COMPACT_FREE_SPACE_RATIO = 0.5f;
+    // Rough on-disk sizes, overviews and biographies make up most of the rows that carry them
+    private static final long MEDIA_ROW_BYTES = 1024L;
+    private static final long PERSON_ROW_BYTES = 2048L;
+    private static final long CREDIT_ROW_BYTES = 256L;
+    private static final long PALETTE_ROW_BYTES = 64L;
+    private static final long CACHE_ENTRY_ROW_BYTES = 128L;
+    private static final List<Class<? extends RealmObject>> CACHE_ENTRY_CLASSES = Arrays.asList(
+            RealmMoviesPage.class,
+            RealmTelevisionShowsPage.class,
+            RealmPersonsPage.class,
+            RealmSearch.class,
+            RealmMovieDetails.class,
+            RealmTelevisionShowDetails.class,
+            RealmPersonDetails.class);
+    // endregion
+
+    // region Static Variables
+    private static final MovieRealmMapper movieRealmMapper = new MovieRealmMapper();
+    private static final TelevisionShowRealmMapper televisionShowRealmMapper = new TelevisionShowRealmMapper();
+    private static final PersonRealmMapper personRealmMapper = new PersonRealmMapper();
+    // endregion
+
+    // region Constructors
+    private RealmSweeper() {
+    }
+    // endregion
+
+    // Blocks for as long as the sweep takes, call it from a background thread
+    public static Report sweep(RealmConfiguration configuration, long diskBudgetBytes) {
+        Report report = new Report();
+        File realmFile = new File(configuration.getPath());
+        report.fileSizeBeforeBytes = realmFile.length();
+
+        long usedBytes;
+        Realm realm = Realm.getInstance(configuration);
+        try {
+            Date staleBefore = new Date(System.currentTimeMillis() - STALE_RETENTION_MILLIS);
+            realm.executeTransaction(transactionRealm -> {
+                report.expiredCount += deleteExpiredEntries(transactionRealm, staleBefore);
+                report.orphanCount += deleteOrphans(transactionRealm);
+            });
+
+            usedBytes = estimateUsedBytes(realm);
+            for (int pass = 0; pass < MAX_EVICTION_PASSES && usedBytes > diskBudgetBytes; pass++) {
+                int evictedCountBefore = report.evictedCount;
+                realm.executeTransaction(transactionRealm -> {
+                    report.evictedCount += deleteLeastRecentlyUsedEntries(transactionRealm);
+                    report.orphanCount += deleteOrphans(transactionRealm);
+                });
+                if (report.evictedCount == evictedCountBefore)
+                    break;
+
+                usedBytes = estimateUsedBytes(realm);
+            }
+        } finally {
+            realm.close();
+        }
+
+        long fileSizeBytes = realmFile.length();
+        if (fileSizeBytes > 0 && 1f - (float) usedBytes / fileSizeBytes > COMPACT_FREE_SPACE_RATIO) {
+            // Fails, and is retried on the next sweep, while any other thread has the Realm open
+            report.isCompacted = Realm.compactRealm(configuration);
+        }
+
+        report.fileSizeAfterBytes = realmFile.length();
+        return report;
+    }
+
+    // region Helper Methods
+    private static int deleteExpiredEntries(Realm realm, Date staleBefore) {
+        int deletedCount = 0;
+        for (Class<? extends RealmObject> entryClass : CACHE_ENTRY_CLASSES) {
+            List<RealmObject> entries = new ArrayList<>(realm.where(entryClass).lessThan("expiredAt", staleBefore).findAll());
+            for (RealmObject entry : entries) {
+                deleteEntry(entry);
+                deletedCount++;
+            }
+        }
+        return deletedCount;
+    }
+
+    private static int deleteLeastRecentlyUsedEntries(Realm realm) {
+        List<RealmObject> entries = new ArrayList<>();
+        for (Class<? extends RealmObject> entryClass : CACHE_ENTRY_CLASSES) {
+            entries.addAll(realm.where(entryClass).findAll());
+        }
+        // Palettes never expire, they only go once least recently used
+        entries.addAll(realm.where(RealmPalette.class).findAll());
+
+        // Entries never read since they were written sort first
+        Collections.sort(entries, (first, second) -> Long.compare(
+                getLastAccessedTime((RealmCacheEntry) first),
+                getLastAccessedTime((RealmCacheEntry) second)));
+
+        int deletedCount = entries.isEmpty() ? 0 : Math.max(1, (int) (entries.size() * EVICTION_BATCH_RATIO));
+        for (RealmObject entry : entries.subList(0, deletedCount)) {
+            deleteEntry(entry);
+        }
+        return deletedCount;
+    }
+
+    // Credits belong to a single details entry, everything else an entry points at is shared
+    private static void deleteEntry(RealmObject entry) {
+        if (entry instanceof RealmMovieDetails) {
+            ((RealmMovieDetails) entry).getCast().deleteAllFromRealm();
+            ((RealmMovieDetails) entry).getCrew().deleteAllFromRealm();
+        } else if (entry instanceof RealmTelevisionShowDetails) {
+            ((RealmTelevisionShowDetails) entry).getCast().deleteAllFromRealm();
+            ((RealmTelevisionShowDetails) entry).getCrew().deleteAllFromRealm();
+        } else if (entry instanceof RealmPersonDetails) {
+            ((RealmPersonDetails) entry).getCast().deleteAllFromRealm();
+            ((RealmPersonDetails) entry).getCrew().deleteAllFromRealm();
+        }
+        entry.deleteFromRealm();
+    }
+
+    private static int deleteOrphans(Realm realm) {
+        Set<Integer> movieIds = new HashSet<>();
+        Set<Integer> televisionShowIds = new HashSet<>();
+        Set<Integer> personIds = new HashSet<>();
+
+        for (RealmMoviesPage realmMoviesPage : realm.where(RealmMoviesPage.class).findAll()) {
+            addMovieIds(movieIds, realmMoviesPage.getMovies());
+        }
+        for (RealmTelevisionShowsPage realmTelevisionShowsPage : realm.where(RealmTelevisionShowsPage.class).findAll()) {
+            addTelevisionShowIds(televisionShowIds, realmTelevisionShowsPage.getTelevisionShows());
+        }
+        for (RealmPersonsPage realmPersonsPage : realm.where(RealmPersonsPage.class).findAll()) {
+            addPersonIds(personIds, realmPersonsPage.getPersons());
+        }
+        for (RealmSearch realmSearch : realm.where(RealmSearch.class).findAll()) {
+            addMovieIds(movieIds, realmSearch.getMovies());
+            addTelevisionShowIds(televisionShowIds, realmSearch.getTelevisionShows());
+            addPersonIds(personIds, realmSearch.getPersons());
+        }
+        for (RealmMovieDetails realmMovieDetails : realm.where(RealmMovieDetails.class).findAll()) {
+            addMovieIds(movieIds, Collections.singletonList(realmMovieDetails.getMovie()));
+            addMovieIds(movieIds, realmMovieDetails.getSimilarMovies());
+        }
+        for (RealmTelevisionShowDetails realmTelevisionShowDetails : realm.where(RealmTelevisionShowDetails.class).findAll()) {
+            addTelevisionShowIds(televisionShowIds, Collections.singletonList(realmTelevisionShowDetails.getTelevisionShow()));
+            addTelevisionShowIds(televisionShowIds, realmTelevisionShowDetails.getSimilarTelevisionShows());
+        }
+        for (RealmPersonDetails realmPersonDetails : realm.where(RealmPersonDetails.class).findAll()) {
+            addPersonIds(personIds, Collections.singletonList(realmPersonDetails.getPerson()));
+        }
+
+        List<Integer> deletedMovieIds = new ArrayList<>();
+        for (RealmMovie realmMovie : new ArrayList<>(realm.where(RealmMovie.class).findAll())) {
+            if (!movieIds.contains(realmMovie.getId())) {
+                deletedMovieIds.add(realmMovie.getId());
+                movieRealmMapper.deleteRealmObject(realmMovie);
+            }
+        }
+        List<Integer> deletedTelevisionShowIds = new ArrayList<>();
+        for (RealmTelevisionShow realmTelevisionShow : new ArrayList<>(realm.where(RealmTelevisionShow.class).findAll())) {
+            if (!televisionShowIds.contains(realmTelevisionShow.getId())) {
+                deletedTelevisionShowIds.add(realmTelevisionShow.getId());
+                televisionShowRealmMapper.deleteRealmObject(realmTelevisionShow);
+            }
+        }
+        List<Integer> deletedPersonIds = new ArrayList<>();
+        for (RealmPerson realmPerson : new ArrayList<>(realm.where(RealmPerson.class).findAll())) {
+            if (!personIds.contains(realmPerson.getId())) {
+                deletedPersonIds.add(realmPerson.getId());
+                personRealmMapper.deleteRealmObject(realmPerson);
+            }
+        }
+
+        // A rolled back sweep only leaves these out of the index until they are saved again
+        SearchIndex searchIndex = SearchIndex.getInstance();
+        searchIndex.removeMovies(deletedMovieIds);
+        searchIndex.removeTelevisionShows(deletedTelevisionShowIds);
+        searchIndex.removePersons(deletedPersonIds);
+        return deletedMovieIds.size() + deletedTelevisionShowIds.size() + deletedPersonIds.size();
+    }
+
+    private static void addMovieIds(Set<Integer> movieIds, List<RealmMovie> realmMovies) {
+        for (RealmMovie realmMovie : realmMovies) {
+            if (realmMovie != null)
+                movieIds.add(realmMovie.getId());
+        }
+    }
+
+    private static void addTelevisionShowIds(Set<Integer> televisionShowIds, List<RealmTelevisionShow> realmTelevisionShows) {
+        for (RealmTelevisionShow realmTelevisionShow : realmTelevisionShows) {
+            if (realmTelevisionShow != null)
+                televisionShowIds.add(realmTelevisionShow.getId());
+        }
+    }
+
+    private static void addPersonIds(Set<Integer> personIds, List<RealmPerson> realmPersons) {
+        for (RealmPerson realmPerson : realmPersons) {
+            if (realmPerson != null)
+                personIds.add(realmPerson.getId());
+        }
+    }
+
+    private static long getLastAccessedTime(RealmCacheEntry realmCacheEntry) {
+        Date lastAccessedAt = realmCacheEntry.getLastAccessedAt();
+        return lastAccessedAt == null ? 0L : lastAccessedAt.getTime();
+    }
+
+    // Realm does not report how much of its file is in use, counting rows is cheap and close enough
+    private static long estimateUsedBytes(Realm realm) {
+        long usedBytes = 0L;
+        usedBytes += (realm.where(RealmMovie.class).count() + realm.where(RealmTelevisionShow.class).count()) * MEDIA_ROW_BYTES;
+        usedBytes += realm.where(RealmPerson.class).count() * PERSON_ROW_BYTES;
+        usedBytes += (realm.where(RealmCredit.class).count() + realm.where(RealmPersonCredit.class).count()) * CREDIT_ROW_BYTES;
+        usedBytes += realm.where(RealmPalette.class).count() * PALETTE_ROW_BYTES;
+        for (Class<? extends RealmObject> entryClass : CACHE_ENTRY_CLASSES) {
+            usedBytes += realm.where(entryClass).count() * CACHE_ENTRY_ROW_BYTES;
+        }
+        return usedBytes;
+    }
+    // endregion
+
+    // region Inner Classes
+    public static class Report {
+
+        // region Member Variables
+        public long fileSizeBeforeBytes;
+        public long fileSizeAfterBytes;
+        public int expiredCount;
+        public int evictedCount;
+        public int orphanCount;
+        public boolean isCompacted;
+        // endregion
+
+        public long getBytesReclaimed() {
+            return fileSizeBeforeBytes - fileSizeAfterBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                    "Reclaimed %d KB (%d KB to %d KB): %d expired, %d evicted, %d orphans, compacted %b",
+                    getBytesReclaimed() / 1024, fileSizeBeforeBytes / 1024, fileSizeAfterBytes / 1024,
+                    expiredCount, evictedCount, orphanCount, isCompacted);
+        }
+    }
+    // endregion
+}
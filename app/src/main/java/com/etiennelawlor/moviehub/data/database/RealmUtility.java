@@ -1,28 +1,55 @@
 package com.etiennelawlor.moviehub.data.database;
 
+import android.support.v7.graphics.Palette;
+
+import com.etiennelawlor.moviehub.BuildConfig;
+import com.etiennelawlor.moviehub.data.database.mappers.MovieCreditRealmMapper;
 import com.etiennelawlor.moviehub.data.database.mappers.MovieRealmMapper;
+import com.etiennelawlor.moviehub.data.database.mappers.PersonCreditRealmMapper;
 import com.etiennelawlor.moviehub.data.database.mappers.PersonRealmMapper;
+import com.etiennelawlor.moviehub.data.database.mappers.TelevisionShowCreditRealmMapper;
 import com.etiennelawlor.moviehub.data.database.mappers.TelevisionShowRealmMapper;
+import com.etiennelawlor.moviehub.data.database.models.RealmCacheEntry;
+import com.etiennelawlor.moviehub.data.database.models.RealmCredit;
 import com.etiennelawlor.moviehub.data.database.models.RealmMovie;
+import com.etiennelawlor.moviehub.data.database.models.RealmMovieDetails;
 import com.etiennelawlor.moviehub.data.database.models.RealmMoviesPage;
+import com.etiennelawlor.moviehub.data.database.models.RealmPalette;
 import com.etiennelawlor.moviehub.data.database.models.RealmPerson;
+import com.etiennelawlor.moviehub.data.database.models.RealmPersonCredit;
+import com.etiennelawlor.moviehub.data.database.models.RealmPersonDetails;
 import com.etiennelawlor.moviehub.data.database.models.RealmPersonsPage;
+import com.etiennelawlor.moviehub.data.database.models.RealmSearch;
 import com.etiennelawlor.moviehub.data.database.models.RealmTelevisionShow;
+import com.etiennelawlor.moviehub.data.database.models.RealmTelevisionShowDetails;
 import com.etiennelawlor.moviehub.data.database.models.RealmTelevisionShowsPage;
 import com.etiennelawlor.moviehub.data.network.response.Movie;
+import com.etiennelawlor.moviehub.data.network.response.MovieCredit;
 import com.etiennelawlor.moviehub.data.network.response.Person;
+import com.etiennelawlor.moviehub.data.network.response.PersonCredit;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
+import com.etiennelawlor.moviehub.data.network.response.TelevisionShowCredit;
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MovieDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
+import com.etiennelawlor.moviehub.data.repositories.person.models.PersonDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.person.models.PersonsPage;
+import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper;
+import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowsPage;
+import com.etiennelawlor.moviehub.util.ColorUtility;
+import com.etiennelawlor.moviehub.util.rxjava.DatabaseScheduler;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import io.realm.Realm;
 import io.realm.RealmList;
-import io.realm.RealmResults;
+import timber.log.Timber;
 
 /**
  * Created by etiennelawlor on 11/22/15.
@@ -34,209 +61,771 @@ public class RealmUtility {
     private static final MovieRealmMapper movieRealmMapper = new MovieRealmMapper();
     private static final TelevisionShowRealmMapper televisionShowRealmMapper = new TelevisionShowRealmMapper();
     private static final PersonRealmMapper personRealmMapper = new PersonRealmMapper();
+    private static final MovieCreditRealmMapper movieCreditRealmMapper = new MovieCreditRealmMapper();
+    private static final TelevisionShowCreditRealmMapper televisionShowCreditRealmMapper = new TelevisionShowCreditRealmMapper();
+    private static final PersonCreditRealmMapper personCreditRealmMapper = new PersonCreditRealmMapper();
+
+    private static final long ACCESS_RESOLUTION_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    // One for the read or write itself, one for the search index build a save can trigger
+    private static final int MAX_OPEN_INSTANCES_PER_THREAD = 2;
+    private static final ThreadLocal<int[]> openInstanceCounts = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[1];
+        }
+    };
 
     public static MoviesPage getMoviesPage(int pageNumber){
-        MoviesPage moviesPage = new MoviesPage();
-
-        Realm realm = Realm.getDefaultInstance();
+        Realm realm = getRealm();
         try {
-            RealmResults<RealmMoviesPage> realmResults
-                    = realm.where(RealmMoviesPage.class).findAll();
-            if(realmResults != null && realmResults.isValid() && realmResults.size() > 0){
-                if(realmResults.size() == pageNumber-1)
-                    return null;
-
-                RealmMoviesPage realmMoviesPage = realmResults.get(pageNumber-1);
-
-                RealmList<RealmMovie> realmMovies = realmMoviesPage.getMovies();
-
-                List<Movie> movies = new ArrayList<>();
-                for(RealmMovie realmMovie : realmMovies){
-                    movies.add(movieRealmMapper.mapFromRealmObject(realmMovie));
-                }
+            RealmMoviesPage realmMoviesPage = realm.where(RealmMoviesPage.class)
+                    .equalTo("pageNumber", pageNumber)
+                    .findFirst();
+            if(realmMoviesPage == null)
+                return null;
 
-                moviesPage.setMovies(movies);
-                moviesPage.setPageNumber(realmMoviesPage.getPageNumber());
-                moviesPage.setLastPage(realmMoviesPage.isLastPage());
-                moviesPage.setExpiredAt(realmMoviesPage.getExpiredAt());
+            touch(realm, realmMoviesPage);
 
-                return moviesPage;
-            } else {
-                return null;
+            List<Movie> movies = new ArrayList<>();
+            for(RealmMovie realmMovie : realmMoviesPage.getMovies()){
+                movies.add(movieRealmMapper.mapFromRealmObject(realmMovie));
             }
+
+            MoviesPage moviesPage = new MoviesPage();
+            moviesPage.setMovies(movies);
+            moviesPage.setPageNumber(realmMoviesPage.getPageNumber());
+            moviesPage.setLastPage(realmMoviesPage.isLastPage());
+            moviesPage.setExpiredAt(realmMoviesPage.getExpiredAt());
+            return moviesPage;
         } finally {
-            realm.close();
+            closeRealm(realm);
         }
     }
 
     public static void saveMoviesPage(MoviesPage moviesPage){
-        Realm realm = Realm.getDefaultInstance();
+        Realm realm = getRealm();
         try {
             List<Movie> movies = moviesPage.getMovies();
             int pageNumber = moviesPage.getPageNumber();
             boolean isLastPage = moviesPage.isLastPage();
             Date expiredAt = moviesPage.getExpiredAt();
 
+            // Insert or update the page and its movies in a single transaction
             realm.executeTransaction(new Realm.Transaction() {
                 @Override
                 public void execute(Realm realm) {
-                    RealmMoviesPage realmMoviesPage =
-                            realm.createObject(RealmMoviesPage.class, pageNumber);
+                    RealmMoviesPage realmMoviesPage = realm.where(RealmMoviesPage.class)
+                            .equalTo("pageNumber", pageNumber)
+                            .findFirst();
+                    if(realmMoviesPage == null){
+                        realmMoviesPage = realm.createObject(RealmMoviesPage.class, pageNumber);
+                    } else {
+                        // Only the references go, the movies themselves are shared with other pages and searches
+                        realmMoviesPage.getMovies().clear();
+                    }
 
-                    RealmList<RealmMovie> realmMovies = new RealmList<>();
+                    RealmList<RealmMovie> realmMovies = realmMoviesPage.getMovies();
                     for(Movie movie : movies){
-                        realmMovies.add(movieRealmMapper.mapToRealmObject(movie));
+                        realmMovies.add(movieRealmMapper.mapToRealmObject(realm, movie));
                     }
 
-                    realmMoviesPage.setMovies(realmMovies);
                     realmMoviesPage.setLastPage(isLastPage);
                     realmMoviesPage.setExpiredAt(expiredAt);
-
-                    realm.copyToRealmOrUpdate(realmMoviesPage);
+                    realmMoviesPage.setLastAccessedAt(new Date());
                 }
             });
 
+            SearchIndex.getInstance().indexMovies(movies);
+            logStoreMetrics(realm);
+
         } catch (Exception e){
-            e.printStackTrace();
+            Timber.e(e, "Failed to save movies page %d", moviesPage.getPageNumber());
         } finally {
-            realm.close();
+            closeRealm(realm);
         }
     }
 
     public static TelevisionShowsPage getTelevisionShowsPage(int pageNumber){
-        TelevisionShowsPage televisionShowsPage = new TelevisionShowsPage();
-
-        Realm realm = Realm.getDefaultInstance();
+        Realm realm = getRealm();
         try {
-            RealmResults<RealmTelevisionShowsPage> realmResults
-                    = realm.where(RealmTelevisionShowsPage.class).findAll();
-            if(realmResults != null && realmResults.isValid() && realmResults.size() > 0){
-                if(realmResults.size() == pageNumber-1)
-                    return null;
-
-                RealmTelevisionShowsPage realmTelevisionShowsPage = realmResults.get(pageNumber-1);
-
-                RealmList<RealmTelevisionShow> realmTelevisionShows = realmTelevisionShowsPage.getTelevisionShows();
-
-                List<TelevisionShow> televisionShows = new ArrayList<>();
-                for(RealmTelevisionShow realmTelevisionShow : realmTelevisionShows){
-                    televisionShows.add(televisionShowRealmMapper.mapFromRealmObject(realmTelevisionShow));
-                }
+            RealmTelevisionShowsPage realmTelevisionShowsPage = realm.where(RealmTelevisionShowsPage.class)
+                    .equalTo("pageNumber", pageNumber)
+                    .findFirst();
+            if(realmTelevisionShowsPage == null)
+                return null;
 
-                televisionShowsPage.setTelevisionShows(televisionShows);
-                televisionShowsPage.setPageNumber(realmTelevisionShowsPage.getPageNumber());
-                televisionShowsPage.setLastPage(realmTelevisionShowsPage.isLastPage());
-                televisionShowsPage.setExpiredAt(realmTelevisionShowsPage.getExpiredAt());
+            touch(realm, realmTelevisionShowsPage);
 
-                return televisionShowsPage;
-            } else {
-                return null;
+            List<TelevisionShow> televisionShows = new ArrayList<>();
+            for(RealmTelevisionShow realmTelevisionShow : realmTelevisionShowsPage.getTelevisionShows()){
+                televisionShows.add(televisionShowRealmMapper.mapFromRealmObject(realmTelevisionShow));
             }
+
+            TelevisionShowsPage televisionShowsPage = new TelevisionShowsPage();
+            televisionShowsPage.setTelevisionShows(televisionShows);
+            televisionShowsPage.setPageNumber(realmTelevisionShowsPage.getPageNumber());
+            televisionShowsPage.setLastPage(realmTelevisionShowsPage.isLastPage());
+            televisionShowsPage.setExpiredAt(realmTelevisionShowsPage.getExpiredAt());
+            return televisionShowsPage;
         } finally {
-            realm.close();
+            closeRealm(realm);
         }
     }
 
     public static void saveTelevisionShowsPage(TelevisionShowsPage televisionShowsPage){
-        Realm realm = Realm.getDefaultInstance();
+        Realm realm = getRealm();
         try {
             List<TelevisionShow> televisionShows = televisionShowsPage.getTelevisionShows();
             int pageNumber = televisionShowsPage.getPageNumber();
             boolean isLastPage = televisionShowsPage.isLastPage();
             Date expiredAt = televisionShowsPage.getExpiredAt();
 
+            // Insert or update the page and its TV shows in a single transaction
             realm.executeTransaction(new Realm.Transaction() {
                 @Override
                 public void execute(Realm realm) {
-                    RealmTelevisionShowsPage realmTelevisionShowsPage =
-                            realm.createObject(RealmTelevisionShowsPage.class, pageNumber);
+                    RealmTelevisionShowsPage realmTelevisionShowsPage = realm.where(RealmTelevisionShowsPage.class)
+                            .equalTo("pageNumber", pageNumber)
+                            .findFirst();
+                    if(realmTelevisionShowsPage == null){
+                        realmTelevisionShowsPage = realm.createObject(RealmTelevisionShowsPage.class, pageNumber);
+                    } else {
+                        // Only the references go, the TV shows themselves are shared with other pages and searches
+                        realmTelevisionShowsPage.getTelevisionShows().clear();
+                    }
 
-                    RealmList<RealmTelevisionShow> realmTelevisionShows = new RealmList<>();
+                    RealmList<RealmTelevisionShow> realmTelevisionShows = realmTelevisionShowsPage.getTelevisionShows();
                     for(TelevisionShow televisionShow : televisionShows){
-                        realmTelevisionShows.add(televisionShowRealmMapper.mapToRealmObject(televisionShow));
+                        realmTelevisionShows.add(televisionShowRealmMapper.mapToRealmObject(realm, televisionShow));
                     }
 
-                    realmTelevisionShowsPage.setTelevisionShows(realmTelevisionShows);
                     realmTelevisionShowsPage.setLastPage(isLastPage);
                     realmTelevisionShowsPage.setExpiredAt(expiredAt);
-
-                    realm.copyToRealmOrUpdate(realmTelevisionShowsPage);
+                    realmTelevisionShowsPage.setLastAccessedAt(new Date());
                 }
             });
 
+            SearchIndex.getInstance().indexTelevisionShows(televisionShows);
+            logStoreMetrics(realm);
+
         } catch (Exception e){
-            e.printStackTrace();
+            Timber.e(e, "Failed to save TV shows page %d", televisionShowsPage.getPageNumber());
         } finally {
-            realm.close();
+            closeRealm(realm);
         }
     }
 
     public static PersonsPage getPersonsPage(int pageNumber){
-        PersonsPage personsPage = new PersonsPage();
-
-        Realm realm = Realm.getDefaultInstance();
+        Realm realm = getRealm();
         try {
-            RealmResults<RealmPersonsPage> realmResults
-                    = realm.where(RealmPersonsPage.class).findAll();
-            if(realmResults != null && realmResults.isValid() && realmResults.size() > 0){
-                if(realmResults.size() == pageNumber-1)
-                    return null;
-
-                RealmPersonsPage realmPersonsPage = realmResults.get(pageNumber-1);
-
-                RealmList<RealmPerson> realmPersons = realmPersonsPage.getPersons();
-
-                List<Person> persons = new ArrayList<>();
-                for(RealmPerson realmPerson : realmPersons){
-                    persons.add(personRealmMapper.mapFromRealmObject(realmPerson));
-                }
+            RealmPersonsPage realmPersonsPage = realm.where(RealmPersonsPage.class)
+                    .equalTo("pageNumber", pageNumber)
+                    .findFirst();
+            if(realmPersonsPage == null)
+                return null;
 
-                personsPage.setPersons(persons);
-                personsPage.setPageNumber(realmPersonsPage.getPageNumber());
-                personsPage.setLastPage(realmPersonsPage.isLastPage());
-                personsPage.setExpiredAt(realmPersonsPage.getExpiredAt());
+            touch(realm, realmPersonsPage);
 
-                return personsPage;
-            } else {
-                return null;
+            List<Person> persons = new ArrayList<>();
+            for(RealmPerson realmPerson : realmPersonsPage.getPersons()){
+                persons.add(personRealmMapper.mapFromRealmObject(realmPerson));
             }
+
+            PersonsPage personsPage = new PersonsPage();
+            personsPage.setPersons(persons);
+            personsPage.setPageNumber(realmPersonsPage.getPageNumber());
+            personsPage.setLastPage(realmPersonsPage.isLastPage());
+            personsPage.setExpiredAt(realmPersonsPage.getExpiredAt());
+            return personsPage;
         } finally {
-            realm.close();
+            closeRealm(realm);
         }
     }
 
     public static void savePersonsPage(PersonsPage personsPage){
-        Realm realm = Realm.getDefaultInstance();
+        Realm realm = getRealm();
         try {
             List<Person> persons = personsPage.getPersons();
             int pageNumber = personsPage.getPageNumber();
             boolean isLastPage = personsPage.isLastPage();
             Date expiredAt = personsPage.getExpiredAt();
 
+            // Insert or update the page and its persons in a single transaction
             realm.executeTransaction(new Realm.Transaction() {
                 @Override
                 public void execute(Realm realm) {
-                    RealmPersonsPage realmPersonsPage =
-                            realm.createObject(RealmPersonsPage.class, pageNumber);
+                    RealmPersonsPage realmPersonsPage = realm.where(RealmPersonsPage.class)
+                            .equalTo("pageNumber", pageNumber)
+                            .findFirst();
+                    if(realmPersonsPage == null){
+                        realmPersonsPage = realm.createObject(RealmPersonsPage.class, pageNumber);
+                    } else {
+                        // Only the references go, the persons themselves are shared with other pages and searches
+                        realmPersonsPage.getPersons().clear();
+                    }
 
-                    RealmList<RealmPerson> realmPersons = new RealmList<>();
+                    RealmList<RealmPerson> realmPersons = realmPersonsPage.getPersons();
                     for(Person person : persons){
-                        realmPersons.add(personRealmMapper.mapToRealmObject(person));
+                        realmPersons.add(personRealmMapper.mapToRealmObject(realm, person));
                     }
 
-                    realmPersonsPage.setPersons(realmPersons);
                     realmPersonsPage.setLastPage(isLastPage);
                     realmPersonsPage.setExpiredAt(expiredAt);
+                    realmPersonsPage.setLastAccessedAt(new Date());
+                }
+            });
 
-                    realm.copyToRealmOrUpdate(realmPersonsPage);
+            SearchIndex.getInstance().indexPersons(persons);
+            logStoreMetrics(realm);
+
+        } catch (Exception e){
+            Timber.e(e, "Failed to save persons page %d", personsPage.getPageNumber());
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    public static SearchWrapper getSearch(String query){
+        Realm realm = getRealm();
+        try {
+            RealmSearch realmSearch = realm.where(RealmSearch.class).equalTo("query", query).findFirst();
+            if(realmSearch == null)
+                return null;
+
+            touch(realm, realmSearch);
+
+            List<Movie> movies = new ArrayList<>();
+            for(RealmMovie realmMovie : realmSearch.getMovies()){
+                movies.add(movieRealmMapper.mapFromRealmObject(realmMovie));
+            }
+
+            List<TelevisionShow> televisionShows = new ArrayList<>();
+            for(RealmTelevisionShow realmTelevisionShow : realmSearch.getTelevisionShows()){
+                televisionShows.add(televisionShowRealmMapper.mapFromRealmObject(realmTelevisionShow));
+            }
+
+            List<Person> persons = new ArrayList<>();
+            for(RealmPerson realmPerson : realmSearch.getPersons()){
+                persons.add(personRealmMapper.mapFromRealmObject(realmPerson));
+            }
+
+            SearchWrapper searchWrapper = new SearchWrapper(realmSearch.getQuery(), movies, televisionShows, persons, realmSearch.getExpiredAt());
+            searchWrapper.setMoviesLastPage(realmSearch.isMoviesLastPage());
+            searchWrapper.setTelevisionShowsLastPage(realmSearch.isTelevisionShowsLastPage());
+            searchWrapper.setPersonsLastPage(realmSearch.isPersonsLastPage());
+            return searchWrapper;
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    public static void saveSearch(String query, SearchWrapper searchWrapper){
+        Realm realm = getRealm();
+        try {
+            List<Movie> movies = searchWrapper.getMovies();
+            List<TelevisionShow> televisionShows = searchWrapper.getTelevisionShows();
+            List<Person> persons = searchWrapper.getPersons();
+            boolean isMoviesLastPage = searchWrapper.isMoviesLastPage();
+            boolean isTelevisionShowsLastPage = searchWrapper.isTelevisionShowsLastPage();
+            boolean isPersonsLastPage = searchWrapper.isPersonsLastPage();
+            Date expiredAt = searchWrapper.getExpiredAt();
+
+            realm.executeTransaction(new Realm.Transaction() {
+                @Override
+                public void execute(Realm realm) {
+                    // Replace the results of a query that was searched for before
+                    RealmSearch realmSearch = realm.where(RealmSearch.class).equalTo("query", query).findFirst();
+                    if(realmSearch == null){
+                        realmSearch = realm.createObject(RealmSearch.class, query);
+                    } else {
+                        realmSearch.getMovies().clear();
+                        realmSearch.getTelevisionShows().clear();
+                        realmSearch.getPersons().clear();
+                    }
+
+                    RealmList<RealmMovie> realmMovies = new RealmList<>();
+                    if(movies != null){
+                        for(Movie movie : movies){
+                            realmMovies.add(movieRealmMapper.mapToRealmObject(realm, movie));
+                        }
+                    }
+
+                    RealmList<RealmTelevisionShow> realmTelevisionShows = new RealmList<>();
+                    if(televisionShows != null){
+                        for(TelevisionShow televisionShow : televisionShows){
+                            realmTelevisionShows.add(televisionShowRealmMapper.mapToRealmObject(realm, televisionShow));
+                        }
+                    }
+
+                    RealmList<RealmPerson> realmPersons = new RealmList<>();
+                    if(persons != null){
+                        for(Person person : persons){
+                            realmPersons.add(personRealmMapper.mapToRealmObject(realm, person));
+                        }
+                    }
+
+                    realmSearch.setMovies(realmMovies);
+                    realmSearch.setTelevisionShows(realmTelevisionShows);
+                    realmSearch.setPersons(realmPersons);
+                    realmSearch.setMoviesLastPage(isMoviesLastPage);
+                    realmSearch.setTelevisionShowsLastPage(isTelevisionShowsLastPage);
+                    realmSearch.setPersonsLastPage(isPersonsLastPage);
+                    realmSearch.setExpiredAt(expiredAt);
+                    realmSearch.setLastAccessedAt(new Date());
+                }
+            });
+
+            SearchIndex.getInstance().indexMovies(movies);
+            SearchIndex.getInstance().indexTelevisionShows(televisionShows);
+            SearchIndex.getInstance().indexPersons(persons);
+            logStoreMetrics(realm);
+
+        } catch (Exception e){
+            Timber.e(e, "Failed to save search results for \"%s\"", query);
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    public static MovieDetailsWrapper getMovieDetails(int movieId){
+        Realm realm = getRealm();
+        try {
+            RealmMovieDetails realmMovieDetails = realm.where(RealmMovieDetails.class)
+                    .equalTo("movieId", movieId)
+                    .findFirst();
+            if(realmMovieDetails == null || realmMovieDetails.getMovie() == null)
+                return null;
+
+            touch(realm, realmMovieDetails);
+
+            List<MovieCredit> cast = new ArrayList<>();
+            for(RealmCredit realmCredit : realmMovieDetails.getCast()){
+                cast.add(movieCreditRealmMapper.mapFromRealmObject(realmCredit));
+            }
+
+            List<MovieCredit> crew = new ArrayList<>();
+            for(RealmCredit realmCredit : realmMovieDetails.getCrew()){
+                crew.add(movieCreditRealmMapper.mapFromRealmObject(realmCredit));
+            }
+
+            List<Movie> similarMovies = new ArrayList<>();
+            for(RealmMovie realmMovie : realmMovieDetails.getSimilarMovies()){
+                similarMovies.add(movieRealmMapper.mapFromRealmObject(realmMovie));
+            }
+
+            return new MovieDetailsWrapper(
+                    movieRealmMapper.mapFromRealmObject(realmMovieDetails.getMovie()),
+                    cast,
+                    crew,
+                    similarMovies,
+                    realmMovieDetails.getRating(),
+                    realmMovieDetails.getExpiredAt());
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    public static void saveMovieDetails(MovieDetailsWrapper movieDetailsWrapper){
+        Realm realm = getRealm();
+        try {
+            Movie movie = movieDetailsWrapper.getMovie();
+            List<MovieCredit> cast = movieDetailsWrapper.getCast();
+            List<MovieCredit> crew = movieDetailsWrapper.getCrew();
+            List<Movie> similarMovies = movieDetailsWrapper.getSimilarMovies();
+            String rating = movieDetailsWrapper.getRating();
+            Date expiredAt = movieDetailsWrapper.getExpiredAt();
+
+            realm.executeTransaction(new Realm.Transaction() {
+                @Override
+                public void execute(Realm realm) {
+                    RealmMovieDetails realmMovieDetails = realm.where(RealmMovieDetails.class)
+                            .equalTo("movieId", movie.getId())
+                            .findFirst();
+                    if(realmMovieDetails == null){
+                        realmMovieDetails = realm.createObject(RealmMovieDetails.class, movie.getId());
+                    } else {
+                        // Credits belong to these details, similar movies are shared entities
+                        realmMovieDetails.getCast().deleteAllFromRealm();
+                        realmMovieDetails.getCrew().deleteAllFromRealm();
+                        realmMovieDetails.getSimilarMovies().clear();
+                    }
+
+                    realmMovieDetails.setMovie(movieRealmMapper.mapToRealmObject(realm, movie));
+
+                    if(cast != null){
+                        for(MovieCredit credit : cast){
+                            realmMovieDetails.getCast().add(movieCreditRealmMapper.mapToRealmObject(realm, credit));
+                        }
+                    }
+
+                    if(crew != null){
+                        for(MovieCredit credit : crew){
+                            realmMovieDetails.getCrew().add(movieCreditRealmMapper.mapToRealmObject(realm, credit));
+                        }
+                    }
+
+                    if(similarMovies != null){
+                        for(Movie similarMovie : similarMovies){
+                            realmMovieDetails.getSimilarMovies().add(movieRealmMapper.mapToRealmObject(realm, similarMovie));
+                        }
+                    }
+
+                    realmMovieDetails.setRating(rating);
+                    realmMovieDetails.setExpiredAt(expiredAt);
+                    realmMovieDetails.setLastAccessedAt(new Date());
                 }
             });
 
+            logStoreMetrics(realm);
+
         } catch (Exception e){
-            e.printStackTrace();
+            Timber.e(e, "Failed to save movie details %d", movieDetailsWrapper.getMovie().getId());
         } finally {
-            realm.close();
+            closeRealm(realm);
         }
     }
 
+    public static TelevisionShowDetailsWrapper getTelevisionShowDetails(int televisionShowId){
+        Realm realm = getRealm();
+        try {
+            RealmTelevisionShowDetails realmTelevisionShowDetails = realm.where(RealmTelevisionShowDetails.class)
+                    .equalTo("televisionShowId", televisionShowId)
+                    .findFirst();
+            if(realmTelevisionShowDetails == null || realmTelevisionShowDetails.getTelevisionShow() == null)
+                return null;
+
+            touch(realm, realmTelevisionShowDetails);
+
+            List<TelevisionShowCredit> cast = new ArrayList<>();
+            for(RealmCredit realmCredit : realmTelevisionShowDetails.getCast()){
+                cast.add(televisionShowCreditRealmMapper.mapFromRealmObject(realmCredit));
+            }
+
+            List<TelevisionShowCredit> crew = new ArrayList<>();
+            for(RealmCredit realmCredit : realmTelevisionShowDetails.getCrew()){
+                crew.add(televisionShowCreditRealmMapper.mapFromRealmObject(realmCredit));
+            }
+
+            List<TelevisionShow> similarTelevisionShows = new ArrayList<>();
+            for(RealmTelevisionShow realmTelevisionShow : realmTelevisionShowDetails.getSimilarTelevisionShows()){
+                similarTelevisionShows.add(televisionShowRealmMapper.mapFromRealmObject(realmTelevisionShow));
+            }
+
+            return new TelevisionShowDetailsWrapper(
+                    televisionShowRealmMapper.mapFromRealmObject(realmTelevisionShowDetails.getTelevisionShow()),
+                    cast,
+                    crew,
+                    similarTelevisionShows,
+                    realmTelevisionShowDetails.getRating(),
+                    realmTelevisionShowDetails.getExpiredAt());
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    public static void saveTelevisionShowDetails(TelevisionShowDetailsWrapper televisionShowDetailsWrapper){
+        Realm realm = getRealm();
+        try {
+            TelevisionShow televisionShow = televisionShowDetailsWrapper.getTelevisionShow();
+            List<TelevisionShowCredit> cast = televisionShowDetailsWrapper.getCast();
+            List<TelevisionShowCredit> crew = televisionShowDetailsWrapper.getCrew();
+            List<TelevisionShow> similarTelevisionShows = televisionShowDetailsWrapper.getSimilarTelevisionShows();
+            String rating = televisionShowDetailsWrapper.getRating();
+            Date expiredAt = televisionShowDetailsWrapper.getExpiredAt();
+
+            realm.executeTransaction(new Realm.Transaction() {
+                @Override
+                public void execute(Realm realm) {
+                    RealmTelevisionShowDetails realmTelevisionShowDetails = realm.where(RealmTelevisionShowDetails.class)
+                            .equalTo("televisionShowId", televisionShow.getId())
+                            .findFirst();
+                    if(realmTelevisionShowDetails == null){
+                        realmTelevisionShowDetails = realm.createObject(RealmTelevisionShowDetails.class, televisionShow.getId());
+                    } else {
+                        // Credits belong to these details, similar TV shows are shared entities
+                        realmTelevisionShowDetails.getCast().deleteAllFromRealm();
+                        realmTelevisionShowDetails.getCrew().deleteAllFromRealm();
+                        realmTelevisionShowDetails.getSimilarTelevisionShows().clear();
+                    }
+
+                    realmTelevisionShowDetails.setTelevisionShow(televisionShowRealmMapper.mapToRealmObject(realm, televisionShow));
+
+                    if(cast != null){
+                        for(TelevisionShowCredit credit : cast){
+                            realmTelevisionShowDetails.getCast().add(televisionShowCreditRealmMapper.mapToRealmObject(realm, credit));
+                        }
+                    }
+
+                    if(crew != null){
+                        for(TelevisionShowCredit credit : crew){
+                            realmTelevisionShowDetails.getCrew().add(televisionShowCreditRealmMapper.mapToRealmObject(realm, credit));
+                        }
+                    }
+
+                    if(similarTelevisionShows != null){
+                        for(TelevisionShow similarTelevisionShow : similarTelevisionShows){
+                            realmTelevisionShowDetails.getSimilarTelevisionShows().add(televisionShowRealmMapper.mapToRealmObject(realm, similarTelevisionShow));
+                        }
+                    }
+
+                    realmTelevisionShowDetails.setRating(rating);
+                    realmTelevisionShowDetails.setExpiredAt(expiredAt);
+                    realmTelevisionShowDetails.setLastAccessedAt(new Date());
+                }
+            });
+
+            logStoreMetrics(realm);
+
+        } catch (Exception e){
+            Timber.e(e, "Failed to save TV show details %d", televisionShowDetailsWrapper.getTelevisionShow().getId());
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    public static PersonDetailsWrapper getPersonDetails(int personId){
+        Realm realm = getRealm();
+        try {
+            RealmPersonDetails realmPersonDetails = realm.where(RealmPersonDetails.class)
+                    .equalTo("personId", personId)
+                    .findFirst();
+            if(realmPersonDetails == null || realmPersonDetails.getPerson() == null)
+                return null;
+
+            touch(realm, realmPersonDetails);
+
+            List<PersonCredit> cast = new ArrayList<>();
+            for(RealmPersonCredit realmPersonCredit : realmPersonDetails.getCast()){
+                cast.add(personCreditRealmMapper.mapFromRealmObject(realmPersonCredit));
+            }
+
+            List<PersonCredit> crew = new ArrayList<>();
+            for(RealmPersonCredit realmPersonCredit : realmPersonDetails.getCrew()){
+                crew.add(personCreditRealmMapper.mapFromRealmObject(realmPersonCredit));
+            }
+
+            return new PersonDetailsWrapper(
+                    personRealmMapper.mapFromRealmObject(realmPersonDetails.getPerson()),
+                    cast,
+                    crew,
+                    realmPersonDetails.getExpiredAt());
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    public static void savePersonDetails(PersonDetailsWrapper personDetailsWrapper){
+        Realm realm = getRealm();
+        try {
+            Person person = personDetailsWrapper.getPerson();
+            List<PersonCredit> cast = personDetailsWrapper.getCast();
+            List<PersonCredit> crew = personDetailsWrapper.getCrew();
+            Date expiredAt = personDetailsWrapper.getExpiredAt();
+
+            realm.executeTransaction(new Realm.Transaction() {
+                @Override
+                public void execute(Realm realm) {
+                    RealmPersonDetails realmPersonDetails = realm.where(RealmPersonDetails.class)
+                            .equalTo("personId", person.getId())
+                            .findFirst();
+                    if(realmPersonDetails == null){
+                        realmPersonDetails = realm.createObject(RealmPersonDetails.class, person.getId());
+                    } else {
+                        realmPersonDetails.getCast().deleteAllFromRealm();
+                        realmPersonDetails.getCrew().deleteAllFromRealm();
+                    }
+
+                    realmPersonDetails.setPerson(personRealmMapper.mapToRealmObject(realm, person));
+
+                    if(cast != null){
+                        for(PersonCredit credit : cast){
+                            realmPersonDetails.getCast().add(personCreditRealmMapper.mapToRealmObject(realm, credit));
+                        }
+                    }
+
+                    if(crew != null){
+                        for(PersonCredit credit : crew){
+                            realmPersonDetails.getCrew().add(personCreditRealmMapper.mapToRealmObject(realm, credit));
+                        }
+                    }
+
+                    realmPersonDetails.setExpiredAt(expiredAt);
+                    realmPersonDetails.setLastAccessedAt(new Date());
+                }
+            });
+
+            logStoreMetrics(realm);
+
+        } catch (Exception e){
+            Timber.e(e, "Failed to save person details %d", personDetailsWrapper.getPerson().getId());
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    public static Palette getPalette(String imagePath){
+        Realm realm = getRealm();
+        try {
+            RealmPalette realmPalette = realm.where(RealmPalette.class)
+                    .equalTo("imagePath", imagePath)
+                    .findFirst();
+            if(realmPalette == null)
+                return null;
+
+            touch(realm, realmPalette);
+            // Text colors are derived from the rgb value, so the swatch comes back identical
+            Palette.Swatch swatch = new Palette.Swatch(realmPalette.getRgb(), realmPalette.getPopulation());
+            return Palette.from(Collections.singletonList(swatch));
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    public static void savePalette(String imagePath, Palette palette){
+        Palette.Swatch swatch = ColorUtility.getMostPopulousSwatch(palette);
+        if(swatch == null)
+            return;
+
+        Realm realm = getRealm();
+        try {
+            realm.executeTransaction(transactionRealm -> {
+                RealmPalette realmPalette = new RealmPalette();
+                realmPalette.setImagePath(imagePath);
+                realmPalette.setRgb(swatch.getRgb());
+                realmPalette.setPopulation(swatch.getPopulation());
+                realmPalette.setLastAccessedAt(new Date());
+                transactionRealm.insertOrUpdate(realmPalette);
+            });
+        } catch (Exception e){
+            Timber.e(e, "Failed to save palette for %s", imagePath);
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    // The movies with these ids, in the same order, skipping any that are no longer stored
+    public static List<Movie> getMovies(List<Integer> movieIds){
+        List<Movie> movies = new ArrayList<>();
+        if(movieIds.isEmpty())
+            return movies;
+
+        Realm realm = getRealm();
+        try {
+            Map<Integer, Movie> moviesById = new HashMap<>();
+            for(RealmMovie realmMovie : realm.where(RealmMovie.class).in("id", movieIds.toArray(new Integer[movieIds.size()])).findAll()){
+                moviesById.put(realmMovie.getId(), movieRealmMapper.mapFromRealmObject(realmMovie));
+            }
+            for(Integer movieId : movieIds){
+                if(moviesById.containsKey(movieId))
+                    movies.add(moviesById.get(movieId));
+            }
+            return movies;
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    public static List<TelevisionShow> getTelevisionShows(List<Integer> televisionShowIds){
+        List<TelevisionShow> televisionShows = new ArrayList<>();
+        if(televisionShowIds.isEmpty())
+            return televisionShows;
+
+        Realm realm = getRealm();
+        try {
+            Map<Integer, TelevisionShow> televisionShowsById = new HashMap<>();
+            for(RealmTelevisionShow realmTelevisionShow : realm.where(RealmTelevisionShow.class).in("id", televisionShowIds.toArray(new Integer[televisionShowIds.size()])).findAll()){
+                televisionShowsById.put(realmTelevisionShow.getId(), televisionShowRealmMapper.mapFromRealmObject(realmTelevisionShow));
+            }
+            for(Integer televisionShowId : televisionShowIds){
+                if(televisionShowsById.containsKey(televisionShowId))
+                    televisionShows.add(televisionShowsById.get(televisionShowId));
+            }
+            return televisionShows;
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    public static List<Person> getPersons(List<Integer> personIds){
+        List<Person> persons = new ArrayList<>();
+        if(personIds.isEmpty())
+            return persons;
+
+        Realm realm = getRealm();
+        try {
+            Map<Integer, Person> personsById = new HashMap<>();
+            for(RealmPerson realmPerson : realm.where(RealmPerson.class).in("id", personIds.toArray(new Integer[personIds.size()])).findAll()){
+                personsById.put(realmPerson.getId(), personRealmMapper.mapFromRealmObject(realmPerson));
+            }
+            for(Integer personId : personIds){
+                if(personsById.containsKey(personId))
+                    persons.add(personsById.get(personId));
+            }
+            return persons;
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    // Hands the index only the id and names of each row, read in place without mapping it. Least
+    // popular first, so a full index keeps the most popular
+    static void buildSearchIndex(SearchIndex searchIndex){
+        Realm realm = getRealm();
+        try {
+            for(RealmMovie realmMovie : realm.where(RealmMovie.class).findAllSorted("popularity")){
+                searchIndex.indexMovie(realmMovie.getId(), realmMovie.getPopularity(), realmMovie.getTitle(), realmMovie.getOriginalTitle());
+            }
+            for(RealmTelevisionShow realmTelevisionShow : realm.where(RealmTelevisionShow.class).findAllSorted("popularity")){
+                searchIndex.indexTelevisionShow(realmTelevisionShow.getId(), realmTelevisionShow.getPopularity(), realmTelevisionShow.getName(), realmTelevisionShow.getOriginalName());
+            }
+            for(RealmPerson realmPerson : realm.where(RealmPerson.class).findAll()){
+                searchIndex.indexPerson(realmPerson.getId(), realmPerson.getName());
+            }
+        } finally {
+            closeRealm(realm);
+        }
+    }
+
+    // Stamps the entry for RealmSweeper's LRU eviction, at most once per resolution window so
+    // scrolling back over cached pages does not turn every read into a write
+    private static void touch(Realm realm, RealmCacheEntry realmCacheEntry){
+        Date now = new Date();
+        Date lastAccessedAt = realmCacheEntry.getLastAccessedAt();
+        if(lastAccessedAt != null && now.getTime() - lastAccessedAt.getTime() < ACCESS_RESOLUTION_MILLIS)
+            return;
+
+        realm.executeTransaction(transactionRealm -> realmCacheEntry.setLastAccessedAt(now));
+    }
+
+    private static void logStoreMetrics(Realm realm){
+        if(BuildConfig.DEBUG)
+            Timber.d(RealmStoreMetrics.getSnapshot(realm).toString());
+    }
+
+    // Realm is backed by native code that StrictMode does not see, so check the thread here
+    private static Realm getRealm(){
+        if(BuildConfig.DEBUG && DatabaseScheduler.isMainThread())
+            Timber.wtf(new IllegalStateException("Realm accessed on the main thread"), "Use DatabaseScheduler for local reads");
+
+        Realm realm = Realm.getDefaultInstance();
+        if(BuildConfig.DEBUG){
+            int openInstanceCount = ++openInstanceCounts.get()[0];
+            if(openInstanceCount > MAX_OPEN_INSTANCES_PER_THREAD)
+                Timber.w(new IllegalStateException("Realm instance leak"), "%d Realm instances open on %s", openInstanceCount, Thread.currentThread().getName());
+        }
+        return realm;
+    }
+
+    private static void closeRealm(Realm realm){
+        realm.close();
+        if(BuildConfig.DEBUG)
+            openInstanceCounts.get()[0]--;
+    }
+
+    // Debug builds only, the number of instances RealmUtility has open on the calling thread
+    public static int getOpenInstanceCount(){
+        return openInstanceCounts.get()[0];
+    }
+
 }
@@ -0,0 +1,300 @@
+package com.etiennelawlor.moviehub.data.database;
+
+import com.etiennelawlor.moviehub.data.network.response.Movie;
+import com.etiennelawlor.moviehub.data.network.response.Person;
+import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
+import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory token index over the movies, TV shows and persons stored in Realm.
+ *
+ * Titles, original titles and names are folded (lowercased, diacritics stripped) and split into
+ * tokens. A query matches an item when every query token is a prefix of one of its tokens, so
+ * "amel pou" finds "Le Fabuleux Destin d'Amélie Poulain". Only ids and folded titles are held,
+ * the matches themselves are read from Realm when a search returns them. The index is built from
+ * Realm in the background, kept current by {@link RealmUtility} as pages are saved and by
+ * {@link RealmSweeper} as rows are deleted. Once a category is full the least popular title goes
+ * to make room, so stored rows below that cut are only found by the remote search. Persons carry
+ * no popularity, the one indexed longest ago goes instead.
+ */
+
+public class SearchIndex {
+
+    // region Constants
+    private static final int MAX_RESULTS = 20;
+    private static final int MAX_ENTRIES_PER_CATEGORY = 5000;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // endregion
+
+    // region Static Variables
+    private static final SearchIndex instance = new SearchIndex();
+    // endregion
+
+    // region Member Variables
+    private final Category movies = new Category();
+    private final Category televisionShows = new Category();
+    private final Category persons = new Category();
+    private boolean isBuilt = false;
+    // endregion
+
+    // region Constructors
+    private SearchIndex() {
+    }
+    // endregion
+
+    public static SearchIndex getInstance() {
+        return instance;
+    }
+
+    // Reads every stored title once, call it from a background thread ahead of the first search
+    public synchronized void build() {
+        if (isBuilt)
+            return;
+
+        isBuilt = true;
+        RealmUtility.buildSearchIndex(this);
+    }
+
+    public SearchWrapper search(String query) {
+        String foldedQuery = fold(query);
+        List<String> queryTokens = tokenize(foldedQuery);
+        if (queryTokens.isEmpty()) {
+            return new SearchWrapper(query, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        }
+
+        List<Integer> movieIds;
+        List<Integer> televisionShowIds;
+        List<Integer> personIds;
+        synchronized (this) {
+            build();
+            movieIds = movies.search(queryTokens, foldedQuery);
+            televisionShowIds = televisionShows.search(queryTokens, foldedQuery);
+            personIds = persons.search(queryTokens, foldedQuery);
+        }
+
+        // Rows swept since they were indexed are simply missing from these
+        SearchWrapper searchWrapper = new SearchWrapper(query,
+                RealmUtility.getMovies(movieIds),
+                RealmUtility.getTelevisionShows(televisionShowIds),
+                RealmUtility.getPersons(personIds));
+        // Local matches are provisional until the full results for each category arrive
+        searchWrapper.setMoviesState(SearchWrapper.CategoryState.PENDING);
+        searchWrapper.setTelevisionShowsState(SearchWrapper.CategoryState.PENDING);
+        searchWrapper.setPersonsState(SearchWrapper.CategoryState.PENDING);
+        return searchWrapper;
+    }
+
+    public synchronized void indexMovies(List<Movie> movies) {
+        if (movies == null)
+            return;
+
+        for (Movie movie : movies) {
+            indexMovie(movie.getId(), movie.getPopularity(), movie.getTitle(), movie.getOriginalTitle());
+        }
+    }
+
+    public synchronized void indexTelevisionShows(List<TelevisionShow> televisionShows) {
+        if (televisionShows == null)
+            return;
+
+        for (TelevisionShow televisionShow : televisionShows) {
+            indexTelevisionShow(televisionShow.getId(), televisionShow.getPopularity(), televisionShow.getName(), televisionShow.getOriginalName());
+        }
+    }
+
+    public synchronized void indexPersons(List<Person> persons) {
+        if (persons == null)
+            return;
+
+        for (Person person : persons) {
+            indexPerson(person.getId(), person.getName());
+        }
+    }
+
+    synchronized void indexMovie(int id, float popularity, String title, String originalTitle) {
+        movies.put(id, popularity, title, originalTitle);
+    }
+
+    synchronized void indexTelevisionShow(int id, float popularity, String name, String originalName) {
+        televisionShows.put(id, popularity, name, originalName);
+    }
+
+    synchronized void indexPerson(int id, String name) {
+        persons.put(id, 0, name);
+    }
+
+    synchronized void removeMovies(Collection<Integer> ids) {
+        movies.removeAll(ids);
+    }
+
+    synchronized void removeTelevisionShows(Collection<Integer> ids) {
+        televisionShows.removeAll(ids);
+    }
+
+    synchronized void removePersons(Collection<Integer> ids) {
+        persons.removeAll(ids);
+    }
+
+    public synchronized int size() {
+        return movies.size() + televisionShows.size() + persons.size();
+    }
+
+    // region Helper Methods
+    static String fold(String text) {
+        if (text == null)
+            return "";
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.US).trim();
+    }
+
+    static List<String> tokenize(String foldedText) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(foldedText)) {
+            if (token.length() > 0) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+    // endregion
+
+    // region Inner Classes
+    private static class Category {
+
+        // region Member Variables
+        private final Map<Integer, Entry> entries = new HashMap<>();
+        private final TreeMap<String, Set<Integer>> tokens = new TreeMap<>();
+        // Least popular first, ties go to the entry indexed longest ago
+        private final TreeSet<Entry> evictionOrder = new TreeSet<>((entry1, entry2) -> {
+            int comparison = Float.compare(entry1.popularity, entry2.popularity);
+            return comparison != 0 ? comparison : Long.compare(entry1.sequence, entry2.sequence);
+        });
+        private long sequence = 0L;
+        // endregion
+
+        void put(int id, float popularity, String... names) {
+            remove(id);
+
+            Set<String> itemTokens = new HashSet<>();
+            for (String name : names) {
+                itemTokens.addAll(tokenize(fold(name)));
+            }
+
+            Entry entry = new Entry(id, sequence++, fold(names[0]), popularity, itemTokens);
+            entries.put(id, entry);
+            evictionOrder.add(entry);
+            for (String token : itemTokens) {
+                Set<Integer> ids = tokens.get(token);
+                if (ids == null) {
+                    ids = new HashSet<>();
+                    tokens.put(token, ids);
+                }
+                ids.add(id);
+            }
+
+            if (entries.size() > MAX_ENTRIES_PER_CATEGORY) {
+                remove(evictionOrder.first().id);
+            }
+        }
+
+        List<Integer> search(List<String> queryTokens, String foldedQuery) {
+            Set<Integer> matchingIds = null;
+            for (String queryToken : queryTokens) {
+                Set<Integer> tokenMatches = new HashSet<>();
+                // Every indexed token that starts with queryToken sorts between these bounds
+                for (Set<Integer> ids : tokens.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false).values()) {
+                    tokenMatches.addAll(ids);
+                }
+
+                if (matchingIds == null) {
+                    matchingIds = tokenMatches;
+                } else {
+                    matchingIds.retainAll(tokenMatches);
+                }
+
+                if (matchingIds.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            List<Integer> ids = new ArrayList<>(matchingIds);
+            // Titles that start with the query first, then the most popular
+            Collections.sort(ids, (id1, id2) -> {
+                Entry entry1 = entries.get(id1);
+                Entry entry2 = entries.get(id2);
+                boolean isPrefix1 = entry1.name.startsWith(foldedQuery);
+                boolean isPrefix2 = entry2.name.startsWith(foldedQuery);
+                if (isPrefix1 != isPrefix2) {
+                    return isPrefix1 ? -1 : 1;
+                }
+                return Float.compare(entry2.popularity, entry1.popularity);
+            });
+
+            return ids.size() > MAX_RESULTS ? new ArrayList<>(ids.subList(0, MAX_RESULTS)) : ids;
+        }
+
+        void removeAll(Collection<Integer> ids) {
+            for (Integer id : ids) {
+                remove(id);
+            }
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        private void remove(int id) {
+            Entry entry = entries.remove(id);
+            if (entry == null)
+                return;
+
+            evictionOrder.remove(entry);
+
+            for (String token : entry.tokens) {
+                Set<Integer> ids = tokens.get(token);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        tokens.remove(token);
+                    }
+                }
+            }
+        }
+    }
+
+    private static class Entry {
+
+        // region Member Variables
+        final int id;
+        final long sequence;
+        final String name;
+        final float popularity;
+        final Set<String> tokens;
+        // endregion
+
+        Entry(int id, long sequence, String name, float popularity, Set<String> tokens) {
+            this.id = id;
+            this.sequence = sequence;
+            this.name = name;
+            this.popularity = popularity;
+            this.tokens = tokens;
+        }
+    }
+    // endregion
+}
@@ -12,8 +12,8 @@ import io.realm.Realm;
 public class GenreRealmMapper implements RealmMapper<Genre, RealmGenre> {
 
     @Override
-    public RealmGenre mapToRealmObject(Genre genre) {
-        RealmGenre realmGenre = Realm.getDefaultInstance().createObject(RealmGenre.class);
+    public RealmGenre mapToRealmObject(Realm realm, Genre genre) {
+        RealmGenre realmGenre = realm.createObject(RealmGenre.class);
 
         realmGenre.setId(genre.getId());
         realmGenre.setName(genre.getName());
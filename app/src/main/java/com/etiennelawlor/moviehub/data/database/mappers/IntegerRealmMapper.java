@@ -11,8 +11,8 @@ import io.realm.Realm;
 public class IntegerRealmMapper implements RealmMapper<Integer, RealmInteger> {
 
     @Override
-    public RealmInteger mapToRealmObject(Integer integer) {
-        RealmInteger realmInteger = Realm.getDefaultInstance().createObject(RealmInteger.class);
+    public RealmInteger mapToRealmObject(Realm realm, Integer integer) {
+        RealmInteger realmInteger = realm.createObject(RealmInteger.class);
 
         realmInteger.setValue(integer);
 
@@ -0,0 +1,43 @@
+package com.etiennelawlor.moviehub.data.database.mappers;
+
+import com.etiennelawlor.moviehub.data.database.models.RealmCredit;
+import com.etiennelawlor.moviehub.data.network.response.MovieCredit;
+
+import io.realm.Realm;
+
+/**
+ * Movie credits are stored as {@link RealmCredit}.
+ */
+
+public class MovieCreditRealmMapper implements RealmMapper<MovieCredit, RealmCredit> {
+
+    @Override
+    public RealmCredit mapToRealmObject(Realm realm, MovieCredit movieCredit) {
+        RealmCredit realmCredit = realm.createObject(RealmCredit.class);
+
+        realmCredit.setId(movieCredit.getId());
+        realmCredit.setCreditId(movieCredit.getCreditId());
+        realmCredit.setJob(movieCredit.getJob());
+        realmCredit.setCharacter(movieCredit.getCharacter());
+        realmCredit.setName(movieCredit.getName());
+        realmCredit.setDepartment(movieCredit.getDepartment());
+        realmCredit.setProfilePath(movieCredit.getProfilePath());
+
+        return realmCredit;
+    }
+
+    @Override
+    public MovieCredit mapFromRealmObject(RealmCredit realmCredit) {
+        MovieCredit movieCredit = new MovieCredit();
+
+        movieCredit.setId(realmCredit.getId());
+        movieCredit.setCreditId(realmCredit.getCreditId());
+        movieCredit.setJob(realmCredit.getJob());
+        movieCredit.setCharacter(realmCredit.getCharacter());
+        movieCredit.setName(realmCredit.getName());
+        movieCredit.setDepartment(realmCredit.getDepartment());
+        movieCredit.setProfilePath(realmCredit.getProfilePath());
+
+        return movieCredit;
+    }
+}
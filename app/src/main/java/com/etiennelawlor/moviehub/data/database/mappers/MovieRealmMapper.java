@@ -1,5 +1,6 @@
 package com.etiennelawlor.moviehub.data.database.mappers;
 
+import com.etiennelawlor.moviehub.data.database.RealmStoreMetrics;
 import com.etiennelawlor.moviehub.data.database.models.RealmGenre;
 import com.etiennelawlor.moviehub.data.database.models.RealmMovie;
 import com.etiennelawlor.moviehub.data.network.response.Genre;
@@ -20,25 +21,21 @@ public class MovieRealmMapper implements RealmMapper<Movie, RealmMovie> {
     private GenreRealmMapper genreRealmMapper = new GenreRealmMapper();
 
     @Override
-    public RealmMovie mapToRealmObject(Movie movie) {
-        RealmMovie realmMovie = Realm.getDefaultInstance().createObject(RealmMovie.class);
+    public RealmMovie mapToRealmObject(Realm realm, Movie movie) {
+        // Stored once per TMDB id and referenced by every page and search that lists it
+        RealmMovie realmMovie = realm.where(RealmMovie.class)
+                .equalTo("id", movie.getId())
+                .findFirst();
+        boolean isInsert = realmMovie == null;
+        if(isInsert){
+            realmMovie = realm.createObject(RealmMovie.class, movie.getId());
+            RealmStoreMetrics.recordInsert();
+        } else {
+            RealmStoreMetrics.recordUpdate();
+        }
 
         realmMovie.setAdult(movie.isAdult());
         realmMovie.setBackdropPath(movie.getBackdropPath());
-        realmMovie.setBudget(movie.getBudget());
-
-        List<Genre> genres = movie.getGenres();
-        RealmList<RealmGenre> realmGenres = new RealmList<>();
-        if(genres != null && genres.size()>0) {
-            for (Genre genre : genres) {
-                realmGenres.add(genreRealmMapper.mapToRealmObject(genre));
-            }
-        }
-        realmMovie.setGenres(realmGenres);
-
-        realmMovie.setHomepage(movie.getHomepage());
-        realmMovie.setId(movie.getId());
-        realmMovie.setImdbId(movie.getImdbId());
         realmMovie.setOriginalLanguage(movie.getOriginalLanguage());
         realmMovie.setOriginalTitle(movie.getOriginalTitle());
         realmMovie.setOverview(movie.getOverview());
@@ -46,15 +43,34 @@ public class MovieRealmMapper implements RealmMapper<Movie, RealmMovie> {
 //        realmMovie.setPosterPalette(movie.getPosterPalette());
         realmMovie.setPosterPath(movie.getPosterPath());
         realmMovie.setReleaseDate(movie.getReleaseDate());
-        realmMovie.setRevenue(movie.getRevenue());
-        realmMovie.setRuntime(movie.getRuntime());
-        realmMovie.setStatus(movie.getStatus());
-        realmMovie.setTagline(movie.getTagline());
         realmMovie.setTitle(movie.getTitle());
         realmMovie.setVideo(movie.isVideo());
         realmMovie.setVoteAverage(movie.getVoteAverage());
         realmMovie.setVoteCount(movie.getVoteCount());
 
+        // List results leave out the detail fields, keep the ones a details save stored
+        if(isInsert || hasDetails(movie)){
+            deleteChildObjects(realmMovie);
+
+            realmMovie.setBudget(movie.getBudget());
+
+            List<Genre> genres = movie.getGenres();
+            RealmList<RealmGenre> realmGenres = new RealmList<>();
+            if(genres != null && genres.size()>0) {
+                for (Genre genre : genres) {
+                    realmGenres.add(genreRealmMapper.mapToRealmObject(realm, genre));
+                }
+            }
+            realmMovie.setGenres(realmGenres);
+
+            realmMovie.setHomepage(movie.getHomepage());
+            realmMovie.setImdbId(movie.getImdbId());
+            realmMovie.setRevenue(movie.getRevenue());
+            realmMovie.setRuntime(movie.getRuntime());
+            realmMovie.setStatus(movie.getStatus());
+            realmMovie.setTagline(movie.getTagline());
+        }
+
         return realmMovie;
     }
 
@@ -92,4 +108,23 @@ public class MovieRealmMapper implements RealmMapper<Movie, RealmMovie> {
 
         return movie;
     }
+
+    // Removes the row along with the embedded values only it points at
+    public void deleteRealmObject(RealmMovie realmMovie) {
+        deleteChildObjects(realmMovie);
+        realmMovie.deleteFromRealm();
+    }
+
+    // region Helper Methods
+    // Only the details endpoint returns a status
+    private boolean hasDetails(Movie movie) {
+        return movie.getStatus() != null;
+    }
+
+    // Embedded values are rewritten on every save, so drop the previous ones instead of orphaning them
+    private void deleteChildObjects(RealmMovie realmMovie) {
+        if(realmMovie.getGenres() != null)
+            realmMovie.getGenres().deleteAllFromRealm();
+    }
+    // endregion
 }
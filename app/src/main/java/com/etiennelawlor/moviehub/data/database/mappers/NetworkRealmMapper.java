@@ -12,8 +12,8 @@ import io.realm.Realm;
 public class NetworkRealmMapper implements RealmMapper<Network, RealmNetwork> {
 
     @Override
-    public RealmNetwork mapToRealmObject(Network network) {
-        RealmNetwork realmNetwork = Realm.getDefaultInstance().createObject(RealmNetwork.class);
+    public RealmNetwork mapToRealmObject(Realm realm, Network network) {
+        RealmNetwork realmNetwork = realm.createObject(RealmNetwork.class);
 
         realmNetwork.setId(network.getId());
         realmNetwork.setName(network.getName());
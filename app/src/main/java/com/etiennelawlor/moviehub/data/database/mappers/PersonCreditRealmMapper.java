@@ -0,0 +1,51 @@
+package com.etiennelawlor.moviehub.data.database.mappers;
+
+import com.etiennelawlor.moviehub.data.database.models.RealmPersonCredit;
+import com.etiennelawlor.moviehub.data.network.response.PersonCredit;
+
+import io.realm.Realm;
+
+/**
+ * Maps a credit from a person's filmography.
+ */
+
+public class PersonCreditRealmMapper implements RealmMapper<PersonCredit, RealmPersonCredit> {
+
+    @Override
+    public RealmPersonCredit mapToRealmObject(Realm realm, PersonCredit personCredit) {
+        RealmPersonCredit realmPersonCredit = realm.createObject(RealmPersonCredit.class);
+
+        realmPersonCredit.setId(personCredit.getId());
+        realmPersonCredit.setCreditId(personCredit.getCreditId());
+        realmPersonCredit.setJob(personCredit.getJob());
+        realmPersonCredit.setCharacter(personCredit.getCharacter());
+        realmPersonCredit.setTitle(personCredit.getTitle());
+        realmPersonCredit.setName(personCredit.getName());
+        realmPersonCredit.setDepartment(personCredit.getDepartment());
+        realmPersonCredit.setPosterPath(personCredit.getPosterPath());
+        realmPersonCredit.setFirstAirDate(personCredit.getFirstAirDate());
+        realmPersonCredit.setReleaseDate(personCredit.getReleaseDate());
+        realmPersonCredit.setMediaType(personCredit.getMediaType());
+
+        return realmPersonCredit;
+    }
+
+    @Override
+    public PersonCredit mapFromRealmObject(RealmPersonCredit realmPersonCredit) {
+        PersonCredit personCredit = new PersonCredit();
+
+        personCredit.setId(realmPersonCredit.getId());
+        personCredit.setCreditId(realmPersonCredit.getCreditId());
+        personCredit.setJob(realmPersonCredit.getJob());
+        personCredit.setCharacter(realmPersonCredit.getCharacter());
+        personCredit.setTitle(realmPersonCredit.getTitle());
+        personCredit.setName(realmPersonCredit.getName());
+        personCredit.setDepartment(realmPersonCredit.getDepartment());
+        personCredit.setPosterPath(realmPersonCredit.getPosterPath());
+        personCredit.setFirstAirDate(realmPersonCredit.getFirstAirDate());
+        personCredit.setReleaseDate(realmPersonCredit.getReleaseDate());
+        personCredit.setMediaType(realmPersonCredit.getMediaType());
+
+        return personCredit;
+    }
+}
@@ -1,6 +1,8 @@
 package com.etiennelawlor.moviehub.data.database.mappers;
 
+import com.etiennelawlor.moviehub.data.database.RealmStoreMetrics;
 import com.etiennelawlor.moviehub.data.database.models.RealmPerson;
+import com.etiennelawlor.moviehub.data.database.models.RealmProfileImages;
 import com.etiennelawlor.moviehub.data.network.response.Person;
 
 import io.realm.Realm;
@@ -14,18 +16,33 @@ public class PersonRealmMapper implements RealmMapper<Person, RealmPerson> {
     private ProfileImagesRealmMapper profileImagesRealmMapper = new ProfileImagesRealmMapper();
 
     @Override
-    public RealmPerson mapToRealmObject(Person person) {
-        RealmPerson realmPerson = Realm.getDefaultInstance().createObject(RealmPerson.class);
-
-        realmPerson.setBiography(person.getBiography());
-        realmPerson.setBirthday(person.getBirthday());
-        realmPerson.setDeathday(person.getDeathday());
-        realmPerson.setId(person.getId());
-        realmPerson.setImdbId(person.getImdbId());
+    public RealmPerson mapToRealmObject(Realm realm, Person person) {
+        // Stored once per TMDB id and referenced by every page and search that lists it
+        RealmPerson realmPerson = realm.where(RealmPerson.class)
+                .equalTo("id", person.getId())
+                .findFirst();
+        boolean isInsert = realmPerson == null;
+        if(isInsert){
+            realmPerson = realm.createObject(RealmPerson.class, person.getId());
+            RealmStoreMetrics.recordInsert();
+        } else {
+            RealmStoreMetrics.recordUpdate();
+        }
+
         realmPerson.setName(person.getName());
-        realmPerson.setPlaceOfBirth(person.getPlaceOfBirth());
         realmPerson.setProfilePath(person.getProfilePath());
-        realmPerson.setImages(profileImagesRealmMapper.mapToRealmObject(person.getImages()));
+
+        // List results leave out the detail fields, keep the ones a details save stored
+        if(isInsert || hasDetails(person)){
+            deleteChildObjects(realmPerson);
+
+            realmPerson.setBiography(person.getBiography());
+            realmPerson.setBirthday(person.getBirthday());
+            realmPerson.setDeathday(person.getDeathday());
+            realmPerson.setImdbId(person.getImdbId());
+            realmPerson.setPlaceOfBirth(person.getPlaceOfBirth());
+            realmPerson.setImages(profileImagesRealmMapper.mapToRealmObject(realm, person.getImages()));
+        }
 
         return realmPerson;
     }
@@ -46,4 +63,27 @@ public class PersonRealmMapper implements RealmMapper<Person, RealmPerson> {
 
         return person;
     }
+
+    // Removes the row along with the embedded values only it points at
+    public void deleteRealmObject(RealmPerson realmPerson) {
+        deleteChildObjects(realmPerson);
+        realmPerson.deleteFromRealm();
+    }
+
+    // region Helper Methods
+    // Only the details endpoint returns a biography, even if it is empty
+    private boolean hasDetails(Person person) {
+        return person.getBiography() != null;
+    }
+
+    // Embedded values are rewritten on every save, so drop the previous ones instead of orphaning them
+    private void deleteChildObjects(RealmPerson realmPerson) {
+        RealmProfileImages realmProfileImages = realmPerson.getImages();
+        if(realmProfileImages != null){
+            if(realmProfileImages.getProfiles() != null)
+                realmProfileImages.getProfiles().deleteAllFromRealm();
+            realmProfileImages.deleteFromRealm();
+        }
+    }
+    // endregion
 }
@@ -12,8 +12,8 @@ import io.realm.Realm;
 public class ProfileImageRealmMapper implements RealmMapper<ProfileImage, RealmProfileImage> {
 
     @Override
-    public RealmProfileImage mapToRealmObject(ProfileImage profileImage) {
-        RealmProfileImage realmProfileImage = Realm.getDefaultInstance().createObject(RealmProfileImage.class);
+    public RealmProfileImage mapToRealmObject(Realm realm, ProfileImage profileImage) {
+        RealmProfileImage realmProfileImage = realm.createObject(RealmProfileImage.class);
 
         realmProfileImage.setAspectRatio(profileImage.getAspectRatio());
         realmProfileImage.setFilePath(profileImage.getFilePath());
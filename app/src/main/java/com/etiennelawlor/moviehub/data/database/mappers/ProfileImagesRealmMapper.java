@@ -20,15 +20,15 @@ public class ProfileImagesRealmMapper implements RealmMapper<ProfileImages, Real
     private ProfileImageRealmMapper profileImageRealmMapper = new ProfileImageRealmMapper();
 
     @Override
-    public RealmProfileImages mapToRealmObject(ProfileImages profileImages) {
-        RealmProfileImages realmProfileImages = Realm.getDefaultInstance().createObject(RealmProfileImages.class);
+    public RealmProfileImages mapToRealmObject(Realm realm, ProfileImages profileImages) {
+        RealmProfileImages realmProfileImages = realm.createObject(RealmProfileImages.class);
 
         if(profileImages != null){
             List<ProfileImage> profileImages1 = profileImages.getProfiles();
             RealmList<RealmProfileImage> realmProfileImages1 = new RealmList<>();
             if(profileImages1 != null && profileImages1.size()>0) {
                 for (ProfileImage profileImage : profileImages1) {
-                    realmProfileImages1.add(profileImageRealmMapper.mapToRealmObject(profileImage));
+                    realmProfileImages1.add(profileImageRealmMapper.mapToRealmObject(realm, profileImage));
                 }
             }
             realmProfileImages.setProfiles(realmProfileImages1);
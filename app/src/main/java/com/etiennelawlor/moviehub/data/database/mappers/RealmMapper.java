@@ -1,10 +1,13 @@
 package com.etiennelawlor.moviehub.data.database.mappers;
 
+import io.realm.Realm;
+
 /**
  * Created by etiennelawlor on 5/14/17.
  */
 
 public interface RealmMapper<Pojo, RealmObject> {
-    RealmObject mapToRealmObject(Pojo data);
+    // Called inside the caller's transaction, never opens a Realm instance of its own
+    RealmObject mapToRealmObject(Realm realm, Pojo data);
     Pojo mapFromRealmObject(RealmObject data);
 }
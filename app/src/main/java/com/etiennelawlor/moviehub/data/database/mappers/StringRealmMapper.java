@@ -11,8 +11,8 @@ import io.realm.Realm;
 public class StringRealmMapper implements RealmMapper<String, RealmString> {
 
     @Override
-    public RealmString mapToRealmObject(String string) {
-        RealmString realmString = Realm.getDefaultInstance().createObject(RealmString.class);
+    public RealmString mapToRealmObject(Realm realm, String string) {
+        RealmString realmString = realm.createObject(RealmString.class);
 
         realmString.setValue(string);
 
@@ -0,0 +1,43 @@
+package com.etiennelawlor.moviehub.data.database.mappers;
+
+import com.etiennelawlor.moviehub.data.database.models.RealmCredit;
+import com.etiennelawlor.moviehub.data.network.response.TelevisionShowCredit;
+
+import io.realm.Realm;
+
+/**
+ * TV show credits share {@link RealmCredit} with movie credits, they have the same fields.
+ */
+
+public class TelevisionShowCreditRealmMapper implements RealmMapper<TelevisionShowCredit, RealmCredit> {
+
+    @Override
+    public RealmCredit mapToRealmObject(Realm realm, TelevisionShowCredit televisionShowCredit) {
+        RealmCredit realmCredit = realm.createObject(RealmCredit.class);
+
+        realmCredit.setId(televisionShowCredit.getId());
+        realmCredit.setCreditId(televisionShowCredit.getCreditId());
+        realmCredit.setJob(televisionShowCredit.getJob());
+        realmCredit.setCharacter(televisionShowCredit.getCharacter());
+        realmCredit.setName(televisionShowCredit.getName());
+        realmCredit.setDepartment(televisionShowCredit.getDepartment());
+        realmCredit.setProfilePath(televisionShowCredit.getProfilePath());
+
+        return realmCredit;
+    }
+
+    @Override
+    public TelevisionShowCredit mapFromRealmObject(RealmCredit realmCredit) {
+        TelevisionShowCredit televisionShowCredit = new TelevisionShowCredit();
+
+        televisionShowCredit.setId(realmCredit.getId());
+        televisionShowCredit.setCreditId(realmCredit.getCreditId());
+        televisionShowCredit.setJob(realmCredit.getJob());
+        televisionShowCredit.setCharacter(realmCredit.getCharacter());
+        televisionShowCredit.setName(realmCredit.getName());
+        televisionShowCredit.setDepartment(realmCredit.getDepartment());
+        televisionShowCredit.setProfilePath(realmCredit.getProfilePath());
+
+        return televisionShowCredit;
+    }
+}
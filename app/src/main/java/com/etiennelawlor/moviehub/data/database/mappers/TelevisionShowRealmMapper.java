@@ -1,5 +1,6 @@
 package com.etiennelawlor.moviehub.data.database.mappers;
 
+import com.etiennelawlor.moviehub.data.database.RealmStoreMetrics;
 import com.etiennelawlor.moviehub.data.database.models.RealmGenre;
 import com.etiennelawlor.moviehub.data.database.models.RealmInteger;
 import com.etiennelawlor.moviehub.data.database.models.RealmNetwork;
@@ -27,65 +28,30 @@ public class TelevisionShowRealmMapper implements RealmMapper<TelevisionShow, Re
     private IntegerRealmMapper integerRealmMapper = new IntegerRealmMapper();
 
     @Override
-    public RealmTelevisionShow mapToRealmObject(TelevisionShow televisionShow) {
-        RealmTelevisionShow realmTelevisionShow = Realm.getDefaultInstance().createObject(RealmTelevisionShow.class);
-
-        realmTelevisionShow.setBackdropPath(televisionShow.getBackdropPath());
-
-        List<Integer> episodeRunTimes = televisionShow.getEpisodeRunTime();
-        RealmList<RealmInteger> realmIntegers = new RealmList<>();
-        if(episodeRunTimes != null && episodeRunTimes.size()>0) {
-            for (Integer episodeRunTime : episodeRunTimes) {
-                realmIntegers.add(integerRealmMapper.mapToRealmObject(episodeRunTime));
-            }
+    public RealmTelevisionShow mapToRealmObject(Realm realm, TelevisionShow televisionShow) {
+        // Stored once per TMDB id and referenced by every page and search that lists it
+        RealmTelevisionShow realmTelevisionShow = realm.where(RealmTelevisionShow.class)
+                .equalTo("id", televisionShow.getId())
+                .findFirst();
+        boolean isInsert = realmTelevisionShow == null;
+        if(isInsert){
+            realmTelevisionShow = realm.createObject(RealmTelevisionShow.class, televisionShow.getId());
+            RealmStoreMetrics.recordInsert();
+        } else {
+            RealmStoreMetrics.recordUpdate();
+            if(realmTelevisionShow.getOriginCountry() != null)
+                realmTelevisionShow.getOriginCountry().deleteAllFromRealm();
         }
-        realmTelevisionShow.setEpisodeRunTime(realmIntegers);
 
+        realmTelevisionShow.setBackdropPath(televisionShow.getBackdropPath());
         realmTelevisionShow.setFirstAirDate(televisionShow.getFirstAirDate());
-
-        List<Genre> genres = televisionShow.getGenres();
-        RealmList<RealmGenre> realmGenres = new RealmList<>();
-        if(genres != null && genres.size()>0) {
-            for (Genre genre : genres) {
-                realmGenres.add(genreRealmMapper.mapToRealmObject(genre));
-            }
-        }
-        realmTelevisionShow.setGenres(realmGenres);
-
-        realmTelevisionShow.setHomepage(televisionShow.getHomepage());
-        realmTelevisionShow.setId(televisionShow.getId());
-        realmTelevisionShow.setInProduction(televisionShow.isInProduction());
-
-        List<String> languages = televisionShow.getLanguages();
-        RealmList<RealmString> realmLanguages = new RealmList<>();
-        if(languages != null && languages.size()>0) {
-            for (String language : languages) {
-                realmLanguages.add(stringRealmMapper.mapToRealmObject(language));
-            }
-        }
-        realmTelevisionShow.setLanguages(realmLanguages);
-
-        realmTelevisionShow.setLastAirDate(televisionShow.getLastAirDate());
         realmTelevisionShow.setName(televisionShow.getName());
 
-
-        List<Network> networks = televisionShow.getNetworks();
-        RealmList<RealmNetwork> realmNetworks = new RealmList<>();
-        if(networks != null && networks.size()>0) {
-            for (Network network : networks) {
-                realmNetworks.add(networkRealmMapper.mapToRealmObject(network));
-            }
-        }
-        realmTelevisionShow.setNetworks(realmNetworks);
-
-        realmTelevisionShow.setNumberOfEpisodes(televisionShow.getNumberOfEpisodes());
-        realmTelevisionShow.setNumberOfSeasons(televisionShow.getNumberOfSeasons());
-
         List<String> originCountries = televisionShow.getOriginCountry();
         RealmList<RealmString> realmOriginCountries = new RealmList<>();
         if(originCountries != null && originCountries.size()>0) {
             for (String originCountry : originCountries) {
-                realmOriginCountries.add(stringRealmMapper.mapToRealmObject(originCountry));
+                realmOriginCountries.add(stringRealmMapper.mapToRealmObject(realm, originCountry));
             }
         }
         realmTelevisionShow.setOriginCountry(realmOriginCountries);
@@ -95,11 +61,60 @@ public class TelevisionShowRealmMapper implements RealmMapper<TelevisionShow, Re
         realmTelevisionShow.setOverview(televisionShow.getOverview());
         realmTelevisionShow.setPopularity(televisionShow.getPopularity());
         realmTelevisionShow.setPosterPath(televisionShow.getPosterPath());
-        realmTelevisionShow.setStatus(televisionShow.getStatus());
-        realmTelevisionShow.setType(televisionShow.getType());
         realmTelevisionShow.setVoteAverage(televisionShow.getVoteAverage());
         realmTelevisionShow.setVoteCount(televisionShow.getVoteCount());
 
+        // List results leave out the detail fields, keep the ones a details save stored
+        if(isInsert || hasDetails(televisionShow)){
+            deleteChildObjects(realmTelevisionShow);
+
+            List<Integer> episodeRunTimes = televisionShow.getEpisodeRunTime();
+            RealmList<RealmInteger> realmIntegers = new RealmList<>();
+            if(episodeRunTimes != null && episodeRunTimes.size()>0) {
+                for (Integer episodeRunTime : episodeRunTimes) {
+                    realmIntegers.add(integerRealmMapper.mapToRealmObject(realm, episodeRunTime));
+                }
+            }
+            realmTelevisionShow.setEpisodeRunTime(realmIntegers);
+
+            List<Genre> genres = televisionShow.getGenres();
+            RealmList<RealmGenre> realmGenres = new RealmList<>();
+            if(genres != null && genres.size()>0) {
+                for (Genre genre : genres) {
+                    realmGenres.add(genreRealmMapper.mapToRealmObject(realm, genre));
+                }
+            }
+            realmTelevisionShow.setGenres(realmGenres);
+
+            realmTelevisionShow.setHomepage(televisionShow.getHomepage());
+            realmTelevisionShow.setInProduction(televisionShow.isInProduction());
+
+            List<String> languages = televisionShow.getLanguages();
+            RealmList<RealmString> realmLanguages = new RealmList<>();
+            if(languages != null && languages.size()>0) {
+                for (String language : languages) {
+                    realmLanguages.add(stringRealmMapper.mapToRealmObject(realm, language));
+                }
+            }
+            realmTelevisionShow.setLanguages(realmLanguages);
+
+            realmTelevisionShow.setLastAirDate(televisionShow.getLastAirDate());
+
+            List<Network> networks = televisionShow.getNetworks();
+            RealmList<RealmNetwork> realmNetworks = new RealmList<>();
+            if(networks != null && networks.size()>0) {
+                for (Network network : networks) {
+                    realmNetworks.add(networkRealmMapper.mapToRealmObject(realm, network));
+                }
+            }
+            realmTelevisionShow.setNetworks(realmNetworks);
+
+            realmTelevisionShow.setNumberOfEpisodes(televisionShow.getNumberOfEpisodes());
+            realmTelevisionShow.setNumberOfSeasons(televisionShow.getNumberOfSeasons());
+            realmTelevisionShow.setStatus(televisionShow.getStatus());
+            realmTelevisionShow.setType(televisionShow.getType());
+        }
+
         return realmTelevisionShow;
     }
 
@@ -168,4 +183,31 @@ public class TelevisionShowRealmMapper implements RealmMapper<TelevisionShow, Re
 
         return televisionShow;
     }
+
+    // Removes the row along with the embedded values only it points at
+    public void deleteRealmObject(RealmTelevisionShow realmTelevisionShow) {
+        if(realmTelevisionShow.getOriginCountry() != null)
+            realmTelevisionShow.getOriginCountry().deleteAllFromRealm();
+        deleteChildObjects(realmTelevisionShow);
+        realmTelevisionShow.deleteFromRealm();
+    }
+
+    // region Helper Methods
+    // Only the details endpoint returns a status
+    private boolean hasDetails(TelevisionShow televisionShow) {
+        return televisionShow.getStatus() != null;
+    }
+
+    // Embedded values are rewritten on every save, so drop the previous ones instead of orphaning them
+    private void deleteChildObjects(RealmTelevisionShow realmTelevisionShow) {
+        if(realmTelevisionShow.getEpisodeRunTime() != null)
+            realmTelevisionShow.getEpisodeRunTime().deleteAllFromRealm();
+        if(realmTelevisionShow.getGenres() != null)
+            realmTelevisionShow.getGenres().deleteAllFromRealm();
+        if(realmTelevisionShow.getLanguages() != null)
+            realmTelevisionShow.getLanguages().deleteAllFromRealm();
+        if(realmTelevisionShow.getNetworks() != null)
+            realmTelevisionShow.getNetworks().deleteAllFromRealm();
+    }
+    // endregion
 }
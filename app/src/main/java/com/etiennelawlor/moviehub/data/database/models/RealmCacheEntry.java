@@ -0,0 +1,18 @@
+package com.etiennelawlor.moviehub.data.database.models;
+
+import java.util.Date;
+
+/**
+ * A top-level cached object, a page, a search or a details screen, that can be evicted on its
+ * own. Movies, TV shows and persons are shared between entries and go once nothing points at
+ * them.
+ */
+
+public interface RealmCacheEntry {
+
+    Date getExpiredAt();
+
+    Date getLastAccessedAt();
+
+    void setLastAccessedAt(Date lastAccessedAt);
+}
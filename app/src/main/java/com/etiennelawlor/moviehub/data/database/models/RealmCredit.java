@@ -0,0 +1,85 @@
+package com.etiennelawlor.moviehub.data.database.models;
+
+import io.realm.RealmObject;
+
+/**
+ * A cast or crew credit of a movie or TV show, owned by its details object.
+ */
+
+public class RealmCredit extends RealmObject {
+
+    // region Fields
+    private int id;
+    private String creditId;
+    private String job;
+    private String character;
+    private String name;
+    private String department;
+    private String profilePath;
+    // endregion
+
+    // region Getters
+
+    public int getId() {
+        return id;
+    }
+
+    public String getCreditId() {
+        return creditId;
+    }
+
+    public String getJob() {
+        return job;
+    }
+
+    public String getCharacter() {
+        return character;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public String getProfilePath() {
+        return profilePath;
+    }
+
+    // endregion
+
+    // region Setters
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public void setCreditId(String creditId) {
+        this.creditId = creditId;
+    }
+
+    public void setJob(String job) {
+        this.job = job;
+    }
+
+    public void setCharacter(String character) {
+        this.character = character;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public void setProfilePath(String profilePath) {
+        this.profilePath = profilePath;
+    }
+
+    // endregion
+
+}
@@ -1,13 +1,17 @@
 package com.etiennelawlor.moviehub.data.database.models;
 
+import com.etiennelawlor.moviehub.data.network.response.Movie;
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MovieItem;
+
 import io.realm.RealmList;
 import io.realm.RealmObject;
+import io.realm.annotations.PrimaryKey;
 
 /**
  * Created by etiennelawlor on 5/14/17.
  */
 
-public class RealmMovie extends RealmObject {
+public class RealmMovie extends RealmObject implements MovieItem {
 
     // region Fields
     public boolean adult;
@@ -15,6 +19,7 @@ public class RealmMovie extends RealmObject {
     public int budget;
     public RealmList<RealmGenre> genres = null;
     public String homepage;
+    @PrimaryKey
     public int id;
     public String imdbId;
     public String originalLanguage;
@@ -92,6 +97,15 @@ public class RealmMovie extends RealmObject {
         return releaseDate;
     }
 
+    // Read straight from the Realm file, nothing else of the movie is loaded
+    public String getReleaseYear(){
+        return Movie.getReleaseYear(releaseDate);
+    }
+
+    public String getPosterUrl(){
+        return Movie.getPosterUrl(posterPath);
+    }
+
     public long getRevenue() {
         return revenue;
     }
@@ -0,0 +1,99 @@
+package com.etiennelawlor.moviehub.data.database.models;
+
+import java.util.Date;
+
+import io.realm.RealmList;
+import io.realm.RealmObject;
+import io.realm.annotations.PrimaryKey;
+
+/**
+ * Everything the movie details screen shows, keyed by TMDB movie id.
+ */
+
+public class RealmMovieDetails extends RealmObject implements RealmCacheEntry {
+
+    // region Fields
+    @PrimaryKey
+    private int movieId;
+    private RealmMovie movie;
+    private RealmList<RealmCredit> cast;
+    private RealmList<RealmCredit> crew;
+    private RealmList<RealmMovie> similarMovies;
+    private String rating;
+    private Date expiredAt;
+    private Date lastAccessedAt;
+    // endregion
+
+    // region Getters
+
+    public int getMovieId() {
+        return movieId;
+    }
+
+    public RealmMovie getMovie() {
+        return movie;
+    }
+
+    public RealmList<RealmCredit> getCast() {
+        return cast;
+    }
+
+    public RealmList<RealmCredit> getCrew() {
+        return crew;
+    }
+
+    public RealmList<RealmMovie> getSimilarMovies() {
+        return similarMovies;
+    }
+
+    public String getRating() {
+        return rating;
+    }
+
+    public Date getExpiredAt() {
+        return expiredAt;
+    }
+
+    public Date getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    // endregion
+
+    // region Setters
+
+    public void setMovieId(int movieId) {
+        this.movieId = movieId;
+    }
+
+    public void setMovie(RealmMovie movie) {
+        this.movie = movie;
+    }
+
+    public void setCast(RealmList<RealmCredit> cast) {
+        this.cast = cast;
+    }
+
+    public void setCrew(RealmList<RealmCredit> crew) {
+        this.crew = crew;
+    }
+
+    public void setSimilarMovies(RealmList<RealmMovie> similarMovies) {
+        this.similarMovies = similarMovies;
+    }
+
+    public void setRating(String rating) {
+        this.rating = rating;
+    }
+
+    public void setExpiredAt(Date expiredAt) {
+        this.expiredAt = expiredAt;
+    }
+
+    public void setLastAccessedAt(Date lastAccessedAt) {
+        this.lastAccessedAt = lastAccessedAt;
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,71 @@
+package com.etiennelawlor.moviehub.data.database.models;
+
+import java.util.Date;
+
+import io.realm.RealmObject;
+import io.realm.annotations.PrimaryKey;
+
+/**
+ * The most populous swatch of an image, the only one any screen colors itself with, keyed by the
+ * TMDB image path. Its title and body text colors are derived from the rgb value.
+ *
+ * A palette never goes stale, the sweeper only evicts it once it is least recently used.
+ */
+
+public class RealmPalette extends RealmObject implements RealmCacheEntry {
+
+    // region Fields
+    @PrimaryKey
+    private String imagePath;
+    private int rgb;
+    private int population;
+    private Date lastAccessedAt;
+    // endregion
+
+    // region Getters
+
+    public String getImagePath() {
+        return imagePath;
+    }
+
+    public int getRgb() {
+        return rgb;
+    }
+
+    public int getPopulation() {
+        return population;
+    }
+
+    @Override
+    public Date getExpiredAt() {
+        return null;
+    }
+
+    @Override
+    public Date getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    // endregion
+
+    // region Setters
+
+    public void setImagePath(String imagePath) {
+        this.imagePath = imagePath;
+    }
+
+    public void setRgb(int rgb) {
+        this.rgb = rgb;
+    }
+
+    public void setPopulation(int population) {
+        this.population = population;
+    }
+
+    @Override
+    public void setLastAccessedAt(Date lastAccessedAt) {
+        this.lastAccessedAt = lastAccessedAt;
+    }
+
+    // endregion
+}
@@ -1,6 +1,7 @@
 package com.etiennelawlor.moviehub.data.database.models;
 
 import io.realm.RealmObject;
+import io.realm.annotations.PrimaryKey;
 
 /**
  * Created by etiennelawlor on 12/16/16.
@@ -12,6 +13,7 @@ public class RealmPerson extends RealmObject {
     public String biography;
     public String birthday;
     public String deathday;
+    @PrimaryKey
     public int id;
     public String imdbId;
     public String name;
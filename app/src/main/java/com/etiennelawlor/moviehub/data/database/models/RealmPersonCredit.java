@@ -0,0 +1,121 @@
+package com.etiennelawlor.moviehub.data.database.models;
+
+import io.realm.RealmObject;
+
+/**
+ * A movie or TV credit in a person's filmography, owned by its details object.
+ */
+
+public class RealmPersonCredit extends RealmObject {
+
+    // region Fields
+    private int id;
+    private String creditId;
+    private String job;
+    private String character;
+    private String title;
+    private String name;
+    private String department;
+    private String posterPath;
+    private String firstAirDate;
+    private String releaseDate;
+    private String mediaType;
+    // endregion
+
+    // region Getters
+
+    public int getId() {
+        return id;
+    }
+
+    public String getCreditId() {
+        return creditId;
+    }
+
+    public String getJob() {
+        return job;
+    }
+
+    public String getCharacter() {
+        return character;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public String getPosterPath() {
+        return posterPath;
+    }
+
+    public String getFirstAirDate() {
+        return firstAirDate;
+    }
+
+    public String getReleaseDate() {
+        return releaseDate;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    // endregion
+
+    // region Setters
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public void setCreditId(String creditId) {
+        this.creditId = creditId;
+    }
+
+    public void setJob(String job) {
+        this.job = job;
+    }
+
+    public void setCharacter(String character) {
+        this.character = character;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public void setPosterPath(String posterPath) {
+        this.posterPath = posterPath;
+    }
+
+    public void setFirstAirDate(String firstAirDate) {
+        this.firstAirDate = firstAirDate;
+    }
+
+    public void setReleaseDate(String releaseDate) {
+        this.releaseDate = releaseDate;
+    }
+
+    public void setMediaType(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    // endregion
+
+}
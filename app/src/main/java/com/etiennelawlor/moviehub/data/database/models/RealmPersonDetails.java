@@ -0,0 +1,81 @@
+package com.etiennelawlor.moviehub.data.database.models;
+
+import java.util.Date;
+
+import io.realm.RealmList;
+import io.realm.RealmObject;
+import io.realm.annotations.PrimaryKey;
+
+/**
+ * Everything the person details screen shows, keyed by TMDB person id.
+ */
+
+public class RealmPersonDetails extends RealmObject implements RealmCacheEntry {
+
+    // region Fields
+    @PrimaryKey
+    private int personId;
+    private RealmPerson person;
+    private RealmList<RealmPersonCredit> cast;
+    private RealmList<RealmPersonCredit> crew;
+    private Date expiredAt;
+    private Date lastAccessedAt;
+    // endregion
+
+    // region Getters
+
+    public int getPersonId() {
+        return personId;
+    }
+
+    public RealmPerson getPerson() {
+        return person;
+    }
+
+    public RealmList<RealmPersonCredit> getCast() {
+        return cast;
+    }
+
+    public RealmList<RealmPersonCredit> getCrew() {
+        return crew;
+    }
+
+    public Date getExpiredAt() {
+        return expiredAt;
+    }
+
+    public Date getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    // endregion
+
+    // region Setters
+
+    public void setPersonId(int personId) {
+        this.personId = personId;
+    }
+
+    public void setPerson(RealmPerson person) {
+        this.person = person;
+    }
+
+    public void setCast(RealmList<RealmPersonCredit> cast) {
+        this.cast = cast;
+    }
+
+    public void setCrew(RealmList<RealmPersonCredit> crew) {
+        this.crew = crew;
+    }
+
+    public void setExpiredAt(Date expiredAt) {
+        this.expiredAt = expiredAt;
+    }
+
+    public void setLastAccessedAt(Date lastAccessedAt) {
+        this.lastAccessedAt = lastAccessedAt;
+    }
+
+    // endregion
+
+}
@@ -10,7 +10,7 @@ import io.realm.annotations.PrimaryKey;
  * Created by etiennelawlor on 2/20/17.
  */
 
-public class RealmPersonsPage extends RealmObject {
+public class RealmPersonsPage extends RealmObject implements RealmCacheEntry {
 
     // region Member Variables
     private RealmList<RealmPerson> persons;
@@ -18,6 +18,7 @@ public class RealmPersonsPage extends RealmObject {
     private int pageNumber;
     private boolean isLastPage;
     private Date expiredAt;
+    private Date lastAccessedAt;
     // endregion
 
     // region Getters
@@ -38,6 +39,10 @@ public class RealmPersonsPage extends RealmObject {
         return expiredAt;
     }
 
+    public Date getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
     // endregion
 
     // region Setters
@@ -58,5 +63,9 @@ public class RealmPersonsPage extends RealmObject {
         this.expiredAt = expiredAt;
     }
 
+    public void setLastAccessedAt(Date lastAccessedAt) {
+        this.lastAccessedAt = lastAccessedAt;
+    }
+
     // endregion
 }
@@ -0,0 +1,108 @@
+package com.etiennelawlor.moviehub.data.database.models;
+
+import java.util.Date;
+
+import io.realm.RealmList;
+import io.realm.RealmObject;
+import io.realm.annotations.PrimaryKey;
+
+/**
+ * Search results persisted under their normalized query.
+ */
+
+public class RealmSearch extends RealmObject implements RealmCacheEntry {
+
+    // region Fields
+    @PrimaryKey
+    private String query;
+    private RealmList<RealmMovie> movies;
+    private RealmList<RealmTelevisionShow> televisionShows;
+    private RealmList<RealmPerson> persons;
+    private boolean isMoviesLastPage;
+    private boolean isTelevisionShowsLastPage;
+    private boolean isPersonsLastPage;
+    private Date expiredAt;
+    private Date lastAccessedAt;
+    // endregion
+
+    // region Getters
+
+    public String getQuery() {
+        return query;
+    }
+
+    public RealmList<RealmMovie> getMovies() {
+        return movies;
+    }
+
+    public RealmList<RealmTelevisionShow> getTelevisionShows() {
+        return televisionShows;
+    }
+
+    public RealmList<RealmPerson> getPersons() {
+        return persons;
+    }
+
+    public boolean isMoviesLastPage() {
+        return isMoviesLastPage;
+    }
+
+    public boolean isTelevisionShowsLastPage() {
+        return isTelevisionShowsLastPage;
+    }
+
+    public boolean isPersonsLastPage() {
+        return isPersonsLastPage;
+    }
+
+    public Date getExpiredAt() {
+        return expiredAt;
+    }
+
+    public Date getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    // endregion
+
+    // region Setters
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public void setMovies(RealmList<RealmMovie> movies) {
+        this.movies = movies;
+    }
+
+    public void setTelevisionShows(RealmList<RealmTelevisionShow> televisionShows) {
+        this.televisionShows = televisionShows;
+    }
+
+    public void setPersons(RealmList<RealmPerson> persons) {
+        this.persons = persons;
+    }
+
+    public void setMoviesLastPage(boolean moviesLastPage) {
+        isMoviesLastPage = moviesLastPage;
+    }
+
+    public void setTelevisionShowsLastPage(boolean televisionShowsLastPage) {
+        isTelevisionShowsLastPage = televisionShowsLastPage;
+    }
+
+    public void setPersonsLastPage(boolean personsLastPage) {
+        isPersonsLastPage = personsLastPage;
+    }
+
+    public void setExpiredAt(Date expiredAt) {
+        this.expiredAt = expiredAt;
+    }
+
+    public void setLastAccessedAt(Date lastAccessedAt) {
+        this.lastAccessedAt = lastAccessedAt;
+    }
+
+    // endregion
+
+}
@@ -2,6 +2,7 @@ package com.etiennelawlor.moviehub.data.database.models;
 
 import io.realm.RealmList;
 import io.realm.RealmObject;
+import io.realm.annotations.PrimaryKey;
 
 /**
  * Created by etiennelawlor on 12/16/16.
@@ -15,6 +16,7 @@ public class RealmTelevisionShow extends RealmObject {
     public String firstAirDate;
     public RealmList<RealmGenre> genres = null;
     public String homepage;
+    @PrimaryKey
     public int id;
     public boolean inProduction;
     public RealmList<RealmString> languages = null;
@@ -0,0 +1,99 @@
+package com.etiennelawlor.moviehub.data.database.models;
+
+import java.util.Date;
+
+import io.realm.RealmList;
+import io.realm.RealmObject;
+import io.realm.annotations.PrimaryKey;
+
+/**
+ * Everything the TV show details screen shows, keyed by TMDB TV show id.
+ */
+
+public class RealmTelevisionShowDetails extends RealmObject implements RealmCacheEntry {
+
+    // region Fields
+    @PrimaryKey
+    private int televisionShowId;
+    private RealmTelevisionShow televisionShow;
+    private RealmList<RealmCredit> cast;
+    private RealmList<RealmCredit> crew;
+    private RealmList<RealmTelevisionShow> similarTelevisionShows;
+    private String rating;
+    private Date expiredAt;
+    private Date lastAccessedAt;
+    // endregion
+
+    // region Getters
+
+    public int getTelevisionShowId() {
+        return televisionShowId;
+    }
+
+    public RealmTelevisionShow getTelevisionShow() {
+        return televisionShow;
+    }
+
+    public RealmList<RealmCredit> getCast() {
+        return cast;
+    }
+
+    public RealmList<RealmCredit> getCrew() {
+        return crew;
+    }
+
+    public RealmList<RealmTelevisionShow> getSimilarTelevisionShows() {
+        return similarTelevisionShows;
+    }
+
+    public String getRating() {
+        return rating;
+    }
+
+    public Date getExpiredAt() {
+        return expiredAt;
+    }
+
+    public Date getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    // endregion
+
+    // region Setters
+
+    public void setTelevisionShowId(int televisionShowId) {
+        this.televisionShowId = televisionShowId;
+    }
+
+    public void setTelevisionShow(RealmTelevisionShow televisionShow) {
+        this.televisionShow = televisionShow;
+    }
+
+    public void setCast(RealmList<RealmCredit> cast) {
+        this.cast = cast;
+    }
+
+    public void setCrew(RealmList<RealmCredit> crew) {
+        this.crew = crew;
+    }
+
+    public void setSimilarTelevisionShows(RealmList<RealmTelevisionShow> similarTelevisionShows) {
+        this.similarTelevisionShows = similarTelevisionShows;
+    }
+
+    public void setRating(String rating) {
+        this.rating = rating;
+    }
+
+    public void setExpiredAt(Date expiredAt) {
+        this.expiredAt = expiredAt;
+    }
+
+    public void setLastAccessedAt(Date lastAccessedAt) {
+        this.lastAccessedAt = lastAccessedAt;
+    }
+
+    // endregion
+
+}
@@ -10,7 +10,7 @@ import io.realm.annotations.PrimaryKey;
  * Created by etiennelawlor on 5/14/17.
  */
 
-public class RealmTelevisionShowsPage extends RealmObject {
+public class RealmTelevisionShowsPage extends RealmObject implements RealmCacheEntry {
 
     // region Fields
     private RealmList<RealmTelevisionShow> televisionShows;
@@ -18,6 +18,7 @@ public class RealmTelevisionShowsPage extends RealmObject {
     private int pageNumber;
     private boolean isLastPage;
     private Date expiredAt;
+    private Date lastAccessedAt;
     // endregion
 
     // region Getters
@@ -38,6 +39,10 @@ public class RealmTelevisionShowsPage extends RealmObject {
         return expiredAt;
     }
 
+    public Date getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
     // endregion
 
     // region Setters
@@ -58,6 +63,10 @@ public class RealmTelevisionShowsPage extends RealmObject {
         this.expiredAt = expiredAt;
     }
 
+    public void setLastAccessedAt(Date lastAccessedAt) {
+        this.lastAccessedAt = lastAccessedAt;
+    }
+
     // endregion
 
 }
@@ -34,14 +34,20 @@ public class AuthorizedNetworkInterceptor implements Interceptor {
         if (chain != null) {
             Request originalRequest = chain.request();
 
-            Map<String, String> queryParamsMap = new HashMap<>();
-            queryParamsMap.put("api_key", context.getString(R.string.api_key));
-            queryParamsMap.put("language", "en-US");
-            Request modifiedRequest = RequestUtility.addQueryParams(originalRequest, queryParamsMap);
+            Request modifiedRequest = authorize(context, originalRequest);
 
             return chain.proceed(modifiedRequest);
         }
 
         return null;
     }
+
+    // region Helper Methods
+    public static Request authorize(Context context, Request originalRequest) {
+        Map<String, String> queryParamsMap = new HashMap<>();
+        queryParamsMap.put("api_key", context.getString(R.string.api_key));
+        queryParamsMap.put("language", "en-US");
+        return RequestUtility.addQueryParams(originalRequest, queryParamsMap);
+    }
+    // endregion
 }
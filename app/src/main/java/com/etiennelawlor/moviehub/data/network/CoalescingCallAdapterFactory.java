@@ -0,0 +1,150 @@
+package com.etiennelawlor.moviehub.data.network;
+
+import android.content.Context;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Request;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+import rx.Observable;
+
+/**
+ * Single-flight layer for GET requests. Concurrent subscriptions to identical requests share one
+ * upstream call and all receive the same decoded result. The upstream call is cancelled once
+ * every subscriber has unsubscribed. Only callers that subscribe before the result is emitted
+ * join, later ones start a call of their own.
+ *
+ * Must be registered before {@link retrofit2.adapter.rxjava.RxJavaCallAdapterFactory}.
+ */
+
+public class CoalescingCallAdapterFactory extends CallAdapter.Factory {
+
+    // region Member Variables
+    private final Context context;
+    private final Map<String, Observable<?>> inFlightRequests = new HashMap<>();
+    private final AtomicLong upstreamCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    // endregion
+
+    // region Constructors
+    public CoalescingCallAdapterFactory(Context context) {
+        this.context = context.getApplicationContext();
+    }
+    // endregion
+
+    // region CallAdapter.Factory Methods
+    @Override
+    public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+        if (getRawType(returnType) != Observable.class || !isGetRequest(annotations)) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        CallAdapter<Object, Observable<Object>> delegate =
+                (CallAdapter<Object, Observable<Object>>) retrofit.nextCallAdapter(this, returnType, annotations);
+        return new CoalescingCallAdapter(delegate);
+    }
+    // endregion
+
+    // region Getters
+    public long getUpstreamCount() {
+        return upstreamCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public int getInFlightCount() {
+        synchronized (inFlightRequests) {
+            return inFlightRequests.size();
+        }
+    }
+    // endregion
+
+    // region Helper Methods
+    private static boolean isGetRequest(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof GET) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String getKey(Request request) {
+        // Key on the request as it will actually be sent, i.e. after the auth params are added
+        Request authorizedRequest = AuthorizedNetworkInterceptor.authorize(context, request);
+        return authorizedRequest.method() + " " + authorizedRequest.url().toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Observable<T> getSharedObservable(final String key, Observable<T> upstream) {
+        synchronized (inFlightRequests) {
+            Observable<T> sharedObservable = (Observable<T>) inFlightRequests.get(key);
+            if (sharedObservable != null) {
+                coalescedCount.incrementAndGet();
+                return sharedObservable;
+            }
+
+            upstreamCount.incrementAndGet();
+
+            final Object[] holder = new Object[1];
+            // Leave the map on the first notification, before share() hands it out. A caller
+            // arriving after the result went by would otherwise join and only see onCompleted.
+            sharedObservable = upstream
+                    .doOnEach(notification -> removeInFlightRequest(key, holder[0]))
+                    .doOnUnsubscribe(() -> removeInFlightRequest(key, holder[0]))
+                    .share();
+            holder[0] = sharedObservable;
+
+            inFlightRequests.put(key, sharedObservable);
+            return sharedObservable;
+        }
+    }
+
+    private void removeInFlightRequest(String key, Object sharedObservable) {
+        synchronized (inFlightRequests) {
+            if (inFlightRequests.get(key) == sharedObservable) {
+                inFlightRequests.remove(key);
+            }
+        }
+    }
+    // endregion
+
+    // region Inner Classes
+    private final class CoalescingCallAdapter implements CallAdapter<Object, Observable<Object>> {
+
+        // region Member Variables
+        private final CallAdapter<Object, Observable<Object>> delegate;
+        // endregion
+
+        // region Constructors
+        CoalescingCallAdapter(CallAdapter<Object, Observable<Object>> delegate) {
+            this.delegate = delegate;
+        }
+        // endregion
+
+        // region CallAdapter Methods
+        @Override
+        public Type responseType() {
+            return delegate.responseType();
+        }
+
+        @Override
+        public Observable<Object> adapt(Call<Object> call) {
+            final Observable<Object> upstream = delegate.adapt(call);
+            final String key = getKey(call.request());
+            return Observable.defer(() -> getSharedObservable(key, upstream));
+        }
+        // endregion
+    }
+    // endregion
+}
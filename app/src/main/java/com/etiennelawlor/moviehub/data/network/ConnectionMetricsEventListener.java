@@ -0,0 +1,68 @@
+package com.etiennelawlor.moviehub.data.network;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+
+/**
+ * Counts how often calls on the shared OkHttpClient acquire a pooled connection versus having
+ * to open (and TLS handshake) a brand new one.
+ */
+
+public class ConnectionMetricsEventListener extends EventListener {
+
+    // region Member Variables
+    private final AtomicLong connectionsAcquired = new AtomicLong();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final AtomicLong secureHandshakes = new AtomicLong();
+    // endregion
+
+    // region EventListener Methods
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectionsOpened.incrementAndGet();
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureHandshakes.incrementAndGet();
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        connectionsAcquired.incrementAndGet();
+    }
+    // endregion
+
+    // region Getters
+    public long getConnectionsAcquired() {
+        return connectionsAcquired.get();
+    }
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    public long getConnectionsReused() {
+        return Math.max(0, connectionsAcquired.get() - connectionsOpened.get());
+    }
+
+    public long getSecureHandshakes() {
+        return secureHandshakes.get();
+    }
+    // endregion
+
+    @Override
+    public String toString() {
+        return "ConnectionMetricsEventListener{" +
+                "connectionsAcquired=" + getConnectionsAcquired() +
+                ", connectionsOpened=" + getConnectionsOpened() +
+                ", connectionsReused=" + getConnectionsReused() +
+                ", secureHandshakes=" + getSecureHandshakes() +
+                '}';
+    }
+}
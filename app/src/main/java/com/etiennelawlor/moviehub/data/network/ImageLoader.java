@@ -0,0 +1,98 @@
+package com.etiennelawlor.moviehub.data.network;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.graphics.Bitmap;
+
+import com.squareup.picasso.LruCache;
+import com.squareup.picasso.Picasso;
+import com.squareup.picasso.StatsSnapshot;
+
+import java.io.File;
+
+import okhttp3.Cache;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import timber.log.Timber;
+
+/**
+ * Sets up the Picasso instance that {@code Picasso.with(context)} returns everywhere in the app.
+ *
+ * Images from image.tmdb.org go through the app's OkHttp stack into a disk cache of their own,
+ * so posters never evict API responses and the other way around. The memory cache is sized from
+ * the heap the device gives the app. TMDB serves JPEGs only, nothing has an alpha channel to
+ * keep, so bitmaps are decoded at RGB_565, at half the memory of ARGB_8888.
+ */
+
+public final class ImageLoader {
+
+    // region Constants
+    private static final long DISK_CACHE_SIZE = 50L * 1024L * 1024L; // 50MB
+    // A sixth of the heap, RGB_565 fits about twice as many posters in it as ARGB_8888 would
+    private static final int MEMORY_CACHE_HEAP_DIVISOR = 6;
+    // endregion
+
+    // region Static Variables
+    private static Picasso picasso;
+    private static Cache diskCache;
+    // endregion
+
+    // No need to instantiate this class.
+    private ImageLoader() {
+    }
+
+    // Call once from Application.onCreate, before anything loads an image
+    public static void initialize(Context context) {
+        Context applicationContext = context.getApplicationContext();
+
+        diskCache = new Cache(new File(applicationContext.getCacheDir(), "images"), DISK_CACHE_SIZE);
+        // newBuilder() shares the connection pool and dispatcher of the API client. Its event listener
+        // counts API connection reuse, image.tmdb.org connections would swamp it.
+        OkHttpClient okHttpClient = ServiceGenerator.getDefaultOkHttpClient().newBuilder()
+                .cache(diskCache)
+                .eventListener(EventListener.NONE)
+                .build();
+
+        picasso = new Picasso.Builder(applicationContext)
+                .downloader(new OkHttp3Downloader(okHttpClient))
+                .memoryCache(new LruCache(getMemoryCacheSize(applicationContext)))
+                .defaultBitmapConfig(Bitmap.Config.RGB_565)
+                .build();
+        Picasso.setSingletonInstance(picasso);
+    }
+
+    public static double getMemoryHitRate() {
+        StatsSnapshot statsSnapshot = picasso.getSnapshot();
+        return getRate(statsSnapshot.cacheHits, statsSnapshot.cacheHits + statsSnapshot.cacheMisses);
+    }
+
+    // Conditional requests answered with 304 count as hits, they skip the download
+    public static double getDiskHitRate() {
+        return getRate(diskCache.hitCount(), diskCache.requestCount());
+    }
+
+    public static void logStats() {
+        if (picasso == null)
+            return;
+
+        StatsSnapshot statsSnapshot = picasso.getSnapshot();
+        Timber.i("Images: memory %.0f%% hits, %d/%d bytes; disk %.0f%% hits of %d requests; %d downloads, %d bytes",
+                getMemoryHitRate() * 100, statsSnapshot.size, statsSnapshot.maxSize,
+                getDiskHitRate() * 100, diskCache.requestCount(),
+                statsSnapshot.downloadCount, statsSnapshot.totalDownloadSize);
+    }
+
+    // region Helper Methods
+    private static int getMemoryCacheSize(Context context) {
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        boolean largeHeap = (context.getApplicationInfo().flags & ApplicationInfo.FLAG_LARGE_HEAP) != 0;
+        int memoryClass = largeHeap ? activityManager.getLargeMemoryClass() : activityManager.getMemoryClass();
+        return memoryClass * 1024 * 1024 / MEMORY_CACHE_HEAP_DIVISOR;
+    }
+
+    private static double getRate(long hits, long total) {
+        return total == 0 ? 0 : (double) hits / total;
+    }
+    // endregion
+}
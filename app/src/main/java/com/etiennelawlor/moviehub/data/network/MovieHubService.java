@@ -3,14 +3,17 @@ package com.etiennelawlor.moviehub.data.network;
 import com.etiennelawlor.moviehub.data.network.response.Configuration;
 import com.etiennelawlor.moviehub.data.network.response.Movie;
 import com.etiennelawlor.moviehub.data.network.response.MovieCreditsEnvelope;
+import com.etiennelawlor.moviehub.data.network.response.MovieDetailsEnvelope;
 import com.etiennelawlor.moviehub.data.network.response.MovieReleaseDatesEnvelope;
 import com.etiennelawlor.moviehub.data.network.response.MoviesEnvelope;
 import com.etiennelawlor.moviehub.data.network.response.PeopleEnvelope;
 import com.etiennelawlor.moviehub.data.network.response.Person;
 import com.etiennelawlor.moviehub.data.network.response.PersonCreditsEnvelope;
+import com.etiennelawlor.moviehub.data.network.response.PersonDetailsEnvelope;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShowContentRatingsEnvelope;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShowCreditsEnvelope;
+import com.etiennelawlor.moviehub.data.network.response.TelevisionShowDetailsEnvelope;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShowsEnvelope;
 
 import retrofit2.http.GET;
@@ -31,6 +34,9 @@ public interface MovieHubService {
     @GET("movie/{movieId}")
     Observable<Movie> getMovie(@Path("movieId") long movieId);
 
+    @GET("movie/{movieId}?append_to_response=credits,similar,release_dates")
+    Observable<MovieDetailsEnvelope> getMovieDetails(@Path("movieId") long movieId);
+
     @GET("movie/{movieId}/credits")
     Observable<MovieCreditsEnvelope> getMovieCredits(@Path("movieId") long movieId);
 
@@ -46,6 +52,9 @@ public interface MovieHubService {
     @GET("tv/{tvId}")
     Observable<TelevisionShow> getTelevisionShow(@Path("tvId") long tvId);
 
+    @GET("tv/{tvId}?append_to_response=credits,similar,content_ratings")
+    Observable<TelevisionShowDetailsEnvelope> getTelevisionShowDetails(@Path("tvId") long tvId);
+
     @GET("tv/{tvId}/credits")
     Observable<TelevisionShowCreditsEnvelope> getTelevisionShowCredits(@Path("tvId") long tvId);
 
@@ -61,6 +70,9 @@ public interface MovieHubService {
     @GET("person/{personId}?append_to_response=images")
     Observable<Person> getPerson(@Path("personId") long personId);
 
+    @GET("person/{personId}?append_to_response=images,combined_credits")
+    Observable<PersonDetailsEnvelope> getPersonDetails(@Path("personId") long personId);
+
     @GET("person/{personId}/combined_credits")
     Observable<PersonCreditsEnvelope> getPersonCredits(@Path("personId") long personId);
 
@@ -0,0 +1,74 @@
+package com.etiennelawlor.moviehub.data.network;
+
+import android.net.Uri;
+
+import com.squareup.picasso.Downloader;
+import com.squareup.picasso.NetworkPolicy;
+
+import java.io.IOException;
+
+import okhttp3.Cache;
+import okhttp3.CacheControl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Lets Picasso download through an OkHttp 3 client. Picasso 2.5 only knows how to drive
+ * OkHttp 2 and HttpURLConnection on its own.
+ */
+
+public class OkHttp3Downloader implements Downloader {
+
+    // region Member Variables
+    private final OkHttpClient client;
+    // endregion
+
+    // region Constructors
+    public OkHttp3Downloader(OkHttpClient client) {
+        this.client = client;
+    }
+    // endregion
+
+    // region Downloader Methods
+    @Override
+    public Response load(Uri uri, int networkPolicy) throws IOException {
+        Request.Builder requestBuilder = new Request.Builder().url(uri.toString());
+
+        if (networkPolicy != 0) {
+            if (NetworkPolicy.isOfflineOnly(networkPolicy)) {
+                requestBuilder.cacheControl(CacheControl.FORCE_CACHE);
+            } else {
+                CacheControl.Builder cacheControlBuilder = new CacheControl.Builder();
+                if (!NetworkPolicy.shouldReadFromDiskCache(networkPolicy))
+                    cacheControlBuilder.noCache();
+                if (!NetworkPolicy.shouldWriteToDiskCache(networkPolicy))
+                    cacheControlBuilder.noStore();
+                requestBuilder.cacheControl(cacheControlBuilder.build());
+            }
+        }
+
+        okhttp3.Response response = client.newCall(requestBuilder.build()).execute();
+        int responseCode = response.code();
+        if (responseCode >= 300) {
+            response.body().close();
+            throw new ResponseException(responseCode + " " + response.message(), networkPolicy, responseCode);
+        }
+
+        ResponseBody responseBody = response.body();
+        return new Response(responseBody.byteStream(), response.cacheResponse() != null, responseBody.contentLength());
+    }
+
+    @Override
+    public void shutdown() {
+        Cache cache = client.cache();
+        if (cache != null) {
+            try {
+                cache.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+    // endregion
+}
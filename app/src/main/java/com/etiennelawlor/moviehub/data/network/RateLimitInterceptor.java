@@ -0,0 +1,273 @@
+package com.etiennelawlor.moviehub.data.network;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.CacheControl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import timber.log.Timber;
+
+/**
+ * Client side limiter for the TMDB API.
+ *
+ * Requests draw from a token bucket of {@code maxRequests} per {@code windowMillis}. HTTP 429 and
+ * 5xx responses are retried with exponential backoff and jitter, honoring Retry-After. After
+ * repeated failures the circuit opens and requests are served from the HTTP cache only until
+ * a trial request succeeds again.
+ */
+
+public class RateLimitInterceptor implements Interceptor {
+
+    // region Constants
+    public static final int DEFAULT_MAX_REQUESTS = 40;
+    public static final long DEFAULT_WINDOW_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_GATEWAY_TIMEOUT = 504;
+    private static final int MAX_RETRIES = 3;
+    private static final long BASE_BACKOFF_MILLIS = 500;
+    private static final long MAX_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final long OPEN_CIRCUIT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    // endregion
+
+    // region Member Variables
+    private final String host;
+    private final int maxRequests;
+    private final long windowMillis;
+    private final Random random = new Random();
+
+    private double availableTokens;
+    private long lastRefillAt;
+
+    private int consecutiveFailures = 0;
+    private long circuitOpenedAt = -1;
+    private boolean isTrialRequestInFlight = false;
+
+    private final AtomicLong throttledCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong shortCircuitedCount = new AtomicLong();
+    // endregion
+
+    // region Constructors
+    public RateLimitInterceptor(String host) {
+        this(host, DEFAULT_MAX_REQUESTS, DEFAULT_WINDOW_MILLIS);
+    }
+
+    public RateLimitInterceptor(String host, int maxRequests, long windowMillis) {
+        this.host = host;
+        this.maxRequests = maxRequests;
+        this.windowMillis = windowMillis;
+        this.availableTokens = maxRequests;
+        this.lastRefillAt = System.currentTimeMillis();
+    }
+    // endregion
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+
+        if (!request.url().host().equals(host)) {
+            return chain.proceed(request);
+        }
+
+        if (!allowRequest()) {
+            shortCircuitedCount.incrementAndGet();
+            return proceedFromCache(chain, request);
+        }
+
+        Response response;
+        for (int attempt = 0; ; attempt++) {
+            acquirePermit();
+
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                // Connectivity failures say nothing about the health of the API
+                releaseTrialRequest();
+                throw e;
+            }
+
+            int code = response.code();
+            if (code == HTTP_TOO_MANY_REQUESTS) {
+                drainTokens();
+            }
+
+            if (!isRetryable(code)) {
+                recordSuccess();
+                return response;
+            }
+
+            if (attempt >= MAX_RETRIES) {
+                recordFailure();
+                return response;
+            }
+
+            long retryDelay = getRetryDelay(response, attempt);
+            response.close();
+            retriedCount.incrementAndGet();
+            Timber.d("HTTP %d for %s, retrying in %dms", code, request.url().encodedPath(), retryDelay);
+            sleep(retryDelay);
+        }
+    }
+
+    // region Getters
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+    public long getShortCircuitedCount() {
+        return shortCircuitedCount.get();
+    }
+
+    public synchronized boolean isCircuitOpen() {
+        return circuitOpenedAt != -1;
+    }
+    // endregion
+
+    // region Helper Methods
+    private void acquirePermit() throws IOException {
+        long waitMillis;
+        synchronized (this) {
+            refillTokens();
+            if (availableTokens >= 1) {
+                waitMillis = 0;
+            } else {
+                waitMillis = (long) Math.ceil((1 - availableTokens) * windowMillis / maxRequests);
+            }
+            // Reserve the token now so concurrent callers queue up behind this one
+            availableTokens -= 1;
+        }
+
+        if (waitMillis > 0) {
+            throttledCount.incrementAndGet();
+            sleep(waitMillis);
+        }
+    }
+
+    private void refillTokens() {
+        long now = System.currentTimeMillis();
+        long elapsedMillis = now - lastRefillAt;
+        if (elapsedMillis > 0) {
+            availableTokens = Math.min(maxRequests, availableTokens + ((double) elapsedMillis * maxRequests / windowMillis));
+            lastRefillAt = now;
+        }
+    }
+
+    private synchronized void drainTokens() {
+        refillTokens();
+        availableTokens = Math.min(availableTokens, 0);
+    }
+
+    private synchronized boolean allowRequest() {
+        if (circuitOpenedAt == -1) {
+            return true;
+        }
+
+        boolean isCoolDownOver = System.currentTimeMillis() - circuitOpenedAt >= OPEN_CIRCUIT_MILLIS;
+        if (isCoolDownOver && !isTrialRequestInFlight) {
+            // Half open, let a single request through to probe the API
+            isTrialRequestInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        circuitOpenedAt = -1;
+        isTrialRequestInFlight = false;
+    }
+
+    private synchronized void recordFailure() {
+        consecutiveFailures += 1;
+        if (isTrialRequestInFlight || consecutiveFailures >= FAILURE_THRESHOLD) {
+            Timber.w("Opening circuit after %d consecutive failures", consecutiveFailures);
+            circuitOpenedAt = System.currentTimeMillis();
+        }
+        isTrialRequestInFlight = false;
+    }
+
+    private synchronized void releaseTrialRequest() {
+        isTrialRequestInFlight = false;
+    }
+
+    private Response proceedFromCache(Chain chain, Request request) throws IOException {
+        Request cacheOnlyRequest = request.newBuilder()
+                .cacheControl(CacheControl.FORCE_CACHE)
+                .build();
+
+        Response response = chain.proceed(cacheOnlyRequest);
+        if (response.code() == HTTP_GATEWAY_TIMEOUT) {
+            // OkHttp answers 504 when a FORCE_CACHE request has no cached response
+            response.close();
+            throw new CircuitOpenException(request.url().encodedPath());
+        }
+        return response;
+    }
+
+    private static boolean isRetryable(int code) {
+        return code == HTTP_TOO_MANY_REQUESTS || code >= 500;
+    }
+
+    private long getRetryDelay(Response response, int attempt) {
+        long retryAfterMillis = getRetryAfterMillis(response);
+        if (retryAfterMillis >= 0) {
+            return Math.min(retryAfterMillis, MAX_BACKOFF_MILLIS);
+        }
+
+        long backoffMillis = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << attempt);
+        // Full jitter keeps clients that failed together from retrying together
+        return (long) (random.nextDouble() * backoffMillis);
+    }
+
+    private static long getRetryAfterMillis(Response response) {
+        String retryAfter = response.header("Retry-After");
+        if (retryAfter == null) {
+            return -1;
+        }
+
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            Date retryAt = response.headers().getDate("Retry-After");
+            if (retryAt != null) {
+                return Math.max(0, retryAt.getTime() - System.currentTimeMillis());
+            }
+        }
+        return -1;
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+    // endregion
+
+    // region Inner Classes
+
+    /**
+     * Thrown when the circuit is open and the HTTP cache has nothing to serve for the request.
+     */
+    public static class CircuitOpenException extends IOException {
+        public CircuitOpenException(String path) {
+            super("Circuit open and no cached response for " + path);
+        }
+    }
+
+    // endregion
+}
@@ -1,14 +1,21 @@
 package com.etiennelawlor.moviehub.data.network;
 
+import android.content.Context;
+
 import com.etiennelawlor.moviehub.BuildConfig;
 import com.etiennelawlor.moviehub.MovieHubApplication;
 
 import java.io.File;
+import java.util.concurrent.TimeUnit;
 
 import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.logging.HttpLoggingInterceptor;
+import retrofit2.CallAdapter;
 import retrofit2.Retrofit;
 import retrofit2.adapter.rxjava.RxJavaCallAdapterFactory;
 import retrofit2.converter.gson.GsonConverterFactory;
@@ -21,28 +28,62 @@ public class ServiceGenerator {
 
     // region Constants
     private static final int DISK_CACHE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final int MAX_IDLE_CONNECTIONS = 5;
+    private static final long KEEP_ALIVE_DURATION_MINUTES = 5;
+    private static final int MAX_REQUESTS = 64;
+    private static final int MAX_REQUESTS_PER_HOST = 6;
     // endregion
 
-    private static Retrofit.Builder retrofitBuilder
-            = new Retrofit.Builder()
-            .addCallAdapterFactory(RxJavaCallAdapterFactory.create())
-            .addConverterFactory(GsonConverterFactory.create());
+    // region Static Variables
+    private static final Object lock = new Object();
+    private static final ConnectionMetricsEventListener connectionMetrics = new ConnectionMetricsEventListener();
+    private static final RateLimitInterceptor rateLimitInterceptor
+            = new RateLimitInterceptor(HttpUrl.parse(MovieHubService.BASE_URL).host());
 
-    private static OkHttpClient defaultOkHttpClient
-            = new OkHttpClient.Builder()
-            .cache(getCache())
-            .build();
+    private static volatile OkHttpClient defaultOkHttpClient;
+    private static volatile MovieHubService movieHubService;
+    private static volatile CoalescingCallAdapterFactory coalescingCallAdapterFactory;
+    // endregion
 
     // No need to instantiate this class.
     private ServiceGenerator() {
     }
 
+    /**
+     * Returns the process wide {@link MovieHubService}. The underlying OkHttpClient, connection
+     * pool and dispatcher are built once and shared by every caller.
+     */
+    public static MovieHubService getMovieHubService(Context context) {
+        MovieHubService service = movieHubService;
+        if (service == null) {
+            synchronized (lock) {
+                service = movieHubService;
+                if (service == null) {
+                    Context applicationContext = context.getApplicationContext();
+                    coalescingCallAdapterFactory = new CoalescingCallAdapterFactory(applicationContext);
+                    service = createService(
+                            MovieHubService.class,
+                            MovieHubService.BASE_URL,
+                            new AuthorizedNetworkInterceptor(applicationContext),
+                            coalescingCallAdapterFactory);
+                    movieHubService = service;
+                }
+            }
+        }
+        return service;
+    }
+
     public static <S> S createService(Class<S> serviceClass, String baseUrl) {
         return createService(serviceClass, baseUrl, null);
     }
 
     public static <S> S createService(Class<S> serviceClass, String baseUrl, Interceptor networkInterceptor) {
-        OkHttpClient.Builder okHttpClientBuilder = defaultOkHttpClient.newBuilder();
+        return createService(serviceClass, baseUrl, networkInterceptor, null);
+    }
+
+    public static <S> S createService(Class<S> serviceClass, String baseUrl, Interceptor networkInterceptor, CallAdapter.Factory callAdapterFactory) {
+        // newBuilder() shares the connection pool, dispatcher and cache of the default client
+        OkHttpClient.Builder okHttpClientBuilder = getDefaultOkHttpClient().newBuilder();
 
         if(networkInterceptor != null){
             okHttpClientBuilder.addNetworkInterceptor(networkInterceptor);
@@ -52,13 +93,75 @@ public class ServiceGenerator {
                 .addInterceptor(getHttpLoggingInterceptor())
                 .build();
 
-        retrofitBuilder.client(modifiedOkHttpClient);
-        retrofitBuilder.baseUrl(baseUrl);
+        Retrofit.Builder retrofitBuilder = new Retrofit.Builder();
+
+        // Factories are consulted in order so a custom factory can wrap the RxJava one
+        if(callAdapterFactory != null){
+            retrofitBuilder.addCallAdapterFactory(callAdapterFactory);
+        }
+
+        Retrofit retrofit = retrofitBuilder
+                .addCallAdapterFactory(RxJavaCallAdapterFactory.create())
+                .addConverterFactory(GsonConverterFactory.create())
+                .client(modifiedOkHttpClient)
+                .baseUrl(baseUrl)
+                .build();
 
-        Retrofit retrofit = retrofitBuilder.build();
         return retrofit.create(serviceClass);
     }
 
+    public static OkHttpClient getDefaultOkHttpClient() {
+        OkHttpClient client = defaultOkHttpClient;
+        if (client == null) {
+            synchronized (lock) {
+                client = defaultOkHttpClient;
+                if (client == null) {
+                    Dispatcher dispatcher = new Dispatcher();
+                    dispatcher.setMaxRequests(MAX_REQUESTS);
+                    dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+                    client = new OkHttpClient.Builder()
+                            .cache(getCache())
+                            .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_DURATION_MINUTES, TimeUnit.MINUTES))
+                            .dispatcher(dispatcher)
+                            .eventListener(connectionMetrics)
+                            .addInterceptor(rateLimitInterceptor)
+                            .build();
+                    defaultOkHttpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    public static void setMaxRequestsPerHost(int maxRequestsPerHost) {
+        getDefaultOkHttpClient().dispatcher().setMaxRequestsPerHost(maxRequestsPerHost);
+    }
+
+    public static void setMaxRequests(int maxRequests) {
+        getDefaultOkHttpClient().dispatcher().setMaxRequests(maxRequests);
+    }
+
+    public static ConnectionMetricsEventListener getConnectionMetrics() {
+        return connectionMetrics;
+    }
+
+    public static RateLimitInterceptor getRateLimiter() {
+        return rateLimitInterceptor;
+    }
+
+    public static CoalescingCallAdapterFactory getRequestCoalescer() {
+        return coalescingCallAdapterFactory;
+    }
+
+    public static int getPooledConnectionCount() {
+        return getDefaultOkHttpClient().connectionPool().connectionCount();
+    }
+
+    public static int getIdleConnectionCount() {
+        return getDefaultOkHttpClient().connectionPool().idleConnectionCount();
+    }
+
     // region Helper Methods
     private static Cache getCache() {
 
@@ -84,4 +187,3 @@ public class ServiceGenerator {
     }
     // endregion
 }
-
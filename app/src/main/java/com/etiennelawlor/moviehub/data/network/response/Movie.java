@@ -5,6 +5,7 @@ import android.os.Parcelable;
 import android.support.v7.graphics.Palette;
 import android.text.TextUtils;
 
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MovieItem;
 import com.etiennelawlor.moviehub.util.DateUtility;
 import com.google.gson.annotations.SerializedName;
 
@@ -15,7 +16,7 @@ import java.util.List;
  * Created by etiennelawlor on 12/16/16.
  */
 
-public class Movie implements Parcelable {
+public class Movie implements Parcelable, MovieItem {
 
     // region Constants
     public static final String PATTERN = "yyyy-MM-dd";
@@ -190,12 +191,7 @@ public class Movie implements Parcelable {
     }
 
     public String getReleaseYear(){
-        String releaseYear = "";
-        if (!TextUtils.isEmpty(releaseDate)) {
-            Calendar calendar = DateUtility.getCalendar(releaseDate, PATTERN);
-            releaseYear = String.format("%d", calendar.get(Calendar.YEAR));
-        }
-        return releaseYear;
+        return getReleaseYear(releaseDate);
     }
 
     public int getReleaseDateYear(){
@@ -208,8 +204,21 @@ public class Movie implements Parcelable {
     }
 
     public String getPosterUrl(){
-        String profileUrl = String.format("%s%s%s", SECURE_BASE_URL, POSTER_SIZE, posterPath);
-        return profileUrl;
+        return getPosterUrl(posterPath);
+    }
+
+    // Shared with RealmMovie, which reads the same two fields straight from the Realm file
+    public static String getReleaseYear(String releaseDate){
+        String releaseYear = "";
+        if (!TextUtils.isEmpty(releaseDate)) {
+            Calendar calendar = DateUtility.getCalendar(releaseDate, PATTERN);
+            releaseYear = String.format("%d", calendar.get(Calendar.YEAR));
+        }
+        return releaseYear;
+    }
+
+    public static String getPosterUrl(String posterPath){
+        return String.format("%s%s%s", SECURE_BASE_URL, POSTER_SIZE, posterPath);
     }
 
     // endregion
@@ -0,0 +1,51 @@
+package com.etiennelawlor.moviehub.data.network.response;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * A {@link Movie} fetched with append_to_response=credits,similar,release_dates
+ */
+
+public class MovieDetailsEnvelope extends Movie {
+
+    // region Fields
+    @SerializedName("credits")
+    public MovieCreditsEnvelope credits;
+    @SerializedName("similar")
+    public MoviesEnvelope similar;
+    @SerializedName("release_dates")
+    public MovieReleaseDatesEnvelope releaseDates;
+    // endregion
+
+    // region Getters
+
+    public MovieCreditsEnvelope getCredits() {
+        return credits;
+    }
+
+    public MoviesEnvelope getSimilar() {
+        return similar;
+    }
+
+    public MovieReleaseDatesEnvelope getReleaseDates() {
+        return releaseDates;
+    }
+
+    // endregion
+
+    // region Setters
+
+    public void setCredits(MovieCreditsEnvelope credits) {
+        this.credits = credits;
+    }
+
+    public void setSimilar(MoviesEnvelope similar) {
+        this.similar = similar;
+    }
+
+    public void setReleaseDates(MovieReleaseDatesEnvelope releaseDates) {
+        this.releaseDates = releaseDates;
+    }
+
+    // endregion
+}
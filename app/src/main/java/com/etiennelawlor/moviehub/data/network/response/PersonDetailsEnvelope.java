@@ -0,0 +1,31 @@
+package com.etiennelawlor.moviehub.data.network.response;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * A {@link Person} fetched with append_to_response=images,combined_credits
+ */
+
+public class PersonDetailsEnvelope extends Person {
+
+    // region Fields
+    @SerializedName("combined_credits")
+    public PersonCreditsEnvelope combinedCredits;
+    // endregion
+
+    // region Getters
+
+    public PersonCreditsEnvelope getCombinedCredits() {
+        return combinedCredits;
+    }
+
+    // endregion
+
+    // region Setters
+
+    public void setCombinedCredits(PersonCreditsEnvelope combinedCredits) {
+        this.combinedCredits = combinedCredits;
+    }
+
+    // endregion
+}
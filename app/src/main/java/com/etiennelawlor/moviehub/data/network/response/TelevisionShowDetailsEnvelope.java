@@ -0,0 +1,51 @@
+package com.etiennelawlor.moviehub.data.network.response;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * A {@link TelevisionShow} fetched with append_to_response=credits,similar,content_ratings
+ */
+
+public class TelevisionShowDetailsEnvelope extends TelevisionShow {
+
+    // region Fields
+    @SerializedName("credits")
+    public TelevisionShowCreditsEnvelope credits;
+    @SerializedName("similar")
+    public TelevisionShowsEnvelope similar;
+    @SerializedName("content_ratings")
+    public TelevisionShowContentRatingsEnvelope contentRatings;
+    // endregion
+
+    // region Getters
+
+    public TelevisionShowCreditsEnvelope getCredits() {
+        return credits;
+    }
+
+    public TelevisionShowsEnvelope getSimilar() {
+        return similar;
+    }
+
+    public TelevisionShowContentRatingsEnvelope getContentRatings() {
+        return contentRatings;
+    }
+
+    // endregion
+
+    // region Setters
+
+    public void setCredits(TelevisionShowCreditsEnvelope credits) {
+        this.credits = credits;
+    }
+
+    public void setSimilar(TelevisionShowsEnvelope similar) {
+        this.similar = similar;
+    }
+
+    public void setContentRatings(TelevisionShowContentRatingsEnvelope contentRatings) {
+        this.contentRatings = contentRatings;
+    }
+
+    // endregion
+}
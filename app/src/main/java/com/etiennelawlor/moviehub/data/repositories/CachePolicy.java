@@ -0,0 +1,54 @@
+package com.etiennelawlor.moviehub.data.repositories;
+
+import rx.Observable;
+import rx.functions.Func1;
+import rx.schedulers.Schedulers;
+
+/**
+ * How a repository combines its local and remote data sources.
+ *
+ * The local source reads on the database threads. The remote source is subscribed on io(), so
+ * a blocking call chained after a cache miss never holds one of those threads.
+ */
+
+public enum CachePolicy {
+
+    /**
+     * Emit the cached value only while it is fresh, otherwise wait for the network.
+     */
+    CACHE_FIRST,
+
+    /**
+     * Emit the cached value right away, even when expired. An expired value is then refreshed
+     * from the network and the refreshed value is emitted as well. If the refresh fails the
+     * stale value stands. The network is only waited on when nothing is cached.
+     */
+    STALE_WHILE_REVALIDATE,
+
+    /**
+     * Always go to the network. Results are still written to the cache by the repository.
+     */
+    NETWORK_ONLY;
+
+    public <T> Observable<T> apply(Observable<T> local, Observable<T> remote, Func1<T, Boolean> isExpired) {
+        Observable<T> network = remote.subscribeOn(Schedulers.io());
+        switch (this) {
+            case CACHE_FIRST:
+                return Observable.concat(local.filter(value -> !isExpired.call(value)), network)
+                        .first();
+            case NETWORK_ONLY:
+                return network;
+            case STALE_WHILE_REVALIDATE:
+            default:
+                return local
+                        .flatMap(value -> {
+                            if (!isExpired.call(value))
+                                return Observable.just(value);
+
+                            return Observable.just(value)
+                                    .concatWith(network.onErrorResumeNext(Observable.<T>empty()));
+                        })
+                        .switchIfEmpty(network);
+        }
+    }
+}
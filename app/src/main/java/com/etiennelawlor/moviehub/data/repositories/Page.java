@@ -0,0 +1,13 @@
+package com.etiennelawlor.moviehub.data.repositories;
+
+import java.util.List;
+
+/**
+ * One page of a paged list, whatever the items are.
+ */
+
+public interface Page<T> {
+    List<T> getItems();
+    int getPageNumber();
+    boolean isLastPage();
+}
@@ -5,6 +5,7 @@ import android.content.Context;
 import com.etiennelawlor.moviehub.data.database.RealmUtility;
 import com.etiennelawlor.moviehub.data.repositories.movie.models.MovieDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
+import com.etiennelawlor.moviehub.util.rxjava.DatabaseScheduler;
 
 import rx.Observable;
 
@@ -23,11 +24,13 @@ public class MovieLocalDataSource implements MovieDataSourceContract.LocalDateSo
 
     @Override
     public Observable<MoviesPage> getPopularMovies(int currentPage) {
-        MoviesPage moviesPage = RealmUtility.getMoviesPage(currentPage);
-        if(moviesPage == null)
-            return Observable.empty();
-        else
-            return Observable.just(moviesPage);
+        return Observable.defer(() -> {
+            MoviesPage moviesPage = RealmUtility.getMoviesPage(currentPage);
+            if(moviesPage == null)
+                return Observable.<MoviesPage>empty();
+            else
+                return Observable.just(moviesPage);
+        }).subscribeOn(DatabaseScheduler.getInstance());
     }
 
     @Override
@@ -37,13 +40,18 @@ public class MovieLocalDataSource implements MovieDataSourceContract.LocalDateSo
 
     @Override
     public Observable<MovieDetailsWrapper> getMovieDetails(int movieId) {
-        //        Use mapper to convert from realm objects to POJOs
-        return Observable.empty();
+        return Observable.defer(() -> {
+            MovieDetailsWrapper movieDetailsWrapper = RealmUtility.getMovieDetails(movieId);
+            if(movieDetailsWrapper == null)
+                return Observable.<MovieDetailsWrapper>empty();
+            else
+                return Observable.just(movieDetailsWrapper);
+        }).subscribeOn(DatabaseScheduler.getInstance());
     }
 
     @Override
     public void saveMovieDetails(MovieDetailsWrapper movieDetailsWrapper) {
-//        Use mapper to convert from POJOs to realm objects
+        RealmUtility.saveMovieDetails(movieDetailsWrapper);
     }
 
     // endregion
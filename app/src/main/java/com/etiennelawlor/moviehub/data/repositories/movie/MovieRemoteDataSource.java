@@ -3,18 +3,22 @@ package com.etiennelawlor.moviehub.data.repositories.movie;
 import android.content.Context;
 import android.text.TextUtils;
 
-import com.etiennelawlor.moviehub.data.network.AuthorizedNetworkInterceptor;
 import com.etiennelawlor.moviehub.data.network.MovieHubService;
 import com.etiennelawlor.moviehub.data.network.ServiceGenerator;
 import com.etiennelawlor.moviehub.data.network.response.Movie;
 import com.etiennelawlor.moviehub.data.network.response.MovieCredit;
+import com.etiennelawlor.moviehub.data.network.response.MovieCreditsEnvelope;
 import com.etiennelawlor.moviehub.data.network.response.MovieReleaseDate;
 import com.etiennelawlor.moviehub.data.network.response.MovieReleaseDateEnvelope;
+import com.etiennelawlor.moviehub.data.network.response.MovieReleaseDatesEnvelope;
+import com.etiennelawlor.moviehub.data.network.response.MoviesEnvelope;
 import com.etiennelawlor.moviehub.data.repositories.movie.models.MovieDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
+import com.etiennelawlor.moviehub.util.NetworkUtility;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 
 import rx.Observable;
@@ -26,8 +30,9 @@ import rx.Observable;
 public class MovieRemoteDataSource implements MovieDataSourceContract.RemoteDateSource {
 
     // region Constants
-    private static final int PAGE_SIZE = 20;
     private static final int SEVEN_DAYS = 7;
+    // Release dates, credits and ratings settle within a few days
+    private static final int THREE_DAYS = 3;
     // endregion
 
     // region Member Variables
@@ -36,11 +41,11 @@ public class MovieRemoteDataSource implements MovieDataSourceContract.RemoteDate
 
     // region Constructors
     public MovieRemoteDataSource(Context context) {
-        movieHubService = ServiceGenerator.createService(
-                MovieHubService.class,
-                MovieHubService.BASE_URL,
-                new AuthorizedNetworkInterceptor(context));
-//        MovieHubApplication.getInstance().getApplicationContext();
+        this(ServiceGenerator.getMovieHubService(context));
+    }
+
+    public MovieRemoteDataSource(MovieHubService movieHubService) {
+        this.movieHubService = movieHubService;
     }
     // endregion
 
@@ -48,9 +53,9 @@ public class MovieRemoteDataSource implements MovieDataSourceContract.RemoteDate
     @Override
     public Observable<MoviesPage> getPopularMovies(final int currentPage) {
         return movieHubService.getPopularMovies(currentPage)
-                .flatMap(moviesEnvelope -> Observable.just(moviesEnvelope.getMovies()))
-                .map(movies -> {
-                    boolean isLastPage = movies.size() < PAGE_SIZE ? true : false;
+                .map(moviesEnvelope -> {
+                    List<Movie> movies = moviesEnvelope.getMovies();
+                    boolean isLastPage = currentPage >= moviesEnvelope.getTotalPages();
                     Calendar calendar = Calendar.getInstance();
                     calendar.add(Calendar.DATE, SEVEN_DAYS);
                     return new MoviesPage(movies, currentPage, isLastPage, calendar.getTime() );
@@ -59,53 +64,84 @@ public class MovieRemoteDataSource implements MovieDataSourceContract.RemoteDate
 
     @Override
     public Observable<MovieDetailsWrapper> getMovieDetails(int movieId) {
+        return movieHubService.getMovieDetails(movieId)
+                .flatMap(movieDetailsEnvelope -> {
+                    // An append_to_response that came back without its parts leaves nothing to show them from
+                    if(movieDetailsEnvelope.getCredits() == null || movieDetailsEnvelope.getSimilar() == null)
+                        return getMovieDetailsFanOut(movieId);
+                    else
+                        return Observable.just(getMovieDetailsWrapper(
+                                movieDetailsEnvelope,
+                                movieDetailsEnvelope.getCredits(),
+                                movieDetailsEnvelope.getSimilar(),
+                                movieDetailsEnvelope.getReleaseDates()));
+                }, throwable -> {
+                    // HTTP errors and connectivity problems would fail the fan-out as well, 429s would only get worse
+                    if(NetworkUtility.isParseException(throwable))
+                        return getMovieDetailsFanOut(movieId);
+                    else
+                        return Observable.error(throwable);
+                }, Observable::empty);
+    }
+    // endregion
+
+    // region Helper Methods
+    private Observable<MovieDetailsWrapper> getMovieDetailsFanOut(int movieId) {
         return Observable.zip(
                 movieHubService.getMovie(movieId),
                 movieHubService.getMovieCredits(movieId),
                 movieHubService.getSimilarMovies(movieId),
                 movieHubService.getMovieReleaseDates(movieId),
-                (movie, movieCreditsEnvelope, moviesEnvelope, movieReleaseDatesEnvelope) -> {
-                    List<MovieCredit> cast = new ArrayList<>();
-                    List<MovieCredit> crew = new ArrayList<>();
-                    List<Movie> similarMovies = new ArrayList<>();
-                    String rating = "";
-
-                    if(movieCreditsEnvelope!=null){
-                        cast = movieCreditsEnvelope.getCast();
-                    }
-
-                    if(movieCreditsEnvelope!=null){
-                        crew = movieCreditsEnvelope.getCrew();
-                    }
-
-                    if(moviesEnvelope!=null){
-                        similarMovies = moviesEnvelope.getMovies();
-                    }
+                this::getMovieDetailsWrapper);
+    }
 
-                    if(movieReleaseDatesEnvelope!=null){
-                        List<MovieReleaseDateEnvelope> movieReleaseDateEnvelopes = movieReleaseDatesEnvelope.getMovieReleaseDateEnvelopes();
-                        if(movieReleaseDateEnvelopes != null && movieReleaseDateEnvelopes.size()>0){
-                            for(MovieReleaseDateEnvelope movieReleaseDateEnvelope : movieReleaseDateEnvelopes){
-                                if(movieReleaseDateEnvelope != null){
-                                    String iso31661 = movieReleaseDateEnvelope.getIso31661();
-                                    if(iso31661.equals("US")){
-                                        List<MovieReleaseDate> movieReleaseDates = movieReleaseDateEnvelope.getMovieReleaseDates();
-                                        if(movieReleaseDates != null && movieReleaseDates.size()>0){
-                                            for(MovieReleaseDate movieReleaseDate : movieReleaseDates){
-                                                if(!TextUtils.isEmpty(movieReleaseDate.getCertification())){
-                                                    rating = movieReleaseDate.getCertification();
-                                                    break;
-                                                }
-                                            }
-                                        }
+    private MovieDetailsWrapper getMovieDetailsWrapper(Movie movie, MovieCreditsEnvelope movieCreditsEnvelope, MoviesEnvelope moviesEnvelope, MovieReleaseDatesEnvelope movieReleaseDatesEnvelope) {
+        List<MovieCredit> cast = new ArrayList<>();
+        List<MovieCredit> crew = new ArrayList<>();
+        List<Movie> similarMovies = new ArrayList<>();
+        String rating = "";
+
+        if(movieCreditsEnvelope!=null){
+            cast = movieCreditsEnvelope.getCast();
+        }
+
+        if(movieCreditsEnvelope!=null){
+            crew = movieCreditsEnvelope.getCrew();
+        }
+
+        if(moviesEnvelope!=null){
+            similarMovies = moviesEnvelope.getMovies();
+        }
+
+        if(movieReleaseDatesEnvelope!=null){
+            List<MovieReleaseDateEnvelope> movieReleaseDateEnvelopes = movieReleaseDatesEnvelope.getMovieReleaseDateEnvelopes();
+            if(movieReleaseDateEnvelopes != null && movieReleaseDateEnvelopes.size()>0){
+                for(MovieReleaseDateEnvelope movieReleaseDateEnvelope : movieReleaseDateEnvelopes){
+                    if(movieReleaseDateEnvelope != null){
+                        String iso31661 = movieReleaseDateEnvelope.getIso31661();
+                        if(iso31661.equals("US")){
+                            List<MovieReleaseDate> movieReleaseDates = movieReleaseDateEnvelope.getMovieReleaseDates();
+                            if(movieReleaseDates != null && movieReleaseDates.size()>0){
+                                for(MovieReleaseDate movieReleaseDate : movieReleaseDates){
+                                    if(!TextUtils.isEmpty(movieReleaseDate.getCertification())){
+                                        rating = movieReleaseDate.getCertification();
+                                        break;
                                     }
                                 }
                             }
                         }
                     }
+                }
+            }
+        }
 
-                    return new MovieDetailsWrapper(movie, cast, crew, similarMovies, rating);
-                });
+        return new MovieDetailsWrapper(movie, cast, crew, similarMovies, rating, getExpiredAt(THREE_DAYS));
+    }
+
+    private static Date getExpiredAt(int days) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.DATE, days);
+        return calendar.getTime();
     }
     // endregion
 }
@@ -1,7 +1,9 @@
 package com.etiennelawlor.moviehub.data.repositories.movie;
 
+import com.etiennelawlor.moviehub.data.repositories.CachePolicy;
 import com.etiennelawlor.moviehub.data.repositories.movie.models.MovieDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
+import com.etiennelawlor.moviehub.util.rxjava.DatabaseScheduler;
 
 import rx.Observable;
 
@@ -23,25 +25,31 @@ public class MovieRepository implements MovieDataSourceContract.Repository {
     // region Member Variables
     private MovieDataSourceContract.LocalDateSource movieLocalDataSource;
     private MovieDataSourceContract.RemoteDateSource movieRemoteDataSource;
+    private CachePolicy cachePolicy;
     // endregion
 
     // region Constructors
     public MovieRepository(MovieDataSourceContract.LocalDateSource movieLocalDataSource, MovieDataSourceContract.RemoteDateSource movieRemoteDataSource) {
+        this(movieLocalDataSource, movieRemoteDataSource, CachePolicy.STALE_WHILE_REVALIDATE);
+    }
+
+    public MovieRepository(MovieDataSourceContract.LocalDateSource movieLocalDataSource, MovieDataSourceContract.RemoteDateSource movieRemoteDataSource, CachePolicy cachePolicy) {
         this.movieLocalDataSource = movieLocalDataSource;
         this.movieRemoteDataSource = movieRemoteDataSource;
+        this.cachePolicy = cachePolicy;
     }
     // endregion
 
     // region MovieDataSourceContract.Repository Methods
     @Override
     public Observable<MoviesPage> getPopularMovies(final int currentPage) {
-        Observable<MoviesPage> local = movieLocalDataSource.getPopularMovies(currentPage)
-                .filter(moviesPage -> !moviesPage.isExpired());
+        Observable<MoviesPage> local = movieLocalDataSource.getPopularMovies(currentPage);
         Observable<MoviesPage> remote =
                 movieRemoteDataSource.getPopularMovies(currentPage)
+                        .observeOn(DatabaseScheduler.getInstance())
                         .doOnNext(moviesPage -> movieLocalDataSource.savePopularMovies(moviesPage));
 
-        return Observable.concat(local, remote).first();
+        return cachePolicy.apply(local, remote, MoviesPage::isExpired);
     }
 
     @Override
@@ -50,9 +58,10 @@ public class MovieRepository implements MovieDataSourceContract.Repository {
 
         Observable<MovieDetailsWrapper> remote =
                 movieRemoteDataSource.getMovieDetails(movieId)
+                        .observeOn(DatabaseScheduler.getInstance())
                         .doOnNext(movieDetailsWrapper -> movieLocalDataSource.saveMovieDetails(movieDetailsWrapper));
 
-        return Observable.concat(local, remote).first();
+        return cachePolicy.apply(local, remote, MovieDetailsWrapper::isExpired);
     }
 
 //  Create an Observable that emits a particular item
@@ -3,6 +3,8 @@ package com.etiennelawlor.moviehub.data.repositories.movie.models;
 import com.etiennelawlor.moviehub.data.network.response.Movie;
 import com.etiennelawlor.moviehub.data.network.response.MovieCredit;
 
+import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -17,6 +19,7 @@ public class MovieDetailsWrapper {
     private List<MovieCredit> crew;
     private List<Movie> similarMovies;
     private String rating;
+    private Date expiredAt;
     // endregion
 
     // region Constructors
@@ -29,6 +32,11 @@ public class MovieDetailsWrapper {
         this.rating = rating;
     }
 
+    public MovieDetailsWrapper(Movie movie, List<MovieCredit> cast, List<MovieCredit> crew, List<Movie> similarMovies, String rating, Date expiredAt) {
+        this(movie, cast, crew, similarMovies, rating);
+        this.expiredAt = expiredAt;
+    }
+
     // endregion
 
     // region Getters
@@ -53,6 +61,10 @@ public class MovieDetailsWrapper {
         return rating;
     }
 
+    public Date getExpiredAt() {
+        return expiredAt;
+    }
+
     // endregion
 
     // region Setters
@@ -77,5 +89,16 @@ public class MovieDetailsWrapper {
         this.rating = rating;
     }
 
+    public void setExpiredAt(Date expiredAt) {
+        this.expiredAt = expiredAt;
+    }
+
+    // endregion
+
+    // region Helper Methods
+    // Details without an expiry count as expired
+    public boolean isExpired() {
+        return expiredAt == null || Calendar.getInstance().getTime().getTime() > expiredAt.getTime();
+    }
     // endregion
 }
@@ -0,0 +1,21 @@
+package com.etiennelawlor.moviehub.data.repositories.movie.models;
+
+/**
+ * The fields a movie list item displays, shared by the network {@code Movie} and the cached
+ * {@code RealmMovie} so either can be bound without copying one into the other.
+ */
+
+public interface MovieItem {
+
+    int getId();
+
+    String getTitle();
+
+    String getPosterPath();
+
+    String getPosterUrl();
+
+    String getReleaseDate();
+
+    String getReleaseYear();
+}
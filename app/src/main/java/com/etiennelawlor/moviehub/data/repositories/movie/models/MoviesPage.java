@@ -1,6 +1,7 @@
 package com.etiennelawlor.moviehub.data.repositories.movie.models;
 
 import com.etiennelawlor.moviehub.data.network.response.Movie;
+import com.etiennelawlor.moviehub.data.repositories.Page;
 
 import java.util.Calendar;
 import java.util.Date;
@@ -10,7 +11,7 @@ import java.util.List;
  * Created by etiennelawlor on 2/20/17.
  */
 
-public class MoviesPage {
+public class MoviesPage implements Page<Movie> {
 
     // region Member Variables
     private List<Movie> movies;
@@ -39,10 +40,17 @@ public class MoviesPage {
         return movies;
     }
 
+    @Override
+    public List<Movie> getItems() {
+        return movies;
+    }
+
+    @Override
     public int getPageNumber() {
         return pageNumber;
     }
 
+    @Override
     public boolean isLastPage() {
         return isLastPage;
     }
@@ -5,6 +5,7 @@ import android.content.Context;
 import com.etiennelawlor.moviehub.data.database.RealmUtility;
 import com.etiennelawlor.moviehub.data.repositories.person.models.PersonDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.person.models.PersonsPage;
+import com.etiennelawlor.moviehub.util.rxjava.DatabaseScheduler;
 
 import rx.Observable;
 
@@ -23,11 +24,13 @@ public class PersonLocalDataSource implements PersonDataSourceContract.LocalDate
 
     @Override
     public Observable<PersonsPage> getPopularPersons(int currentPage) {
-        PersonsPage personsPage = RealmUtility.getPersonsPage(currentPage);
-        if(personsPage == null)
-            return Observable.empty();
-        else
-            return Observable.just(personsPage);
+        return Observable.defer(() -> {
+            PersonsPage personsPage = RealmUtility.getPersonsPage(currentPage);
+            if(personsPage == null)
+                return Observable.<PersonsPage>empty();
+            else
+                return Observable.just(personsPage);
+        }).subscribeOn(DatabaseScheduler.getInstance());
     }
 
     @Override
@@ -37,13 +40,18 @@ public class PersonLocalDataSource implements PersonDataSourceContract.LocalDate
 
     @Override
     public Observable<PersonDetailsWrapper> getPersonDetails(int personId) {
-        //        Use mapper to convert from realm objects to POJOs
-        return Observable.empty();
+        return Observable.defer(() -> {
+            PersonDetailsWrapper personDetailsWrapper = RealmUtility.getPersonDetails(personId);
+            if(personDetailsWrapper == null)
+                return Observable.<PersonDetailsWrapper>empty();
+            else
+                return Observable.just(personDetailsWrapper);
+        }).subscribeOn(DatabaseScheduler.getInstance());
     }
 
     @Override
     public void savePersonDetails(PersonDetailsWrapper personDetailsWrapper) {
-//        Use mapper to convert from POJOs to realm objects
+        RealmUtility.savePersonDetails(personDetailsWrapper);
     }
 
     // endregion
@@ -2,15 +2,18 @@ package com.etiennelawlor.moviehub.data.repositories.person;
 
 import android.content.Context;
 
-import com.etiennelawlor.moviehub.data.network.AuthorizedNetworkInterceptor;
 import com.etiennelawlor.moviehub.data.network.MovieHubService;
 import com.etiennelawlor.moviehub.data.network.ServiceGenerator;
+import com.etiennelawlor.moviehub.data.network.response.Person;
 import com.etiennelawlor.moviehub.data.network.response.PersonCredit;
+import com.etiennelawlor.moviehub.data.network.response.PersonCreditsEnvelope;
 import com.etiennelawlor.moviehub.data.repositories.person.models.PersonDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.person.models.PersonsPage;
+import com.etiennelawlor.moviehub.util.NetworkUtility;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 
 import rx.Observable;
@@ -22,7 +25,6 @@ import rx.Observable;
 public class PersonRemoteDataSource implements PersonDataSourceContract.RemoteDateSource {
 
     // region Constants
-    private static final int PAGE_SIZE = 20;
     private static final int SEVEN_DAYS = 7;
     // endregion
 
@@ -32,11 +34,7 @@ public class PersonRemoteDataSource implements PersonDataSourceContract.RemoteDa
 
     // region Constructors
     public PersonRemoteDataSource(Context context) {
-        movieHubService = ServiceGenerator.createService(
-                MovieHubService.class,
-                MovieHubService.BASE_URL,
-                new AuthorizedNetworkInterceptor(context));
-//        MovieHubApplication.getInstance().getApplicationContext();
+        movieHubService = ServiceGenerator.getMovieHubService(context);
     }
     // endregion
 
@@ -45,9 +43,9 @@ public class PersonRemoteDataSource implements PersonDataSourceContract.RemoteDa
     @Override
     public Observable<PersonsPage> getPopularPersons(int currentPage) {
         return movieHubService.getPopularPeople(currentPage)
-                .flatMap(peopleEnvelope -> Observable.just(peopleEnvelope.getPersons()))
-                .map(persons -> {
-                    boolean isLastPage = persons.size() < PAGE_SIZE ? true : false;
+                .map(peopleEnvelope -> {
+                    List<Person> persons = peopleEnvelope.getPersons();
+                    boolean isLastPage = currentPage >= peopleEnvelope.getTotalPages();
                     Calendar calendar = Calendar.getInstance();
                     calendar.add(Calendar.DATE, SEVEN_DAYS);
                     return new PersonsPage(persons, currentPage, isLastPage, calendar.getTime() );
@@ -56,25 +54,52 @@ public class PersonRemoteDataSource implements PersonDataSourceContract.RemoteDa
 
     @Override
     public Observable<PersonDetailsWrapper> getPersonDetails(int personId) {
+        return movieHubService.getPersonDetails(personId)
+                .flatMap(personDetailsEnvelope -> {
+                    // An append_to_response that came back without its parts leaves nothing to show them from
+                    if(personDetailsEnvelope.getCombinedCredits() == null)
+                        return getPersonDetailsFanOut(personId);
+                    else
+                        return Observable.just(getPersonDetailsWrapper(
+                                personDetailsEnvelope,
+                                personDetailsEnvelope.getCombinedCredits()));
+                }, throwable -> {
+                    // HTTP errors and connectivity problems would fail the fan-out as well, 429s would only get worse
+                    if(NetworkUtility.isParseException(throwable))
+                        return getPersonDetailsFanOut(personId);
+                    else
+                        return Observable.error(throwable);
+                }, Observable::empty);
+    }
+    // endregion
+
+    // region Helper Methods
+    private Observable<PersonDetailsWrapper> getPersonDetailsFanOut(int personId) {
         return Observable.zip(
                 movieHubService.getPerson(personId),
                 movieHubService.getPersonCredits(personId),
-                (person, personCreditsEnvelope) -> {
-                    List<PersonCredit> cast = new ArrayList<>();
-                    List<PersonCredit> crew = new ArrayList<>();
+                this::getPersonDetailsWrapper);
+    }
 
-                    if(personCreditsEnvelope!=null){
-                        cast = personCreditsEnvelope.getCast();
-                    }
+    private PersonDetailsWrapper getPersonDetailsWrapper(Person person, PersonCreditsEnvelope personCreditsEnvelope) {
+        List<PersonCredit> cast = new ArrayList<>();
+        List<PersonCredit> crew = new ArrayList<>();
 
-                    if(personCreditsEnvelope!=null){
-                        crew = personCreditsEnvelope.getCrew();
-                    }
+        if(personCreditsEnvelope!=null){
+            cast = personCreditsEnvelope.getCast();
+        }
 
-                    return new PersonDetailsWrapper(person, cast, crew);
-                });
-    }
+        if(personCreditsEnvelope!=null){
+            crew = personCreditsEnvelope.getCrew();
+        }
 
+        return new PersonDetailsWrapper(person, cast, crew, getExpiredAt(SEVEN_DAYS));
+    }
 
+    private static Date getExpiredAt(int days) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.DATE, days);
+        return calendar.getTime();
+    }
     // endregion
 }
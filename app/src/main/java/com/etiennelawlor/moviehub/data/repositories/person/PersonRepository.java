@@ -1,7 +1,9 @@
 package com.etiennelawlor.moviehub.data.repositories.person;
 
+import com.etiennelawlor.moviehub.data.repositories.CachePolicy;
 import com.etiennelawlor.moviehub.data.repositories.person.models.PersonDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.person.models.PersonsPage;
+import com.etiennelawlor.moviehub.util.rxjava.DatabaseScheduler;
 
 import rx.Observable;
 
@@ -14,25 +16,31 @@ public class PersonRepository implements PersonDataSourceContract.Repository {
     // region Member Variables
     private PersonDataSourceContract.LocalDateSource personLocalDataSource;
     private PersonDataSourceContract.RemoteDateSource personRemoteDataSource;
+    private CachePolicy cachePolicy;
     // endregion
 
     // region Constructors
     public PersonRepository(PersonDataSourceContract.LocalDateSource personLocalDataSource, PersonDataSourceContract.RemoteDateSource personRemoteDataSource) {
+        this(personLocalDataSource, personRemoteDataSource, CachePolicy.STALE_WHILE_REVALIDATE);
+    }
+
+    public PersonRepository(PersonDataSourceContract.LocalDateSource personLocalDataSource, PersonDataSourceContract.RemoteDateSource personRemoteDataSource, CachePolicy cachePolicy) {
         this.personLocalDataSource = personLocalDataSource;
         this.personRemoteDataSource = personRemoteDataSource;
+        this.cachePolicy = cachePolicy;
     }
     // endregion
 
     // region PersonDataSourceContract.Repository Methods
     @Override
     public Observable<PersonsPage> getPopularPersons(final int currentPage) {
-        Observable<PersonsPage> local = personLocalDataSource.getPopularPersons(currentPage)
-                .filter(personsPage -> !personsPage.isExpired());
+        Observable<PersonsPage> local = personLocalDataSource.getPopularPersons(currentPage);
         Observable<PersonsPage> remote =
                 personRemoteDataSource.getPopularPersons(currentPage)
+                        .observeOn(DatabaseScheduler.getInstance())
                         .doOnNext(personsPage -> personLocalDataSource.savePopularPersons(personsPage));
 
-        return Observable.concat(local, remote).first();
+        return cachePolicy.apply(local, remote, PersonsPage::isExpired);
     }
 
     @Override
@@ -40,9 +48,10 @@ public class PersonRepository implements PersonDataSourceContract.Repository {
         Observable<PersonDetailsWrapper> local = personLocalDataSource.getPersonDetails(personId);
         Observable<PersonDetailsWrapper> remote =
                 personRemoteDataSource.getPersonDetails(personId)
+                        .observeOn(DatabaseScheduler.getInstance())
                         .doOnNext(personDetailsWrapper -> personLocalDataSource.savePersonDetails(personDetailsWrapper));
 
-        return Observable.concat(local, remote).first();
+        return cachePolicy.apply(local, remote, PersonDetailsWrapper::isExpired);
     }
     // endregion
 }
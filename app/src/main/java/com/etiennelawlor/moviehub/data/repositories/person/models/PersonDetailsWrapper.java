@@ -3,6 +3,8 @@ package com.etiennelawlor.moviehub.data.repositories.person.models;
 import com.etiennelawlor.moviehub.data.network.response.Person;
 import com.etiennelawlor.moviehub.data.network.response.PersonCredit;
 
+import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -15,6 +17,7 @@ public class PersonDetailsWrapper {
     private Person person;
     private List<PersonCredit> cast;
     private List<PersonCredit> crew;
+    private Date expiredAt;
     // endregion
 
     // region Constructors
@@ -25,6 +28,11 @@ public class PersonDetailsWrapper {
         this.crew = crew;
     }
 
+    public PersonDetailsWrapper(Person person, List<PersonCredit> cast, List<PersonCredit> crew, Date expiredAt) {
+        this(person, cast, crew);
+        this.expiredAt = expiredAt;
+    }
+
     // endregion
 
     // region Getters
@@ -41,6 +49,10 @@ public class PersonDetailsWrapper {
         return crew;
     }
 
+    public Date getExpiredAt() {
+        return expiredAt;
+    }
+
     // endregion
 
     // region Setters
@@ -57,5 +69,16 @@ public class PersonDetailsWrapper {
         this.crew = crew;
     }
 
+    public void setExpiredAt(Date expiredAt) {
+        this.expiredAt = expiredAt;
+    }
+
+    // endregion
+
+    // region Helper Methods
+    // Details without an expiry count as expired
+    public boolean isExpired() {
+        return expiredAt == null || Calendar.getInstance().getTime().getTime() > expiredAt.getTime();
+    }
     // endregion
 }
@@ -1,6 +1,7 @@
 package com.etiennelawlor.moviehub.data.repositories.person.models;
 
 import com.etiennelawlor.moviehub.data.network.response.Person;
+import com.etiennelawlor.moviehub.data.repositories.Page;
 
 import java.util.Calendar;
 import java.util.Date;
@@ -10,7 +11,7 @@ import java.util.List;
  * Created by etiennelawlor on 2/20/17.
  */
 
-public class PersonsPage {
+public class PersonsPage implements Page<Person> {
 
     // region Member Variables
     private List<Person> persons;
@@ -39,10 +40,17 @@ public class PersonsPage {
         return persons;
     }
 
+    @Override
+    public List<Person> getItems() {
+        return persons;
+    }
+
+    @Override
     public int getPageNumber() {
         return pageNumber;
     }
 
+    @Override
     public boolean isLastPage() {
         return isLastPage;
     }
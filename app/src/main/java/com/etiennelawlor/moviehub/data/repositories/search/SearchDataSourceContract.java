@@ -1,6 +1,9 @@
 package com.etiennelawlor.moviehub.data.repositories.search;
 
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
+import com.etiennelawlor.moviehub.data.repositories.person.models.PersonsPage;
 import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper;
+import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowsPage;
 
 import rx.Observable;
 
@@ -13,14 +16,27 @@ public interface SearchDataSourceContract {
     interface Repository {
 //        Restful VERB is the first part of method name GET , POST , DELETE, PUT
         Observable<SearchWrapper> getSearch(String query);
+        Observable<MoviesPage> getMoviesSearchPage(String query, int currentPage);
+        Observable<TelevisionShowsPage> getTelevisionShowsSearchPage(String query, int currentPage);
+        Observable<PersonsPage> getPersonsSearchPage(String query, int currentPage);
     }
 
     interface LocalDateSource {
         Observable<SearchWrapper> getSearch(String query);
+        Observable<SearchWrapper> getIndexedSearch(String query);
         void saveSearch(SearchWrapper searchWrapper);
+        Observable<MoviesPage> getMoviesSearchPage(String query, int currentPage);
+        void saveMoviesSearchPage(String query, MoviesPage moviesPage);
+        Observable<TelevisionShowsPage> getTelevisionShowsSearchPage(String query, int currentPage);
+        void saveTelevisionShowsSearchPage(String query, TelevisionShowsPage televisionShowsPage);
+        Observable<PersonsPage> getPersonsSearchPage(String query, int currentPage);
+        void savePersonsSearchPage(String query, PersonsPage personsPage);
     }
 
     interface RemoteDateSource {
          Observable<SearchWrapper> getSearch(String query);
+         Observable<MoviesPage> getMoviesSearchPage(String query, int currentPage);
+         Observable<TelevisionShowsPage> getTelevisionShowsSearchPage(String query, int currentPage);
+         Observable<PersonsPage> getPersonsSearchPage(String query, int currentPage);
     }
 }
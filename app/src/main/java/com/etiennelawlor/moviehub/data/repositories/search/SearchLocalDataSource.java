@@ -1,8 +1,18 @@
 package com.etiennelawlor.moviehub.data.repositories.search;
 
 import android.content.Context;
+import android.util.LruCache;
 
+import com.etiennelawlor.moviehub.data.database.RealmUtility;
+import com.etiennelawlor.moviehub.data.database.SearchIndex;
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
+import com.etiennelawlor.moviehub.data.repositories.person.models.PersonsPage;
 import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper;
+import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowsPage;
+import com.etiennelawlor.moviehub.util.SearchUtility;
+import com.etiennelawlor.moviehub.util.rxjava.DatabaseScheduler;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 import rx.Observable;
 
@@ -12,8 +22,27 @@ import rx.Observable;
 
 public class SearchLocalDataSource implements SearchDataSourceContract.LocalDateSource {
 
+    // region Constants
+    private static final int MEMORY_CACHE_SIZE = 50;
+    private static final int PAGE_CACHE_SIZE = 30;
+    // endregion
+
+    // region Static Variables
+    // Shared across instances so results survive leaving and reopening search
+    private static final LruCache<String, SearchWrapper> memoryCache = new LruCache<>(MEMORY_CACHE_SIZE);
+    private static final AtomicLong memoryHitCount = new AtomicLong();
+    private static final AtomicLong diskHitCount = new AtomicLong();
+    private static final AtomicLong missCount = new AtomicLong();
+    // Pages past the first are only kept in memory, they are only useful while the query is on screen
+    private static final LruCache<String, MoviesPage> moviesPageCache = new LruCache<>(PAGE_CACHE_SIZE);
+    private static final LruCache<String, TelevisionShowsPage> televisionShowsPageCache = new LruCache<>(PAGE_CACHE_SIZE);
+    private static final LruCache<String, PersonsPage> personsPageCache = new LruCache<>(PAGE_CACHE_SIZE);
+    // endregion
+
     // region Constructors
     public SearchLocalDataSource(Context context) {
+        // Built while the search box is still empty rather than on the first keystroke
+        DatabaseScheduler.getInstance().createWorker().schedule(() -> SearchIndex.getInstance().build());
     }
     // endregion
 
@@ -21,14 +50,115 @@ public class SearchLocalDataSource implements SearchDataSourceContract.LocalDate
 
     @Override
     public Observable<SearchWrapper> getSearch(String query) {
-        //        Use mapper to convert from realm objects to POJOs
-        return Observable.empty();
+        return Observable.defer(() -> {
+            SearchWrapper searchWrapper = getCachedSearch(SearchUtility.normalizeQuery(query));
+            if(searchWrapper == null)
+                return Observable.empty();
+            else
+                return Observable.just(searchWrapper);
+        }).subscribeOn(DatabaseScheduler.getInstance());
+    }
+
+    @Override
+    public Observable<SearchWrapper> getIndexedSearch(String query) {
+        // Waits for the index if it is still being built
+        return Observable.defer(() -> Observable.just(SearchIndex.getInstance().search(query)))
+                .subscribeOn(DatabaseScheduler.getInstance());
     }
 
     @Override
     public void saveSearch(SearchWrapper searchWrapper) {
-//        Use mapper to convert from POJOs to realm objects
+        String key = SearchUtility.normalizeQuery(searchWrapper.getQuery());
+        memoryCache.put(key, searchWrapper);
+        RealmUtility.saveSearch(key, searchWrapper);
+    }
+
+    @Override
+    public Observable<MoviesPage> getMoviesSearchPage(String query, int currentPage) {
+        return Observable.defer(() -> {
+            MoviesPage moviesPage = moviesPageCache.get(getPageKey(query, currentPage));
+            if(moviesPage == null || moviesPage.isExpired())
+                return Observable.empty();
+            else
+                return Observable.just(moviesPage);
+        });
+    }
+
+    @Override
+    public void saveMoviesSearchPage(String query, MoviesPage moviesPage) {
+        moviesPageCache.put(getPageKey(query, moviesPage.getPageNumber()), moviesPage);
+    }
+
+    @Override
+    public Observable<TelevisionShowsPage> getTelevisionShowsSearchPage(String query, int currentPage) {
+        return Observable.defer(() -> {
+            TelevisionShowsPage televisionShowsPage = televisionShowsPageCache.get(getPageKey(query, currentPage));
+            if(televisionShowsPage == null || televisionShowsPage.isExpired())
+                return Observable.empty();
+            else
+                return Observable.just(televisionShowsPage);
+        });
+    }
+
+    @Override
+    public void saveTelevisionShowsSearchPage(String query, TelevisionShowsPage televisionShowsPage) {
+        televisionShowsPageCache.put(getPageKey(query, televisionShowsPage.getPageNumber()), televisionShowsPage);
     }
 
+    @Override
+    public Observable<PersonsPage> getPersonsSearchPage(String query, int currentPage) {
+        return Observable.defer(() -> {
+            PersonsPage personsPage = personsPageCache.get(getPageKey(query, currentPage));
+            if(personsPage == null || personsPage.isExpired())
+                return Observable.empty();
+            else
+                return Observable.just(personsPage);
+        });
+    }
+
+    @Override
+    public void savePersonsSearchPage(String query, PersonsPage personsPage) {
+        personsPageCache.put(getPageKey(query, personsPage.getPageNumber()), personsPage);
+    }
+
+    // endregion
+
+    // region Getters
+    public static long getMemoryHitCount() {
+        return memoryHitCount.get();
+    }
+
+    public static long getDiskHitCount() {
+        return diskHitCount.get();
+    }
+
+    public static long getMissCount() {
+        return missCount.get();
+    }
+    // endregion
+
+    // region Helper Methods
+    private static String getPageKey(String query, int pageNumber) {
+        return SearchUtility.normalizeQuery(query) + "#" + pageNumber;
+    }
+
+    private SearchWrapper getCachedSearch(String key) {
+        SearchWrapper searchWrapper = memoryCache.get(key);
+        if(searchWrapper != null && !searchWrapper.isExpired()){
+            memoryHitCount.incrementAndGet();
+            return searchWrapper;
+        }
+
+        searchWrapper = RealmUtility.getSearch(key);
+        if(searchWrapper != null && !searchWrapper.isExpired()){
+            diskHitCount.incrementAndGet();
+            memoryCache.put(key, searchWrapper);
+            return searchWrapper;
+        }
+
+        memoryCache.remove(key);
+        missCount.incrementAndGet();
+        return null;
+    }
     // endregion
 }
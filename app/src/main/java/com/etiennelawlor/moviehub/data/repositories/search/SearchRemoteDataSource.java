@@ -2,22 +2,27 @@ package com.etiennelawlor.moviehub.data.repositories.search;
 
 import android.content.Context;
 
-import com.etiennelawlor.moviehub.data.network.AuthorizedNetworkInterceptor;
 import com.etiennelawlor.moviehub.data.network.MovieHubService;
 import com.etiennelawlor.moviehub.data.network.ServiceGenerator;
 import com.etiennelawlor.moviehub.data.network.response.Movie;
-import com.etiennelawlor.moviehub.data.network.response.MoviesEnvelope;
-import com.etiennelawlor.moviehub.data.network.response.PeopleEnvelope;
 import com.etiennelawlor.moviehub.data.network.response.Person;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
-import com.etiennelawlor.moviehub.data.network.response.TelevisionShowsEnvelope;
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
+import com.etiennelawlor.moviehub.data.repositories.person.models.PersonsPage;
 import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper;
+import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper.CategoryState;
+import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowsPage;
 
 import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import rx.Observable;
-import rx.functions.Func3;
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+import timber.log.Timber;
 
 /**
  * Created by etiennelawlor on 2/13/17.
@@ -25,50 +30,178 @@ import rx.functions.Func3;
 
 public class SearchRemoteDataSource implements SearchDataSourceContract.RemoteDateSource {
 
+    // region Constants
+    private static final int ONE_DAY = 1;
+    private static final long MOVIES_TIMEOUT_SECONDS = 10;
+    private static final long TELEVISION_SHOWS_TIMEOUT_SECONDS = 10;
+    private static final long PERSONS_TIMEOUT_SECONDS = 10;
+    // endregion
+
     // region Member Variables
     private MovieHubService movieHubService;
+    private Scheduler scheduler;
     // endregion
 
     // region Constructors
     public SearchRemoteDataSource(Context context) {
-        movieHubService = ServiceGenerator.createService(
-                MovieHubService.class,
-                MovieHubService.BASE_URL,
-                new AuthorizedNetworkInterceptor(context));
-//        MovieHubApplication.getInstance().getApplicationContext();
+        this(ServiceGenerator.getMovieHubService(context), Schedulers.io());
+    }
+
+    public SearchRemoteDataSource(MovieHubService movieHubService, Scheduler scheduler) {
+        this.movieHubService = movieHubService;
+        this.scheduler = scheduler;
     }
     // endregion
 
     // region SearchDataSourceContract.RemoteDateSource Methods
+
+    /**
+     * Emits a progressively filled in {@link SearchWrapper} each time one of the categories
+     * arrives. A category that fails or times out is marked {@link CategoryState#FAILED} without
+     * holding back or failing the others.
+     */
     @Override
     public Observable<SearchWrapper> getSearch(final String query) {
-        return Observable.zip(
-                movieHubService.searchMovies(query, 1),
-                movieHubService.searchTelevisionShows(query, 1),
-                movieHubService.searchPeople(query, 1),
-                new Func3<MoviesEnvelope, TelevisionShowsEnvelope, PeopleEnvelope, SearchWrapper>() {
-                    @Override
-                    public SearchWrapper call(MoviesEnvelope moviesEnvelope, TelevisionShowsEnvelope televisionShowsEnvelope, PeopleEnvelope peopleEnvelope) {
-                        List<Movie> movies = new ArrayList<>();
-                        List<TelevisionShow> televisionShows = new ArrayList<>();
-                        List<Person> persons = new ArrayList<>();
-
-                        if(moviesEnvelope!=null){
-                            movies = moviesEnvelope.getMovies();
-                        }
-
-                        if(televisionShowsEnvelope!=null){
-                            televisionShows = televisionShowsEnvelope.getTelevisionShows();
-                        }
-
-                        if(peopleEnvelope!=null){
-                            persons = peopleEnvelope.getPersons();
-                        }
-
-                        return new SearchWrapper(query, movies, televisionShows, persons);
-                    }
+        Observable<SearchWrapper> movies = movieHubService.searchMovies(query, 1)
+                .timeout(MOVIES_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .map(moviesEnvelope -> {
+                    SearchWrapper searchWrapper = getPendingSearchWrapper(query);
+                    searchWrapper.setMovies(moviesEnvelope == null ? new ArrayList<Movie>() : moviesEnvelope.getMovies());
+                    searchWrapper.setMoviesState(CategoryState.LOADED);
+                    searchWrapper.setMoviesLastPage(moviesEnvelope == null || moviesEnvelope.getPage() >= moviesEnvelope.getTotalPages());
+                    return searchWrapper;
+                })
+                .onErrorReturn(throwable -> {
+                    Timber.e(throwable, "Movie search failed for \"%s\"", query);
+                    SearchWrapper searchWrapper = getPendingSearchWrapper(query);
+                    searchWrapper.setMoviesState(CategoryState.FAILED);
+                    return searchWrapper;
+                });
+
+        Observable<SearchWrapper> televisionShows = movieHubService.searchTelevisionShows(query, 1)
+                .timeout(TELEVISION_SHOWS_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .map(televisionShowsEnvelope -> {
+                    SearchWrapper searchWrapper = getPendingSearchWrapper(query);
+                    searchWrapper.setTelevisionShows(televisionShowsEnvelope == null ? new ArrayList<TelevisionShow>() : televisionShowsEnvelope.getTelevisionShows());
+                    searchWrapper.setTelevisionShowsState(CategoryState.LOADED);
+                    searchWrapper.setTelevisionShowsLastPage(televisionShowsEnvelope == null || televisionShowsEnvelope.getPage() >= televisionShowsEnvelope.getTotalPages());
+                    return searchWrapper;
+                })
+                .onErrorReturn(throwable -> {
+                    Timber.e(throwable, "TV show search failed for \"%s\"", query);
+                    SearchWrapper searchWrapper = getPendingSearchWrapper(query);
+                    searchWrapper.setTelevisionShowsState(CategoryState.FAILED);
+                    return searchWrapper;
+                });
+
+        Observable<SearchWrapper> persons = movieHubService.searchPeople(query, 1)
+                .timeout(PERSONS_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .map(peopleEnvelope -> {
+                    SearchWrapper searchWrapper = getPendingSearchWrapper(query);
+                    searchWrapper.setPersons(peopleEnvelope == null ? new ArrayList<Person>() : peopleEnvelope.getPersons());
+                    searchWrapper.setPersonsState(CategoryState.LOADED);
+                    searchWrapper.setPersonsLastPage(peopleEnvelope == null || peopleEnvelope.getPage() >= peopleEnvelope.getTotalPages());
+                    return searchWrapper;
+                })
+                .onErrorReturn(throwable -> {
+                    Timber.e(throwable, "Person search failed for \"%s\"", query);
+                    SearchWrapper searchWrapper = getPendingSearchWrapper(query);
+                    searchWrapper.setPersonsState(CategoryState.FAILED);
+                    return searchWrapper;
+                });
+
+        // Retrofit calls block the thread they are subscribed on, each category gets its own so
+        // they are all in flight at once and arrive in the order they finish
+        return Observable.merge(
+                movies.subscribeOn(scheduler),
+                televisionShows.subscribeOn(scheduler),
+                persons.subscribeOn(scheduler))
+                .scan(getPendingSearchWrapper(query), this::combineSearchWrappers)
+                // Skip the all pending seed
+                .skip(1);
+    }
+
+    @Override
+    public Observable<MoviesPage> getMoviesSearchPage(String query, int currentPage) {
+        return movieHubService.searchMovies(query, currentPage)
+                .map(moviesEnvelope -> {
+                    boolean isLastPage = currentPage >= moviesEnvelope.getTotalPages();
+                    return new MoviesPage(moviesEnvelope.getMovies(), currentPage, isLastPage, getExpiredAt());
+                });
+    }
+
+    @Override
+    public Observable<TelevisionShowsPage> getTelevisionShowsSearchPage(String query, int currentPage) {
+        return movieHubService.searchTelevisionShows(query, currentPage)
+                .map(televisionShowsEnvelope -> {
+                    boolean isLastPage = currentPage >= televisionShowsEnvelope.getTotalPages();
+                    return new TelevisionShowsPage(televisionShowsEnvelope.getTelevisionShows(), currentPage, isLastPage, getExpiredAt());
+                });
+    }
+
+    @Override
+    public Observable<PersonsPage> getPersonsSearchPage(String query, int currentPage) {
+        return movieHubService.searchPeople(query, currentPage)
+                .map(peopleEnvelope -> {
+                    boolean isLastPage = currentPage >= peopleEnvelope.getTotalPages();
+                    return new PersonsPage(peopleEnvelope.getPersons(), currentPage, isLastPage, getExpiredAt());
                 });
     }
 
     // endregion
+
+    // region Helper Methods
+    private SearchWrapper getPendingSearchWrapper(String query) {
+        SearchWrapper searchWrapper = new SearchWrapper(query, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), getExpiredAt());
+        searchWrapper.setMoviesState(CategoryState.PENDING);
+        searchWrapper.setTelevisionShowsState(CategoryState.PENDING);
+        searchWrapper.setPersonsState(CategoryState.PENDING);
+        return searchWrapper;
+    }
+
+    // Returns a new wrapper so an emission already handed downstream is never mutated
+    private SearchWrapper combineSearchWrappers(SearchWrapper accumulated, SearchWrapper update) {
+        List<Movie> movies = accumulated.getMovies();
+        CategoryState moviesState = accumulated.getMoviesState();
+        boolean isMoviesLastPage = accumulated.isMoviesLastPage();
+        if (update.getMoviesState() != CategoryState.PENDING) {
+            movies = update.getMovies();
+            moviesState = update.getMoviesState();
+            isMoviesLastPage = update.isMoviesLastPage();
+        }
+
+        List<TelevisionShow> televisionShows = accumulated.getTelevisionShows();
+        CategoryState televisionShowsState = accumulated.getTelevisionShowsState();
+        boolean isTelevisionShowsLastPage = accumulated.isTelevisionShowsLastPage();
+        if (update.getTelevisionShowsState() != CategoryState.PENDING) {
+            televisionShows = update.getTelevisionShows();
+            televisionShowsState = update.getTelevisionShowsState();
+            isTelevisionShowsLastPage = update.isTelevisionShowsLastPage();
+        }
+
+        List<Person> persons = accumulated.getPersons();
+        CategoryState personsState = accumulated.getPersonsState();
+        boolean isPersonsLastPage = accumulated.isPersonsLastPage();
+        if (update.getPersonsState() != CategoryState.PENDING) {
+            persons = update.getPersons();
+            personsState = update.getPersonsState();
+            isPersonsLastPage = update.isPersonsLastPage();
+        }
+
+        SearchWrapper searchWrapper = new SearchWrapper(accumulated.getQuery(), movies, televisionShows, persons, accumulated.getExpiredAt());
+        searchWrapper.setMoviesState(moviesState);
+        searchWrapper.setTelevisionShowsState(televisionShowsState);
+        searchWrapper.setPersonsState(personsState);
+        searchWrapper.setMoviesLastPage(isMoviesLastPage);
+        searchWrapper.setTelevisionShowsLastPage(isTelevisionShowsLastPage);
+        searchWrapper.setPersonsLastPage(isPersonsLastPage);
+        return searchWrapper;
+    }
+
+    private static Date getExpiredAt() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.DATE, ONE_DAY);
+        return calendar.getTime();
+    }
+    // endregion
 }
@@ -1,9 +1,22 @@
 package com.etiennelawlor.moviehub.data.repositories.search;
 
+import com.etiennelawlor.moviehub.data.network.response.Movie;
+import com.etiennelawlor.moviehub.data.network.response.Person;
+import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
+import com.etiennelawlor.moviehub.data.repositories.person.models.PersonsPage;
 import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper;
+import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowsPage;
+import com.etiennelawlor.moviehub.util.rxjava.DatabaseScheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import rx.Observable;
-import rx.functions.Action1;
+import rx.schedulers.Schedulers;
 
 /**
  * Created by etiennelawlor on 2/13/17.
@@ -35,19 +48,71 @@ public class SearchRepository implements SearchDataSourceContract.Repository {
     // region SearchDataSourceContract.Repository Methods
     @Override
     public Observable<SearchWrapper> getSearch(String query) {
-        Observable<SearchWrapper> local = searchLocalDataSource.getSearch(query);
-        Observable<SearchWrapper> remote = searchRemoteDataSource.getSearch(query);
-
-        return Observable.concat(local, remote)
-                .first()
-                .doOnNext(new Action1<SearchWrapper>() {
-                    @Override
-                    public void call(SearchWrapper searchWrapper) {
-                        searchLocalDataSource.saveSearch(searchWrapper);
-                    }
+        Observable<SearchWrapper> local = searchLocalDataSource.getSearch(query)
+                .filter(searchWrapper -> !searchWrapper.isExpired());
+        // Requested on io(), local reads run on the database threads and so do the saves.
+        // Only complete network results are written back, cache hits are not saved again
+        Observable<SearchWrapper> remote =
+                searchRemoteDataSource.getSearch(query)
+                        .subscribeOn(Schedulers.io())
+                        .observeOn(DatabaseScheduler.getInstance())
+                        .doOnNext(searchWrapper -> {
+                            if(searchWrapper.isComplete() && !searchWrapper.hasFailures())
+                                searchLocalDataSource.saveSearch(searchWrapper);
+                        });
+        // The remote search emits once per category so take all of it, not just the first
+        Observable<SearchWrapper> cachedOrRemote = local.switchIfEmpty(remote);
+
+        // Show matches from everything already on the device right away, then merge in the full results
+        return searchLocalDataSource.getIndexedSearch(query)
+                .flatMap(indexedSearchWrapper -> {
+                    if(!indexedSearchWrapper.hasResults())
+                        return cachedOrRemote;
+
+                    return cachedOrRemote
+                            .map(searchWrapper -> mergeSearchWrappers(searchWrapper, indexedSearchWrapper))
+                            // The local matches are already on screen, keep them if the network fails
+                            .onErrorResumeNext(Observable.<SearchWrapper>empty())
+                            .startWith(indexedSearchWrapper);
                 });
     }
 
+    @Override
+    public Observable<MoviesPage> getMoviesSearchPage(String query, int currentPage) {
+        Observable<MoviesPage> local = searchLocalDataSource.getMoviesSearchPage(query, currentPage);
+        Observable<MoviesPage> remote =
+                searchRemoteDataSource.getMoviesSearchPage(query, currentPage)
+                        .subscribeOn(Schedulers.io())
+                        .observeOn(DatabaseScheduler.getInstance())
+                        .doOnNext(moviesPage -> searchLocalDataSource.saveMoviesSearchPage(query, moviesPage));
+
+        return Observable.concat(local, remote).first();
+    }
+
+    @Override
+    public Observable<TelevisionShowsPage> getTelevisionShowsSearchPage(String query, int currentPage) {
+        Observable<TelevisionShowsPage> local = searchLocalDataSource.getTelevisionShowsSearchPage(query, currentPage);
+        Observable<TelevisionShowsPage> remote =
+                searchRemoteDataSource.getTelevisionShowsSearchPage(query, currentPage)
+                        .subscribeOn(Schedulers.io())
+                        .observeOn(DatabaseScheduler.getInstance())
+                        .doOnNext(televisionShowsPage -> searchLocalDataSource.saveTelevisionShowsSearchPage(query, televisionShowsPage));
+
+        return Observable.concat(local, remote).first();
+    }
+
+    @Override
+    public Observable<PersonsPage> getPersonsSearchPage(String query, int currentPage) {
+        Observable<PersonsPage> local = searchLocalDataSource.getPersonsSearchPage(query, currentPage);
+        Observable<PersonsPage> remote =
+                searchRemoteDataSource.getPersonsSearchPage(query, currentPage)
+                        .subscribeOn(Schedulers.io())
+                        .observeOn(DatabaseScheduler.getInstance())
+                        .doOnNext(personsPage -> searchLocalDataSource.savePersonsSearchPage(query, personsPage));
+
+        return Observable.concat(local, remote).first();
+    }
+
     //  Create an Observable that emits a particular item
 //  Observable.just(List<Movie> movies)
 //  Observable.just(MoviesModel movies)
@@ -56,4 +121,51 @@ public class SearchRepository implements SearchDataSourceContract.Repository {
 //  Observable.empty();
 
     // endregion
+
+    // region Helper Methods
+    private SearchWrapper mergeSearchWrappers(SearchWrapper searchWrapper, SearchWrapper indexedSearchWrapper) {
+        List<Movie> movies = new ArrayList<>(getNonNullList(searchWrapper.getMovies()));
+        Set<Integer> movieIds = new HashSet<>();
+        for(Movie movie : movies){
+            movieIds.add(movie.getId());
+        }
+        for(Movie movie : getNonNullList(indexedSearchWrapper.getMovies())){
+            if(movieIds.add(movie.getId()))
+                movies.add(movie);
+        }
+
+        List<TelevisionShow> televisionShows = new ArrayList<>(getNonNullList(searchWrapper.getTelevisionShows()));
+        Set<Integer> televisionShowIds = new HashSet<>();
+        for(TelevisionShow televisionShow : televisionShows){
+            televisionShowIds.add(televisionShow.getId());
+        }
+        for(TelevisionShow televisionShow : getNonNullList(indexedSearchWrapper.getTelevisionShows())){
+            if(televisionShowIds.add(televisionShow.getId()))
+                televisionShows.add(televisionShow);
+        }
+
+        List<Person> persons = new ArrayList<>(getNonNullList(searchWrapper.getPersons()));
+        Set<Integer> personIds = new HashSet<>();
+        for(Person person : persons){
+            personIds.add(person.getId());
+        }
+        for(Person person : getNonNullList(indexedSearchWrapper.getPersons())){
+            if(personIds.add(person.getId()))
+                persons.add(person);
+        }
+
+        SearchWrapper mergedSearchWrapper = new SearchWrapper(searchWrapper.getQuery(), movies, televisionShows, persons, searchWrapper.getExpiredAt());
+        mergedSearchWrapper.setMoviesState(searchWrapper.getMoviesState());
+        mergedSearchWrapper.setTelevisionShowsState(searchWrapper.getTelevisionShowsState());
+        mergedSearchWrapper.setPersonsState(searchWrapper.getPersonsState());
+        mergedSearchWrapper.setMoviesLastPage(searchWrapper.isMoviesLastPage());
+        mergedSearchWrapper.setTelevisionShowsLastPage(searchWrapper.isTelevisionShowsLastPage());
+        mergedSearchWrapper.setPersonsLastPage(searchWrapper.isPersonsLastPage());
+        return mergedSearchWrapper;
+    }
+
+    private static <T> List<T> getNonNullList(List<T> list) {
+        return list == null ? Collections.<T>emptyList() : list;
+    }
+    // endregion
 }
@@ -4,6 +4,8 @@ import com.etiennelawlor.moviehub.data.network.response.Movie;
 import com.etiennelawlor.moviehub.data.network.response.Person;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
 
+import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -17,6 +19,13 @@ public class SearchWrapper {
     private List<Movie> movies;
     private List<TelevisionShow> televisionShows;
     private List<Person> persons;
+    private Date expiredAt;
+    private CategoryState moviesState = CategoryState.LOADED;
+    private CategoryState televisionShowsState = CategoryState.LOADED;
+    private CategoryState personsState = CategoryState.LOADED;
+    private boolean isMoviesLastPage;
+    private boolean isTelevisionShowsLastPage;
+    private boolean isPersonsLastPage;
     // endregion
 
     // region Constructors
@@ -28,6 +37,14 @@ public class SearchWrapper {
         this.persons = persons;
     }
 
+    public SearchWrapper(String query, List<Movie> movies, List<TelevisionShow> televisionShows, List<Person> persons, Date expiredAt) {
+        this.query = query;
+        this.movies = movies;
+        this.televisionShows = televisionShows;
+        this.persons = persons;
+        this.expiredAt = expiredAt;
+    }
+
     // endregion
 
     // region Getters
@@ -48,6 +65,34 @@ public class SearchWrapper {
         return persons;
     }
 
+    public Date getExpiredAt() {
+        return expiredAt;
+    }
+
+    public CategoryState getMoviesState() {
+        return moviesState;
+    }
+
+    public CategoryState getTelevisionShowsState() {
+        return televisionShowsState;
+    }
+
+    public CategoryState getPersonsState() {
+        return personsState;
+    }
+
+    public boolean isMoviesLastPage() {
+        return isMoviesLastPage;
+    }
+
+    public boolean isTelevisionShowsLastPage() {
+        return isTelevisionShowsLastPage;
+    }
+
+    public boolean isPersonsLastPage() {
+        return isPersonsLastPage;
+    }
+
     // endregion
 
     // region Setters
@@ -68,6 +113,34 @@ public class SearchWrapper {
         this.persons = persons;
     }
 
+    public void setExpiredAt(Date expiredAt) {
+        this.expiredAt = expiredAt;
+    }
+
+    public void setMoviesState(CategoryState moviesState) {
+        this.moviesState = moviesState;
+    }
+
+    public void setTelevisionShowsState(CategoryState televisionShowsState) {
+        this.televisionShowsState = televisionShowsState;
+    }
+
+    public void setPersonsState(CategoryState personsState) {
+        this.personsState = personsState;
+    }
+
+    public void setMoviesLastPage(boolean moviesLastPage) {
+        isMoviesLastPage = moviesLastPage;
+    }
+
+    public void setTelevisionShowsLastPage(boolean televisionShowsLastPage) {
+        isTelevisionShowsLastPage = televisionShowsLastPage;
+    }
+
+    public void setPersonsLastPage(boolean personsLastPage) {
+        isPersonsLastPage = personsLastPage;
+    }
+
     // endregion
 
     // region Helper Methods
@@ -88,5 +161,35 @@ public class SearchWrapper {
                 || (hasTelevisionShows())
                 || (hasPersons());
     }
+
+    public boolean isExpired() {
+        return expiredAt != null && Calendar.getInstance().getTime().getTime() > expiredAt.getTime();
+    }
+
+    public boolean isComplete() {
+        return moviesState != CategoryState.PENDING
+                && televisionShowsState != CategoryState.PENDING
+                && personsState != CategoryState.PENDING;
+    }
+
+    public boolean hasFailures() {
+        return moviesState == CategoryState.FAILED
+                || televisionShowsState == CategoryState.FAILED
+                || personsState == CategoryState.FAILED;
+    }
+
+    public boolean hasFailedCompletely() {
+        return moviesState == CategoryState.FAILED
+                && televisionShowsState == CategoryState.FAILED
+                && personsState == CategoryState.FAILED;
+    }
+    // endregion
+
+    // region Enums
+    public enum CategoryState {
+        PENDING,
+        LOADED,
+        FAILED
+    }
     // endregion
 }
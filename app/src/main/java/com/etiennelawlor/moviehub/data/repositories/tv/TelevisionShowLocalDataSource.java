@@ -5,6 +5,7 @@ import android.content.Context;
 import com.etiennelawlor.moviehub.data.database.RealmUtility;
 import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowsPage;
+import com.etiennelawlor.moviehub.util.rxjava.DatabaseScheduler;
 
 import rx.Observable;
 
@@ -23,11 +24,13 @@ public class TelevisionShowLocalDataSource implements TelevisionShowDataSourceCo
 
     @Override
     public Observable<TelevisionShowsPage> getPopularTelevisionShows(int currentPage) {
-        TelevisionShowsPage televisionShowsPage = RealmUtility.getTelevisionShowsPage(currentPage);
-        if(televisionShowsPage == null)
-            return Observable.empty();
-        else
-            return Observable.just(televisionShowsPage);
+        return Observable.defer(() -> {
+            TelevisionShowsPage televisionShowsPage = RealmUtility.getTelevisionShowsPage(currentPage);
+            if(televisionShowsPage == null)
+                return Observable.<TelevisionShowsPage>empty();
+            else
+                return Observable.just(televisionShowsPage);
+        }).subscribeOn(DatabaseScheduler.getInstance());
     }
 
     @Override
@@ -37,13 +40,18 @@ public class TelevisionShowLocalDataSource implements TelevisionShowDataSourceCo
 
     @Override
     public Observable<TelevisionShowDetailsWrapper> getTelevisionShowDetails(int televisionShowId) {
-        //        Use mapper to convert from realm objects to POJOs
-        return Observable.empty();
+        return Observable.defer(() -> {
+            TelevisionShowDetailsWrapper televisionShowDetailsWrapper = RealmUtility.getTelevisionShowDetails(televisionShowId);
+            if(televisionShowDetailsWrapper == null)
+                return Observable.<TelevisionShowDetailsWrapper>empty();
+            else
+                return Observable.just(televisionShowDetailsWrapper);
+        }).subscribeOn(DatabaseScheduler.getInstance());
     }
 
     @Override
     public void saveTelevisionShowDetails(TelevisionShowDetailsWrapper televisionShowDetailsWrapper) {
-//        Use mapper to convert from POJOs to realm objects
+        RealmUtility.saveTelevisionShowDetails(televisionShowDetailsWrapper);
     }
 
     // endregion
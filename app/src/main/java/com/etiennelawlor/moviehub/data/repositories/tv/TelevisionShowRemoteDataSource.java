@@ -2,17 +2,21 @@ package com.etiennelawlor.moviehub.data.repositories.tv;
 
 import android.content.Context;
 
-import com.etiennelawlor.moviehub.data.network.AuthorizedNetworkInterceptor;
 import com.etiennelawlor.moviehub.data.network.MovieHubService;
 import com.etiennelawlor.moviehub.data.network.ServiceGenerator;
 import com.etiennelawlor.moviehub.data.network.response.ContentRating;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
+import com.etiennelawlor.moviehub.data.network.response.TelevisionShowContentRatingsEnvelope;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShowCredit;
+import com.etiennelawlor.moviehub.data.network.response.TelevisionShowCreditsEnvelope;
+import com.etiennelawlor.moviehub.data.network.response.TelevisionShowsEnvelope;
 import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowsPage;
+import com.etiennelawlor.moviehub.util.NetworkUtility;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 
 import rx.Observable;
@@ -24,8 +28,9 @@ import rx.Observable;
 public class TelevisionShowRemoteDataSource implements TelevisionShowDataSourceContract.RemoteDateSource {
 
     // region Constants
-    private static final int PAGE_SIZE = 20;
     private static final int SEVEN_DAYS = 7;
+    // Airing shows gain episodes and seasons
+    private static final int ONE_DAY = 1;
     // endregion
 
     // region Member Variables
@@ -34,11 +39,7 @@ public class TelevisionShowRemoteDataSource implements TelevisionShowDataSourceC
 
     // region Constructors
     public TelevisionShowRemoteDataSource(Context context) {
-        movieHubService = ServiceGenerator.createService(
-                MovieHubService.class,
-                MovieHubService.BASE_URL,
-                new AuthorizedNetworkInterceptor(context));
-//        MovieHubApplication.getInstance().getApplicationContext();
+        movieHubService = ServiceGenerator.getMovieHubService(context);
     }
     // endregion
 
@@ -46,9 +47,9 @@ public class TelevisionShowRemoteDataSource implements TelevisionShowDataSourceC
     @Override
     public Observable<TelevisionShowsPage> getPopularTelevisionShows(int currentPage) {
         return movieHubService.getPopularTelevisionShows(currentPage)
-                .flatMap(televisionShowsEnvelope -> Observable.just(televisionShowsEnvelope.getTelevisionShows()))
-                .map(televisionShows -> {
-                    boolean isLastPage = televisionShows.size() < PAGE_SIZE ? true : false;
+                .map(televisionShowsEnvelope -> {
+                    List<TelevisionShow> televisionShows = televisionShowsEnvelope.getTelevisionShows();
+                    boolean isLastPage = currentPage >= televisionShowsEnvelope.getTotalPages();
                     Calendar calendar = Calendar.getInstance();
                     calendar.add(Calendar.DATE, SEVEN_DAYS);
                     return new TelevisionShowsPage(televisionShows, currentPage, isLastPage, calendar.getTime() );
@@ -57,46 +58,75 @@ public class TelevisionShowRemoteDataSource implements TelevisionShowDataSourceC
 
     @Override
     public Observable<TelevisionShowDetailsWrapper> getTelevisionShowDetails(int tvId) {
+        return movieHubService.getTelevisionShowDetails(tvId)
+                .flatMap(televisionShowDetailsEnvelope -> {
+                    // An append_to_response that came back without its parts leaves nothing to show them from
+                    if(televisionShowDetailsEnvelope.getCredits() == null || televisionShowDetailsEnvelope.getSimilar() == null)
+                        return getTelevisionShowDetailsFanOut(tvId);
+                    else
+                        return Observable.just(getTelevisionShowDetailsWrapper(
+                                televisionShowDetailsEnvelope,
+                                televisionShowDetailsEnvelope.getCredits(),
+                                televisionShowDetailsEnvelope.getSimilar(),
+                                televisionShowDetailsEnvelope.getContentRatings()));
+                }, throwable -> {
+                    // HTTP errors and connectivity problems would fail the fan-out as well, 429s would only get worse
+                    if(NetworkUtility.isParseException(throwable))
+                        return getTelevisionShowDetailsFanOut(tvId);
+                    else
+                        return Observable.error(throwable);
+                }, Observable::empty);
+    }
+    // endregion
+
+    // region Helper Methods
+    private Observable<TelevisionShowDetailsWrapper> getTelevisionShowDetailsFanOut(int tvId) {
         return Observable.zip(
                 movieHubService.getTelevisionShow(tvId),
                 movieHubService.getTelevisionShowCredits(tvId),
                 movieHubService.getSimilarTelevisionShows(tvId),
                 movieHubService.getTelevisionShowContentRatings(tvId),
-                (televisionShow, televisionShowCreditsEnvelope, televisionShowsEnvelope, televisionShowContentRatingsEnvelope) -> {
-                    List<TelevisionShowCredit> cast = new ArrayList<>();
-                    List<TelevisionShowCredit> crew = new ArrayList<>();
-                    List<TelevisionShow> similarTelevisionShows = new ArrayList<>();
-                    String rating = "";
-
-                    if(televisionShowCreditsEnvelope!=null){
-                        cast = televisionShowCreditsEnvelope.getCast();
-                    }
-
-                    if(televisionShowCreditsEnvelope!=null){
-                        crew = televisionShowCreditsEnvelope.getCrew();
-                    }
-
-                    if(televisionShowsEnvelope!=null){
-                        similarTelevisionShows = televisionShowsEnvelope.getTelevisionShows();
-                    }
+                this::getTelevisionShowDetailsWrapper);
+    }
 
-                    if(televisionShowContentRatingsEnvelope!=null){
-                        List<ContentRating> contentRatings = televisionShowContentRatingsEnvelope.getContentRatings();
-                        if(contentRatings != null && contentRatings.size() > 0){
-                            for(ContentRating contentRating : contentRatings){
-                                String iso31661 = contentRating.getIso31661();
-                                if(iso31661.equals("US")){
-                                    rating = contentRating.getRating();
-                                    break;
-                                }
-                            }
-                        }
+    private TelevisionShowDetailsWrapper getTelevisionShowDetailsWrapper(TelevisionShow televisionShow, TelevisionShowCreditsEnvelope televisionShowCreditsEnvelope, TelevisionShowsEnvelope televisionShowsEnvelope, TelevisionShowContentRatingsEnvelope televisionShowContentRatingsEnvelope) {
+        List<TelevisionShowCredit> cast = new ArrayList<>();
+        List<TelevisionShowCredit> crew = new ArrayList<>();
+        List<TelevisionShow> similarTelevisionShows = new ArrayList<>();
+        String rating = "";
+
+        if(televisionShowCreditsEnvelope!=null){
+            cast = televisionShowCreditsEnvelope.getCast();
+        }
+
+        if(televisionShowCreditsEnvelope!=null){
+            crew = televisionShowCreditsEnvelope.getCrew();
+        }
+
+        if(televisionShowsEnvelope!=null){
+            similarTelevisionShows = televisionShowsEnvelope.getTelevisionShows();
+        }
+
+        if(televisionShowContentRatingsEnvelope!=null){
+            List<ContentRating> contentRatings = televisionShowContentRatingsEnvelope.getContentRatings();
+            if(contentRatings != null && contentRatings.size() > 0){
+                for(ContentRating contentRating : contentRatings){
+                    String iso31661 = contentRating.getIso31661();
+                    if(iso31661.equals("US")){
+                        rating = contentRating.getRating();
+                        break;
                     }
+                }
+            }
+        }
 
-                    return new TelevisionShowDetailsWrapper(televisionShow, cast, crew, similarTelevisionShows, rating);
-                });
+        return new TelevisionShowDetailsWrapper(televisionShow, cast, crew, similarTelevisionShows, rating, getExpiredAt(ONE_DAY));
     }
 
-
+    private static Date getExpiredAt(int days) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.DATE, days);
+        return calendar.getTime();
+    }
     // endregion
 }
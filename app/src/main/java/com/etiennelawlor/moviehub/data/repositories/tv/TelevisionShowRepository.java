@@ -1,7 +1,9 @@
 package com.etiennelawlor.moviehub.data.repositories.tv;
 
+import com.etiennelawlor.moviehub.data.repositories.CachePolicy;
 import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowDetailsWrapper;
 import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowsPage;
+import com.etiennelawlor.moviehub.util.rxjava.DatabaseScheduler;
 
 import rx.Observable;
 
@@ -14,25 +16,31 @@ public class TelevisionShowRepository implements TelevisionShowDataSourceContrac
     // region Member Variables
     private TelevisionShowDataSourceContract.LocalDateSource televisionShowLocalDataSource;
     private TelevisionShowDataSourceContract.RemoteDateSource televisionShowRemoteDataSource;
+    private CachePolicy cachePolicy;
     // endregion
 
     // region Constructors
     public TelevisionShowRepository(TelevisionShowDataSourceContract.LocalDateSource televisionShowLocalDataSource, TelevisionShowDataSourceContract.RemoteDateSource televisionShowRemoteDataSource) {
+        this(televisionShowLocalDataSource, televisionShowRemoteDataSource, CachePolicy.STALE_WHILE_REVALIDATE);
+    }
+
+    public TelevisionShowRepository(TelevisionShowDataSourceContract.LocalDateSource televisionShowLocalDataSource, TelevisionShowDataSourceContract.RemoteDateSource televisionShowRemoteDataSource, CachePolicy cachePolicy) {
         this.televisionShowLocalDataSource = televisionShowLocalDataSource;
         this.televisionShowRemoteDataSource = televisionShowRemoteDataSource;
+        this.cachePolicy = cachePolicy;
     }
     // endregion
 
     // region TelevisionShowDataSourceContract.Repository Methods
     @Override
     public Observable<TelevisionShowsPage> getPopularTelevisionShows(final int currentPage) {
-        Observable<TelevisionShowsPage> local = televisionShowLocalDataSource.getPopularTelevisionShows(currentPage)
-                .filter(televisionShowsPage -> !televisionShowsPage.isExpired());
+        Observable<TelevisionShowsPage> local = televisionShowLocalDataSource.getPopularTelevisionShows(currentPage);
         Observable<TelevisionShowsPage> remote =
                 televisionShowRemoteDataSource.getPopularTelevisionShows(currentPage)
+                        .observeOn(DatabaseScheduler.getInstance())
                         .doOnNext(televisionShowsPage -> televisionShowLocalDataSource.savePopularTelevisionShows(televisionShowsPage));
 
-        return Observable.concat(local, remote).first();
+        return cachePolicy.apply(local, remote, TelevisionShowsPage::isExpired);
     }
 
     @Override
@@ -40,9 +48,10 @@ public class TelevisionShowRepository implements TelevisionShowDataSourceContrac
         Observable<TelevisionShowDetailsWrapper> local = televisionShowLocalDataSource.getTelevisionShowDetails(tvId);
         Observable<TelevisionShowDetailsWrapper> remote =
                 televisionShowRemoteDataSource.getTelevisionShowDetails(tvId)
+                        .observeOn(DatabaseScheduler.getInstance())
                         .doOnNext(televisionShowDetailsWrapper -> televisionShowLocalDataSource.saveTelevisionShowDetails(televisionShowDetailsWrapper));
 
-        return Observable.concat(local, remote).first();
+        return cachePolicy.apply(local, remote, TelevisionShowDetailsWrapper::isExpired);
     }
     // endregion
 }
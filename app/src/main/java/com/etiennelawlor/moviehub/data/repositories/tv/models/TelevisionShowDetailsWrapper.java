@@ -3,6 +3,8 @@ package com.etiennelawlor.moviehub.data.repositories.tv.models;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShowCredit;
 
+import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -17,6 +19,7 @@ public class TelevisionShowDetailsWrapper {
     private List<TelevisionShowCredit> crew;
     private List<TelevisionShow> similarTelevisionShows;
     private String rating;
+    private Date expiredAt;
     // endregion
 
     // region Constructors
@@ -29,6 +32,11 @@ public class TelevisionShowDetailsWrapper {
         this.rating = rating;
     }
 
+    public TelevisionShowDetailsWrapper(TelevisionShow televisionShow, List<TelevisionShowCredit> cast, List<TelevisionShowCredit> crew, List<TelevisionShow> similarTelevisionShows, String rating, Date expiredAt) {
+        this(televisionShow, cast, crew, similarTelevisionShows, rating);
+        this.expiredAt = expiredAt;
+    }
+
     // endregion
 
     // region Getters
@@ -54,6 +62,10 @@ public class TelevisionShowDetailsWrapper {
         return rating;
     }
 
+    public Date getExpiredAt() {
+        return expiredAt;
+    }
+
     // endregion
 
     // region Setters
@@ -79,5 +91,16 @@ public class TelevisionShowDetailsWrapper {
         this.rating = rating;
     }
 
+    public void setExpiredAt(Date expiredAt) {
+        this.expiredAt = expiredAt;
+    }
+
+    // endregion
+
+    // region Helper Methods
+    // Details without an expiry count as expired
+    public boolean isExpired() {
+        return expiredAt == null || Calendar.getInstance().getTime().getTime() > expiredAt.getTime();
+    }
     // endregion
 }
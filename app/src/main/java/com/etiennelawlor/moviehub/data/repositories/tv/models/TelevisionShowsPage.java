@@ -1,6 +1,7 @@
 package com.etiennelawlor.moviehub.data.repositories.tv.models;
 
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
+import com.etiennelawlor.moviehub.data.repositories.Page;
 
 import java.util.Calendar;
 import java.util.Date;
@@ -10,7 +11,7 @@ import java.util.List;
  * Created by etiennelawlor on 2/20/17.
  */
 
-public class TelevisionShowsPage {
+public class TelevisionShowsPage implements Page<TelevisionShow> {
 
     // region Member Variables
     private List<TelevisionShow> televisionShows;
@@ -39,10 +40,17 @@ public class TelevisionShowsPage {
         return televisionShows;
     }
 
+    @Override
+    public List<TelevisionShow> getItems() {
+        return televisionShows;
+    }
+
+    @Override
     public int getPageNumber() {
         return pageNumber;
     }
 
+    @Override
     public boolean isLastPage() {
         return isLastPage;
     }
@@ -1,12 +1,24 @@
 package com.etiennelawlor.moviehub.presentation.base;
 
+import android.support.annotation.LayoutRes;
+import android.support.v7.util.DiffUtil;
+import android.support.v7.util.ListUpdateCallback;
 import android.support.v7.widget.RecyclerView;
+import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 
+import com.etiennelawlor.moviehub.presentation.common.ItemViewPrewarmer;
+
 import java.util.ArrayList;
 import java.util.List;
 
+import rx.Observable;
+import rx.Subscription;
+import rx.android.schedulers.AndroidSchedulers;
+import rx.schedulers.Schedulers;
+import timber.log.Timber;
+
 /**
  * Created by etiennelawlor on 12/3/16.
  */
@@ -17,13 +29,23 @@ public abstract class BaseAdapter<T> extends RecyclerView.Adapter<RecyclerView.V
     protected static final int HEADER = 0;
     protected static final int ITEM = 1;
     protected static final int FOOTER = 2;
+    // Ids no TMDB item has
+    private static final long HEADER_ID = -2L;
+    private static final long FOOTER_ID = -3L;
     // endregion
 
     // region Member Variables
+    // Only real items, the header and footer are rows of their own around them. An item may be
+    // null while its page is released
     protected List<T> items;
     protected OnItemClickListener onItemClickListener;
     protected OnReloadClickListener onReloadClickListener;
+    protected boolean isHeaderAdded = false;
     protected boolean isFooterAdded = false;
+    private ItemViewPrewarmer itemViewPrewarmer;
+    private Subscription diffSubscription;
+    // Bumped by every change to items, a diff computed against an older list is thrown away
+    private int itemsVersion;
     // endregion
 
     // region Interfaces
@@ -39,6 +61,7 @@ public abstract class BaseAdapter<T> extends RecyclerView.Adapter<RecyclerView.V
     // region Constructors
     public BaseAdapter() {
         items = new ArrayList<>();
+        setHasStableIds(true);
     }
     // endregion
 
@@ -50,13 +73,11 @@ public abstract class BaseAdapter<T> extends RecyclerView.Adapter<RecyclerView.V
             case HEADER:
                 viewHolder = createHeaderViewHolder(parent);
                 break;
-            case ITEM:
-                viewHolder = createItemViewHolder(parent);
-                break;
             case FOOTER:
                 viewHolder = createFooterViewHolder(parent);
                 break;
             default:
+                viewHolder = createItemViewHolder(parent);
                 break;
         }
 
@@ -69,19 +90,41 @@ public abstract class BaseAdapter<T> extends RecyclerView.Adapter<RecyclerView.V
             case HEADER:
                 bindHeaderViewHolder(viewHolder);
                 break;
-            case ITEM:
-                bindItemViewHolder(viewHolder, position);
-                break;
             case FOOTER:
                 bindFooterViewHolder(viewHolder);
+                break;
             default:
+                bindItemViewHolder(viewHolder, position);
                 break;
         }
     }
 
     @Override
     public int getItemCount() {
-        return items.size();
+        return getHeaderCount() + items.size() + (isFooterAdded ? 1 : 0);
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        if (isHeaderAdded && position == 0)
+            return HEADER;
+        else if (isFooterAdded && position == getItemCount() - 1)
+            return FOOTER;
+        else
+            return getItemType();
+    }
+
+    @Override
+    public long getItemId(int position) {
+        switch (getItemViewType(position)) {
+            case HEADER:
+                return HEADER_ID;
+            case FOOTER:
+                return FOOTER_ID;
+            default:
+                T item = getItem(position);
+                return item == null ? RecyclerView.NO_ID : getStableId(item);
+        }
     }
 
     // region Abstract Methods
@@ -97,64 +140,149 @@ public abstract class BaseAdapter<T> extends RecyclerView.Adapter<RecyclerView.V
 
     protected abstract void bindFooterViewHolder(RecyclerView.ViewHolder viewHolder);
 
-    protected abstract void displayLoadMoreFooter();
+    // The TMDB id of the item, stays the same when the item is fetched again
+    protected abstract long getStableId(T item);
 
-    protected abstract void displayErrorFooter();
+    // Compares only what the row displays, so a refetched item with the same values is not rebound
+    protected abstract boolean areContentsTheSame(T oldItem, T newItem);
 
-    public abstract void addHeader();
+    protected abstract void displayLoadMoreFooter();
 
-    public abstract void addFooter();
+    protected abstract void displayErrorFooter();
     // endregion
 
     // region Helper Methods
+    // Takes an adapter position, as handed to bind and click callbacks
     public T getItem(int position) {
-        return items.get(position);
+        return items.get(position - getHeaderCount());
+    }
+
+    // Adapters sharing a RecycledViewPool return their card layout, so their holders never mix
+    public int getItemType() {
+        return ITEM;
+    }
+
+    public int getHeaderCount() {
+        return isHeaderAdded ? 1 : 0;
+    }
+
+    public void addHeader() {
+        if (isHeaderAdded)
+            return;
+
+        isHeaderAdded = true;
+        notifyItemInserted(0);
+    }
+
+    public void addFooter() {
+        if (isFooterAdded)
+            return;
+
+        isFooterAdded = true;
+        notifyItemInserted(getItemCount() - 1);
     }
 
     public void add(T item) {
+        itemsVersion++;
         items.add(item);
-        notifyItemInserted(items.size() - 1);
+        notifyItemInserted(getHeaderCount() + items.size() - 1);
     }
 
     public void addAll(List<T> items) {
-        for (T item : items) {
-            add(item);
+        if (items.isEmpty())
+            return;
+
+        itemsVersion++;
+        int positionStart = getHeaderCount() + this.items.size();
+        this.items.addAll(items);
+        notifyItemRangeInserted(positionStart, items.size());
+    }
+
+    // Diffs against the displayed items on a background thread, then notifies only the rows that changed
+    public void setItems(List<T> items) {
+        if (diffSubscription != null)
+            diffSubscription.unsubscribe();
+
+        final List<T> oldItems = new ArrayList<>(this.items);
+        final List<T> newItems = new ArrayList<>(items);
+        final int oldItemsVersion = itemsVersion;
+
+        diffSubscription = Observable.defer(() -> Observable.just(DiffUtil.calculateDiff(new ItemDiffCallback(oldItems, newItems))))
+                .subscribeOn(Schedulers.computation())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(diffResult -> {
+                    if (oldItemsVersion != itemsVersion) {
+                        // Items were added or removed while diffing, start over from what is displayed now
+                        setItems(newItems);
+                        return;
+                    }
+
+                    itemsVersion++;
+                    this.items = newItems;
+                    diffResult.dispatchUpdatesTo(new OffsetListUpdateCallback(getHeaderCount()));
+                }, throwable -> Timber.e(throwable, "Failed to diff %d items", newItems.size()));
+    }
+
+    // Positions of replaceRange and releaseRange count items only, not the header
+    public void replaceRange(int positionStart, int itemCount, List<T> newItems) {
+        itemsVersion++;
+        int headerCount = getHeaderCount();
+        int changedCount = Math.min(itemCount, newItems.size());
+        for (int i = 0; i < changedCount; i++) {
+            T oldItem = items.set(positionStart + i, newItems.get(i));
+            if (oldItem == null || getStableId(oldItem) != getStableId(newItems.get(i)) || !areContentsTheSame(oldItem, newItems.get(i)))
+                notifyItemChanged(headerCount + positionStart + i);
+        }
+
+        if (newItems.size() > itemCount) {
+            items.addAll(positionStart + itemCount, newItems.subList(itemCount, newItems.size()));
+            notifyItemRangeInserted(headerCount + positionStart + itemCount, newItems.size() - itemCount);
+        } else if (itemCount > newItems.size()) {
+            items.subList(positionStart + newItems.size(), positionStart + itemCount).clear();
+            notifyItemRangeRemoved(headerCount + positionStart + newItems.size(), itemCount - newItems.size());
+        }
+    }
+
+    // Lets go of the items but keeps their rows, which bind as placeholders until replaced
+    public void releaseRange(int positionStart, int itemCount) {
+        itemsVersion++;
+        for (int i = positionStart; i < positionStart + itemCount; i++) {
+            items.set(i, null);
         }
+        notifyItemRangeChanged(getHeaderCount() + positionStart, itemCount);
     }
 
     public void remove(T item) {
         int position = items.indexOf(item);
         if (position > -1) {
+            itemsVersion++;
             items.remove(position);
-            notifyItemRemoved(position);
+            notifyItemRemoved(getHeaderCount() + position);
         }
     }
 
     public void clear() {
+        if (diffSubscription != null)
+            diffSubscription.unsubscribe();
+
+        itemsVersion++;
+        int itemCount = getItemCount();
+        isHeaderAdded = false;
         isFooterAdded = false;
-        while (getItemCount() > 0) {
-            remove(getItem(0));
-        }
+        items.clear();
+        notifyItemRangeRemoved(0, itemCount);
     }
 
     public boolean isEmpty() {
-        return getItemCount() == 0;
-    }
-
-    public boolean isLastPosition(int position) {
-        return (position == items.size()-1);
+        return items.isEmpty();
     }
 
     public void removeFooter() {
-        isFooterAdded = false;
-
-        int position = items.size() - 1;
-        T item = getItem(position);
+        if (!isFooterAdded)
+            return;
 
-        if (item != null) {
-            items.remove(position);
-            notifyItemRemoved(position);
-        }
+        isFooterAdded = false;
+        notifyItemRemoved(getItemCount());
     }
 
     public void updateFooter(FooterType footerType){
@@ -170,15 +298,113 @@ public abstract class BaseAdapter<T> extends RecyclerView.Adapter<RecyclerView.V
         }
     }
 
+    // Takes a view inflated ahead of time when the adapter has one ready
+    protected View inflateItemView(ViewGroup parent, @LayoutRes int layoutResId) {
+        if (itemViewPrewarmer != null)
+            return itemViewPrewarmer.obtainView(parent, layoutResId);
+        return LayoutInflater.from(parent.getContext()).inflate(layoutResId, parent, false);
+    }
+
+    // A pooled holder may have been created by another adapter, the click goes to the one showing it
+    protected static void dispatchItemClick(RecyclerView.ViewHolder holder) {
+        int adapterPos = holder.getAdapterPosition();
+        if (adapterPos == RecyclerView.NO_POSITION || !(holder.itemView.getParent() instanceof RecyclerView))
+            return;
+
+        RecyclerView.Adapter adapter = ((RecyclerView) holder.itemView.getParent()).getAdapter();
+        if (adapter instanceof BaseAdapter) {
+            OnItemClickListener onItemClickListener = ((BaseAdapter) adapter).onItemClickListener;
+            if (onItemClickListener != null)
+                onItemClickListener.onItemClick(adapterPos, holder.itemView);
+        }
+    }
+
     public void setOnItemClickListener(OnItemClickListener onItemClickListener) {
         this.onItemClickListener = onItemClickListener;
     }
 
+    public void setItemViewPrewarmer(ItemViewPrewarmer itemViewPrewarmer) {
+        this.itemViewPrewarmer = itemViewPrewarmer;
+    }
+
     public void setOnReloadClickListener(OnReloadClickListener onReloadClickListener) {
         this.onReloadClickListener = onReloadClickListener;
     }
     // endregion
 
+    // region Inner Classes
+    private class ItemDiffCallback extends DiffUtil.Callback {
+
+        // region Member Variables
+        private final List<T> oldItems;
+        private final List<T> newItems;
+        // endregion
+
+        // region Constructors
+        public ItemDiffCallback(List<T> oldItems, List<T> newItems) {
+            this.oldItems = oldItems;
+            this.newItems = newItems;
+        }
+        // endregion
+
+        @Override
+        public int getOldListSize() {
+            return oldItems.size();
+        }
+
+        @Override
+        public int getNewListSize() {
+            return newItems.size();
+        }
+
+        @Override
+        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+            T oldItem = oldItems.get(oldItemPosition);
+            T newItem = newItems.get(newItemPosition);
+            return oldItem != null && newItem != null && getStableId(oldItem) == getStableId(newItem);
+        }
+
+        @Override
+        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+            return BaseAdapter.this.areContentsTheSame(oldItems.get(oldItemPosition), newItems.get(newItemPosition));
+        }
+    }
+
+    // DiffUtil counts items only, the header shifts every row it reports by one
+    private class OffsetListUpdateCallback implements ListUpdateCallback {
+
+        // region Member Variables
+        private final int offset;
+        // endregion
+
+        // region Constructors
+        public OffsetListUpdateCallback(int offset) {
+            this.offset = offset;
+        }
+        // endregion
+
+        @Override
+        public void onInserted(int position, int count) {
+            notifyItemRangeInserted(offset + position, count);
+        }
+
+        @Override
+        public void onRemoved(int position, int count) {
+            notifyItemRangeRemoved(offset + position, count);
+        }
+
+        @Override
+        public void onMoved(int fromPosition, int toPosition) {
+            notifyItemMoved(offset + fromPosition, offset + toPosition);
+        }
+
+        @Override
+        public void onChanged(int position, int count, Object payload) {
+            notifyItemRangeChanged(offset + position, count, payload);
+        }
+    }
+    // endregion
+
     // region Enums
     public enum FooterType {
         LOAD_MORE,
@@ -0,0 +1,100 @@
+package com.etiennelawlor.moviehub.presentation.common;
+
+import android.content.Context;
+import android.os.Looper;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.view.ContextThemeWrapper;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import com.etiennelawlor.moviehub.R;
+import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * One {@link RecyclerView.RecycledViewPool} for the cast, crew and similar titles carousels of
+ * every details screen, keyed by card layout.
+ *
+ * A carousel that goes away leaves its holders here, so the next carousel showing the same card,
+ * on the same screen or the next one, binds them instead of inflating its own. Cards are inflated
+ * against the application context, a pooled holder never keeps a finished activity alive.
+ */
+
+public final class CarouselViewPool {
+
+    // region Constants
+    // Three cards and the peek of a fourth fill the width of a carousel
+    public static final int INITIAL_PREFETCH_ITEM_COUNT = 4;
+    // Cast and crew of one screen on display, with a few to spare for scrolling
+    private static final int MAX_RECYCLED_VIEWS = 12;
+    // endregion
+
+    // region Static Variables
+    private static final CarouselViewPool instance = new CarouselViewPool();
+    // endregion
+
+    // region Member Variables
+    private final RecyclerView.RecycledViewPool viewPool = new RecyclerView.RecycledViewPool();
+    private final Set<Integer> viewTypes = new HashSet<>();
+    private Context themedContext;
+    // endregion
+
+    // region Constructors
+    private CarouselViewPool() {
+    }
+    // endregion
+
+    public static CarouselViewPool getInstance() {
+        return instance;
+    }
+
+    // Carousel adapters inflate their cards from this, whichever screen they are on
+    public LayoutInflater getLayoutInflater(Context context) {
+        return LayoutInflater.from(getThemedContext(context));
+    }
+
+    // Call before setting the adapter, the pool drops its holders when it is attached to none
+    public void setUp(RecyclerView recyclerView, BaseAdapter<?> adapter) {
+        LinearLayoutManager layoutManager = (LinearLayoutManager) recyclerView.getLayoutManager();
+        // Read when the carousel is itself prefetched by a scrolling RecyclerView
+        layoutManager.setInitialPrefetchItemCount(INITIAL_PREFETCH_ITEM_COUNT);
+        // Hands the cards back to the pool when the screen goes away, instead of dropping them
+        layoutManager.setRecycleChildrenOnDetach(true);
+
+        recyclerView.setRecycledViewPool(getRecycledViewPool(adapter.getItemType()));
+    }
+
+    // Fills the pool up to count holders, one per idle pass of the main thread, e.g. while the
+    // details request is in flight. Does nothing once an earlier screen left enough behind
+    public void prewarm(Context context, BaseAdapter<?> adapter, int count) {
+        int viewType = adapter.getItemType();
+        RecyclerView.RecycledViewPool recycledViewPool = getRecycledViewPool(viewType);
+        ViewGroup parent = new FrameLayout(getThemedContext(context));
+
+        Looper.myQueue().addIdleHandler(() -> {
+            if (recycledViewPool.getRecycledViewCount(viewType) >= count)
+                return false;
+
+            recycledViewPool.putRecycledView(adapter.createViewHolder(parent, viewType));
+            return recycledViewPool.getRecycledViewCount(viewType) < count;
+        });
+    }
+
+    // region Helper Methods
+    private RecyclerView.RecycledViewPool getRecycledViewPool(int viewType) {
+        if (viewTypes.add(viewType))
+            viewPool.setMaxRecycledViews(viewType, MAX_RECYCLED_VIEWS);
+        return viewPool;
+    }
+
+    private Context getThemedContext(Context context) {
+        if (themedContext == null)
+            themedContext = new ContextThemeWrapper(context.getApplicationContext(), R.style.Theme_MovieHub);
+        return themedContext;
+    }
+    // endregion
+}
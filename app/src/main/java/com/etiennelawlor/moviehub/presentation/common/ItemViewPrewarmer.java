@@ -0,0 +1,81 @@
+package com.etiennelawlor.moviehub.presentation.common;
+
+import android.content.Context;
+import android.support.annotation.LayoutRes;
+import android.support.v4.view.AsyncLayoutInflater;
+import android.util.SparseArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.etiennelawlor.moviehub.util.DisplayUtility;
+
+import java.util.ArrayDeque;
+
+/**
+ * Inflates item views on a background thread while the first page of a list is loading, for its
+ * adapter to take instead of inflating them on the main thread.
+ *
+ * The first page binds a screenful of cards in a single frame. With the cards inflated ahead,
+ * only creating the holders is left for that frame. Views are inflated against the list itself,
+ * so they get its context and layout params, and are dropped with the screen.
+ */
+
+public class ItemViewPrewarmer {
+
+    // region Member Variables
+    private final AsyncLayoutInflater asyncLayoutInflater;
+    private final SparseArray<ArrayDeque<View>> readyViews = new SparseArray<>();
+    private boolean isCleared = false;
+    // endregion
+
+    // region Constructors
+    public ItemViewPrewarmer(Context context) {
+        asyncLayoutInflater = new AsyncLayoutInflater(context);
+    }
+    // endregion
+
+    // Cards of a grid that fill the screen, counting the partly visible last row
+    public static int getScreenfulItemCount(Context context, int spanCount, double heightRatio) {
+        int cardHeight = (int) (DisplayUtility.getScreenWidth(context) / spanCount * heightRatio);
+        return spanCount * (DisplayUtility.getScreenHeight(context) / cardHeight + 1);
+    }
+
+    // The parent needs its layout manager set, it builds the layout params of the views
+    public void prewarm(ViewGroup parent, @LayoutRes int layoutResId, int count) {
+        for (int i = 0; i < count; i++) {
+            asyncLayoutInflater.inflate(layoutResId, parent, (view, resid, p) -> {
+                if (!isCleared)
+                    getReadyViews(resid).add(view);
+            });
+        }
+    }
+
+    // A prewarmed view when one is ready, otherwise one inflated right away
+    public View obtainView(ViewGroup parent, @LayoutRes int layoutResId) {
+        View view = getReadyViews(layoutResId).poll();
+        if (view == null)
+            view = LayoutInflater.from(parent.getContext()).inflate(layoutResId, parent, false);
+        return view;
+    }
+
+    public int getReadyViewCount(@LayoutRes int layoutResId) {
+        return getReadyViews(layoutResId).size();
+    }
+
+    public void clear() {
+        isCleared = true;
+        readyViews.clear();
+    }
+
+    // region Helper Methods
+    private ArrayDeque<View> getReadyViews(int layoutResId) {
+        ArrayDeque<View> views = readyViews.get(layoutResId);
+        if (views == null) {
+            views = new ArrayDeque<>();
+            readyViews.put(layoutResId, views);
+        }
+        return views;
+    }
+    // endregion
+}
@@ -0,0 +1,155 @@
+package com.etiennelawlor.moviehub.presentation.common;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import rx.functions.Func1;
+
+/**
+ * Keeps track of the pages of a paged feed that are in its adapter, and of where each one starts.
+ *
+ * Only the pages within {@code windowPageCount} pages of the visible ones hold their items. Pages
+ * further away are released, their rows stay in place as placeholders, and they are loaded again
+ * once they come back into range. An item a page repeats from another page is dropped, since
+ * popularity shifts between page requests and TMDB then serves it twice.
+ */
+
+public class PageWindow<T> {
+
+    // region Constants
+    public static final int DEFAULT_WINDOW_PAGE_COUNT = 2;
+    // endregion
+
+    // region Member Variables
+    private final Func1<T, Integer> idFunction;
+    private final int windowPageCount;
+    // Ids shown by each page, released pages keep theirs so their rows keep their place
+    private final TreeMap<Integer, List<Integer>> pageIds = new TreeMap<>();
+    private final Set<Integer> releasedPageNumbers = new HashSet<>();
+    private int firstWindowPageNumber;
+    private int lastWindowPageNumber;
+    // endregion
+
+    // region Constructors
+    public PageWindow(Func1<T, Integer> idFunction) {
+        this(idFunction, DEFAULT_WINDOW_PAGE_COUNT);
+    }
+
+    public PageWindow(Func1<T, Integer> idFunction, int windowPageCount) {
+        this.idFunction = idFunction;
+        this.windowPageCount = windowPageCount;
+    }
+    // endregion
+
+    // Records the page and returns its items without the ones another page already shows
+    public List<T> putPage(int pageNumber, List<T> items) {
+        Set<Integer> otherIds = new HashSet<>();
+        for (Map.Entry<Integer, List<Integer>> entry : pageIds.entrySet()) {
+            if (entry.getKey() != pageNumber)
+                otherIds.addAll(entry.getValue());
+        }
+
+        List<T> uniqueItems = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        if (items != null) {
+            for (T item : items) {
+                Integer id = idFunction.call(item);
+                if (!otherIds.contains(id)) {
+                    uniqueItems.add(item);
+                    ids.add(id);
+                }
+            }
+        }
+
+        pageIds.put(pageNumber, ids);
+        releasedPageNumbers.remove(pageNumber);
+        return uniqueItems;
+    }
+
+    public boolean containsPage(int pageNumber) {
+        return pageIds.containsKey(pageNumber);
+    }
+
+    public boolean isReleased(int pageNumber) {
+        return releasedPageNumbers.contains(pageNumber);
+    }
+
+    public boolean isInsideWindow(int pageNumber) {
+        return pageNumber >= firstWindowPageNumber && pageNumber <= lastWindowPageNumber;
+    }
+
+    public int getPageSize(int pageNumber) {
+        List<Integer> ids = pageIds.get(pageNumber);
+        return ids == null ? 0 : ids.size();
+    }
+
+    // Position of the first item of the page among all the items of the feed
+    public int getOffset(int pageNumber) {
+        int offset = 0;
+        for (Map.Entry<Integer, List<Integer>> entry : pageIds.headMap(pageNumber).entrySet()) {
+            offset += entry.getValue().size();
+        }
+        return offset;
+    }
+
+    public int getLastPageNumber() {
+        return pageIds.isEmpty() ? 0 : pageIds.lastKey();
+    }
+
+    // Moves the window around the visible items, returns false while it stays on the same pages
+    public boolean setVisibleRange(int firstVisiblePosition, int lastVisiblePosition) {
+        if (pageIds.isEmpty())
+            return false;
+
+        int firstPageNumber = Math.max(pageIds.firstKey(), getPageNumber(firstVisiblePosition) - windowPageCount);
+        int lastPageNumber = Math.min(pageIds.lastKey(), getPageNumber(lastVisiblePosition) + windowPageCount);
+        if (firstPageNumber == firstWindowPageNumber && lastPageNumber == lastWindowPageNumber)
+            return false;
+
+        firstWindowPageNumber = firstPageNumber;
+        lastWindowPageNumber = lastPageNumber;
+        return true;
+    }
+
+    // Loaded pages outside the window, marked released as they are returned
+    public List<Integer> releasePagesOutsideWindow() {
+        List<Integer> pageNumbers = new ArrayList<>();
+        for (Integer pageNumber : pageIds.keySet()) {
+            if (!isInsideWindow(pageNumber) && releasedPageNumbers.add(pageNumber))
+                pageNumbers.add(pageNumber);
+        }
+        return pageNumbers;
+    }
+
+    public List<Integer> getReleasedPagesInsideWindow() {
+        List<Integer> pageNumbers = new ArrayList<>();
+        for (Integer pageNumber : releasedPageNumbers) {
+            if (isInsideWindow(pageNumber))
+                pageNumbers.add(pageNumber);
+        }
+        return pageNumbers;
+    }
+
+    public void clear() {
+        pageIds.clear();
+        releasedPageNumbers.clear();
+        firstWindowPageNumber = 0;
+        lastWindowPageNumber = 0;
+    }
+
+    // region Helper Methods
+    private int getPageNumber(int position) {
+        int offset = 0;
+        for (Map.Entry<Integer, List<Integer>> entry : pageIds.entrySet()) {
+            offset += entry.getValue().size();
+            if (position < offset)
+                return entry.getKey();
+        }
+        return pageIds.lastKey();
+    }
+    // endregion
+}
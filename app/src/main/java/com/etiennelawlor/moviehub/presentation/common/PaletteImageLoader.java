@@ -0,0 +1,59 @@
+package com.etiennelawlor.moviehub.presentation.common;
+
+import android.support.v7.graphics.Palette;
+import android.text.TextUtils;
+import android.widget.ImageView;
+
+import com.etiennelawlor.moviehub.util.PaletteCache;
+import com.etiennelawlor.moviehub.util.PaletteTransformation;
+import com.squareup.picasso.Callback;
+import com.squareup.picasso.Picasso;
+
+import rx.Subscription;
+import rx.functions.Action1;
+import rx.subscriptions.Subscriptions;
+
+/**
+ * Loads a card's image together with its palette, one per view holder.
+ *
+ * The palette is worked out by {@link PaletteTransformation} on Picasso's decode thread, and read
+ * back from {@link PaletteCache} once the image is shown. Rebinding the holder cancels both the
+ * image and a palette still on its way from Realm, so a recycled card never gets the colors of
+ * the item it showed before.
+ */
+
+public class PaletteImageLoader {
+
+    // region Member Variables
+    private Subscription paletteSubscription = Subscriptions.unsubscribed();
+    // endregion
+
+    public void load(final ImageView imageView, final String imageUrl, int width, int height, final Action1<Palette> onPaletteLoaded) {
+        cancel(imageView);
+
+        if (TextUtils.isEmpty(imageUrl))
+            return;
+
+        Picasso.with(imageView.getContext())
+                .load(imageUrl)
+                .resize(width, height)
+                .centerCrop()
+                .transform(new PaletteTransformation(imageUrl))
+                .into(imageView, new Callback() {
+                    @Override
+                    public void onSuccess() {
+                        paletteSubscription = PaletteCache.getInstance().getPalette(imageUrl, onPaletteLoaded);
+                    }
+
+                    @Override
+                    public void onError() {
+
+                    }
+                });
+    }
+
+    public void cancel(ImageView imageView) {
+        Picasso.with(imageView.getContext()).cancelRequest(imageView);
+        paletteSubscription.unsubscribe();
+    }
+}
@@ -0,0 +1,129 @@
+package com.etiennelawlor.moviehub.presentation.common;
+
+import android.support.v7.widget.GridLayoutManager;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.support.v7.widget.StaggeredGridLayoutManager;
+import android.view.View;
+
+/**
+ * Requests the next page while there are still {@code prefetchDistance} items left to scroll
+ * through, so the page is usually in the adapter before the loading footer becomes visible.
+ *
+ * The distance grows with the scroll velocity so fast flings start loading earlier. The check
+ * runs on every scroll event and does not allocate.
+ *
+ * A fetched page goes straight into the adapter below the visible items, which is where it is
+ * held until it scrolls into view. Pages are not fetched further ahead into a separate buffer:
+ * that would spend a request, and a turn of the rate limiter, on every page even when the user
+ * stops scrolling, and the paged lists release pages outside their window anyway.
+ */
+
+public abstract class PrefetchScrollListener extends RecyclerView.OnScrollListener {
+
+    // region Constants
+    public static final int DEFAULT_PREFETCH_DISTANCE = 8;
+    // Roughly how many frames a page request takes to come back (~500ms at 60fps)
+    private static final int FRAMES_PER_PAGE_REQUEST = 30;
+    private static final int MAX_PREFETCH_DISTANCE_MULTIPLIER = 4;
+    // endregion
+
+    // region Member Variables
+    private final int prefetchDistance;
+    private int[] lastVisibleItemPositions;
+    // endregion
+
+    // region Constructors
+    public PrefetchScrollListener() {
+        this(DEFAULT_PREFETCH_DISTANCE);
+    }
+
+    public PrefetchScrollListener(int prefetchDistance) {
+        this.prefetchDistance = prefetchDistance;
+    }
+    // endregion
+
+    // region RecyclerView.OnScrollListener Methods
+    @Override
+    public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+        super.onScrolled(recyclerView, dx, dy);
+
+        RecyclerView.LayoutManager layoutManager = recyclerView.getLayoutManager();
+        if (layoutManager == null)
+            return;
+
+        int scrollDelta = layoutManager.canScrollVertically() ? dy : dx;
+        // Only look ahead when moving towards the end of the list
+        if (scrollDelta <= 0 || isLoading() || isLastPage())
+            return;
+
+        int totalItemCount = layoutManager.getItemCount();
+        int lastVisibleItemPosition = findLastVisibleItemPosition(layoutManager);
+        if (totalItemCount == 0 || lastVisibleItemPosition == RecyclerView.NO_POSITION)
+            return;
+
+        int remainingItemCount = totalItemCount - 1 - lastVisibleItemPosition;
+        if (remainingItemCount <= getPrefetchDistance(recyclerView, layoutManager, scrollDelta)) {
+            onPrefetch();
+        }
+    }
+    // endregion
+
+    // region Abstract Methods
+    public abstract boolean isLoading();
+
+    public abstract boolean isLastPage();
+
+    public abstract void onPrefetch();
+    // endregion
+
+    // region Helper Methods
+    private int getPrefetchDistance(RecyclerView recyclerView, RecyclerView.LayoutManager layoutManager, int scrollDelta) {
+        View firstChild = recyclerView.getChildAt(0);
+        if (firstChild == null)
+            return prefetchDistance;
+
+        int itemSize = layoutManager.canScrollVertically() ? firstChild.getHeight() : firstChild.getWidth();
+        return getPrefetchDistance(prefetchDistance, scrollDelta, itemSize, getSpanCount(layoutManager));
+    }
+
+    // Items that will scroll past while the next page is in flight at the current velocity, no
+    // fewer than prefetchDistance and no more than MAX_PREFETCH_DISTANCE_MULTIPLIER times it
+    public static int getPrefetchDistance(int prefetchDistance, int scrollDelta, int itemSize, int spanCount) {
+        if (itemSize <= 0)
+            return prefetchDistance;
+
+        int velocityDistance = (scrollDelta * FRAMES_PER_PAGE_REQUEST * spanCount) / itemSize;
+        return Math.min(Math.max(prefetchDistance, velocityDistance), prefetchDistance * MAX_PREFETCH_DISTANCE_MULTIPLIER);
+    }
+
+    private int findLastVisibleItemPosition(RecyclerView.LayoutManager layoutManager) {
+        if (layoutManager instanceof StaggeredGridLayoutManager) {
+            StaggeredGridLayoutManager staggeredGridLayoutManager = (StaggeredGridLayoutManager) layoutManager;
+            int spanCount = staggeredGridLayoutManager.getSpanCount();
+            if (lastVisibleItemPositions == null || lastVisibleItemPositions.length != spanCount) {
+                lastVisibleItemPositions = new int[spanCount];
+            }
+            staggeredGridLayoutManager.findLastVisibleItemPositions(lastVisibleItemPositions);
+
+            int lastVisibleItemPosition = RecyclerView.NO_POSITION;
+            for (int position : lastVisibleItemPositions) {
+                lastVisibleItemPosition = Math.max(lastVisibleItemPosition, position);
+            }
+            return lastVisibleItemPosition;
+        } else if (layoutManager instanceof LinearLayoutManager) {
+            return ((LinearLayoutManager) layoutManager).findLastVisibleItemPosition();
+        }
+        return RecyclerView.NO_POSITION;
+    }
+
+    private static int getSpanCount(RecyclerView.LayoutManager layoutManager) {
+        if (layoutManager instanceof StaggeredGridLayoutManager) {
+            return ((StaggeredGridLayoutManager) layoutManager).getSpanCount();
+        } else if (layoutManager instanceof GridLayoutManager) {
+            return ((GridLayoutManager) layoutManager).getSpanCount();
+        }
+        return 1;
+    }
+    // endregion
+}
@@ -0,0 +1,57 @@
+package com.etiennelawlor.moviehub.presentation.common;
+
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.support.v7.widget.StaggeredGridLayoutManager;
+
+/**
+ * Reports the adapter positions on screen every time the list scrolls.
+ */
+
+public abstract class VisibleRangeScrollListener extends RecyclerView.OnScrollListener {
+
+    // region Member Variables
+    private int[] visibleItemPositions;
+    // endregion
+
+    // region RecyclerView.OnScrollListener Methods
+    @Override
+    public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+        super.onScrolled(recyclerView, dx, dy);
+
+        RecyclerView.LayoutManager layoutManager = recyclerView.getLayoutManager();
+        int firstVisiblePosition = RecyclerView.NO_POSITION;
+        int lastVisiblePosition = RecyclerView.NO_POSITION;
+
+        if (layoutManager instanceof StaggeredGridLayoutManager) {
+            StaggeredGridLayoutManager staggeredGridLayoutManager = (StaggeredGridLayoutManager) layoutManager;
+            int spanCount = staggeredGridLayoutManager.getSpanCount();
+            if (visibleItemPositions == null || visibleItemPositions.length != spanCount) {
+                visibleItemPositions = new int[spanCount];
+            }
+
+            staggeredGridLayoutManager.findFirstVisibleItemPositions(visibleItemPositions);
+            firstVisiblePosition = Integer.MAX_VALUE;
+            for (int position : visibleItemPositions) {
+                if (position != RecyclerView.NO_POSITION)
+                    firstVisiblePosition = Math.min(firstVisiblePosition, position);
+            }
+
+            staggeredGridLayoutManager.findLastVisibleItemPositions(visibleItemPositions);
+            for (int position : visibleItemPositions) {
+                lastVisiblePosition = Math.max(lastVisiblePosition, position);
+            }
+        } else if (layoutManager instanceof LinearLayoutManager) {
+            firstVisiblePosition = ((LinearLayoutManager) layoutManager).findFirstVisibleItemPosition();
+            lastVisiblePosition = ((LinearLayoutManager) layoutManager).findLastVisibleItemPosition();
+        }
+
+        if (lastVisiblePosition != RecyclerView.NO_POSITION && firstVisiblePosition <= lastVisiblePosition)
+            onVisibleRangeChanged(firstVisiblePosition, lastVisiblePosition);
+    }
+    // endregion
+
+    // region Abstract Methods
+    public abstract void onVisibleRangeChanged(int firstVisiblePosition, int lastVisiblePosition);
+    // endregion
+}
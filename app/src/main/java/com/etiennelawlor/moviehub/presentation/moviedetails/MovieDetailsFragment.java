@@ -57,6 +57,7 @@ import com.etiennelawlor.moviehub.data.repositories.movie.models.MovieDetailsWra
 import com.etiennelawlor.moviehub.domain.MovieDetailsUseCase;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
 import com.etiennelawlor.moviehub.presentation.base.BaseFragment;
+import com.etiennelawlor.moviehub.presentation.common.CarouselViewPool;
 import com.etiennelawlor.moviehub.presentation.common.GravitySnapHelper;
 import com.etiennelawlor.moviehub.presentation.persondetails.PersonDetailsActivity;
 import com.etiennelawlor.moviehub.util.AnimationUtility;
@@ -64,6 +65,8 @@ import com.etiennelawlor.moviehub.util.ColorUtility;
 import com.etiennelawlor.moviehub.util.DateUtility;
 import com.etiennelawlor.moviehub.util.DisplayUtility;
 import com.etiennelawlor.moviehub.util.FontCache;
+import com.etiennelawlor.moviehub.util.PaletteCache;
+import com.etiennelawlor.moviehub.util.PaletteTransformation;
 import com.etiennelawlor.moviehub.util.TrestleUtility;
 import com.etiennelawlor.moviehub.util.ViewUtility;
 import com.etiennelawlor.moviehub.util.rxjava.ProductionSchedulerTransformer;
@@ -198,8 +201,10 @@ public class MovieDetailsFragment extends BaseFragment implements MovieDetailsUi
 
         @Override
         public void onTransitionEnd(Transition transition) {
-            if(movie != null)
+            if(movie != null){
                 movieDetailsPresenter.onLoadMovieDetails(movie.getId());
+                prewarmCarousels();
+            }
         }
 
         @Override
@@ -296,7 +301,7 @@ public class MovieDetailsFragment extends BaseFragment implements MovieDetailsUi
         @Override
         public void onSuccess() {
             final Bitmap bitmap = ((BitmapDrawable) backdropImageView.getDrawable()).getBitmap();
-            Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
+            PaletteCache.getInstance().getPalette(getBackdropUrl(movie), bitmap, new Palette.PaletteAsyncListener() {
                 public void onGenerated(Palette palette) {
                     boolean isDark;
                     @ColorUtility.Lightness int lightness = ColorUtility.isDark(palette);
@@ -382,7 +387,7 @@ public class MovieDetailsFragment extends BaseFragment implements MovieDetailsUi
         @Override
         public void onSuccess() {
             final Bitmap bitmap = ((BitmapDrawable) moviePosterImageView.getDrawable()).getBitmap();
-            Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
+            PaletteCache.getInstance().getPalette(getPosterUrl(movie), bitmap, new Palette.PaletteAsyncListener() {
                 public void onGenerated(Palette palette) {
                     setUpMovieHeaderBackgroundColor(palette);
                     setUpTitleTextColor(titleTextView, palette);
@@ -610,6 +615,7 @@ public class MovieDetailsFragment extends BaseFragment implements MovieDetailsUi
                     .load(backdropUrl)
                     .resize((int)(1.5D*height), height)
                     .centerCrop()
+                    .transform(new PaletteTransformation(backdropUrl))
                     .into(backdropImageView, backdropCallback);
         }
     }
@@ -621,6 +627,7 @@ public class MovieDetailsFragment extends BaseFragment implements MovieDetailsUi
                     .load(posterUrl)
                     .resize(DisplayUtility.dp2px(moviePosterImageView.getContext(), 104), DisplayUtility.dp2px(moviePosterImageView.getContext(), 156))
                     .centerCrop()
+                    .transform(new PaletteTransformation(posterUrl))
                     .into(moviePosterImageView, posterCallback);
         }
     }
@@ -650,6 +657,13 @@ public class MovieDetailsFragment extends BaseFragment implements MovieDetailsUi
         movieDetailsBodyLinearLayout.startAnimation(animation);
     }
 
+    // The cards are inflated while the details load, unless an earlier screen left enough in the pool
+    private void prewarmCarousels(){
+        CarouselViewPool carouselViewPool = CarouselViewPool.getInstance();
+        carouselViewPool.prewarm(getContext(), new MovieCreditsAdapter(getContext()), 2 * CarouselViewPool.INITIAL_PREFETCH_ITEM_COUNT);
+        carouselViewPool.prewarm(getContext(), new SimilarMoviesAdapter(getContext()), CarouselViewPool.INITIAL_PREFETCH_ITEM_COUNT);
+    }
+
     private void setUpCast(){
         List<MovieCredit> cast = movieDetailsWrapper.getCast();
         if(cast != null && cast.size()>0){
@@ -661,6 +675,7 @@ public class MovieDetailsFragment extends BaseFragment implements MovieDetailsUi
             castRecyclerView.setLayoutManager(layoutManager);
             castAdapter = new MovieCreditsAdapter(getContext());
             castAdapter.setOnItemClickListener(castAdapterOnItemClickListener);
+            CarouselViewPool.getInstance().setUp(castRecyclerView, castAdapter);
             castRecyclerView.setAdapter(castAdapter);
             SnapHelper snapHelper = new GravitySnapHelper(Gravity.START);
             snapHelper.attachToRecyclerView(castRecyclerView);
@@ -680,6 +695,7 @@ public class MovieDetailsFragment extends BaseFragment implements MovieDetailsUi
             crewRecyclerView.setLayoutManager(layoutManager);
             crewAdapter = new MovieCreditsAdapter(getContext());
             crewAdapter.setOnItemClickListener(crewAdapterOnItemClickListener);
+            CarouselViewPool.getInstance().setUp(crewRecyclerView, crewAdapter);
             crewRecyclerView.setAdapter(crewAdapter);
             SnapHelper snapHelper = new GravitySnapHelper(Gravity.START);
             snapHelper.attachToRecyclerView(crewRecyclerView);
@@ -699,6 +715,7 @@ public class MovieDetailsFragment extends BaseFragment implements MovieDetailsUi
             similarMoviesRecyclerView.setLayoutManager(layoutManager);
             similarMoviesAdapter = new SimilarMoviesAdapter(getContext());
             similarMoviesAdapter.setOnItemClickListener(similarMoviesAdapterOnItemClickListener);
+            CarouselViewPool.getInstance().setUp(similarMoviesRecyclerView, similarMoviesAdapter);
             similarMoviesRecyclerView.setAdapter(similarMoviesAdapter);
             SnapHelper snapHelper = new GravitySnapHelper(Gravity.START);
             snapHelper.attachToRecyclerView(similarMoviesRecyclerView);
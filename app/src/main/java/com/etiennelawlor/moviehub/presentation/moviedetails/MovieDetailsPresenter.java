@@ -17,6 +17,8 @@ public class MovieDetailsPresenter implements MovieDetailsUiContract.Presenter {
     // region Member Variables
     private final MovieDetailsUiContract.View movieDetailsView;
     private final MovieDetailsDomainContract.UseCase movieDetailsUseCase;
+    // The detail views are inflated once, a refreshed copy is kept for the next visit instead
+    private boolean isMovieDetailsShown;
     // endregion
 
     // region Constructors
@@ -30,6 +32,7 @@ public class MovieDetailsPresenter implements MovieDetailsUiContract.Presenter {
     @Override
     public void onDestroyView() {
         movieDetailsUseCase.clearSubscriptions();
+        isMovieDetailsShown = false;
     }
 
     @Override
@@ -53,7 +56,8 @@ public class MovieDetailsPresenter implements MovieDetailsUiContract.Presenter {
 
             @Override
             public void onNext(MovieDetailsWrapper movieDetailsWrapper) {
-                if(movieDetailsWrapper != null){
+                if(movieDetailsWrapper != null && !isMovieDetailsShown){
+                    isMovieDetailsShown = true;
                     movieDetailsView.showMovieDetails(movieDetailsWrapper);
                 }
             }
@@ -1,8 +1,6 @@
 package com.etiennelawlor.moviehub.presentation.moviedetails;
 
 import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.drawable.BitmapDrawable;
 import android.support.v4.content.ContextCompat;
 import android.support.v7.graphics.Palette;
 import android.support.v7.widget.RecyclerView;
@@ -20,12 +18,12 @@ import android.widget.TextView;
 import com.etiennelawlor.moviehub.R;
 import com.etiennelawlor.moviehub.data.network.response.Movie;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
+import com.etiennelawlor.moviehub.presentation.common.CarouselViewPool;
+import com.etiennelawlor.moviehub.presentation.common.PaletteImageLoader;
 import com.etiennelawlor.moviehub.presentation.common.widget.DynamicHeightImageView;
 import com.etiennelawlor.moviehub.util.AnimationUtility;
 import com.etiennelawlor.moviehub.util.ColorUtility;
 import com.etiennelawlor.moviehub.util.DisplayUtility;
-import com.squareup.picasso.Callback;
-import com.squareup.picasso.Picasso;
 
 import butterknife.BindView;
 import butterknife.ButterKnife;
@@ -57,11 +55,6 @@ public class SimilarMoviesAdapter extends BaseAdapter<Movie> {
 
     // endregion
 
-    @Override
-    public int getItemViewType(int position) {
-        return (isLastPosition(position) && isFooterAdded) ? FOOTER : ITEM;
-    }
-
     @Override
     protected RecyclerView.ViewHolder createHeaderViewHolder(ViewGroup parent) {
         return null;
@@ -69,19 +62,14 @@ public class SimilarMoviesAdapter extends BaseAdapter<Movie> {
 
     @Override
     protected RecyclerView.ViewHolder createItemViewHolder(ViewGroup parent) {
-        View v = LayoutInflater.from(parent.getContext()).inflate(R.layout.similar_movie_card, parent, false);
+        View v = CarouselViewPool.getInstance().getLayoutInflater(parent.getContext()).inflate(R.layout.similar_movie_card, parent, false);
 
         final MovieViewHolder holder = new MovieViewHolder(v);
 
         holder.itemView.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                int adapterPos = holder.getAdapterPosition();
-                if (adapterPos != RecyclerView.NO_POSITION) {
-                    if (onItemClickListener != null) {
-                        onItemClickListener.onItemClick(adapterPos, holder.itemView);
-                    }
-                }
+                dispatchItemClick(holder);
             }
         });
 
@@ -129,6 +117,23 @@ public class SimilarMoviesAdapter extends BaseAdapter<Movie> {
         footerViewHolder = holder;
     }
 
+    @Override
+    public int getItemType() {
+        return R.layout.similar_movie_card;
+    }
+
+    @Override
+    protected long getStableId(Movie movie) {
+        return movie.getId();
+    }
+
+    @Override
+    protected boolean areContentsTheSame(Movie oldMovie, Movie newMovie) {
+        return TextUtils.equals(oldMovie.getTitle(), newMovie.getTitle())
+                && TextUtils.equals(oldMovie.getPosterPath(), newMovie.getPosterPath())
+                && TextUtils.equals(oldMovie.getReleaseDate(), newMovie.getReleaseDate());
+    }
+
     @Override
     protected void displayLoadMoreFooter() {
         if(footerViewHolder!= null){
@@ -145,17 +150,6 @@ public class SimilarMoviesAdapter extends BaseAdapter<Movie> {
         }
     }
 
-    @Override
-    public void addHeader() {
-
-    }
-
-    @Override
-    public void addFooter() {
-        isFooterAdded = true;
-        add(new Movie());
-    }
-
     // region Inner Classes
 
     public static class HeaderViewHolder extends RecyclerView.ViewHolder {
@@ -179,6 +173,10 @@ public class SimilarMoviesAdapter extends BaseAdapter<Movie> {
         TextView subtitleTextView;
         // endregion
 
+        // region Member Variables
+        private final PaletteImageLoader paletteImageLoader = new PaletteImageLoader();
+        // endregion
+
         // region Constructors
         public MovieViewHolder(View view) {
             super(view);
@@ -208,39 +206,13 @@ public class SimilarMoviesAdapter extends BaseAdapter<Movie> {
             iv.setHeightRatio(heightRatio);
 
             String posterUrl = movie.getPosterUrl();
-            if (!TextUtils.isEmpty(posterUrl)) {
-                Picasso.with(iv.getContext())
-                        .load(posterUrl)
-                        .resize(ivWidth, (int)(heightRatio*ivWidth))
-                        .centerCrop()
-                        .into(iv, new Callback() {
-                            @Override
-                            public void onSuccess() {
-                                if(movie.getPosterPalette() != null){
-                                    setUpInfoBackgroundColor(vh.infoLinearLayout, movie.getPosterPalette());
-                                    setUpTitleTextColor(vh.titleTextView, movie.getPosterPalette());
-                                    setUpSubtitleTextColor(vh.subtitleTextView, movie.getPosterPalette());
-                                } else {
-                                    Bitmap bitmap = ((BitmapDrawable) iv.getDrawable()).getBitmap();
-                                    Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
-                                        public void onGenerated(Palette palette) {
-                                            movie.setPosterPalette(palette);
-
-                                            setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
-                                            setUpTitleTextColor(vh.titleTextView, palette);
-                                            setUpSubtitleTextColor(vh.subtitleTextView, palette);
-                                        }
-                                    });
-                                }
-                            }
-
-                            @Override
-                            public void onError() {
-
-                            }
-                        });
+            vh.paletteImageLoader.load(iv, posterUrl, ivWidth, (int)(heightRatio*ivWidth), palette -> {
+                movie.setPosterPalette(palette);
 
-            }
+                setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
+                setUpTitleTextColor(vh.titleTextView, palette);
+                setUpSubtitleTextColor(vh.subtitleTextView, palette);
+            });
         }
 
         private void resetInfoBackgroundColor(LinearLayout ll) {
@@ -1,8 +1,6 @@
 package com.etiennelawlor.moviehub.presentation.movies;
 
 import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.drawable.BitmapDrawable;
 import android.support.v4.content.ContextCompat;
 import android.support.v7.graphics.Palette;
 import android.support.v7.widget.RecyclerView;
@@ -19,13 +17,13 @@ import android.widget.TextView;
 
 import com.etiennelawlor.moviehub.R;
 import com.etiennelawlor.moviehub.data.network.response.Movie;
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MovieItem;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
+import com.etiennelawlor.moviehub.presentation.common.PaletteImageLoader;
 import com.etiennelawlor.moviehub.presentation.common.widget.DynamicHeightImageView;
 import com.etiennelawlor.moviehub.util.AnimationUtility;
 import com.etiennelawlor.moviehub.util.ColorUtility;
 import com.etiennelawlor.moviehub.util.DisplayUtility;
-import com.squareup.picasso.Callback;
-import com.squareup.picasso.Picasso;
 
 import butterknife.BindView;
 import butterknife.ButterKnife;
@@ -56,14 +54,6 @@ public class MoviesAdapter extends BaseAdapter<Movie> {
 
     // endregion
 
-    @Override
-    public int getItemViewType(int position) {
-        if(position == 0)
-            return HEADER;
-        else
-            return (isLastPosition(position) && isFooterAdded) ? FOOTER : ITEM;
-    }
-
     @Override
     protected RecyclerView.ViewHolder createHeaderViewHolder(ViewGroup parent) {
         View v = LayoutInflater.from(parent.getContext()).inflate(R.layout.adapter_header, parent, false);
@@ -77,7 +67,7 @@ public class MoviesAdapter extends BaseAdapter<Movie> {
 
     @Override
     protected RecyclerView.ViewHolder createItemViewHolder(ViewGroup parent) {
-        View v = LayoutInflater.from(parent.getContext()).inflate(R.layout.movie_card, parent, false);
+        View v = inflateItemView(parent, R.layout.movie_card);
 
         final MovieViewHolder holder = new MovieViewHolder(v);
 
@@ -128,6 +118,8 @@ public class MoviesAdapter extends BaseAdapter<Movie> {
         final Movie movie = getItem(position);
         if (movie != null) {
             holder.bind(movie);
+        } else {
+            holder.bindPlaceholder();
         }
     }
 
@@ -137,6 +129,18 @@ public class MoviesAdapter extends BaseAdapter<Movie> {
         footerViewHolder = holder;
     }
 
+    @Override
+    protected long getStableId(Movie movie) {
+        return movie.getId();
+    }
+
+    @Override
+    protected boolean areContentsTheSame(Movie oldMovie, Movie newMovie) {
+        return TextUtils.equals(oldMovie.getTitle(), newMovie.getTitle())
+                && TextUtils.equals(oldMovie.getPosterPath(), newMovie.getPosterPath())
+                && TextUtils.equals(oldMovie.getReleaseDate(), newMovie.getReleaseDate());
+    }
+
     @Override
     protected void displayLoadMoreFooter() {
         if(footerViewHolder!= null){
@@ -153,17 +157,6 @@ public class MoviesAdapter extends BaseAdapter<Movie> {
         }
     }
 
-    @Override
-    public void addHeader() {
-        add(new Movie());
-    }
-
-    @Override
-    public void addFooter() {
-        isFooterAdded = true;
-        add(new Movie());
-    }
-
     // region Inner Classes
 
     public static class HeaderViewHolder extends RecyclerView.ViewHolder {
@@ -187,6 +180,10 @@ public class MoviesAdapter extends BaseAdapter<Movie> {
         TextView subtitleTextView;
         // endregion
 
+        // region Member Variables
+        private final PaletteImageLoader paletteImageLoader = new PaletteImageLoader();
+        // endregion
+
         // region Constructors
         public MovieViewHolder(View view) {
             super(view);
@@ -205,6 +202,18 @@ public class MoviesAdapter extends BaseAdapter<Movie> {
             setUpSubtitle(subtitleTextView, movie);
         }
 
+        // Stands in for an item whose page was released, until the page is loaded again
+        private void bindPlaceholder(){
+            resetInfoBackgroundColor(infoLinearLayout);
+            resetTitleTextColor(titleTextView);
+            resetSubtitleTextColor(subtitleTextView);
+
+            paletteImageLoader.cancel(thumbnailImageView);
+            thumbnailImageView.setImageDrawable(null);
+            titleTextView.setText(null);
+            subtitleTextView.setText(null);
+        }
+
         private void setUpThumbnail(final MovieViewHolder vh, final Movie movie){
             final DynamicHeightImageView iv = vh.thumbnailImageView;
 
@@ -213,39 +222,13 @@ public class MoviesAdapter extends BaseAdapter<Movie> {
             iv.setHeightRatio(heightRatio);
 
             String posterUrl = movie.getPosterUrl();
-            if (!TextUtils.isEmpty(posterUrl)) {
-                Picasso.with(iv.getContext())
-                        .load(posterUrl)
-                        .resize(ivWidth, (int)(heightRatio*ivWidth))
-                        .centerCrop()
-                        .into(iv, new Callback() {
-                            @Override
-                            public void onSuccess() {
-                                if(movie.getPosterPalette() != null){
-                                    setUpInfoBackgroundColor(vh.infoLinearLayout, movie.getPosterPalette());
-                                    setUpTitleTextColor(vh.titleTextView, movie.getPosterPalette());
-                                    setUpSubtitleTextColor(vh.subtitleTextView, movie.getPosterPalette());
-                                } else {
-                                    Bitmap bitmap = ((BitmapDrawable) iv.getDrawable()).getBitmap();
-                                    Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
-                                        public void onGenerated(Palette palette) {
-                                            movie.setPosterPalette(palette);
-
-                                            setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
-                                            setUpTitleTextColor(vh.titleTextView, palette);
-                                            setUpSubtitleTextColor(vh.subtitleTextView, palette);
-                                        }
-                                    });
-                                }
-                            }
-
-                            @Override
-                            public void onError() {
-
-                            }
-                        });
+            vh.paletteImageLoader.load(iv, posterUrl, ivWidth, (int)(heightRatio*ivWidth), palette -> {
+                movie.setPosterPalette(palette);
 
-            }
+                setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
+                setUpTitleTextColor(vh.titleTextView, palette);
+                setUpSubtitleTextColor(vh.subtitleTextView, palette);
+            });
         }
 
         private void resetInfoBackgroundColor(LinearLayout ll) {
@@ -262,7 +245,7 @@ public class MoviesAdapter extends BaseAdapter<Movie> {
             }
         }
 
-        private void setUpTitle(TextView tv, Movie movie){
+        private void setUpTitle(TextView tv, MovieItem movie){
             String title = movie.getTitle();
             if (!TextUtils.isEmpty(title)) {
                 tv.setText(title);
@@ -283,7 +266,7 @@ public class MoviesAdapter extends BaseAdapter<Movie> {
             }
         }
 
-        private void setUpSubtitle(TextView tv, Movie movie){
+        private void setUpSubtitle(TextView tv, MovieItem movie){
             String releaseYear = movie.getReleaseYear();
             if (!TextUtils.isEmpty(releaseYear)) {
                 tv.setText(releaseYear);
@@ -26,6 +26,9 @@ import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
 import com.etiennelawlor.moviehub.domain.MoviesUseCase;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
 import com.etiennelawlor.moviehub.presentation.base.BaseFragment;
+import com.etiennelawlor.moviehub.presentation.common.ItemViewPrewarmer;
+import com.etiennelawlor.moviehub.presentation.common.PrefetchScrollListener;
+import com.etiennelawlor.moviehub.presentation.common.VisibleRangeScrollListener;
 import com.etiennelawlor.moviehub.presentation.moviedetails.MovieDetailsActivity;
 import com.etiennelawlor.moviehub.util.FontCache;
 import com.etiennelawlor.moviehub.util.rxjava.ProductionSchedulerTransformer;
@@ -46,6 +49,9 @@ public class MoviesFragment extends BaseFragment implements MoviesAdapter.OnItem
 
     // region Constants
     public static final String KEY_MOVIE = "KEY_MOVIE";
+    private static final int PREFETCH_DISTANCE = 10;
+    // Posters are 2:3, the info bar below them is left out
+    private static final double CARD_HEIGHT_RATIO = 3.0D/2.0D;
     // endregion
 
     // region Views
@@ -67,6 +73,7 @@ public class MoviesFragment extends BaseFragment implements MoviesAdapter.OnItem
     private MoviesAdapter moviesAdapter;
     private Typeface font;
     private Unbinder unbinder;
+    private ItemViewPrewarmer itemViewPrewarmer;
     private StaggeredGridLayoutManager layoutManager;
     private MoviesUiContract.Presenter moviesPresenter;
     private MoviesPage moviesPage;
@@ -79,27 +86,29 @@ public class MoviesFragment extends BaseFragment implements MoviesAdapter.OnItem
         moviesPresenter.onLoadPopularMovies(moviesPage == null ? 1 : moviesPage.getPageNumber());
     }
 
-    private RecyclerView.OnScrollListener recyclerViewOnScrollListener = new RecyclerView.OnScrollListener() {
+    private PrefetchScrollListener recyclerViewOnScrollListener = new PrefetchScrollListener(PREFETCH_DISTANCE) {
         @Override
-        public void onScrollStateChanged(final RecyclerView recyclerView, int newState) {
-            super.onScrollStateChanged(recyclerView, newState);
+        public boolean isLoading() {
+            return isLoading;
         }
 
         @Override
-        public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
-            super.onScrolled(recyclerView, dx, dy);
-
-            int visibleItemCount = recyclerView.getChildCount();
-            int totalItemCount = recyclerView.getAdapter().getItemCount();
-            int[] positions = layoutManager.findFirstVisibleItemPositions(null);
-            int firstVisibleItem = positions[1];
-
-            if ((visibleItemCount + firstVisibleItem) >= totalItemCount
-                    && totalItemCount > 0
-                    && !isLoading
-                    && !moviesPage.isLastPage()) {
-                moviesPresenter.onScrollToEndOfList();
-            }
+        public boolean isLastPage() {
+            return moviesPage == null || moviesPage.isLastPage();
+        }
+
+        @Override
+        public void onPrefetch() {
+            moviesPresenter.onScrollToEndOfList();
+        }
+    };
+
+    private VisibleRangeScrollListener visibleRangeScrollListener = new VisibleRangeScrollListener() {
+        @Override
+        public void onVisibleRangeChanged(int firstVisiblePosition, int lastVisiblePosition) {
+            // The presenter counts movies, not the header row
+            int headerCount = moviesAdapter.getHeaderCount();
+            moviesPresenter.onVisibleItemsChanged(Math.max(0, firstVisiblePosition - headerCount), Math.max(0, lastVisiblePosition - headerCount));
         }
     };
     // endregion
@@ -156,19 +165,28 @@ public class MoviesFragment extends BaseFragment implements MoviesAdapter.OnItem
         moviesAdapter = new MoviesAdapter(getContext());
         moviesAdapter.setOnItemClickListener(this);
         moviesAdapter.setOnReloadClickListener(this);
+        itemViewPrewarmer = new ItemViewPrewarmer(getContext());
+        moviesAdapter.setItemViewPrewarmer(itemViewPrewarmer);
         recyclerView.setItemAnimator(new SlideInUpAnimator());
         recyclerView.setAdapter(moviesAdapter);
 
         // Pagination
         recyclerView.addOnScrollListener(recyclerViewOnScrollListener);
+        recyclerView.addOnScrollListener(visibleRangeScrollListener);
 
         moviesPresenter.onLoadPopularMovies(moviesPage == null ? 1 : moviesPage.getPageNumber());
+
+        // The first page binds a screenful of cards in one frame, they are inflated while it loads
+        if(moviesPage == null)
+            itemViewPrewarmer.prewarm(recyclerView, R.layout.movie_card,
+                    ItemViewPrewarmer.getScreenfulItemCount(getContext(), layoutManager.getSpanCount(), CARD_HEIGHT_RATIO));
     }
 
     @Override
     public void onDestroyView() {
         super.onDestroyView();
         removeListeners();
+        itemViewPrewarmer.clear();
         unbinder.unbind();
         moviesPresenter.onDestroyView();
     }
@@ -264,6 +282,16 @@ public class MoviesFragment extends BaseFragment implements MoviesAdapter.OnItem
         moviesAdapter.addAll(movies);
     }
 
+    @Override
+    public void replaceMoviesInAdapter(int position, int count, List<Movie> movies) {
+        moviesAdapter.replaceRange(position, count, movies);
+    }
+
+    @Override
+    public void releaseMoviesInAdapter(int position, int count) {
+        moviesAdapter.releaseRange(position, count);
+    }
+
     @Override
     public void loadMoreItems() {
         moviesPage.incrementPageNumber();
@@ -301,6 +329,7 @@ public class MoviesFragment extends BaseFragment implements MoviesAdapter.OnItem
     private void removeListeners() {
         moviesAdapter.setOnItemClickListener(null);
         recyclerView.removeOnScrollListener(recyclerViewOnScrollListener);
+        recyclerView.removeOnScrollListener(visibleRangeScrollListener);
     }
 
     private ActivityOptionsCompat getActivityOptionsCompat(Pair pair){
@@ -3,11 +3,15 @@ package com.etiennelawlor.moviehub.presentation.movies;
 import com.etiennelawlor.moviehub.data.network.response.Movie;
 import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
 import com.etiennelawlor.moviehub.domain.MoviesDomainContract;
+import com.etiennelawlor.moviehub.presentation.common.PageWindow;
 import com.etiennelawlor.moviehub.util.NetworkUtility;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import rx.Subscriber;
+import timber.log.Timber;
 
 /**
  * Created by etiennelawlor on 2/9/17.
@@ -18,6 +22,9 @@ public class MoviesPresenter implements MoviesUiContract.Presenter {
     // region Member Variables
     private final MoviesUiContract.View moviesView;
     private final MoviesDomainContract.UseCase moviesUseCase;
+    // Where each page sits in the adapter, so a refreshed or reloaded copy can replace it in place
+    private final PageWindow<Movie> pageWindow = new PageWindow<>(Movie::getId);
+    private final Set<Integer> reloadingPageNumbers = new HashSet<>();
     // endregion
 
     // region Constructors
@@ -31,6 +38,8 @@ public class MoviesPresenter implements MoviesUiContract.Presenter {
     @Override
     public void onDestroyView() {
         moviesUseCase.clearSubscriptions();
+        pageWindow.clear();
+        reloadingPageNumbers.clear();
     }
 
     @Override
@@ -70,10 +79,18 @@ public class MoviesPresenter implements MoviesUiContract.Presenter {
             @Override
             public void onNext(MoviesPage moviesPage) {
                 if(moviesPage != null){
-                    List<Movie> movies = moviesPage.getMovies();
                     int currentPage = moviesPage.getPageNumber();
                     boolean isLastPage = moviesPage.isLastPage();
                     boolean hasMovies = moviesPage.hasMovies();
+
+                    if(pageWindow.containsPage(currentPage)){
+                        // A refreshed copy of a page that is already on screen
+                        onPageRefreshed(moviesPage);
+                        return;
+                    }
+
+                    List<Movie> movies = pageWindow.putPage(currentPage, moviesPage.getMovies());
+
                     if(currentPage == 1){
                         moviesView.hideLoadingView();
 
@@ -90,7 +107,9 @@ public class MoviesPresenter implements MoviesUiContract.Presenter {
                         moviesView.removeFooter();
 
                         if(hasMovies){
-                            moviesView.addMoviesToAdapter(movies);
+                            // Every movie may already be on an earlier page, the next page is still worth loading
+                            if(!movies.isEmpty())
+                                moviesView.addMoviesToAdapter(movies);
 
                             if(!isLastPage)
                                 moviesView.addFooter();
@@ -112,6 +131,74 @@ public class MoviesPresenter implements MoviesUiContract.Presenter {
     public void onScrollToEndOfList() {
         moviesView.loadMoreItems();
     }
+
+    @Override
+    public void onVisibleItemsChanged(int firstVisiblePosition, int lastVisiblePosition) {
+        if(!pageWindow.setVisibleRange(firstVisiblePosition, lastVisiblePosition))
+            return;
+
+        for (int pageNumber : pageWindow.releasePagesOutsideWindow()) {
+            moviesView.releaseMoviesInAdapter(pageWindow.getOffset(pageNumber), pageWindow.getPageSize(pageNumber));
+        }
+
+        for (int pageNumber : pageWindow.getReleasedPagesInsideWindow()) {
+            if(reloadingPageNumbers.add(pageNumber))
+                reloadPage(pageNumber);
+        }
+    }
+    // endregion
+
+    // region Helper Methods
+    // Served from the local store first, and from the network too if the stored copy is expired
+    private void reloadPage(final int pageNumber) {
+        moviesUseCase.getPopularMovies(pageNumber, new Subscriber<MoviesPage>() {
+            @Override
+            public void onCompleted() {
+                reloadingPageNumbers.remove(pageNumber);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                Timber.e(throwable, "Unable to reload page %d of popular movies", pageNumber);
+                reloadingPageNumbers.remove(pageNumber);
+            }
+
+            @Override
+            public void onNext(MoviesPage moviesPage) {
+                if(moviesPage != null)
+                    onPageRefreshed(moviesPage);
+            }
+        });
+    }
+
+    private void onPageRefreshed(MoviesPage moviesPage) {
+        int pageNumber = moviesPage.getPageNumber();
+        // Scrolled away again before the copy arrived, the placeholders stay until the next reload
+        if(pageWindow.isReleased(pageNumber) && !pageWindow.isInsideWindow(pageNumber))
+            return;
+
+        int displayedPageSize = pageWindow.getPageSize(pageNumber);
+        int displayedOffset = pageWindow.getOffset(pageNumber);
+        List<Movie> movies = pageWindow.putPage(pageNumber, moviesPage.getMovies());
+
+        if(pageNumber == 1 && displayedPageSize == 0){
+            // The stale first page was empty so there is no header or footer to keep
+            if(moviesPage.hasMovies()){
+                moviesView.hideEmptyView();
+                moviesView.addHeader();
+                moviesView.addMoviesToAdapter(movies);
+
+                if(!moviesPage.isLastPage())
+                    moviesView.addFooter();
+            }
+        } else {
+            moviesView.replaceMoviesInAdapter(displayedOffset, displayedPageSize, movies);
+        }
+
+        // Only the last page on screen decides what is loaded next
+        if(pageNumber == pageWindow.getLastPageNumber())
+            moviesView.setMoviesPage(moviesPage);
+    }
     // endregion
 
 }
@@ -26,6 +26,8 @@ public interface MoviesUiContract {
         void showErrorFooter();
         void showLoadingFooter();
         void addMoviesToAdapter(List<Movie> movies);
+        void replaceMoviesInAdapter(int position, int count, List<Movie> movies);
+        void releaseMoviesInAdapter(int position, int count);
         void loadMoreItems();
         void setMoviesPage(MoviesPage moviesPage);
 
@@ -37,5 +39,6 @@ public interface MoviesUiContract {
         void onLoadPopularMovies(int currentPage);
         void onMovieClick(Movie movie);
         void onScrollToEndOfList();
+        void onVisibleItemsChanged(int firstVisiblePosition, int lastVisiblePosition);
     }
 }
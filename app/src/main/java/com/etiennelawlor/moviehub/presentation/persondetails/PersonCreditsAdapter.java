@@ -1,8 +1,6 @@
 package com.etiennelawlor.moviehub.presentation.persondetails;
 
 import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.drawable.BitmapDrawable;
 import android.support.v4.content.ContextCompat;
 import android.support.v7.graphics.Palette;
 import android.support.v7.widget.RecyclerView;
@@ -20,12 +18,12 @@ import android.widget.TextView;
 import com.etiennelawlor.moviehub.R;
 import com.etiennelawlor.moviehub.data.network.response.PersonCredit;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
+import com.etiennelawlor.moviehub.presentation.common.CarouselViewPool;
+import com.etiennelawlor.moviehub.presentation.common.PaletteImageLoader;
 import com.etiennelawlor.moviehub.presentation.common.widget.DynamicHeightImageView;
 import com.etiennelawlor.moviehub.util.AnimationUtility;
 import com.etiennelawlor.moviehub.util.ColorUtility;
 import com.etiennelawlor.moviehub.util.DisplayUtility;
-import com.squareup.picasso.Callback;
-import com.squareup.picasso.Picasso;
 
 import butterknife.BindView;
 import butterknife.ButterKnife;
@@ -57,11 +55,6 @@ public class PersonCreditsAdapter extends BaseAdapter<PersonCredit> {
 
     // endregion
 
-    @Override
-    public int getItemViewType(int position) {
-        return (isLastPosition(position) && isFooterAdded) ? FOOTER : ITEM;
-    }
-
     @Override
     protected RecyclerView.ViewHolder createHeaderViewHolder(ViewGroup parent) {
         return null;
@@ -69,19 +62,14 @@ public class PersonCreditsAdapter extends BaseAdapter<PersonCredit> {
 
     @Override
     protected RecyclerView.ViewHolder createItemViewHolder(ViewGroup parent) {
-        View v = LayoutInflater.from(parent.getContext()).inflate(R.layout.person_credit_card, parent, false);
+        View v = CarouselViewPool.getInstance().getLayoutInflater(parent.getContext()).inflate(R.layout.person_credit_card, parent, false);
 
         final PersonCreditViewHolder holder = new PersonCreditViewHolder(v);
 
         holder.itemView.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                int adapterPos = holder.getAdapterPosition();
-                if (adapterPos != RecyclerView.NO_POSITION) {
-                    if (onItemClickListener != null) {
-                        onItemClickListener.onItemClick(adapterPos, holder.itemView);
-                    }
-                }
+                dispatchItemClick(holder);
             }
         });
 
@@ -129,6 +117,29 @@ public class PersonCreditsAdapter extends BaseAdapter<PersonCredit> {
         footerViewHolder = holder;
     }
 
+    @Override
+    public int getItemType() {
+        return R.layout.person_credit_card;
+    }
+
+    @Override
+    protected long getStableId(PersonCredit personCredit) {
+        // A person can hold several jobs on one title, only the credit id tells those rows apart
+        String creditId = personCredit.getCreditId();
+        return TextUtils.isEmpty(creditId) ? personCredit.getId() : creditId.hashCode();
+    }
+
+    @Override
+    protected boolean areContentsTheSame(PersonCredit oldPersonCredit, PersonCredit newPersonCredit) {
+        return TextUtils.equals(oldPersonCredit.getTitle(), newPersonCredit.getTitle())
+                && TextUtils.equals(oldPersonCredit.getName(), newPersonCredit.getName())
+                && TextUtils.equals(oldPersonCredit.getJob(), newPersonCredit.getJob())
+                && TextUtils.equals(oldPersonCredit.getCharacter(), newPersonCredit.getCharacter())
+                && TextUtils.equals(oldPersonCredit.getPosterPath(), newPersonCredit.getPosterPath())
+                && TextUtils.equals(oldPersonCredit.getReleaseDate(), newPersonCredit.getReleaseDate())
+                && TextUtils.equals(oldPersonCredit.getFirstAirDate(), newPersonCredit.getFirstAirDate());
+    }
+
     @Override
     protected void displayLoadMoreFooter() {
         if(footerViewHolder!= null){
@@ -145,17 +156,6 @@ public class PersonCreditsAdapter extends BaseAdapter<PersonCredit> {
         }
     }
 
-    @Override
-    public void addHeader() {
-
-    }
-
-    @Override
-    public void addFooter() {
-        isFooterAdded = true;
-        add(new PersonCredit());
-    }
-
     // region Inner Classes
 
     public static class HeaderViewHolder extends RecyclerView.ViewHolder {
@@ -181,6 +181,10 @@ public class PersonCreditsAdapter extends BaseAdapter<PersonCredit> {
         TextView captionTextView;
         // endregion
 
+        // region Member Variables
+        private final PaletteImageLoader paletteImageLoader = new PaletteImageLoader();
+        // endregion
+
         // region Constructors
         public PersonCreditViewHolder(View view) {
             super(view);
@@ -212,41 +216,14 @@ public class PersonCreditsAdapter extends BaseAdapter<PersonCredit> {
             iv.setHeightRatio(heightRatio);
 
             String posterUrl = personCredit.getPosterUrl();
-            if (!TextUtils.isEmpty(posterUrl)) {
-                Picasso.with(iv.getContext())
-                        .load(posterUrl)
-                        .resize(ivWidth, (int)(heightRatio*ivWidth))
-                        .centerCrop()
-                        .into(iv, new Callback() {
-                            @Override
-                            public void onSuccess() {
-                                if(personCredit.getPosterPalette() != null){
-                                    setUpInfoBackgroundColor(vh.infoLinearLayout, personCredit.getPosterPalette());
-                                    setUpTitleTextColor(vh.titleTextView, personCredit.getPosterPalette());
-                                    setUpSubtitleTextColor(vh.subtitleTextView, personCredit.getPosterPalette());
-                                    setUpCaptionTextColor(vh.captionTextView, personCredit.getPosterPalette());
-                                } else {
-                                    Bitmap bitmap = ((BitmapDrawable) iv.getDrawable()).getBitmap();
-                                    Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
-                                        public void onGenerated(Palette palette) {
-                                            personCredit.setPosterPalette(palette);
-
-                                            setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
-                                            setUpTitleTextColor(vh.titleTextView, palette);
-                                            setUpSubtitleTextColor(vh.subtitleTextView, palette);
-                                            setUpCaptionTextColor(vh.captionTextView, palette);
-                                        }
-                                    });
-                                }
-                            }
-
-                            @Override
-                            public void onError() {
-
-                            }
-                        });
-
-            }
+            vh.paletteImageLoader.load(iv, posterUrl, ivWidth, (int)(heightRatio*ivWidth), palette -> {
+                personCredit.setPosterPalette(palette);
+
+                setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
+                setUpTitleTextColor(vh.titleTextView, palette);
+                setUpSubtitleTextColor(vh.subtitleTextView, palette);
+                setUpCaptionTextColor(vh.captionTextView, palette);
+            });
         }
 
         private void resetInfoBackgroundColor(LinearLayout ll) {
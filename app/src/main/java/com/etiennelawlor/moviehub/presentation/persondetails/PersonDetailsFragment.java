@@ -59,6 +59,7 @@ import com.etiennelawlor.moviehub.data.repositories.person.models.PersonDetailsW
 import com.etiennelawlor.moviehub.domain.PersonDetailsUseCase;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
 import com.etiennelawlor.moviehub.presentation.base.BaseFragment;
+import com.etiennelawlor.moviehub.presentation.common.CarouselViewPool;
 import com.etiennelawlor.moviehub.presentation.common.GravitySnapHelper;
 import com.etiennelawlor.moviehub.presentation.moviedetails.MovieDetailsActivity;
 import com.etiennelawlor.moviehub.presentation.televisionshowdetails.TelevisionShowDetailsActivity;
@@ -67,6 +68,8 @@ import com.etiennelawlor.moviehub.util.ColorUtility;
 import com.etiennelawlor.moviehub.util.DateUtility;
 import com.etiennelawlor.moviehub.util.DisplayUtility;
 import com.etiennelawlor.moviehub.util.FontCache;
+import com.etiennelawlor.moviehub.util.PaletteCache;
+import com.etiennelawlor.moviehub.util.PaletteTransformation;
 import com.etiennelawlor.moviehub.util.TrestleUtility;
 import com.etiennelawlor.moviehub.util.ViewUtility;
 import com.etiennelawlor.moviehub.util.rxjava.ProductionSchedulerTransformer;
@@ -252,8 +255,10 @@ public class PersonDetailsFragment extends BaseFragment implements PersonDetails
 
         @Override
         public void onTransitionEnd(Transition transition) {
-            if(person != null)
+            if(person != null){
                 personDetailsPresenter.onLoadPersonDetails(person.getId());
+                prewarmCarousels();
+            }
         }
 
         @Override
@@ -316,7 +321,7 @@ public class PersonDetailsFragment extends BaseFragment implements PersonDetails
         public void onSuccess() {
             if(isResumed()){
                 final Bitmap bitmap = ((BitmapDrawable) backdropImageView.getDrawable()).getBitmap();
-                Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
+                PaletteCache.getInstance().getPalette(getBackdropUrl(person), bitmap, new Palette.PaletteAsyncListener() {
                     public void onGenerated(Palette palette) {
                         boolean isDark;
                         @ColorUtility.Lightness int lightness = ColorUtility.isDark(palette);
@@ -404,7 +409,7 @@ public class PersonDetailsFragment extends BaseFragment implements PersonDetails
         @Override
         public void onSuccess() {
             final Bitmap bitmap = ((BitmapDrawable) personProfileImageView.getDrawable()).getBitmap();
-            Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
+            PaletteCache.getInstance().getPalette(getProfileUrl(person), bitmap, new Palette.PaletteAsyncListener() {
                 public void onGenerated(Palette palette) {
                     setUpPersonHeaderBackgroundColor(palette);
                     setUpTitleTextColor(titleTextView, palette);
@@ -621,6 +626,7 @@ public class PersonDetailsFragment extends BaseFragment implements PersonDetails
                     .load(backdropUrl)
                     .resize(screenWidth, (int)(1.5D*screenWidth))
                     .centerCrop()
+                    .transform(new PaletteTransformation(backdropUrl))
                     .into(backdropImageView, backdropCallback);
         }
     }
@@ -632,6 +638,7 @@ public class PersonDetailsFragment extends BaseFragment implements PersonDetails
                     .load(posterUrl)
                     .resize(DisplayUtility.dp2px(personProfileImageView.getContext(), 104), DisplayUtility.dp2px(personProfileImageView.getContext(), 156))
                     .centerCrop()
+                    .transform(new PaletteTransformation(posterUrl))
                     .into(personProfileImageView, profileCallback);
         }
     }
@@ -675,6 +682,12 @@ public class PersonDetailsFragment extends BaseFragment implements PersonDetails
         personDetailsBodyLinearLayout.startAnimation(animation);
     }
 
+    // The cards are inflated while the details load, unless an earlier screen left enough in the pool
+    private void prewarmCarousels(){
+        CarouselViewPool carouselViewPool = CarouselViewPool.getInstance();
+        carouselViewPool.prewarm(getContext(), new PersonCreditsAdapter(getContext()), 2 * CarouselViewPool.INITIAL_PREFETCH_ITEM_COUNT);
+    }
+
     private void setUpCast(){
         List<PersonCredit> cast = personDetailsWrapper.getCast();
         if(cast != null && cast.size()>0){
@@ -686,6 +699,7 @@ public class PersonDetailsFragment extends BaseFragment implements PersonDetails
             castRecyclerView.setLayoutManager(layoutManager);
             castAdapter = new PersonCreditsAdapter(getContext());
             castAdapter.setOnItemClickListener(castAdapterOnItemClickListener);
+            CarouselViewPool.getInstance().setUp(castRecyclerView, castAdapter);
             castRecyclerView.setAdapter(castAdapter);
             SnapHelper snapHelper = new GravitySnapHelper(Gravity.START);
             snapHelper.attachToRecyclerView(castRecyclerView);
@@ -731,6 +745,7 @@ public class PersonDetailsFragment extends BaseFragment implements PersonDetails
             crewRecyclerView.setLayoutManager(layoutManager);
             crewAdapter = new PersonCreditsAdapter(getContext());
             crewAdapter.setOnItemClickListener(crewAdapterOnItemClickListener);
+            CarouselViewPool.getInstance().setUp(crewRecyclerView, crewAdapter);
             crewRecyclerView.setAdapter(crewAdapter);
             SnapHelper snapHelper = new GravitySnapHelper(Gravity.START);
             snapHelper.attachToRecyclerView(crewRecyclerView);
@@ -17,6 +17,8 @@ public class PersonDetailsPresenter implements PersonDetailsUiContract.Presenter
     // region Member Variables
     private final PersonDetailsUiContract.View personDetailsView;
     private final PersonDetailsDomainContract.UseCase personDetailsUseCase;
+    // The detail views are inflated once, a refreshed copy is kept for the next visit instead
+    private boolean isPersonDetailsShown;
     // endregion
 
     // region Constructors
@@ -33,6 +35,7 @@ public class PersonDetailsPresenter implements PersonDetailsUiContract.Presenter
     @Override
     public void onDestroyView() {
         personDetailsUseCase.clearSubscriptions();
+        isPersonDetailsShown = false;
     }
 
     @Override
@@ -56,7 +59,8 @@ public class PersonDetailsPresenter implements PersonDetailsUiContract.Presenter
 
             @Override
             public void onNext(PersonDetailsWrapper personDetailsWrapper) {
-                if(personDetailsWrapper != null){
+                if(personDetailsWrapper != null && !isPersonDetailsShown){
+                    isPersonDetailsShown = true;
                     personDetailsView.showPersonDetails(personDetailsWrapper);
                 }
             }
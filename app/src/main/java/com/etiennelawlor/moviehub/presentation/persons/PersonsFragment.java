@@ -26,6 +26,9 @@ import com.etiennelawlor.moviehub.data.repositories.person.models.PersonsPage;
 import com.etiennelawlor.moviehub.domain.PersonsUseCase;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
 import com.etiennelawlor.moviehub.presentation.base.BaseFragment;
+import com.etiennelawlor.moviehub.presentation.common.ItemViewPrewarmer;
+import com.etiennelawlor.moviehub.presentation.common.PrefetchScrollListener;
+import com.etiennelawlor.moviehub.presentation.common.VisibleRangeScrollListener;
 import com.etiennelawlor.moviehub.presentation.persondetails.PersonDetailsActivity;
 import com.etiennelawlor.moviehub.util.FontCache;
 import com.etiennelawlor.moviehub.util.rxjava.ProductionSchedulerTransformer;
@@ -46,6 +49,9 @@ public class PersonsFragment extends BaseFragment implements PersonsAdapter.OnIt
 
     // region Constants
     public static final String KEY_PERSON = "KEY_PERSON";
+    private static final int PREFETCH_DISTANCE = 10;
+    // Profile photos are 2:3, the info bar below them is left out
+    private static final double CARD_HEIGHT_RATIO = 3.0D/2.0D;
     // endregion
 
     // region Views
@@ -67,6 +73,7 @@ public class PersonsFragment extends BaseFragment implements PersonsAdapter.OnIt
     private PersonsAdapter personsAdapter;
     private Typeface font;
     private Unbinder unbinder;
+    private ItemViewPrewarmer itemViewPrewarmer;
     private StaggeredGridLayoutManager layoutManager;
     private PersonsUiContract.Presenter personsPresenter;
     private PersonsPage personsPage;
@@ -79,27 +86,28 @@ public class PersonsFragment extends BaseFragment implements PersonsAdapter.OnIt
         personsPresenter.onLoadPopularPersons(personsPage == null ? 1 : personsPage.getPageNumber());
     }
 
-    private RecyclerView.OnScrollListener recyclerViewOnScrollListener = new RecyclerView.OnScrollListener() {
+    private PrefetchScrollListener recyclerViewOnScrollListener = new PrefetchScrollListener(PREFETCH_DISTANCE) {
         @Override
-        public void onScrollStateChanged(final RecyclerView recyclerView, int newState) {
-            super.onScrollStateChanged(recyclerView, newState);
+        public boolean isLoading() {
+            return isLoading;
         }
 
         @Override
-        public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
-            super.onScrolled(recyclerView, dx, dy);
-
-            int visibleItemCount = recyclerView.getChildCount();
-            int totalItemCount = recyclerView.getAdapter().getItemCount();
-            int[] positions = layoutManager.findFirstVisibleItemPositions(null);
-            int firstVisibleItem = positions[1];
-
-            if ((visibleItemCount + firstVisibleItem) >= totalItemCount
-                    && totalItemCount > 0
-                    && !isLoading
-                    && !personsPage.isLastPage()) {
-                personsPresenter.onScrollToEndOfList();
-            }
+        public boolean isLastPage() {
+            return personsPage == null || personsPage.isLastPage();
+        }
+
+        @Override
+        public void onPrefetch() {
+            personsPresenter.onScrollToEndOfList();
+        }
+    };
+
+    private VisibleRangeScrollListener visibleRangeScrollListener = new VisibleRangeScrollListener() {
+        @Override
+        public void onVisibleRangeChanged(int firstVisiblePosition, int lastVisiblePosition) {
+            int headerCount = personsAdapter.getHeaderCount();
+            personsPresenter.onVisibleItemsChanged(Math.max(0, firstVisiblePosition - headerCount), Math.max(0, lastVisiblePosition - headerCount));
         }
     };
 
@@ -157,19 +165,28 @@ public class PersonsFragment extends BaseFragment implements PersonsAdapter.OnIt
         personsAdapter = new PersonsAdapter(getContext());
         personsAdapter.setOnItemClickListener(this);
         personsAdapter.setOnReloadClickListener(this);
+        itemViewPrewarmer = new ItemViewPrewarmer(getContext());
+        personsAdapter.setItemViewPrewarmer(itemViewPrewarmer);
         recyclerView.setItemAnimator(new SlideInUpAnimator());
         recyclerView.setAdapter(personsAdapter);
 
         // Pagination
         recyclerView.addOnScrollListener(recyclerViewOnScrollListener);
+        recyclerView.addOnScrollListener(visibleRangeScrollListener);
 
         personsPresenter.onLoadPopularPersons(personsPage == null ? 1 : personsPage.getPageNumber());
+
+        // The first page binds a screenful of cards in one frame, they are inflated while it loads
+        if(personsPage == null)
+            itemViewPrewarmer.prewarm(recyclerView, R.layout.person_card,
+                    ItemViewPrewarmer.getScreenfulItemCount(getContext(), layoutManager.getSpanCount(), CARD_HEIGHT_RATIO));
     }
 
     @Override
     public void onDestroyView() {
         super.onDestroyView();
         removeListeners();
+        itemViewPrewarmer.clear();
         unbinder.unbind();
         personsPresenter.onDestroyView();
     }
@@ -265,6 +282,16 @@ public class PersonsFragment extends BaseFragment implements PersonsAdapter.OnIt
         personsAdapter.addAll(persons);
     }
 
+    @Override
+    public void replacePersonsInAdapter(int position, int count, List<Person> persons) {
+        personsAdapter.replaceRange(position, count, persons);
+    }
+
+    @Override
+    public void releasePersonsInAdapter(int position, int count) {
+        personsAdapter.releaseRange(position, count);
+    }
+
     @Override
     public void loadMoreItems() {
         personsPage.incrementPageNumber();
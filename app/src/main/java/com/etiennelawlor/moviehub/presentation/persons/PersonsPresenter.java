@@ -3,11 +3,15 @@ package com.etiennelawlor.moviehub.presentation.persons;
 import com.etiennelawlor.moviehub.data.network.response.Person;
 import com.etiennelawlor.moviehub.data.repositories.person.models.PersonsPage;
 import com.etiennelawlor.moviehub.domain.PersonsDomainContract;
+import com.etiennelawlor.moviehub.presentation.common.PageWindow;
 import com.etiennelawlor.moviehub.util.NetworkUtility;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import rx.Subscriber;
+import timber.log.Timber;
 
 /**
  * Created by etiennelawlor on 2/9/17.
@@ -18,6 +22,9 @@ public class PersonsPresenter implements PersonsUiContract.Presenter {
     // region Member Variables
     private final PersonsUiContract.View personsView;
     private final PersonsDomainContract.UseCase personsUseCase;
+    // Where each page sits in the adapter, so a refreshed or reloaded copy can replace it in place
+    private final PageWindow<Person> pageWindow = new PageWindow<>(Person::getId);
+    private final Set<Integer> reloadingPageNumbers = new HashSet<>();
     // endregion
 
     // region Constructors
@@ -31,6 +38,8 @@ public class PersonsPresenter implements PersonsUiContract.Presenter {
     @Override
     public void onDestroyView() {
         personsUseCase.clearSubscriptions();
+        pageWindow.clear();
+        reloadingPageNumbers.clear();
     }
 
     @Override
@@ -70,15 +79,22 @@ public class PersonsPresenter implements PersonsUiContract.Presenter {
             @Override
             public void onNext(PersonsPage personsPage) {
                 if(personsPage != null){
-                    List<Person> persons = personsPage.getPersons();
                     int currentPage = personsPage.getPageNumber();
                     boolean isLastPage = personsPage.isLastPage();
-                    boolean hasMovies = personsPage.hasPersons();
+                    boolean hasPersons = personsPage.hasPersons();
+
+                    if(pageWindow.containsPage(currentPage)){
+                        // A refreshed copy of a page that is already on screen
+                        onPageRefreshed(personsPage);
+                        return;
+                    }
+
+                    List<Person> persons = pageWindow.putPage(currentPage, personsPage.getPersons());
 
                     if(currentPage == 1){
                         personsView.hideLoadingView();
 
-                        if(hasMovies){
+                        if(hasPersons){
                             personsView.addHeader();
                             personsView.addPersonsToAdapter(persons);
 
@@ -90,8 +106,10 @@ public class PersonsPresenter implements PersonsUiContract.Presenter {
                     } else {
                         personsView.removeFooter();
 
-                        if(hasMovies){
-                            personsView.addPersonsToAdapter(persons);
+                        if(hasPersons){
+                            // Every person may already be on an earlier page, the next page is still worth loading
+                            if(!persons.isEmpty())
+                                personsView.addPersonsToAdapter(persons);
 
                             if(!isLastPage)
                                 personsView.addFooter();
@@ -113,5 +131,74 @@ public class PersonsPresenter implements PersonsUiContract.Presenter {
     public void onScrollToEndOfList() {
         personsView.loadMoreItems();
     }
+
+    @Override
+    public void onVisibleItemsChanged(int firstVisiblePosition, int lastVisiblePosition) {
+        if(!pageWindow.setVisibleRange(firstVisiblePosition, lastVisiblePosition))
+            return;
+
+        for (int pageNumber : pageWindow.releasePagesOutsideWindow()) {
+            personsView.releasePersonsInAdapter(pageWindow.getOffset(pageNumber), pageWindow.getPageSize(pageNumber));
+        }
+
+        for (int pageNumber : pageWindow.getReleasedPagesInsideWindow()) {
+            if(reloadingPageNumbers.add(pageNumber))
+                reloadPage(pageNumber);
+        }
+    }
+    // endregion
+
+    // region Helper Methods
+    // Served from the local store first, and from the network too if the stored copy is expired
+    private void reloadPage(final int pageNumber) {
+        personsUseCase.getPopularPersons(pageNumber, new Subscriber<PersonsPage>() {
+            @Override
+            public void onCompleted() {
+                reloadingPageNumbers.remove(pageNumber);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                Timber.e(throwable, "Unable to reload page %d of popular persons", pageNumber);
+                reloadingPageNumbers.remove(pageNumber);
+            }
+
+            @Override
+            public void onNext(PersonsPage personsPage) {
+                if(personsPage != null)
+                    onPageRefreshed(personsPage);
+            }
+        });
+    }
+
+    private void onPageRefreshed(PersonsPage personsPage) {
+        int pageNumber = personsPage.getPageNumber();
+        // Scrolled away again before the copy arrived, the placeholders stay until the next reload
+        if(pageWindow.isReleased(pageNumber) && !pageWindow.isInsideWindow(pageNumber))
+            return;
+
+        int displayedPageSize = pageWindow.getPageSize(pageNumber);
+        int displayedOffset = pageWindow.getOffset(pageNumber);
+        List<Person> persons = pageWindow.putPage(pageNumber, personsPage.getPersons());
+
+        if(pageNumber == 1 && displayedPageSize == 0){
+            // The stale first page was empty so there is no header or footer to keep
+            if(personsPage.hasPersons()){
+                personsView.hideEmptyView();
+                personsView.addHeader();
+                personsView.addPersonsToAdapter(persons);
+
+                if(!personsPage.isLastPage())
+                    personsView.addFooter();
+            }
+        } else {
+            personsView.replacePersonsInAdapter(displayedOffset, displayedPageSize, persons);
+        }
+
+        // Only the last page on screen decides what is loaded next
+        if(pageNumber == pageWindow.getLastPageNumber())
+            personsView.setPersonsPage(personsPage);
+    }
     // endregion
+
 }
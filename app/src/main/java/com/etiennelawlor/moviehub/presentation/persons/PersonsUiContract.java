@@ -26,6 +26,8 @@ public interface PersonsUiContract {
         void showErrorFooter();
         void showLoadingFooter();
         void addPersonsToAdapter(List<Person> persons);
+        void replacePersonsInAdapter(int position, int count, List<Person> persons);
+        void releasePersonsInAdapter(int position, int count);
         void loadMoreItems();
         void setPersonsPage(PersonsPage personsPage);
 
@@ -37,5 +39,6 @@ public interface PersonsUiContract {
         void onLoadPopularPersons(int currentPage);
         void onPersonClick(Person person);
         void onScrollToEndOfList();
+        void onVisibleItemsChanged(int firstVisiblePosition, int lastVisiblePosition);
     }
 }
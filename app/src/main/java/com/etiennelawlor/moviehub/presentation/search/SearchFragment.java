@@ -39,6 +39,8 @@ import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
 import com.etiennelawlor.moviehub.presentation.base.BaseFragment;
 import com.etiennelawlor.moviehub.presentation.common.GravitySnapHelper;
+import com.etiennelawlor.moviehub.presentation.common.ItemViewPrewarmer;
+import com.etiennelawlor.moviehub.presentation.common.PrefetchScrollListener;
 import com.etiennelawlor.moviehub.presentation.moviedetails.MovieDetailsActivity;
 import com.etiennelawlor.moviehub.presentation.persondetails.PersonDetailsActivity;
 import com.etiennelawlor.moviehub.presentation.televisionshowdetails.TelevisionShowDetailsActivity;
@@ -66,6 +68,8 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
     public static final String KEY_MOVIE = "KEY_MOVIE";
     public static final String KEY_TELEVISION_SHOW = "KEY_TELEVISION_SHOW";
     public static final String KEY_PERSON = "KEY_PERSON";
+    // Three cards and the peek of a fourth fill a row of results
+    private static final int ROW_PREWARM_COUNT = 4;
     // endregion
 
     // region Views
@@ -103,6 +107,7 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
     private Typeface font;
     private SearchPresenter searchPresenter;
     private Unbinder unbinder;
+    private ItemViewPrewarmer itemViewPrewarmer;
     private SearchMoviesAdapter searchMoviesAdapter;
     private SearchTelevisionShowsAdapter searchTelevisionShowsAdapter;
     private SearchPersonsAdapter searchPersonsAdapter;
@@ -201,6 +206,57 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
         }
     };
 
+    private PrefetchScrollListener moviesOnScrollListener = new PrefetchScrollListener() {
+        @Override
+        public boolean isLoading() {
+            return searchPresenter.isMoviesPageLoading();
+        }
+
+        @Override
+        public boolean isLastPage() {
+            return searchPresenter.isMoviesLastPage();
+        }
+
+        @Override
+        public void onPrefetch() {
+            searchPresenter.onScrollToEndOfMovies();
+        }
+    };
+
+    private PrefetchScrollListener televisionShowsOnScrollListener = new PrefetchScrollListener() {
+        @Override
+        public boolean isLoading() {
+            return searchPresenter.isTelevisionShowsPageLoading();
+        }
+
+        @Override
+        public boolean isLastPage() {
+            return searchPresenter.isTelevisionShowsLastPage();
+        }
+
+        @Override
+        public void onPrefetch() {
+            searchPresenter.onScrollToEndOfTelevisionShows();
+        }
+    };
+
+    private PrefetchScrollListener personsOnScrollListener = new PrefetchScrollListener() {
+        @Override
+        public boolean isLoading() {
+            return searchPresenter.isPersonsPageLoading();
+        }
+
+        @Override
+        public boolean isLastPage() {
+            return searchPresenter.isPersonsLastPage();
+        }
+
+        @Override
+        public void onPrefetch() {
+            searchPresenter.onScrollToEndOfPersons();
+        }
+    };
+
     // endregion
 
     // region Callbacks
@@ -267,6 +323,8 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
             actionBar.setDisplayHomeAsUpEnabled(true);
         }
 
+        itemViewPrewarmer = new ItemViewPrewarmer(getContext());
+
         setUpMoviesLayout();
         setUpTelevisionShowsLayout();
         setUpPeopleLayout();
@@ -274,6 +332,11 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
         searchQueryChangeObservable = RxTextView.textChanges(searchEditText);
 
         searchPresenter.onLoadSearch(searchQueryChangeObservable);
+
+        // The first results bind a row of cards per category in one frame, they are inflated while the query is typed
+        itemViewPrewarmer.prewarm(moviesRecyclerView, R.layout.search_movie_card, ROW_PREWARM_COUNT);
+        itemViewPrewarmer.prewarm(televisionShowsRecyclerView, R.layout.search_television_show_card, ROW_PREWARM_COUNT);
+        itemViewPrewarmer.prewarm(personsRecyclerView, R.layout.search_person_card, ROW_PREWARM_COUNT);
     }
 
     private void setUpMoviesLayout(){
@@ -281,8 +344,10 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
         moviesRecyclerView.setLayoutManager(layoutManager);
         searchMoviesAdapter = new SearchMoviesAdapter(getContext());
 //        moviesRecyclerView.setItemAnimator(new SlideInRightAnimator());
+        searchMoviesAdapter.setItemViewPrewarmer(itemViewPrewarmer);
         searchMoviesAdapter.setOnItemClickListener(searchMoviesAdapterOnItemClickListener);
         moviesRecyclerView.setAdapter(searchMoviesAdapter);
+        moviesRecyclerView.addOnScrollListener(moviesOnScrollListener);
         SnapHelper snapHelper = new GravitySnapHelper(Gravity.START);
         snapHelper.attachToRecyclerView(moviesRecyclerView);
     }
@@ -292,8 +357,10 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
         televisionShowsRecyclerView.setLayoutManager(layoutManager);
         searchTelevisionShowsAdapter = new SearchTelevisionShowsAdapter(getContext());
 //        televisionShowsRecyclerView.setItemAnimator(new SlideInRightAnimator());
+        searchTelevisionShowsAdapter.setItemViewPrewarmer(itemViewPrewarmer);
         searchTelevisionShowsAdapter.setOnItemClickListener(searchTelevisionShowsAdapterOnItemClickListener);
         televisionShowsRecyclerView.setAdapter(searchTelevisionShowsAdapter);
+        televisionShowsRecyclerView.addOnScrollListener(televisionShowsOnScrollListener);
         SnapHelper snapHelper = new GravitySnapHelper(Gravity.START);
         snapHelper.attachToRecyclerView(televisionShowsRecyclerView);
     }
@@ -303,8 +370,10 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
         personsRecyclerView.setLayoutManager(layoutManager);
         searchPersonsAdapter = new SearchPersonsAdapter(getContext());
 //        personsRecyclerView.setItemAnimator(new SlideInRightAnimator());
+        searchPersonsAdapter.setItemViewPrewarmer(itemViewPrewarmer);
         searchPersonsAdapter.setOnItemClickListener(searchPersonsAdapterOnItemClickListener);
         personsRecyclerView.setAdapter(searchPersonsAdapter);
+        personsRecyclerView.addOnScrollListener(personsOnScrollListener);
         SnapHelper snapHelper = new GravitySnapHelper(Gravity.START);
         snapHelper.attachToRecyclerView(personsRecyclerView);
     }
@@ -315,6 +384,7 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
 //        searchEditText.animate().alpha(0.0f).setDuration(300);
 
         removeListeners();
+        itemViewPrewarmer.clear();
         unbinder.unbind();
         searchPresenter.onDestroyView();
     }
@@ -392,6 +462,11 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
         searchMoviesAdapter.clear();
     }
 
+    @Override
+    public void setMoviesInAdapter(List<Movie> movies) {
+        searchMoviesAdapter.setItems(movies);
+    }
+
     @Override
     public void hideMoviesView() {
         moviesLinearLayout.setVisibility(View.GONE);
@@ -412,6 +487,11 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
         searchTelevisionShowsAdapter.clear();
     }
 
+    @Override
+    public void setTelevisionShowsInAdapter(List<TelevisionShow> televisionShows) {
+        searchTelevisionShowsAdapter.setItems(televisionShows);
+    }
+
     @Override
     public void hideTelevisionShowsView() {
         televisionShowsLinearLayout.setVisibility(View.GONE);
@@ -432,6 +512,11 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
         searchPersonsAdapter.clear();
     }
 
+    @Override
+    public void setPersonsInAdapter(List<Person> persons) {
+        searchPersonsAdapter.setItems(persons);
+    }
+
     @Override
     public void hidePersonsView() {
         personsLinearLayout.setVisibility(View.GONE);
@@ -505,6 +590,9 @@ public class SearchFragment extends BaseFragment implements SearchUiContract.Vie
     // region Helper Methods
     private void removeListeners() {
         sharedElementEnterTransition.removeListener(enterTransitionTransitionListener);
+        moviesRecyclerView.removeOnScrollListener(moviesOnScrollListener);
+        televisionShowsRecyclerView.removeOnScrollListener(televisionShowsOnScrollListener);
+        personsRecyclerView.removeOnScrollListener(personsOnScrollListener);
 //        sharedElementReturnTransition.removeListener(returnTransitionTransitionListener);
 //        moviesAdapter.setOnItemClickListener(null);
     }
@@ -1,8 +1,6 @@
 package com.etiennelawlor.moviehub.presentation.search;
 
 import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.drawable.BitmapDrawable;
 import android.support.v4.content.ContextCompat;
 import android.support.v7.graphics.Palette;
 import android.support.v7.widget.RecyclerView;
@@ -20,12 +18,11 @@ import android.widget.TextView;
 import com.etiennelawlor.moviehub.R;
 import com.etiennelawlor.moviehub.data.network.response.Movie;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
+import com.etiennelawlor.moviehub.presentation.common.PaletteImageLoader;
 import com.etiennelawlor.moviehub.presentation.common.widget.DynamicHeightImageView;
 import com.etiennelawlor.moviehub.util.AnimationUtility;
 import com.etiennelawlor.moviehub.util.ColorUtility;
 import com.etiennelawlor.moviehub.util.DisplayUtility;
-import com.squareup.picasso.Callback;
-import com.squareup.picasso.Picasso;
 
 import butterknife.BindView;
 import butterknife.ButterKnife;
@@ -57,11 +54,6 @@ public class SearchMoviesAdapter extends BaseAdapter<Movie> {
 
     // endregion
 
-    @Override
-    public int getItemViewType(int position) {
-        return (isLastPosition(position) && isFooterAdded) ? FOOTER : ITEM;
-    }
-
     @Override
     protected RecyclerView.ViewHolder createHeaderViewHolder(ViewGroup parent) {
         return null;
@@ -69,7 +61,7 @@ public class SearchMoviesAdapter extends BaseAdapter<Movie> {
 
     @Override
     protected RecyclerView.ViewHolder createItemViewHolder(ViewGroup parent) {
-        View v = LayoutInflater.from(parent.getContext()).inflate(R.layout.search_movie_card, parent, false);
+        View v = inflateItemView(parent, R.layout.search_movie_card);
 
         final MovieViewHolder holder = new MovieViewHolder(v);
 
@@ -129,6 +121,18 @@ public class SearchMoviesAdapter extends BaseAdapter<Movie> {
         footerViewHolder = holder;
     }
 
+    @Override
+    protected long getStableId(Movie movie) {
+        return movie.getId();
+    }
+
+    @Override
+    protected boolean areContentsTheSame(Movie oldMovie, Movie newMovie) {
+        return TextUtils.equals(oldMovie.getTitle(), newMovie.getTitle())
+                && TextUtils.equals(oldMovie.getPosterPath(), newMovie.getPosterPath())
+                && TextUtils.equals(oldMovie.getReleaseDate(), newMovie.getReleaseDate());
+    }
+
     @Override
     protected void displayLoadMoreFooter() {
         if(footerViewHolder!= null){
@@ -145,26 +149,6 @@ public class SearchMoviesAdapter extends BaseAdapter<Movie> {
         }
     }
 
-    @Override
-    public void addHeader() {
-
-    }
-
-    @Override
-    public void addFooter() {
-        isFooterAdded = true;
-        add(new Movie());
-    }
-
-    // region Helper Methods
-//    public void updatedAdapter(List<Movie> movies){
-//        DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new MovieDiffCallback(this.items, movies));
-//        clear();
-//        addAll(movies);
-//        diffResult.dispatchUpdatesTo(this);
-//    }
-    // endregion
-
     // region Inner Classes
 
     public static class HeaderViewHolder extends RecyclerView.ViewHolder {
@@ -188,6 +172,10 @@ public class SearchMoviesAdapter extends BaseAdapter<Movie> {
         TextView subtitleTextView;
         // endregion
 
+        // region Member Variables
+        private final PaletteImageLoader paletteImageLoader = new PaletteImageLoader();
+        // endregion
+
         // region Constructors
         public MovieViewHolder(View view) {
             super(view);
@@ -217,39 +205,13 @@ public class SearchMoviesAdapter extends BaseAdapter<Movie> {
             iv.setHeightRatio(heightRatio);
 
             String posterUrl = movie.getPosterUrl();
-            if (!TextUtils.isEmpty(posterUrl)) {
-                Picasso.with(iv.getContext())
-                        .load(posterUrl)
-                        .resize(ivWidth, (int)(heightRatio*ivWidth))
-                        .centerCrop()
-                        .into(iv, new Callback() {
-                            @Override
-                            public void onSuccess() {
-                                if(movie.getPosterPalette() != null){
-                                    setUpInfoBackgroundColor(vh.infoLinearLayout, movie.getPosterPalette());
-                                    setUpTitleTextColor(vh.titleTextView, movie.getPosterPalette());
-                                    setUpSubtitleTextColor(vh.subtitleTextView, movie.getPosterPalette());
-                                } else {
-                                    Bitmap bitmap = ((BitmapDrawable) iv.getDrawable()).getBitmap();
-                                    Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
-                                        public void onGenerated(Palette palette) {
-                                            movie.setPosterPalette(palette);
-
-                                            setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
-                                            setUpTitleTextColor(vh.titleTextView, palette);
-                                            setUpSubtitleTextColor(vh.subtitleTextView, palette);
-                                        }
-                                    });
-                                }
-                            }
-
-                            @Override
-                            public void onError() {
-
-                            }
-                        });
+            vh.paletteImageLoader.load(iv, posterUrl, ivWidth, (int)(heightRatio*ivWidth), palette -> {
+                movie.setPosterPalette(palette);
 
-            }
+                setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
+                setUpTitleTextColor(vh.titleTextView, palette);
+                setUpSubtitleTextColor(vh.subtitleTextView, palette);
+            });
         }
 
         private void resetInfoBackgroundColor(LinearLayout ll) {
@@ -327,47 +289,5 @@ public class SearchMoviesAdapter extends BaseAdapter<Movie> {
         }
         // endregion
     }
-
-//    private class MovieDiffCallback extends DiffUtil.Callback {
-//
-//        // region Member Variables
-//        private List<Movie> oldMovies;
-//        private List<Movie> newMovies;
-//        // endregion
-//
-//        // region Constructors
-//        public MovieDiffCallback(List<Movie> newMovies, List<Movie> oldMovies) {
-//            this.newMovies = newMovies;
-//            this.oldMovies = oldMovies;
-//        }
-//        // endregion
-//
-//        @Override
-//        public int getOldListSize() {
-//            return oldMovies.size();
-//        }
-//
-//        @Override
-//        public int getNewListSize() {
-//            return newMovies.size();
-//        }
-//
-//        @Override
-//        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
-//            return oldMovies.get(oldItemPosition).getId() == newMovies.get(newItemPosition).getId();
-//        }
-//
-//        @Override
-//        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
-//            return oldMovies.get(oldItemPosition).equals(newMovies.get(newItemPosition));
-//        }
-//
-//        @Nullable
-//        @Override
-//        public Object getChangePayload(int oldItemPosition, int newItemPosition) {
-//            // you can return particular field for changed item.
-//            return super.getChangePayload(oldItemPosition, newItemPosition);
-//        }
-//    }
     // endregion
 }
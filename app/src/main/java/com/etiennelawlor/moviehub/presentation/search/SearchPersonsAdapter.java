@@ -1,8 +1,6 @@
 package com.etiennelawlor.moviehub.presentation.search;
 
 import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.drawable.BitmapDrawable;
 import android.support.v4.content.ContextCompat;
 import android.support.v7.graphics.Palette;
 import android.support.v7.widget.RecyclerView;
@@ -20,12 +18,11 @@ import android.widget.TextView;
 import com.etiennelawlor.moviehub.R;
 import com.etiennelawlor.moviehub.data.network.response.Person;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
+import com.etiennelawlor.moviehub.presentation.common.PaletteImageLoader;
 import com.etiennelawlor.moviehub.presentation.common.widget.DynamicHeightImageView;
 import com.etiennelawlor.moviehub.util.AnimationUtility;
 import com.etiennelawlor.moviehub.util.ColorUtility;
 import com.etiennelawlor.moviehub.util.DisplayUtility;
-import com.squareup.picasso.Callback;
-import com.squareup.picasso.Picasso;
 
 import butterknife.BindView;
 import butterknife.ButterKnife;
@@ -57,11 +54,6 @@ public class SearchPersonsAdapter extends BaseAdapter<Person> {
 
     // endregion
 
-    @Override
-    public int getItemViewType(int position) {
-        return (isLastPosition(position) && isFooterAdded) ? FOOTER : ITEM;
-    }
-
     @Override
     protected RecyclerView.ViewHolder createHeaderViewHolder(ViewGroup parent) {
         return null;
@@ -69,7 +61,7 @@ public class SearchPersonsAdapter extends BaseAdapter<Person> {
 
     @Override
     protected RecyclerView.ViewHolder createItemViewHolder(ViewGroup parent) {
-        View v = LayoutInflater.from(parent.getContext()).inflate(R.layout.search_person_card, parent, false);
+        View v = inflateItemView(parent, R.layout.search_person_card);
 
         final PersonViewHolder holder = new PersonViewHolder(v);
 
@@ -129,6 +121,17 @@ public class SearchPersonsAdapter extends BaseAdapter<Person> {
         footerViewHolder = holder;
     }
 
+    @Override
+    protected long getStableId(Person person) {
+        return person.getId();
+    }
+
+    @Override
+    protected boolean areContentsTheSame(Person oldPerson, Person newPerson) {
+        return TextUtils.equals(oldPerson.getName(), newPerson.getName())
+                && TextUtils.equals(oldPerson.getProfilePath(), newPerson.getProfilePath());
+    }
+
     @Override
     protected void displayLoadMoreFooter() {
         if(footerViewHolder!= null){
@@ -145,17 +148,6 @@ public class SearchPersonsAdapter extends BaseAdapter<Person> {
         }
     }
 
-    @Override
-    public void addHeader() {
-
-    }
-
-    @Override
-    public void addFooter() {
-        isFooterAdded = true;
-        add(new Person());
-    }
-
     // region Inner Classes
 
     public static class HeaderViewHolder extends RecyclerView.ViewHolder {
@@ -179,6 +171,10 @@ public class SearchPersonsAdapter extends BaseAdapter<Person> {
 //        TextView subtitleTextView;
         // endregion
 
+        // region Member Variables
+        private final PaletteImageLoader paletteImageLoader = new PaletteImageLoader();
+        // endregion
+
         // region Constructors
         public PersonViewHolder(View view) {
             super(view);
@@ -206,38 +202,13 @@ public class SearchPersonsAdapter extends BaseAdapter<Person> {
             iv.setHeightRatio(heightRatio);
 
             String profileUrl = person.getProfileUrl();
-            if (!TextUtils.isEmpty(profileUrl)) {
-                Picasso.with(iv.getContext())
-                        .load(profileUrl)
-                        .resize(ivWidth, (int)(heightRatio*ivWidth))
-                        .centerCrop()
-                        .into(iv, new Callback() {
-                            @Override
-                            public void onSuccess() {
-                                if(person.getProfilePalette() != null){
-                                    setUpInfoBackgroundColor(vh.infoLinearLayout, person.getProfilePalette());
-                                    setUpTitleTextColor(vh.titleTextView, person.getProfilePalette());
-//                                setUpSubtitleTextColor(vh.subtitleTextView, person.getProfilePalette());
-                                } else {
-                                    Bitmap bitmap = ((BitmapDrawable) iv.getDrawable()).getBitmap();
-                                    Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
-                                        public void onGenerated(Palette palette) {
-                                            person.setProfilePalette(palette);
-
-                                            setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
-                                            setUpTitleTextColor(vh.titleTextView, palette);
-//                                        setUpSubtitleTextColor(vh.subtitleTextView, palette);
-                                        }
-                                    });
-                                }
-                            }
-
-                            @Override
-                            public void onError() {
-
-                            }
-                        });
-            }
+            vh.paletteImageLoader.load(iv, profileUrl, ivWidth, (int)(heightRatio*ivWidth), palette -> {
+                person.setProfilePalette(palette);
+
+                setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
+                setUpTitleTextColor(vh.titleTextView, palette);
+//              setUpSubtitleTextColor(vh.subtitleTextView, palette);
+            });
         }
 
         private void resetInfoBackgroundColor(LinearLayout ll) {
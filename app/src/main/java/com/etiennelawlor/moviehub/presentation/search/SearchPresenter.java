@@ -3,12 +3,18 @@ package com.etiennelawlor.moviehub.presentation.search;
 import com.etiennelawlor.moviehub.data.network.response.Movie;
 import com.etiennelawlor.moviehub.data.network.response.Person;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
+import com.etiennelawlor.moviehub.data.repositories.Page;
 import com.etiennelawlor.moviehub.data.repositories.search.SearchDataSourceContract;
 import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper;
+import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper.CategoryState;
 import com.etiennelawlor.moviehub.util.EspressoIdlingResource;
 import com.etiennelawlor.moviehub.util.NetworkUtility;
 import com.etiennelawlor.moviehub.util.rxjava.SchedulerTransformer;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import rx.Observable;
@@ -18,6 +24,7 @@ import rx.android.schedulers.AndroidSchedulers;
 import rx.functions.Action0;
 import rx.functions.Action1;
 import rx.functions.Func1;
+import rx.functions.Func2;
 import rx.schedulers.Schedulers;
 import rx.subscriptions.CompositeSubscription;
 import timber.log.Timber;
@@ -33,6 +40,14 @@ public class SearchPresenter implements SearchUiContract.Presenter {
     private final SearchDataSourceContract.Repository searchRepository;
     private final SchedulerTransformer<SearchWrapper> schedulerTransformer;
     private CompositeSubscription compositeSubscription = new CompositeSubscription();
+    private String displayedQuery;
+    private CategoryState moviesState;
+    private CategoryState televisionShowsState;
+    private CategoryState personsState;
+    private CompositeSubscription pagingSubscriptions = new CompositeSubscription();
+    private final CategoryPaging<Movie> moviesPaging = new CategoryPaging<>(Movie::getId);
+    private final CategoryPaging<TelevisionShow> televisionShowsPaging = new CategoryPaging<>(TelevisionShow::getId);
+    private final CategoryPaging<Person> personsPaging = new CategoryPaging<>(Person::getId);
     // endregion
 
     // region Constructors
@@ -49,6 +64,7 @@ public class SearchPresenter implements SearchUiContract.Presenter {
     public void onDestroyView() {
         if(compositeSubscription != null && compositeSubscription.hasSubscriptions())
             compositeSubscription.clear();
+        resetPaging();
     }
 
     @Override
@@ -69,6 +85,10 @@ public class SearchPresenter implements SearchUiContract.Presenter {
                 .filter(new Func1<CharSequence, Boolean>() {
                     @Override
                     public Boolean call(CharSequence charSequence) {
+                        // Whatever arrives next belongs to a new search
+                        displayedQuery = null;
+                        resetPaging();
+
                         if(isEmpty(charSequence)){
                             searchView.hideLoadingView();
 
@@ -134,34 +154,61 @@ public class SearchPresenter implements SearchUiContract.Presenter {
                     public void onNext(SearchWrapper searchWrapper) {
                         searchView.hideLoadingView();
                         if (searchWrapper != null) {
-                            searchView.clearMoviesAdapter();
-                            searchView.clearTelevisionShowsAdapter();
-                            searchView.clearPersonsAdapter();
+                            boolean isNewQuery = displayedQuery == null || !displayedQuery.equals(searchWrapper.getQuery());
+                            displayedQuery = searchWrapper.getQuery();
 
-                            if(searchWrapper.hasMovies()){
-                                searchView.addMoviesToAdapter(searchWrapper.getMovies());
-                                searchView.showMoviesView();
-                            } else {
-                                searchView.hideMoviesView();
+                            // Only redraw the categories that just arrived, the rest keep what is on screen
+                            if(shouldBindCategory(isNewQuery, moviesState, searchWrapper.getMoviesState())){
+                                if(searchWrapper.hasMovies()){
+                                    // Diffed against the previous results, so rows a refined query keeps are not rebound
+                                    searchView.setMoviesInAdapter(searchWrapper.getMovies());
+                                    searchView.showMoviesView();
+                                } else {
+                                    searchView.clearMoviesAdapter();
+                                    searchView.hideMoviesView();
+                                }
+
+                                // Only page a category once its first page has actually arrived
+                                moviesPaging.reset(searchWrapper.getMovies(),
+                                        searchWrapper.getMoviesState() != CategoryState.LOADED || searchWrapper.isMoviesLastPage());
                             }
+                            moviesState = searchWrapper.getMoviesState();
+
+                            if(shouldBindCategory(isNewQuery, televisionShowsState, searchWrapper.getTelevisionShowsState())){
+                                if(searchWrapper.hasTelevisionShows()){
+                                    searchView.setTelevisionShowsInAdapter(searchWrapper.getTelevisionShows());
+                                    searchView.showTelevisionShowsView();
+                                } else {
+                                    searchView.clearTelevisionShowsAdapter();
+                                    searchView.hideTelevisionShowsView();
+                                }
 
-                            if(searchWrapper.hasTelevisionShows()){
-                                searchView.addTelevisionShowsToAdapter(searchWrapper.getTelevisionShows());
-                                searchView.showTelevisionShowsView();
-                            } else {
-                                searchView.hideTelevisionShowsView();
+                                // Only page a category once its first page has actually arrived
+                                televisionShowsPaging.reset(searchWrapper.getTelevisionShows(),
+                                        searchWrapper.getTelevisionShowsState() != CategoryState.LOADED || searchWrapper.isTelevisionShowsLastPage());
                             }
+                            televisionShowsState = searchWrapper.getTelevisionShowsState();
+
+                            if(shouldBindCategory(isNewQuery, personsState, searchWrapper.getPersonsState())){
+                                if(searchWrapper.hasPersons()){
+                                    searchView.setPersonsInAdapter(searchWrapper.getPersons());
+                                    searchView.showPersonsView();
+                                } else {
+                                    searchView.clearPersonsAdapter();
+                                    searchView.hidePersonsView();
+                                }
 
-                            if(searchWrapper.hasPersons()){
-                                searchView.addPersonsToAdapter(searchWrapper.getPersons());
-                                searchView.showPersonsView();
-                            } else {
-                                searchView.hidePersonsView();
+                                // Only page a category once its first page has actually arrived
+                                personsPaging.reset(searchWrapper.getPersons(),
+                                        searchWrapper.getPersonsState() != CategoryState.LOADED || searchWrapper.isPersonsLastPage());
                             }
+                            personsState = searchWrapper.getPersonsState();
 
                             if(searchWrapper.hasResults()){
                                 searchView.hideEmptyView();
-                            } else {
+                            } else if(searchWrapper.hasFailedCompletely()){
+                                searchView.showErrorView();
+                            } else if(searchWrapper.isComplete()){
                                 searchView.setEmptyText(String.format("No results found for \"%s\"", searchWrapper.getQuery()));
                                 searchView.showEmptyView();
                             }
@@ -186,9 +233,92 @@ public class SearchPresenter implements SearchUiContract.Presenter {
         searchView.openPersonDetails(person);
     }
 
+    @Override
+    public void onScrollToEndOfMovies() {
+        loadNextPage(moviesPaging, "movies", searchRepository::getMoviesSearchPage, searchView::addMoviesToAdapter);
+    }
+
+    @Override
+    public void onScrollToEndOfTelevisionShows() {
+        loadNextPage(televisionShowsPaging, "TV shows", searchRepository::getTelevisionShowsSearchPage, searchView::addTelevisionShowsToAdapter);
+    }
+
+    @Override
+    public void onScrollToEndOfPersons() {
+        loadNextPage(personsPaging, "persons", searchRepository::getPersonsSearchPage, searchView::addPersonsToAdapter);
+    }
+
+    @Override
+    public boolean isMoviesPageLoading() {
+        return moviesPaging.isLoading;
+    }
+
+    @Override
+    public boolean isMoviesLastPage() {
+        return displayedQuery == null || moviesPaging.isLastPage;
+    }
+
+    @Override
+    public boolean isTelevisionShowsPageLoading() {
+        return televisionShowsPaging.isLoading;
+    }
+
+    @Override
+    public boolean isTelevisionShowsLastPage() {
+        return displayedQuery == null || televisionShowsPaging.isLastPage;
+    }
+
+    @Override
+    public boolean isPersonsPageLoading() {
+        return personsPaging.isLoading;
+    }
+
+    @Override
+    public boolean isPersonsLastPage() {
+        return displayedQuery == null || personsPaging.isLastPage;
+    }
+
     // endregion
 
     // region Helper Methods
+    private <T> void loadNextPage(final CategoryPaging<T> paging, final String category, Func2<String, Integer, Observable<? extends Page<T>>> getPage, Action1<List<T>> addToAdapter) {
+        if(displayedQuery == null || paging.isLastPage || paging.isLoading)
+            return;
+
+        paging.isLoading = true;
+        final String query = displayedQuery;
+        final int pageNumber = paging.pageNumber + 1;
+        Subscription subscription = getPage.call(query, pageNumber)
+                .subscribeOn(Schedulers.io())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(page -> {
+                    paging.isLoading = false;
+                    if(!query.equals(displayedQuery))
+                        return;
+
+                    paging.pageNumber = page.getPageNumber();
+                    paging.isLastPage = page.isLastPage();
+                    List<T> newItems = paging.getNewItems(page.getItems());
+                    if(!newItems.isEmpty())
+                        addToAdapter.call(newItems);
+                }, throwable -> {
+                    Timber.e(throwable, "Unable to load page %d of %s for \"%s\"", pageNumber, category, query);
+                    paging.isLoading = false;
+                });
+        pagingSubscriptions.add(subscription);
+    }
+
+    private void resetPaging() {
+        pagingSubscriptions.clear();
+        moviesPaging.isLoading = false;
+        televisionShowsPaging.isLoading = false;
+        personsPaging.isLoading = false;
+    }
+
+    private static boolean shouldBindCategory(boolean isNewQuery, CategoryState displayedState, CategoryState state) {
+        return isNewQuery || (displayedState == CategoryState.PENDING && state != CategoryState.PENDING);
+    }
+
     public static boolean isEmpty(CharSequence str) {
         if (str == null || str.length() == 0)
             return true;
@@ -196,4 +326,44 @@ public class SearchPresenter implements SearchUiContract.Presenter {
             return false;
     }
     // endregion
+
+    // region Inner Classes
+    // Paging state of one category of the displayed search
+    private static class CategoryPaging<T> {
+
+        // region Member Variables
+        private final Func1<T, Integer> getId;
+        // Local matches shown with the first page can come back on a later one, the adapter
+        // needs its ids to be unique
+        private final Set<Integer> ids = new HashSet<>();
+        private int pageNumber;
+        private boolean isLastPage;
+        private boolean isLoading;
+        // endregion
+
+        CategoryPaging(Func1<T, Integer> getId) {
+            this.getId = getId;
+        }
+
+        void reset(List<T> firstPageItems, boolean isLastPage) {
+            ids.clear();
+            getNewItems(firstPageItems);
+            pageNumber = 1;
+            this.isLastPage = isLastPage;
+        }
+
+        // The items not in the adapter yet, which from then on count as in it
+        List<T> getNewItems(List<T> items) {
+            List<T> newItems = new ArrayList<>();
+            if(items == null)
+                return newItems;
+
+            for(T item : items){
+                if(ids.add(getId.call(item)))
+                    newItems.add(item);
+            }
+            return newItems;
+        }
+    }
+    // endregion
 }
@@ -1,8 +1,6 @@
 package com.etiennelawlor.moviehub.presentation.search;
 
 import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.drawable.BitmapDrawable;
 import android.support.v4.content.ContextCompat;
 import android.support.v7.graphics.Palette;
 import android.support.v7.widget.RecyclerView;
@@ -20,12 +18,11 @@ import android.widget.TextView;
 import com.etiennelawlor.moviehub.R;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
+import com.etiennelawlor.moviehub.presentation.common.PaletteImageLoader;
 import com.etiennelawlor.moviehub.presentation.common.widget.DynamicHeightImageView;
 import com.etiennelawlor.moviehub.util.AnimationUtility;
 import com.etiennelawlor.moviehub.util.ColorUtility;
 import com.etiennelawlor.moviehub.util.DisplayUtility;
-import com.squareup.picasso.Callback;
-import com.squareup.picasso.Picasso;
 
 import butterknife.BindView;
 import butterknife.ButterKnife;
@@ -57,11 +54,6 @@ public class SearchTelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
 
     // endregion
 
-    @Override
-    public int getItemViewType(int position) {
-        return (isLastPosition(position) && isFooterAdded) ? FOOTER : ITEM;
-    }
-
     @Override
     protected RecyclerView.ViewHolder createHeaderViewHolder(ViewGroup parent) {
         return null;
@@ -69,7 +61,7 @@ public class SearchTelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
 
     @Override
     protected RecyclerView.ViewHolder createItemViewHolder(ViewGroup parent) {
-        View v = LayoutInflater.from(parent.getContext()).inflate(R.layout.search_television_show_card, parent, false);
+        View v = inflateItemView(parent, R.layout.search_television_show_card);
 
         final TelevisionShowViewHolder holder = new TelevisionShowViewHolder(v);
 
@@ -129,6 +121,18 @@ public class SearchTelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
         footerViewHolder = holder;
     }
 
+    @Override
+    protected long getStableId(TelevisionShow televisionShow) {
+        return televisionShow.getId();
+    }
+
+    @Override
+    protected boolean areContentsTheSame(TelevisionShow oldTelevisionShow, TelevisionShow newTelevisionShow) {
+        return TextUtils.equals(oldTelevisionShow.getName(), newTelevisionShow.getName())
+                && TextUtils.equals(oldTelevisionShow.getPosterPath(), newTelevisionShow.getPosterPath())
+                && TextUtils.equals(oldTelevisionShow.getFirstAirDate(), newTelevisionShow.getFirstAirDate());
+    }
+
     @Override
     protected void displayLoadMoreFooter() {
         if(footerViewHolder!= null){
@@ -145,17 +149,6 @@ public class SearchTelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
         }
     }
 
-    @Override
-    public void addHeader() {
-
-    }
-
-    @Override
-    public void addFooter() {
-        isFooterAdded = true;
-        add(new TelevisionShow());
-    }
-
     // region Inner Classes
 
     public static class HeaderViewHolder extends RecyclerView.ViewHolder {
@@ -179,6 +172,10 @@ public class SearchTelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
         TextView subtitleTextView;
         // endregion
 
+        // region Member Variables
+        private final PaletteImageLoader paletteImageLoader = new PaletteImageLoader();
+        // endregion
+
         // region Constructors
         public TelevisionShowViewHolder(View view) {
             super(view);
@@ -208,39 +205,13 @@ public class SearchTelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
             iv.setHeightRatio(heightRatio);
 
             String posterUrl = televisionShow.getPosterUrl();
-            if (!TextUtils.isEmpty(posterUrl)) {
-                Picasso.with(iv.getContext())
-                        .load(posterUrl)
-                        .resize(ivWidth, (int)(heightRatio*ivWidth))
-                        .centerCrop()
-                        .into(iv, new Callback() {
-                            @Override
-                            public void onSuccess() {
-                                if(televisionShow.getPosterPalette() != null){
-                                    setUpInfoBackgroundColor(vh.infoLinearLayout, televisionShow.getPosterPalette());
-                                    setUpTitleTextColor(vh.titleTextView, televisionShow.getPosterPalette());
-                                    setUpSubtitleTextColor(vh.subtitleTextView, televisionShow.getPosterPalette());
-                                } else {
-                                    Bitmap bitmap = ((BitmapDrawable) iv.getDrawable()).getBitmap();
-                                    Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
-                                        public void onGenerated(Palette palette) {
-                                            televisionShow.setPosterPalette(palette);
-
-                                            setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
-                                            setUpTitleTextColor(vh.titleTextView, palette);
-                                            setUpSubtitleTextColor(vh.subtitleTextView, palette);
-                                        }
-                                    });
-                                }
-                            }
-
-                            @Override
-                            public void onError() {
-
-                            }
-                        });
+            vh.paletteImageLoader.load(iv, posterUrl, ivWidth, (int)(heightRatio*ivWidth), palette -> {
+                televisionShow.setPosterPalette(palette);
 
-            }
+                setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
+                setUpTitleTextColor(vh.titleTextView, palette);
+                setUpSubtitleTextColor(vh.subtitleTextView, palette);
+            });
         }
 
         private void resetInfoBackgroundColor(LinearLayout ll) {
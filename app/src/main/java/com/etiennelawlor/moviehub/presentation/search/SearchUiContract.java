@@ -24,14 +24,17 @@ public interface SearchUiContract {
         void showErrorView();
         void addMoviesToAdapter(List<Movie> movies);
         void clearMoviesAdapter();
+        void setMoviesInAdapter(List<Movie> movies);
         void hideMoviesView();
         void showMoviesView();
         void addTelevisionShowsToAdapter(List<TelevisionShow> televisionShows);
         void clearTelevisionShowsAdapter();
+        void setTelevisionShowsInAdapter(List<TelevisionShow> televisionShows);
         void hideTelevisionShowsView();
         void showTelevisionShowsView();
         void addPersonsToAdapter(List<Person> persons);
         void clearPersonsAdapter();
+        void setPersonsInAdapter(List<Person> persons);
         void hidePersonsView();
         void showPersonsView();
 
@@ -46,5 +49,14 @@ public interface SearchUiContract {
         void onMovieClick(Movie movie);
         void onTelevisionShowClick(TelevisionShow televisionShow);
         void onPersonClick(Person person);
+        void onScrollToEndOfMovies();
+        void onScrollToEndOfTelevisionShows();
+        void onScrollToEndOfPersons();
+        boolean isMoviesPageLoading();
+        boolean isMoviesLastPage();
+        boolean isTelevisionShowsPageLoading();
+        boolean isTelevisionShowsLastPage();
+        boolean isPersonsPageLoading();
+        boolean isPersonsLastPage();
     }
 }
@@ -1,8 +1,6 @@
 package com.etiennelawlor.moviehub.presentation.televisionshowdetails;
 
 import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.drawable.BitmapDrawable;
 import android.support.v4.content.ContextCompat;
 import android.support.v7.graphics.Palette;
 import android.support.v7.widget.RecyclerView;
@@ -20,12 +18,12 @@ import android.widget.TextView;
 import com.etiennelawlor.moviehub.R;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShowCredit;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
+import com.etiennelawlor.moviehub.presentation.common.CarouselViewPool;
+import com.etiennelawlor.moviehub.presentation.common.PaletteImageLoader;
 import com.etiennelawlor.moviehub.presentation.common.widget.DynamicHeightImageView;
 import com.etiennelawlor.moviehub.util.AnimationUtility;
 import com.etiennelawlor.moviehub.util.ColorUtility;
 import com.etiennelawlor.moviehub.util.DisplayUtility;
-import com.squareup.picasso.Callback;
-import com.squareup.picasso.Picasso;
 
 import butterknife.BindView;
 import butterknife.ButterKnife;
@@ -57,11 +55,6 @@ public class TelevisionShowCreditsAdapter extends BaseAdapter<TelevisionShowCred
 
     // endregion
 
-    @Override
-    public int getItemViewType(int position) {
-        return (isLastPosition(position) && isFooterAdded) ? FOOTER : ITEM;
-    }
-
     @Override
     protected RecyclerView.ViewHolder createHeaderViewHolder(ViewGroup parent) {
         return null;
@@ -69,19 +62,14 @@ public class TelevisionShowCreditsAdapter extends BaseAdapter<TelevisionShowCred
 
     @Override
     protected RecyclerView.ViewHolder createItemViewHolder(ViewGroup parent) {
-        View v = LayoutInflater.from(parent.getContext()).inflate(R.layout.television_show_credit_card, parent, false);
+        View v = CarouselViewPool.getInstance().getLayoutInflater(parent.getContext()).inflate(R.layout.television_show_credit_card, parent, false);
 
         final TelevisionShowCreditViewHolder holder = new TelevisionShowCreditViewHolder(v);
 
         holder.itemView.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                int adapterPos = holder.getAdapterPosition();
-                if (adapterPos != RecyclerView.NO_POSITION) {
-                    if (onItemClickListener != null) {
-                        onItemClickListener.onItemClick(adapterPos, holder.itemView);
-                    }
-                }
+                dispatchItemClick(holder);
             }
         });
 
@@ -129,6 +117,25 @@ public class TelevisionShowCreditsAdapter extends BaseAdapter<TelevisionShowCred
         footerViewHolder = holder;
     }
 
+    @Override
+    public int getItemType() {
+        return R.layout.television_show_credit_card;
+    }
+
+    @Override
+    protected long getStableId(TelevisionShowCredit televisionShowCredit) {
+        String creditId = televisionShowCredit.getCreditId();
+        return TextUtils.isEmpty(creditId) ? televisionShowCredit.getId() : creditId.hashCode();
+    }
+
+    @Override
+    protected boolean areContentsTheSame(TelevisionShowCredit oldTelevisionShowCredit, TelevisionShowCredit newTelevisionShowCredit) {
+        return TextUtils.equals(oldTelevisionShowCredit.getName(), newTelevisionShowCredit.getName())
+                && TextUtils.equals(oldTelevisionShowCredit.getJob(), newTelevisionShowCredit.getJob())
+                && TextUtils.equals(oldTelevisionShowCredit.getCharacter(), newTelevisionShowCredit.getCharacter())
+                && TextUtils.equals(oldTelevisionShowCredit.getProfilePath(), newTelevisionShowCredit.getProfilePath());
+    }
+
     @Override
     protected void displayLoadMoreFooter() {
         if(footerViewHolder!= null){
@@ -145,17 +152,6 @@ public class TelevisionShowCreditsAdapter extends BaseAdapter<TelevisionShowCred
         }
     }
 
-    @Override
-    public void addHeader() {
-
-    }
-
-    @Override
-    public void addFooter() {
-        isFooterAdded = true;
-        add(new TelevisionShowCredit());
-    }
-
     // region Inner Classes
 
     public static class HeaderViewHolder extends RecyclerView.ViewHolder {
@@ -179,6 +175,10 @@ public class TelevisionShowCreditsAdapter extends BaseAdapter<TelevisionShowCred
         TextView subtitleTextView;
         // endregion
 
+        // region Member Variables
+        private final PaletteImageLoader paletteImageLoader = new PaletteImageLoader();
+        // endregion
+
         // region Constructors
         public TelevisionShowCreditViewHolder(View view) {
             super(view);
@@ -208,39 +208,13 @@ public class TelevisionShowCreditsAdapter extends BaseAdapter<TelevisionShowCred
             iv.setHeightRatio(heightRatio);
 
             String posterUrl = televisionShowCredit.getProfileUrl();
-            if (!TextUtils.isEmpty(posterUrl)) {
-                Picasso.with(iv.getContext())
-                        .load(posterUrl)
-                        .resize(ivWidth, (int)(heightRatio*ivWidth))
-                        .centerCrop()
-                        .into(iv, new Callback() {
-                            @Override
-                            public void onSuccess() {
-                                if(televisionShowCredit.getProfilePalette() != null){
-                                    setUpInfoBackgroundColor(vh.infoLinearLayout, televisionShowCredit.getProfilePalette());
-                                    setUpTitleTextColor(vh.titleTextView, televisionShowCredit.getProfilePalette());
-                                    setUpSubtitleTextColor(vh.subtitleTextView, televisionShowCredit.getProfilePalette());
-                                } else {
-                                    Bitmap bitmap = ((BitmapDrawable) iv.getDrawable()).getBitmap();
-                                    Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
-                                        public void onGenerated(Palette palette) {
-                                            televisionShowCredit.setProfilePalette(palette);
-
-                                            setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
-                                            setUpTitleTextColor(vh.titleTextView, palette);
-                                            setUpSubtitleTextColor(vh.subtitleTextView, palette);
-                                        }
-                                    });
-                                }
-                            }
-
-                            @Override
-                            public void onError() {
-
-                            }
-                        });
+            vh.paletteImageLoader.load(iv, posterUrl, ivWidth, (int)(heightRatio*ivWidth), palette -> {
+                televisionShowCredit.setProfilePalette(palette);
 
-            }
+                setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
+                setUpTitleTextColor(vh.titleTextView, palette);
+                setUpSubtitleTextColor(vh.subtitleTextView, palette);
+            });
         }
 
         private void resetInfoBackgroundColor(LinearLayout ll) {
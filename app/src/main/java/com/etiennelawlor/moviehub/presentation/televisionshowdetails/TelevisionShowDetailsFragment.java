@@ -57,6 +57,7 @@ import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowDeta
 import com.etiennelawlor.moviehub.domain.TelevisionShowDetailsUseCase;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
 import com.etiennelawlor.moviehub.presentation.base.BaseFragment;
+import com.etiennelawlor.moviehub.presentation.common.CarouselViewPool;
 import com.etiennelawlor.moviehub.presentation.common.GravitySnapHelper;
 import com.etiennelawlor.moviehub.presentation.persondetails.PersonDetailsActivity;
 import com.etiennelawlor.moviehub.util.AnimationUtility;
@@ -64,6 +65,8 @@ import com.etiennelawlor.moviehub.util.ColorUtility;
 import com.etiennelawlor.moviehub.util.DateUtility;
 import com.etiennelawlor.moviehub.util.DisplayUtility;
 import com.etiennelawlor.moviehub.util.FontCache;
+import com.etiennelawlor.moviehub.util.PaletteCache;
+import com.etiennelawlor.moviehub.util.PaletteTransformation;
 import com.etiennelawlor.moviehub.util.TrestleUtility;
 import com.etiennelawlor.moviehub.util.ViewUtility;
 import com.etiennelawlor.moviehub.util.rxjava.ProductionSchedulerTransformer;
@@ -232,8 +235,10 @@ public class TelevisionShowDetailsFragment extends BaseFragment implements Telev
 
         @Override
         public void onTransitionEnd(Transition transition) {
-            if(televisionShow != null)
+            if(televisionShow != null){
                 televisionShowDetailsPresenter.onLoadTelevisionShowDetails(televisionShow.getId());
+                prewarmCarousels();
+            }
         }
 
         @Override
@@ -296,7 +301,7 @@ public class TelevisionShowDetailsFragment extends BaseFragment implements Telev
         @Override
         public void onSuccess() {
             final Bitmap bitmap = ((BitmapDrawable) backdropImageView.getDrawable()).getBitmap();
-            Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
+            PaletteCache.getInstance().getPalette(getBackdropUrl(televisionShow), bitmap, new Palette.PaletteAsyncListener() {
                 public void onGenerated(Palette palette) {
                     boolean isDark;
                     @ColorUtility.Lightness int lightness = ColorUtility.isDark(palette);
@@ -383,7 +388,7 @@ public class TelevisionShowDetailsFragment extends BaseFragment implements Telev
         @Override
         public void onSuccess() {
             final Bitmap bitmap = ((BitmapDrawable) televisionShowPosterImageView.getDrawable()).getBitmap();
-            Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
+            PaletteCache.getInstance().getPalette(getPosterUrl(televisionShow), bitmap, new Palette.PaletteAsyncListener() {
                 public void onGenerated(Palette palette) {
                     setUpTelevisionShowHeaderBackgroundColor(palette);
                     setUpTitleTextColor(titleTextView, palette);
@@ -609,6 +614,7 @@ public class TelevisionShowDetailsFragment extends BaseFragment implements Telev
                     .load(backdropUrl)
                     .resize((int)(1.5D*height), height)
                     .centerCrop()
+                    .transform(new PaletteTransformation(backdropUrl))
                     .into(backdropImageView, backdropCallback);
         }
     }
@@ -620,6 +626,7 @@ public class TelevisionShowDetailsFragment extends BaseFragment implements Telev
                     .load(posterUrl)
                     .resize(DisplayUtility.dp2px(televisionShowPosterImageView.getContext(), 104), DisplayUtility.dp2px(televisionShowPosterImageView.getContext(), 156))
                     .centerCrop()
+                    .transform(new PaletteTransformation(posterUrl))
                     .into(televisionShowPosterImageView, posterCallback);
         }
     }
@@ -649,6 +656,13 @@ public class TelevisionShowDetailsFragment extends BaseFragment implements Telev
         televisionShowDetailsBodyLinearLayout.startAnimation(animation);
     }
 
+    // The cards are inflated while the details load, unless an earlier screen left enough in the pool
+    private void prewarmCarousels(){
+        CarouselViewPool carouselViewPool = CarouselViewPool.getInstance();
+        carouselViewPool.prewarm(getContext(), new TelevisionShowCreditsAdapter(getContext()), 2 * CarouselViewPool.INITIAL_PREFETCH_ITEM_COUNT);
+        carouselViewPool.prewarm(getContext(), new SimilarTelevisionShowsAdapter(getContext()), CarouselViewPool.INITIAL_PREFETCH_ITEM_COUNT);
+    }
+
     private void setUpCast(){
         List<TelevisionShowCredit> cast = televisionShowDetailsWrapper.getCast();
         if(cast != null && cast.size()>0){
@@ -660,6 +674,7 @@ public class TelevisionShowDetailsFragment extends BaseFragment implements Telev
             castRecyclerView.setLayoutManager(layoutManager);
             castAdapter = new TelevisionShowCreditsAdapter(getContext());
             castAdapter.setOnItemClickListener(castAdapterOnItemClickListener);
+            CarouselViewPool.getInstance().setUp(castRecyclerView, castAdapter);
             castRecyclerView.setAdapter(castAdapter);
             SnapHelper snapHelper = new GravitySnapHelper(Gravity.START);
             snapHelper.attachToRecyclerView(castRecyclerView);
@@ -679,6 +694,7 @@ public class TelevisionShowDetailsFragment extends BaseFragment implements Telev
             crewRecyclerView.setLayoutManager(layoutManager);
             crewAdapter = new TelevisionShowCreditsAdapter(getContext());
             crewAdapter.setOnItemClickListener(crewAdapterOnItemClickListener);
+            CarouselViewPool.getInstance().setUp(crewRecyclerView, crewAdapter);
             crewRecyclerView.setAdapter(crewAdapter);
             SnapHelper snapHelper = new GravitySnapHelper(Gravity.START);
             snapHelper.attachToRecyclerView(crewRecyclerView);
@@ -698,6 +714,7 @@ public class TelevisionShowDetailsFragment extends BaseFragment implements Telev
             similarTelevisionShowsRecyclerView.setLayoutManager(layoutManager);
             similarTelevisionShowsAdapter = new SimilarTelevisionShowsAdapter(getContext());
             similarTelevisionShowsAdapter.setOnItemClickListener(similarTelevisionShowsAdapterOnItemClickListener);
+            CarouselViewPool.getInstance().setUp(similarTelevisionShowsRecyclerView, similarTelevisionShowsAdapter);
             similarTelevisionShowsRecyclerView.setAdapter(similarTelevisionShowsAdapter);
             SnapHelper snapHelper = new GravitySnapHelper(Gravity.START);
             snapHelper.attachToRecyclerView(similarTelevisionShowsRecyclerView);
@@ -17,6 +17,8 @@ public class TelevisionShowDetailsPresenter implements TelevisionShowDetailsUiCo
     // region Member Variables
     private final TelevisionShowDetailsUiContract.View televisionShowDetailsView;
     private final TelevisionShowDetailsDomainContract.UseCase televisionShowDetailsUseCase;
+    // The detail views are inflated once, a refreshed copy is kept for the next visit instead
+    private boolean isTelevisionShowDetailsShown;
     // endregion
 
     // region Constructors
@@ -33,6 +35,7 @@ public class TelevisionShowDetailsPresenter implements TelevisionShowDetailsUiCo
     @Override
     public void onDestroyView() {
         televisionShowDetailsUseCase.clearSubscriptions();
+        isTelevisionShowDetailsShown = false;
     }
 
     @Override
@@ -56,7 +59,8 @@ public class TelevisionShowDetailsPresenter implements TelevisionShowDetailsUiCo
 
             @Override
             public void onNext(TelevisionShowDetailsWrapper televisionShowDetailsWrapper) {
-                if(televisionShowDetailsWrapper != null){
+                if(televisionShowDetailsWrapper != null && !isTelevisionShowDetailsShown){
+                    isTelevisionShowDetailsShown = true;
                     televisionShowDetailsView.showTelevisionShowDetails(televisionShowDetailsWrapper);
                 }
             }
@@ -1,8 +1,6 @@
 package com.etiennelawlor.moviehub.presentation.televisionshows;
 
 import android.content.Context;
-import android.graphics.Bitmap;
-import android.graphics.drawable.BitmapDrawable;
 import android.support.v4.content.ContextCompat;
 import android.support.v7.graphics.Palette;
 import android.support.v7.widget.RecyclerView;
@@ -20,13 +18,12 @@ import android.widget.TextView;
 import com.etiennelawlor.moviehub.R;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
+import com.etiennelawlor.moviehub.presentation.common.PaletteImageLoader;
 import com.etiennelawlor.moviehub.presentation.common.widget.DynamicHeightImageView;
 import com.etiennelawlor.moviehub.presentation.movies.MoviesAdapter;
 import com.etiennelawlor.moviehub.util.AnimationUtility;
 import com.etiennelawlor.moviehub.util.ColorUtility;
 import com.etiennelawlor.moviehub.util.DisplayUtility;
-import com.squareup.picasso.Callback;
-import com.squareup.picasso.Picasso;
 
 import butterknife.BindView;
 import butterknife.ButterKnife;
@@ -57,14 +54,6 @@ public class TelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
 
     // endregion
 
-    @Override
-    public int getItemViewType(int position) {
-        if(position == 0)
-            return HEADER;
-        else
-            return (isLastPosition(position) && isFooterAdded) ? FOOTER : ITEM;
-    }
-
     @Override
     protected RecyclerView.ViewHolder createHeaderViewHolder(ViewGroup parent) {
         View v = LayoutInflater.from(parent.getContext()).inflate(R.layout.adapter_header, parent, false);
@@ -78,7 +67,7 @@ public class TelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
 
     @Override
     protected RecyclerView.ViewHolder createItemViewHolder(ViewGroup parent) {
-        View v = LayoutInflater.from(parent.getContext()).inflate(R.layout.television_show_card, parent, false);
+        View v = inflateItemView(parent, R.layout.television_show_card);
 
         final TelevisionShowViewHolder holder = new TelevisionShowViewHolder(v);
 
@@ -129,6 +118,8 @@ public class TelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
         final TelevisionShow televisionShow = getItem(position);
         if (televisionShow != null) {
             holder.bind(televisionShow);
+        } else {
+            holder.bindPlaceholder();
         }
     }
 
@@ -138,6 +129,18 @@ public class TelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
         footerViewHolder = holder;
     }
 
+    @Override
+    protected long getStableId(TelevisionShow televisionShow) {
+        return televisionShow.getId();
+    }
+
+    @Override
+    protected boolean areContentsTheSame(TelevisionShow oldTelevisionShow, TelevisionShow newTelevisionShow) {
+        return TextUtils.equals(oldTelevisionShow.getName(), newTelevisionShow.getName())
+                && TextUtils.equals(oldTelevisionShow.getPosterPath(), newTelevisionShow.getPosterPath())
+                && TextUtils.equals(oldTelevisionShow.getFirstAirDate(), newTelevisionShow.getFirstAirDate());
+    }
+
     @Override
     protected void displayLoadMoreFooter() {
         if(footerViewHolder!= null){
@@ -154,17 +157,6 @@ public class TelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
         }
     }
 
-    @Override
-    public void addHeader() {
-        add(new TelevisionShow());
-    }
-
-    @Override
-    public void addFooter() {
-        isFooterAdded = true;
-        add(new TelevisionShow());
-    }
-
     // region Inner Classes
 
     public static class HeaderViewHolder extends RecyclerView.ViewHolder {
@@ -188,6 +180,10 @@ public class TelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
         TextView subtitleTextView;
         // endregion
 
+        // region Member Variables
+        private final PaletteImageLoader paletteImageLoader = new PaletteImageLoader();
+        // endregion
+
         // region Constructors
         public TelevisionShowViewHolder(View view) {
             super(view);
@@ -205,6 +201,18 @@ public class TelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
             setUpSubtitle(subtitleTextView, televisionShow);
         }
 
+        // Stands in for an item whose page was released, until the page is loaded again
+        private void bindPlaceholder(){
+            resetInfoBackgroundColor(infoLinearLayout);
+            resetTitleTextColor(titleTextView);
+            resetSubtitleTextColor(subtitleTextView);
+
+            paletteImageLoader.cancel(thumbnailImageView);
+            thumbnailImageView.setImageDrawable(null);
+            titleTextView.setText(null);
+            subtitleTextView.setText(null);
+        }
+
         private void setUpThumbnail(final TelevisionShowViewHolder vh, final TelevisionShow televisionShow){
             final DynamicHeightImageView iv = vh.thumbnailImageView;
 
@@ -213,38 +221,13 @@ public class TelevisionShowsAdapter extends BaseAdapter<TelevisionShow> {
             iv.setHeightRatio(heightRatio);
 
             String posterUrl = televisionShow.getPosterUrl();
-            if (!TextUtils.isEmpty(posterUrl)) {
-                Picasso.with(iv.getContext())
-                        .load(posterUrl)
-                        .resize(ivWidth, (int)(heightRatio*ivWidth))
-                        .centerCrop()
-                        .into(iv, new Callback() {
-                            @Override
-                            public void onSuccess() {
-                                if(televisionShow.getPosterPalette() != null){
-                                    setUpInfoBackgroundColor(vh.infoLinearLayout, televisionShow.getPosterPalette());
-                                    setUpTitleTextColor(vh.titleTextView, televisionShow.getPosterPalette());
-                                    setUpSubtitleTextColor(vh.subtitleTextView, televisionShow.getPosterPalette());
-                                } else {
-                                    Bitmap bitmap = ((BitmapDrawable) iv.getDrawable()).getBitmap();
-                                    Palette.from(bitmap).generate(new Palette.PaletteAsyncListener() {
-                                        public void onGenerated(Palette palette) {
-                                            televisionShow.setPosterPalette(palette);
-
-                                            setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
-                                            setUpTitleTextColor(vh.titleTextView, palette);
-                                            setUpSubtitleTextColor(vh.subtitleTextView, palette);
-                                        }
-                                    });
-                                }
-                            }
-
-                            @Override
-                            public void onError() {
-
-                            }
-                        });
-            }
+            vh.paletteImageLoader.load(iv, posterUrl, ivWidth, (int)(heightRatio*ivWidth), palette -> {
+                televisionShow.setPosterPalette(palette);
+
+                setUpInfoBackgroundColor(vh.infoLinearLayout, palette);
+                setUpTitleTextColor(vh.titleTextView, palette);
+                setUpSubtitleTextColor(vh.subtitleTextView, palette);
+            });
         }
 
         private void resetInfoBackgroundColor(LinearLayout ll) {
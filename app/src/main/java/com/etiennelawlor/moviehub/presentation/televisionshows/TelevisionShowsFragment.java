@@ -26,6 +26,9 @@ import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowsPag
 import com.etiennelawlor.moviehub.domain.TelevisionShowsUseCase;
 import com.etiennelawlor.moviehub.presentation.base.BaseAdapter;
 import com.etiennelawlor.moviehub.presentation.base.BaseFragment;
+import com.etiennelawlor.moviehub.presentation.common.ItemViewPrewarmer;
+import com.etiennelawlor.moviehub.presentation.common.PrefetchScrollListener;
+import com.etiennelawlor.moviehub.presentation.common.VisibleRangeScrollListener;
 import com.etiennelawlor.moviehub.presentation.televisionshowdetails.TelevisionShowDetailsActivity;
 import com.etiennelawlor.moviehub.util.FontCache;
 import com.etiennelawlor.moviehub.util.rxjava.ProductionSchedulerTransformer;
@@ -46,6 +49,9 @@ public class TelevisionShowsFragment extends BaseFragment implements TelevisionS
 
     // region Constants
     public static final String KEY_TELEVISION_SHOW = "KEY_TELEVISION_SHOW";
+    private static final int PREFETCH_DISTANCE = 10;
+    // Posters are 2:3, the info bar below them is left out
+    private static final double CARD_HEIGHT_RATIO = 3.0D/2.0D;
     // endregion
 
     // region Views
@@ -67,6 +73,7 @@ public class TelevisionShowsFragment extends BaseFragment implements TelevisionS
     private TelevisionShowsAdapter televisionShowsAdapter;
     private Typeface font;
     private Unbinder unbinder;
+    private ItemViewPrewarmer itemViewPrewarmer;
     private StaggeredGridLayoutManager layoutManager;
     private boolean isLoading = false;
     private TelevisionShowsPage televisionShowsPage;
@@ -79,27 +86,28 @@ public class TelevisionShowsFragment extends BaseFragment implements TelevisionS
         televisionShowsPresenter.onLoadPopularTelevisionShows(televisionShowsPage == null ? 1 : televisionShowsPage.getPageNumber());
     }
 
-    private RecyclerView.OnScrollListener recyclerViewOnScrollListener = new RecyclerView.OnScrollListener() {
+    private PrefetchScrollListener recyclerViewOnScrollListener = new PrefetchScrollListener(PREFETCH_DISTANCE) {
         @Override
-        public void onScrollStateChanged(final RecyclerView recyclerView, int newState) {
-            super.onScrollStateChanged(recyclerView, newState);
+        public boolean isLoading() {
+            return isLoading;
         }
 
         @Override
-        public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
-            super.onScrolled(recyclerView, dx, dy);
-
-            int visibleItemCount = recyclerView.getChildCount();
-            int totalItemCount = recyclerView.getAdapter().getItemCount();
-            int[] positions = layoutManager.findFirstVisibleItemPositions(null);
-            int firstVisibleItem = positions[1];
-
-            if ((visibleItemCount + firstVisibleItem) >= totalItemCount
-                    && totalItemCount > 0
-                    && !isLoading
-                    && !televisionShowsPage.isLastPage()) {
-                televisionShowsPresenter.onScrollToEndOfList();
-            }
+        public boolean isLastPage() {
+            return televisionShowsPage == null || televisionShowsPage.isLastPage();
+        }
+
+        @Override
+        public void onPrefetch() {
+            televisionShowsPresenter.onScrollToEndOfList();
+        }
+    };
+
+    private VisibleRangeScrollListener visibleRangeScrollListener = new VisibleRangeScrollListener() {
+        @Override
+        public void onVisibleRangeChanged(int firstVisiblePosition, int lastVisiblePosition) {
+            int headerCount = televisionShowsAdapter.getHeaderCount();
+            televisionShowsPresenter.onVisibleItemsChanged(Math.max(0, firstVisiblePosition - headerCount), Math.max(0, lastVisiblePosition - headerCount));
         }
     };
 
@@ -157,19 +165,28 @@ public class TelevisionShowsFragment extends BaseFragment implements TelevisionS
         televisionShowsAdapter = new TelevisionShowsAdapter(getContext());
         televisionShowsAdapter.setOnItemClickListener(this);
         televisionShowsAdapter.setOnReloadClickListener(this);
+        itemViewPrewarmer = new ItemViewPrewarmer(getContext());
+        televisionShowsAdapter.setItemViewPrewarmer(itemViewPrewarmer);
         recyclerView.setItemAnimator(new SlideInUpAnimator());
         recyclerView.setAdapter(televisionShowsAdapter);
 
         // Pagination
         recyclerView.addOnScrollListener(recyclerViewOnScrollListener);
+        recyclerView.addOnScrollListener(visibleRangeScrollListener);
 
         televisionShowsPresenter.onLoadPopularTelevisionShows(televisionShowsPage == null ? 1 : televisionShowsPage.getPageNumber());
+
+        // The first page binds a screenful of cards in one frame, they are inflated while it loads
+        if(televisionShowsPage == null)
+            itemViewPrewarmer.prewarm(recyclerView, R.layout.television_show_card,
+                    ItemViewPrewarmer.getScreenfulItemCount(getContext(), layoutManager.getSpanCount(), CARD_HEIGHT_RATIO));
     }
 
     @Override
     public void onDestroyView() {
         super.onDestroyView();
         removeListeners();
+        itemViewPrewarmer.clear();
         unbinder.unbind();
         televisionShowsPresenter.onDestroyView();
     }
@@ -266,6 +283,16 @@ public class TelevisionShowsFragment extends BaseFragment implements TelevisionS
         televisionShowsAdapter.addAll(televisionShows);
     }
 
+    @Override
+    public void replaceTelevisionShowsInAdapter(int position, int count, List<TelevisionShow> televisionShows) {
+        televisionShowsAdapter.replaceRange(position, count, televisionShows);
+    }
+
+    @Override
+    public void releaseTelevisionShowsInAdapter(int position, int count) {
+        televisionShowsAdapter.releaseRange(position, count);
+    }
+
     @Override
     public void loadMoreItems() {
         televisionShowsPage.incrementPageNumber();
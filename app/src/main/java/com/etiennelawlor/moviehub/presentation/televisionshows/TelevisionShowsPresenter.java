@@ -3,11 +3,15 @@ package com.etiennelawlor.moviehub.presentation.televisionshows;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
 import com.etiennelawlor.moviehub.data.repositories.tv.models.TelevisionShowsPage;
 import com.etiennelawlor.moviehub.domain.TelevisionShowsDomainContract;
+import com.etiennelawlor.moviehub.presentation.common.PageWindow;
 import com.etiennelawlor.moviehub.util.NetworkUtility;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import rx.Subscriber;
+import timber.log.Timber;
 
 /**
  * Created by etiennelawlor on 2/9/17.
@@ -18,6 +22,9 @@ public class TelevisionShowsPresenter implements TelevisionShowsUiContract.Prese
     // region Member Variables
     private final TelevisionShowsUiContract.View televisionShowsView;
     private final TelevisionShowsDomainContract.UseCase televisionShowsUseCase;
+    // Where each page sits in the adapter, so a refreshed or reloaded copy can replace it in place
+    private final PageWindow<TelevisionShow> pageWindow = new PageWindow<>(TelevisionShow::getId);
+    private final Set<Integer> reloadingPageNumbers = new HashSet<>();
     // endregion
 
     // region Constructors
@@ -32,6 +39,8 @@ public class TelevisionShowsPresenter implements TelevisionShowsUiContract.Prese
     @Override
     public void onDestroyView() {
         televisionShowsUseCase.clearSubscriptions();
+        pageWindow.clear();
+        reloadingPageNumbers.clear();
     }
 
     @Override
@@ -71,10 +80,18 @@ public class TelevisionShowsPresenter implements TelevisionShowsUiContract.Prese
             @Override
             public void onNext(TelevisionShowsPage televisionShowsPage) {
                 if(televisionShowsPage != null){
-                    List<TelevisionShow> televisionShows = televisionShowsPage.getTelevisionShows();
                     int currentPage = televisionShowsPage.getPageNumber();
                     boolean isLastPage = televisionShowsPage.isLastPage();
                     boolean hasTelevisionShows = televisionShowsPage.hasTelevisionShows();
+
+                    if(pageWindow.containsPage(currentPage)){
+                        // A refreshed copy of a page that is already on screen
+                        onPageRefreshed(televisionShowsPage);
+                        return;
+                    }
+
+                    List<TelevisionShow> televisionShows = pageWindow.putPage(currentPage, televisionShowsPage.getTelevisionShows());
+
                     if(currentPage == 1){
                         televisionShowsView.hideLoadingView();
 
@@ -91,7 +108,9 @@ public class TelevisionShowsPresenter implements TelevisionShowsUiContract.Prese
                         televisionShowsView.removeFooter();
 
                         if(hasTelevisionShows){
-                            televisionShowsView.addTelevisionShowsToAdapter(televisionShows);
+                            // Every TV show may already be on an earlier page, the next page is still worth loading
+                            if(!televisionShows.isEmpty())
+                                televisionShowsView.addTelevisionShowsToAdapter(televisionShows);
 
                             if(!isLastPage)
                                 televisionShowsView.addFooter();
@@ -114,5 +133,73 @@ public class TelevisionShowsPresenter implements TelevisionShowsUiContract.Prese
         televisionShowsView.loadMoreItems();
     }
 
+    @Override
+    public void onVisibleItemsChanged(int firstVisiblePosition, int lastVisiblePosition) {
+        if(!pageWindow.setVisibleRange(firstVisiblePosition, lastVisiblePosition))
+            return;
+
+        for (int pageNumber : pageWindow.releasePagesOutsideWindow()) {
+            televisionShowsView.releaseTelevisionShowsInAdapter(pageWindow.getOffset(pageNumber), pageWindow.getPageSize(pageNumber));
+        }
+
+        for (int pageNumber : pageWindow.getReleasedPagesInsideWindow()) {
+            if(reloadingPageNumbers.add(pageNumber))
+                reloadPage(pageNumber);
+        }
+    }
+    // endregion
+
+    // region Helper Methods
+    // Served from the local store first, and from the network too if the stored copy is expired
+    private void reloadPage(final int pageNumber) {
+        televisionShowsUseCase.getPopularTelevisionShows(pageNumber, new Subscriber<TelevisionShowsPage>() {
+            @Override
+            public void onCompleted() {
+                reloadingPageNumbers.remove(pageNumber);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                Timber.e(throwable, "Unable to reload page %d of popular TV shows", pageNumber);
+                reloadingPageNumbers.remove(pageNumber);
+            }
+
+            @Override
+            public void onNext(TelevisionShowsPage televisionShowsPage) {
+                if(televisionShowsPage != null)
+                    onPageRefreshed(televisionShowsPage);
+            }
+        });
+    }
+
+    private void onPageRefreshed(TelevisionShowsPage televisionShowsPage) {
+        int pageNumber = televisionShowsPage.getPageNumber();
+        // Scrolled away again before the copy arrived, the placeholders stay until the next reload
+        if(pageWindow.isReleased(pageNumber) && !pageWindow.isInsideWindow(pageNumber))
+            return;
+
+        int displayedPageSize = pageWindow.getPageSize(pageNumber);
+        int displayedOffset = pageWindow.getOffset(pageNumber);
+        List<TelevisionShow> televisionShows = pageWindow.putPage(pageNumber, televisionShowsPage.getTelevisionShows());
+
+        if(pageNumber == 1 && displayedPageSize == 0){
+            // The stale first page was empty so there is no header or footer to keep
+            if(televisionShowsPage.hasTelevisionShows()){
+                televisionShowsView.hideEmptyView();
+                televisionShowsView.addHeader();
+                televisionShowsView.addTelevisionShowsToAdapter(televisionShows);
+
+                if(!televisionShowsPage.isLastPage())
+                    televisionShowsView.addFooter();
+            }
+        } else {
+            televisionShowsView.replaceTelevisionShowsInAdapter(displayedOffset, displayedPageSize, televisionShows);
+        }
+
+        // Only the last page on screen decides what is loaded next
+        if(pageNumber == pageWindow.getLastPageNumber())
+            televisionShowsView.setTelevisionShowsPage(televisionShowsPage);
+    }
     // endregion
+
 }
@@ -26,6 +26,8 @@ public interface TelevisionShowsUiContract {
         void showErrorFooter();
         void showLoadingFooter();
         void addTelevisionShowsToAdapter(List<TelevisionShow> televisionShows);
+        void replaceTelevisionShowsInAdapter(int position, int count, List<TelevisionShow> televisionShows);
+        void releaseTelevisionShowsInAdapter(int position, int count);
         void loadMoreItems();
         void setTelevisionShowsPage(TelevisionShowsPage televisionShowsPage);
 
@@ -37,5 +39,6 @@ public interface TelevisionShowsUiContract {
         void onLoadPopularTelevisionShows(int currentPage);
         void onTelevisionShowClick(TelevisionShow televisionShow);
         void onScrollToEndOfList();
+        void onVisibleItemsChanged(int firstVisiblePosition, int lastVisiblePosition);
     }
 }
@@ -42,6 +42,12 @@ public class DisplayUtility {
         return size.x;
     }
 
+    public static int getScreenHeight(Context context) {
+        Point size = new Point();
+        ((Activity) context).getWindowManager().getDefaultDisplay().getSize(size);
+        return size.y;
+    }
+
     public static boolean isInLandscapeMode(Context context) {
         boolean isLandscape = false;
         if (context.getResources().getConfiguration().orientation == Configuration.ORIENTATION_LANDSCAPE) {
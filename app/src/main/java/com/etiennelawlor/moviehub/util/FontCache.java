@@ -15,7 +15,8 @@ public class FontCache {
     private static Map<String, Typeface> fontCache = new HashMap<>(18);
     // endregion
 
-    public static Typeface getTypeface(String fontname, Context context) {
+    // Synchronized as item views are also inflated on a background thread, see ItemViewPrewarmer
+    public static synchronized Typeface getTypeface(String fontname, Context context) {
         Typeface typeface = fontCache.get(fontname);
 
         if (typeface == null) {
@@ -4,6 +4,9 @@ import android.content.Context;
 import android.net.ConnectivityManager;
 import android.net.NetworkInfo;
 
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.MalformedJsonException;
+
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
@@ -27,4 +30,10 @@ public class NetworkUtility {
                 || t instanceof SocketTimeoutException
                 || t instanceof IOException);
     }
+
+    // The response arrived but Gson could not turn its body into the envelope
+    public static boolean isParseException(Throwable t){
+        return (t instanceof JsonParseException
+                || t instanceof MalformedJsonException);
+    }
 }
@@ -0,0 +1,142 @@
+package com.etiennelawlor.moviehub.util;
+
+import android.graphics.Bitmap;
+import android.support.v7.graphics.Palette;
+import android.text.TextUtils;
+import android.util.LruCache;
+
+import com.etiennelawlor.moviehub.data.database.RealmUtility;
+import com.etiennelawlor.moviehub.util.rxjava.DatabaseScheduler;
+
+import rx.Observable;
+import rx.Subscription;
+import rx.android.schedulers.AndroidSchedulers;
+import rx.functions.Action1;
+import rx.schedulers.Schedulers;
+import rx.subscriptions.Subscriptions;
+import timber.log.Timber;
+
+/**
+ * Palettes of TMDB images keyed by image file path, shared by every adapter and details screen.
+ *
+ * A palette is looked up in memory, then in Realm, and only generated from the bitmap when
+ * neither has it. Generated palettes are saved, so an image is analysed once per install rather
+ * than once per bind.
+ *
+ * Images loaded with a {@link PaletteTransformation} have their palette in memory by the time
+ * Picasso calls back, so the lookup below answers synchronously.
+ */
+
+public final class PaletteCache {
+
+    // region Constants
+    private static final int MAX_SIZE = 500;
+    private static final int SAMPLE_AREA = 64 * 64;
+    // endregion
+
+    // region Static Variables
+    private static final PaletteCache instance = new PaletteCache();
+    // endregion
+
+    // region Member Variables
+    private final LruCache<String, Palette> palettes = new LruCache<>(MAX_SIZE);
+    // endregion
+
+    // region Constructors
+    private PaletteCache() {
+    }
+    // endregion
+
+    public static PaletteCache getInstance() {
+        return instance;
+    }
+
+    // Calls back on the main thread, right away when the palette is already in memory
+    public void getPalette(String imageUrl, Bitmap bitmap, Palette.PaletteAsyncListener listener) {
+        if (TextUtils.isEmpty(imageUrl)) {
+            Palette.from(bitmap).resizeBitmapArea(SAMPLE_AREA).generate(listener);
+            return;
+        }
+
+        String imagePath = getImagePath(imageUrl);
+
+        Palette palette = palettes.get(imagePath);
+        if (palette != null) {
+            listener.onGenerated(palette);
+            return;
+        }
+
+        Observable<Palette> savedPalette = Observable.defer(() -> {
+            Palette realmPalette = RealmUtility.getPalette(imagePath);
+            return realmPalette == null ? Observable.<Palette>empty() : Observable.just(realmPalette);
+        }).subscribeOn(DatabaseScheduler.getInstance());
+
+        Observable<Palette> generatedPalette = Observable.defer(() -> Observable.just(generatePalette(bitmap)))
+                .doOnNext(generated -> RealmUtility.savePalette(imagePath, generated))
+                .subscribeOn(Schedulers.computation());
+
+        savedPalette
+                .switchIfEmpty(generatedPalette)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(loadedPalette -> {
+                    palettes.put(imagePath, loadedPalette);
+                    listener.onGenerated(loadedPalette);
+                }, throwable -> Timber.e(throwable, "Failed to load palette for %s", imagePath));
+    }
+
+    // For images loaded with a PaletteTransformation, which saved the palette while decoding. A
+    // memory miss is read back from Realm, nothing is generated from the bitmap on screen.
+    public Subscription getPalette(String imageUrl, Action1<Palette> onPaletteLoaded) {
+        String imagePath = getImagePath(imageUrl);
+
+        Palette palette = palettes.get(imagePath);
+        if (palette != null) {
+            onPaletteLoaded.call(palette);
+            return Subscriptions.unsubscribed();
+        }
+
+        return Observable.defer(() -> {
+                    Palette realmPalette = RealmUtility.getPalette(imagePath);
+                    return realmPalette == null ? Observable.<Palette>empty() : Observable.just(realmPalette);
+                })
+                .subscribeOn(DatabaseScheduler.getInstance())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(loadedPalette -> {
+                    palettes.put(imagePath, loadedPalette);
+                    onPaletteLoaded.call(loadedPalette);
+                }, throwable -> Timber.e(throwable, "Failed to load palette for %s", imagePath));
+    }
+
+    // Blocks on Realm and on palette generation, call it from a background thread
+    public Palette loadPalette(String imageUrl, Bitmap bitmap) {
+        if (TextUtils.isEmpty(imageUrl))
+            return generatePalette(bitmap);
+
+        String imagePath = getImagePath(imageUrl);
+
+        Palette palette = palettes.get(imagePath);
+        if (palette == null) {
+            palette = RealmUtility.getPalette(imagePath);
+            if (palette == null) {
+                palette = generatePalette(bitmap);
+                RealmUtility.savePalette(imagePath, palette);
+            }
+            palettes.put(imagePath, palette);
+        }
+        return palette;
+    }
+
+    // region Helper Methods
+    // Only the most populous swatch is read, a small sample of the image finds it just as well
+    private static Palette generatePalette(Bitmap bitmap) {
+        return Palette.from(bitmap)
+                .resizeBitmapArea(SAMPLE_AREA)
+                .generate();
+    }
+
+    // TMDB serves every size of an image under the same file path, so one palette covers them all
+    private static String getImagePath(String imageUrl) {
+        return imageUrl.substring(imageUrl.lastIndexOf('/'));
+    }
+    // endregion
+}
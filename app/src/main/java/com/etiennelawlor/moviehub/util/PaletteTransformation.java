@@ -0,0 +1,43 @@
+package com.etiennelawlor.moviehub.util;
+
+import android.graphics.Bitmap;
+
+import com.squareup.picasso.Transformation;
+
+/**
+ * Loads the palette of an image on Picasso's decode thread, right after the bitmap is decoded.
+ *
+ * The bitmap is returned untouched. The palette goes into {@link PaletteCache}, where the
+ * {@link com.squareup.picasso.Callback} finds it without touching the main thread's queue.
+ */
+
+public class PaletteTransformation implements Transformation {
+
+    // region Constants
+    private static final String KEY = "palette";
+    // endregion
+
+    // region Member Variables
+    private final String imageUrl;
+    // endregion
+
+    // region Constructors
+    public PaletteTransformation(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+    // endregion
+
+    // region Transformation Methods
+    @Override
+    public Bitmap transform(Bitmap source) {
+        PaletteCache.getInstance().loadPalette(imageUrl, source);
+        return source;
+    }
+
+    // Picasso already keys the request on the image url, the palette adds nothing to it
+    @Override
+    public String key() {
+        return KEY;
+    }
+    // endregion
+}
@@ -0,0 +1,30 @@
+package com.etiennelawlor.moviehub.util;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Helpers for turning user typed search queries into stable cache keys.
+ */
+
+public class SearchUtility {
+
+    // region Constants
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // endregion
+
+    // No need to instantiate this class.
+    private SearchUtility() {
+    }
+
+    /**
+     * Trims, lowercases and collapses runs of whitespace so "  Star   Wars" and "star wars" share
+     * one cache entry.
+     */
+    public static String normalizeQuery(String query) {
+        if (query == null)
+            return "";
+
+        return WHITESPACE.matcher(query.trim()).replaceAll(" ").toLowerCase(Locale.US);
+    }
+}
@@ -0,0 +1,65 @@
+package com.etiennelawlor.moviehub.util.rxjava;
+
+import android.os.Looper;
+import android.os.Process;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
+/**
+ * Bounded scheduler for local database reads.
+ *
+ * Realm reads are short and CPU bound once the file is mapped, so a couple of background
+ * threads keep them off the main thread without letting a burst of page requests spin up the
+ * unbounded io() pool.
+ */
+
+public final class DatabaseScheduler {
+
+    // region Constants
+    private static final int THREAD_COUNT = 2;
+    private static final String THREAD_NAME_PREFIX = "MovieHub-Database-";
+    // endregion
+
+    // region Static Variables
+    private static final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT, new DatabaseThreadFactory());
+    private static final Scheduler scheduler = Schedulers.from(executorService);
+    // endregion
+
+    // region Constructors
+    private DatabaseScheduler() {
+    }
+    // endregion
+
+    public static Scheduler getInstance() {
+        return scheduler;
+    }
+
+    public static boolean isMainThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    // region Inner Classes
+    private static class DatabaseThreadFactory implements ThreadFactory {
+
+        // region Member Variables
+        private final AtomicInteger threadCount = new AtomicInteger();
+        // endregion
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(() -> {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                runnable.run();
+            }, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+    // endregion
+}
@@ -0,0 +1,155 @@
+package com.etiennelawlor.moviehub;
+
+import android.content.Context;
+
+import com.etiennelawlor.moviehub.data.network.CoalescingCallAdapterFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+import rx.subjects.PublishSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.when;
+
+/**
+ * Each call gets its own {@link PublishSubject} in place of the network, so the test decides
+ * when a response is emitted and when it completes.
+ */
+
+public class CoalescingCallAdapterFactoryTest {
+
+    // region Test Doubles
+
+    // Mocks
+    @Mock
+    private Context mockContext;
+
+    // endregion
+
+    // region Member Variables
+    private final List<PublishSubject<Object>> upstreams = new ArrayList<>();
+    private CoalescingCallAdapterFactory coalescingCallAdapterFactory;
+    private TestService testService;
+    // endregion
+
+    @Before
+    public void setUp() {
+        // Mockito has a very convenient way to inject mocks by using the @Mock annotation. To
+        // inject the mocks in the test the initMocks method needs to be called.
+        MockitoAnnotations.initMocks(this);
+
+        when(mockContext.getApplicationContext()).thenReturn(mockContext);
+        when(mockContext.getString(anyInt())).thenReturn("api_key");
+
+        // Get a reference to the class under test
+        coalescingCallAdapterFactory = new CoalescingCallAdapterFactory(mockContext);
+
+        testService = new Retrofit.Builder()
+                .baseUrl("https://api.themoviedb.org/3/")
+                .addCallAdapterFactory(coalescingCallAdapterFactory)
+                .addCallAdapterFactory(new SubjectCallAdapterFactory())
+                .build()
+                .create(TestService.class);
+    }
+
+    // region Test Methods
+    @Test
+    public void get_shouldShareOneUpstream_whenCallersSubscribeBeforeEmission() {
+        // 1. (Given) Set up conditions required for the test
+        TestSubscriber<ResponseBody> firstTestSubscriber = new TestSubscriber<>();
+        TestSubscriber<ResponseBody> secondTestSubscriber = new TestSubscriber<>();
+
+        // 2. (When) Then perform one or more actions
+        testService.getMovie().subscribe(firstTestSubscriber);
+        testService.getMovie().subscribe(secondTestSubscriber);
+        emitAndComplete(upstreams.get(0));
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        assertEquals(1, coalescingCallAdapterFactory.getUpstreamCount());
+        assertEquals(1, coalescingCallAdapterFactory.getCoalescedCount());
+        firstTestSubscriber.assertValueCount(1);
+        secondTestSubscriber.assertValueCount(1);
+        secondTestSubscriber.assertCompleted();
+    }
+
+    @Test
+    public void get_shouldStartFreshUpstream_whenCallerSubscribesBetweenEmissionAndCompletion() {
+        // 1. (Given) Set up conditions required for the test
+        TestSubscriber<ResponseBody> firstTestSubscriber = new TestSubscriber<>();
+        TestSubscriber<ResponseBody> secondTestSubscriber = new TestSubscriber<>();
+        testService.getMovie().subscribe(firstTestSubscriber);
+        upstreams.get(0).onNext(getResponseBody());
+
+        // 2. (When) Then perform one or more actions
+        testService.getMovie().subscribe(secondTestSubscriber);
+        upstreams.get(0).onCompleted();
+        emitAndComplete(upstreams.get(1));
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        assertEquals(2, coalescingCallAdapterFactory.getUpstreamCount());
+        assertEquals(0, coalescingCallAdapterFactory.getCoalescedCount());
+        firstTestSubscriber.assertValueCount(1);
+        firstTestSubscriber.assertCompleted();
+        secondTestSubscriber.assertValueCount(1);
+        secondTestSubscriber.assertCompleted();
+        assertEquals(0, coalescingCallAdapterFactory.getInFlightCount());
+    }
+    // endregion
+
+    // region Helper Methods
+    private void emitAndComplete(PublishSubject<Object> upstream) {
+        upstream.onNext(getResponseBody());
+        upstream.onCompleted();
+    }
+
+    private ResponseBody getResponseBody() {
+        return ResponseBody.create(MediaType.parse("application/json"), "{}");
+    }
+    // endregion
+
+    // region Inner Classes
+    interface TestService {
+        @GET("movie/550")
+        Observable<ResponseBody> getMovie();
+    }
+
+    // Stands in for RxJavaCallAdapterFactory, which comes after the coalescing factory
+    private class SubjectCallAdapterFactory extends CallAdapter.Factory {
+        @Override
+        public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+            final Type responseType = getParameterUpperBound(0, (ParameterizedType) returnType);
+            return new CallAdapter<Object, Observable<Object>>() {
+                @Override
+                public Type responseType() {
+                    return responseType;
+                }
+
+                @Override
+                public Observable<Object> adapt(Call<Object> call) {
+                    PublishSubject<Object> upstream = PublishSubject.create();
+                    upstreams.add(upstream);
+                    return upstream;
+                }
+            };
+        }
+    }
+    // endregion
+}
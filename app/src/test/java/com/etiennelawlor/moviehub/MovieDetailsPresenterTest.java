@@ -21,6 +21,7 @@ import java.util.List;
 import rx.Subscriber;
 
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
@@ -104,6 +105,31 @@ public class MovieDetailsPresenterTest {
         verify(mockMovieDetailsView).showMovieDetails(movieDetailsWrapper);
     }
 
+    @Test
+    public void onLoadMovieDetails_shouldNotShowMovieDetailsAgain_whenRefreshedMovieDetailsArrive() {
+        // 1. (Given) Set up conditions required for the test
+        Movie movie = new Movie();
+        movie.setId(1);
+        List<MovieCredit> cast = new ArrayList<>();
+        List<MovieCredit> crew = new ArrayList<>();
+        List<Movie> similarMovies = new ArrayList<>();
+        String rating = "";
+        movieDetailsWrapper = new MovieDetailsWrapper(movie, cast, crew, similarMovies, rating);
+        MovieDetailsWrapper refreshedMovieDetailsWrapper = new MovieDetailsWrapper(movie, cast, crew, similarMovies, rating);
+
+        // 2. (When) Then perform one or more actions
+        movieDetailsPresenter.onLoadMovieDetails(movie.getId());
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        subscriberArgumentCaptor = ArgumentCaptor.forClass(Subscriber.class);
+        verify(mockMovieDetailsUseCase).getMovieDetails(anyInt(), subscriberArgumentCaptor.capture());
+        subscriberArgumentCaptor.getValue().onNext(movieDetailsWrapper);
+        subscriberArgumentCaptor.getValue().onNext(refreshedMovieDetailsWrapper);
+
+        verify(mockMovieDetailsView).showMovieDetails(movieDetailsWrapper);
+        verify(mockMovieDetailsView, never()).showMovieDetails(refreshedMovieDetailsWrapper);
+    }
+
     @Test
     public void onPersonClick_shouldOpenPersonDetails() {
         // 1. (Given) Set up conditions required for the test
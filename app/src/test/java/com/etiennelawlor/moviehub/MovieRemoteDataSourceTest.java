@@ -0,0 +1,159 @@
+package com.etiennelawlor.moviehub;
+
+import com.etiennelawlor.moviehub.data.network.MovieHubService;
+import com.etiennelawlor.moviehub.data.network.response.Movie;
+import com.etiennelawlor.moviehub.data.network.response.MovieCreditsEnvelope;
+import com.etiennelawlor.moviehub.data.network.response.MovieDetailsEnvelope;
+import com.etiennelawlor.moviehub.data.network.response.MovieReleaseDatesEnvelope;
+import com.etiennelawlor.moviehub.data.network.response.MoviesEnvelope;
+import com.etiennelawlor.moviehub.data.repositories.movie.MovieRemoteDataSource;
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MovieDetailsWrapper;
+import com.google.gson.JsonSyntaxException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.HttpException;
+import retrofit2.Response;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The appended details call only falls back to the four separate calls when its body is unusable.
+ */
+
+public class MovieRemoteDataSourceTest {
+
+    // region Constants
+    private static final int MOVIE_ID = 550;
+    // endregion
+
+    // region Test Doubles
+
+    // Mocks
+    @Mock
+    private MovieHubService mockMovieHubService;
+
+    // endregion
+
+    // region Member Variables
+    private MovieRemoteDataSource movieRemoteDataSource;
+    // endregion
+
+    @Before
+    public void setUp() {
+        // Mockito has a very convenient way to inject mocks by using the @Mock annotation. To
+        // inject the mocks in the test the initMocks method needs to be called.
+        MockitoAnnotations.initMocks(this);
+
+        // Get a reference to the class under test
+        movieRemoteDataSource = new MovieRemoteDataSource(mockMovieHubService);
+    }
+
+    // region Test Methods
+    @Test
+    public void getMovieDetails_shouldNotFanOut_whenRateLimited() {
+        // 1. (Given) Set up conditions required for the test
+        HttpException httpException = new HttpException(Response.error(429, ResponseBody.create(MediaType.parse("application/json"), "")));
+        when(mockMovieHubService.getMovieDetails(anyLong())).thenReturn(Observable.error(httpException));
+        TestSubscriber<MovieDetailsWrapper> testSubscriber = new TestSubscriber<>();
+
+        // 2. (When) Then perform one or more actions
+        movieRemoteDataSource.getMovieDetails(MOVIE_ID).subscribe(testSubscriber);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        testSubscriber.assertError(httpException);
+        verifyNoFanOut();
+    }
+
+    @Test
+    public void getMovieDetails_shouldFanOut_whenBodyFailsToParse() {
+        // 1. (Given) Set up conditions required for the test
+        when(mockMovieHubService.getMovieDetails(anyLong())).thenReturn(Observable.error(new JsonSyntaxException("Expected BEGIN_OBJECT")));
+        stubFanOut();
+        TestSubscriber<MovieDetailsWrapper> testSubscriber = new TestSubscriber<>();
+
+        // 2. (When) Then perform one or more actions
+        movieRemoteDataSource.getMovieDetails(MOVIE_ID).subscribe(testSubscriber);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertValueCount(1);
+        verify(mockMovieHubService).getMovie(MOVIE_ID);
+    }
+
+    @Test
+    public void getMovieDetails_shouldFanOut_whenAppendedResponsesAreMissing() {
+        // 1. (Given) Set up conditions required for the test
+        when(mockMovieHubService.getMovieDetails(anyLong())).thenReturn(Observable.just(new MovieDetailsEnvelope()));
+        stubFanOut();
+        TestSubscriber<MovieDetailsWrapper> testSubscriber = new TestSubscriber<>();
+
+        // 2. (When) Then perform one or more actions
+        movieRemoteDataSource.getMovieDetails(MOVIE_ID).subscribe(testSubscriber);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertValueCount(1);
+        verify(mockMovieHubService).getMovieCredits(MOVIE_ID);
+    }
+
+    @Test
+    public void getMovieDetails_shouldNotFanOut_whenAppendedResponsesArrive() {
+        // 1. (Given) Set up conditions required for the test
+        MovieDetailsEnvelope movieDetailsEnvelope = new MovieDetailsEnvelope();
+        movieDetailsEnvelope.setCredits(getMovieCreditsEnvelope());
+        movieDetailsEnvelope.setSimilar(getMoviesEnvelope());
+        when(mockMovieHubService.getMovieDetails(anyLong())).thenReturn(Observable.just(movieDetailsEnvelope));
+        TestSubscriber<MovieDetailsWrapper> testSubscriber = new TestSubscriber<>();
+
+        // 2. (When) Then perform one or more actions
+        movieRemoteDataSource.getMovieDetails(MOVIE_ID).subscribe(testSubscriber);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertValueCount(1);
+        verifyNoFanOut();
+    }
+    // endregion
+
+    // region Helper Methods
+    private void stubFanOut() {
+        when(mockMovieHubService.getMovie(anyLong())).thenReturn(Observable.just(new Movie()));
+        when(mockMovieHubService.getMovieCredits(anyLong())).thenReturn(Observable.just(getMovieCreditsEnvelope()));
+        when(mockMovieHubService.getSimilarMovies(anyLong())).thenReturn(Observable.just(getMoviesEnvelope()));
+        when(mockMovieHubService.getMovieReleaseDates(anyLong())).thenReturn(Observable.just(new MovieReleaseDatesEnvelope()));
+    }
+
+    private void verifyNoFanOut() {
+        verify(mockMovieHubService, never()).getMovie(anyLong());
+        verify(mockMovieHubService, never()).getMovieCredits(anyLong());
+        verify(mockMovieHubService, never()).getSimilarMovies(anyLong());
+        verify(mockMovieHubService, never()).getMovieReleaseDates(anyLong());
+    }
+
+    private MovieCreditsEnvelope getMovieCreditsEnvelope() {
+        MovieCreditsEnvelope movieCreditsEnvelope = new MovieCreditsEnvelope();
+        movieCreditsEnvelope.setCast(new ArrayList<>());
+        movieCreditsEnvelope.setCrew(new ArrayList<>());
+        return movieCreditsEnvelope;
+    }
+
+    private MoviesEnvelope getMoviesEnvelope() {
+        MoviesEnvelope moviesEnvelope = new MoviesEnvelope();
+        moviesEnvelope.setMovies(new ArrayList<>());
+        return moviesEnvelope;
+    }
+    // endregion
+}
@@ -20,8 +20,13 @@ import java.util.List;
 
 import rx.Subscriber;
 
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
@@ -230,6 +235,75 @@ public class MoviesPresenterTest {
 //        verify(mockMoviesView, times(1)).setModel(any(MoviesPage.class)); // Alternative verify check
     }
 
+    @Test
+    public void onLoadPopularMovies_shouldReplaceMovies_whenRefreshedFirstPageArrives() {
+        // 1. (Given) Set up conditions required for the test
+        moviesPage = new MoviesPage(getListOfMovies(5), 1, false, Calendar.getInstance().getTime());
+        MoviesPage refreshedMoviesPage = new MoviesPage(getListOfMovies(6), 1, false, Calendar.getInstance().getTime());
+
+        // 2. (When) Then perform one or more actions
+        moviesPresenter.onLoadPopularMovies(moviesPage.getPageNumber());
+
+        subscriberArgumentCaptor = ArgumentCaptor.forClass(Subscriber.class);
+        verify(mockMoviesUseCase).getPopularMovies(anyInt(), subscriberArgumentCaptor.capture());
+        subscriberArgumentCaptor.getValue().onNext(moviesPage);
+        subscriberArgumentCaptor.getValue().onNext(refreshedMoviesPage);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        verify(mockMoviesView).addHeader();
+        verify(mockMoviesView).addMoviesToAdapter(moviesPage.getMovies());
+        verify(mockMoviesView).addFooter();
+        verify(mockMoviesView).replaceMoviesInAdapter(0, 5, refreshedMoviesPage.getMovies());
+        verify(mockMoviesView).setMoviesPage(refreshedMoviesPage);
+    }
+
+    @Test
+    public void onLoadPopularMovies_shouldDropRepeatedMovies_whenNextPageOverlapsPreviousPage() {
+        // 1. (Given) Set up conditions required for the test
+        MoviesPage firstMoviesPage = new MoviesPage(getListOfMovies(1, 5), 1, false, Calendar.getInstance().getTime());
+        MoviesPage secondMoviesPage = new MoviesPage(getListOfMovies(4, 5), 2, false, Calendar.getInstance().getTime());
+
+        // 2. (When) Then perform one or more actions
+        loadPage(firstMoviesPage);
+        loadPage(secondMoviesPage);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        verify(mockMoviesView).addMoviesToAdapter(firstMoviesPage.getMovies());
+        verify(mockMoviesView).addMoviesToAdapter(secondMoviesPage.getMovies().subList(2, 5));
+    }
+
+    @Test
+    public void onVisibleItemsChanged_shouldReleaseFarPagesAndReloadThem_whenScrolledBack() {
+        // 1. (Given) Set up conditions required for the test
+        for (int pageNumber = 1; pageNumber <= 6; pageNumber++) {
+            loadPage(new MoviesPage(getListOfMovies(pageNumber * 10, 5), pageNumber, false, Calendar.getInstance().getTime()));
+        }
+
+        // 2. (When) Then perform one or more actions
+        moviesPresenter.onVisibleItemsChanged(25, 29);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        verify(mockMoviesView).releaseMoviesInAdapter(0, 5);
+        verify(mockMoviesView).releaseMoviesInAdapter(5, 5);
+        verify(mockMoviesView).releaseMoviesInAdapter(10, 5);
+        verify(mockMoviesView, never()).releaseMoviesInAdapter(15, 5);
+
+        // 2. (When) Then perform one or more actions
+        moviesPresenter.onVisibleItemsChanged(0, 4);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        verify(mockMoviesView).releaseMoviesInAdapter(25, 5);
+        verify(mockMoviesUseCase, times(2)).getPopularMovies(eq(1), any(Subscriber.class));
+        verify(mockMoviesUseCase, times(2)).getPopularMovies(eq(3), any(Subscriber.class));
+
+        MoviesPage reloadedMoviesPage = new MoviesPage(getListOfMovies(10, 5), 1, false, Calendar.getInstance().getTime());
+        subscriberArgumentCaptor = ArgumentCaptor.forClass(Subscriber.class);
+        verify(mockMoviesUseCase, times(2)).getPopularMovies(eq(1), subscriberArgumentCaptor.capture());
+        subscriberArgumentCaptor.getValue().onNext(reloadedMoviesPage);
+
+        verify(mockMoviesView).replaceMoviesInAdapter(0, 5, reloadedMoviesPage.getMovies());
+    }
+
     @Test
     public void onMovieClick_shouldOpenMovieDetails() {
         // 1. (Given) Set up conditions required for the test
@@ -279,5 +353,23 @@ public class MoviesPresenterTest {
         }
         return movies;
     }
+
+    private List<Movie> getListOfMovies(int firstId, int numOfMovies){
+        List<Movie> movies = new ArrayList<>();
+        for(int i=0; i<numOfMovies; i++){
+            Movie movie = new Movie();
+            movie.setId(firstId + i);
+            movies.add(movie);
+        }
+        return movies;
+    }
+
+    private void loadPage(MoviesPage moviesPage){
+        moviesPresenter.onLoadPopularMovies(moviesPage.getPageNumber());
+
+        subscriberArgumentCaptor = ArgumentCaptor.forClass(Subscriber.class);
+        verify(mockMoviesUseCase, atLeastOnce()).getPopularMovies(eq(moviesPage.getPageNumber()), subscriberArgumentCaptor.capture());
+        subscriberArgumentCaptor.getValue().onNext(moviesPage);
+    }
     // endregion
 }
@@ -22,6 +22,7 @@ import java.util.List;
 import rx.Subscriber;
 
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
@@ -101,6 +102,29 @@ public class PersonDetailsPresenterTest {
         verify(mockPersonDetailsView).showPersonDetails(personDetailsWrapper);
     }
 
+    @Test
+    public void onLoadPersonDetails_shouldNotShowPersonDetailsAgain_whenRefreshedPersonDetailsArrive() {
+        // 1. (Given) Set up conditions required for the test
+        Person person = new Person();
+        person.setId(1);
+        List<PersonCredit> cast = new ArrayList<>();
+        List<PersonCredit> crew = new ArrayList<>();
+        personDetailsWrapper = new PersonDetailsWrapper(person, cast, crew);
+        PersonDetailsWrapper refreshedPersonDetailsWrapper = new PersonDetailsWrapper(person, cast, crew);
+
+        // 2. (When) Then perform one or more actions
+        personDetailsPresenter.onLoadPersonDetails(person.getId());
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        subscriberArgumentCaptor = ArgumentCaptor.forClass(Subscriber.class);
+        verify(mockPersonDetailsUseCase).getPersonDetails(anyInt(), subscriberArgumentCaptor.capture());
+        subscriberArgumentCaptor.getValue().onNext(personDetailsWrapper);
+        subscriberArgumentCaptor.getValue().onNext(refreshedPersonDetailsWrapper);
+
+        verify(mockPersonDetailsView).showPersonDetails(personDetailsWrapper);
+        verify(mockPersonDetailsView, never()).showPersonDetails(refreshedPersonDetailsWrapper);
+    }
+
     @Test
     public void onMovieClick_shouldOpenMovieDetails() {
         // 1. (Given) Set up conditions required for the test
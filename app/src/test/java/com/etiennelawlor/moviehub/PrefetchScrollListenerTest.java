@@ -0,0 +1,85 @@
+package com.etiennelawlor.moviehub;
+
+import com.etiennelawlor.moviehub.presentation.common.PrefetchScrollListener;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Items are 300px tall, about 30 frames go by while a page request is in flight.
+ */
+
+public class PrefetchScrollListenerTest {
+
+    // region Constants
+    private static final int PREFETCH_DISTANCE = 8;
+    private static final int ITEM_SIZE = 300;
+    private static final int SPAN_COUNT = 2;
+    // endregion
+
+    // region Test Methods
+    @Test
+    public void getPrefetchDistance_shouldUseMinimumDistance_whenScrollingSlowly() {
+        // 1. (Given) Set up conditions required for the test
+        int scrollDelta = 10;
+
+        // 2. (When) Then perform one or more actions
+        int prefetchDistance = PrefetchScrollListener.getPrefetchDistance(PREFETCH_DISTANCE, scrollDelta, ITEM_SIZE, SPAN_COUNT);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        assertEquals(PREFETCH_DISTANCE, prefetchDistance);
+    }
+
+    @Test
+    public void getPrefetchDistance_shouldGrowWithVelocity_whenScrollingFast() {
+        // 1. (Given) Set up conditions required for the test
+        int scrollDelta = 100;
+
+        // 2. (When) Then perform one or more actions
+        int prefetchDistance = PrefetchScrollListener.getPrefetchDistance(PREFETCH_DISTANCE, scrollDelta, ITEM_SIZE, SPAN_COUNT);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        // 100px a frame for 30 frames is 10 rows of 300px, 2 items each
+        assertEquals(20, prefetchDistance);
+    }
+
+    @Test
+    public void getPrefetchDistance_shouldCountEverySpan_whenListIsAGrid() {
+        // 1. (Given) Set up conditions required for the test
+        int scrollDelta = 100;
+
+        // 2. (When) Then perform one or more actions
+        int singleSpanDistance = PrefetchScrollListener.getPrefetchDistance(PREFETCH_DISTANCE, scrollDelta, ITEM_SIZE, 1);
+        int gridDistance = PrefetchScrollListener.getPrefetchDistance(PREFETCH_DISTANCE, scrollDelta, ITEM_SIZE, SPAN_COUNT);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        assertEquals(10, singleSpanDistance);
+        assertEquals(singleSpanDistance * SPAN_COUNT, gridDistance);
+    }
+
+    @Test
+    public void getPrefetchDistance_shouldCapDistance_whenFlinging() {
+        // 1. (Given) Set up conditions required for the test
+        int scrollDelta = 500;
+
+        // 2. (When) Then perform one or more actions
+        int prefetchDistance = PrefetchScrollListener.getPrefetchDistance(PREFETCH_DISTANCE, scrollDelta, ITEM_SIZE, SPAN_COUNT);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        assertEquals(PREFETCH_DISTANCE * 4, prefetchDistance);
+    }
+
+    @Test
+    public void getPrefetchDistance_shouldUseMinimumDistance_whenItemIsNotLaidOut() {
+        // 1. (Given) Set up conditions required for the test
+        int itemSize = 0;
+
+        // 2. (When) Then perform one or more actions
+        int prefetchDistance = PrefetchScrollListener.getPrefetchDistance(PREFETCH_DISTANCE, 100, itemSize, SPAN_COUNT);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        assertEquals(PREFETCH_DISTANCE, prefetchDistance);
+    }
+    // endregion
+}
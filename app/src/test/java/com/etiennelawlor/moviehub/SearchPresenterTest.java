@@ -3,12 +3,14 @@ package com.etiennelawlor.moviehub;
 import com.etiennelawlor.moviehub.data.network.response.Movie;
 import com.etiennelawlor.moviehub.data.network.response.Person;
 import com.etiennelawlor.moviehub.data.network.response.TelevisionShow;
+import com.etiennelawlor.moviehub.data.repositories.movie.models.MoviesPage;
 import com.etiennelawlor.moviehub.data.repositories.search.SearchDataSourceContract;
 import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper;
 import com.etiennelawlor.moviehub.presentation.search.SearchPresenter;
 import com.etiennelawlor.moviehub.presentation.search.SearchUiContract;
 import com.etiennelawlor.moviehub.util.rxjava.TestSchedulerTransformer;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -16,11 +18,23 @@ import org.mockito.MockitoAnnotations;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import rx.Observable;
-
+import rx.Scheduler;
+import rx.android.plugins.RxAndroidPlugins;
+import rx.android.plugins.RxAndroidSchedulersHook;
+import rx.android.schedulers.AndroidSchedulers;
+import rx.plugins.RxJavaHooks;
+import rx.schedulers.Schedulers;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -56,10 +70,27 @@ public class SearchPresenterTest {
         // inject the mocks in the test the initMocks method needs to be called.
         MockitoAnnotations.initMocks(this);
 
+        // The presenter hops to io() and the main thread itself, run both on the test thread
+        RxJavaHooks.setOnIOScheduler(scheduler -> Schedulers.immediate());
+        RxAndroidPlugins.getInstance().registerSchedulersHook(new RxAndroidSchedulersHook() {
+            @Override
+            public Scheduler getMainThreadScheduler() {
+                return Schedulers.immediate();
+            }
+        });
+        AndroidSchedulers.reset();
+
         // Get a reference to the class under test
         searchPresenter = new SearchPresenter(mockSearchView, mockSearchRepository, new TestSchedulerTransformer<SearchWrapper>());
     }
 
+    @After
+    public void tearDown() {
+        RxJavaHooks.reset();
+        RxAndroidPlugins.getInstance().reset();
+        AndroidSchedulers.reset();
+    }
+
     // region Test Methods
 
     // Test fails because of scheudluers
@@ -113,6 +144,38 @@ public class SearchPresenterTest {
         verify(mockSearchView).clearPersonsAdapter();
     }
 
+    @Test
+    public void onLoadSearch_shouldOnlyUpdateArrivedCategories_whenCategoriesStreamIn() {
+        // 1. (Given) Set up conditions required for the test
+        String query = "Jennifer";
+        SearchWrapper moviesArrivedSearchWrapper = new SearchWrapper(query, getListOfMovies(2), getListOfTelevisionShows(0), getListOfPersons(0));
+        moviesArrivedSearchWrapper.setTelevisionShowsState(SearchWrapper.CategoryState.PENDING);
+        moviesArrivedSearchWrapper.setPersonsState(SearchWrapper.CategoryState.PENDING);
+        SearchWrapper personsFailedSearchWrapper = new SearchWrapper(query, getListOfMovies(2), getListOfTelevisionShows(0), getListOfPersons(0));
+        personsFailedSearchWrapper.setTelevisionShowsState(SearchWrapper.CategoryState.PENDING);
+        personsFailedSearchWrapper.setPersonsState(SearchWrapper.CategoryState.FAILED);
+        searchWrapper = new SearchWrapper(query, getListOfMovies(2), getListOfTelevisionShows(1), getListOfPersons(0));
+        searchWrapper.setPersonsState(SearchWrapper.CategoryState.FAILED);
+        stub = Observable.just(moviesArrivedSearchWrapper, personsFailedSearchWrapper, searchWrapper);
+        when(mockSearchRepository.getSearch(anyString())).thenReturn(stub);
+
+        CharSequence[] queries = {"J", "Je", "Jen", "Jenn", "Jenni", "Jennif", "Jennife", "Jennifer"};
+        Observable<CharSequence> searchQueryChangeObservable = Observable.from(queries);
+
+        // 2. (When) Then perform one or more actions
+        searchPresenter.onLoadSearch(searchQueryChangeObservable);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        verify(mockSearchView, times(queries.length+3)).hideLoadingView();
+
+        verify(mockSearchView).setMoviesInAdapter(moviesArrivedSearchWrapper.getMovies());
+        verify(mockSearchView, never()).clearMoviesAdapter();
+        verify(mockSearchView).clearTelevisionShowsAdapter();
+        verify(mockSearchView).setTelevisionShowsInAdapter(searchWrapper.getTelevisionShows());
+        verify(mockSearchView, times(2)).clearPersonsAdapter();
+        verify(mockSearchView, never()).showErrorView();
+    }
+
     @Test
     public void onMovieClick_shouldOpenMovieDetails() {
         // 1. (Given) Set up conditions required for the test
@@ -155,6 +218,91 @@ public class SearchPresenterTest {
         verifyZeroInteractions(mockSearchRepository);
     }
 
+    @Test
+    public void onScrollToEndOfMovies_shouldNotLoadPage_whenNoSearchIsDisplayed() {
+        // 1. (Given) Set up conditions required for the test
+
+        // 2. (When) Then perform one or more actions
+        searchPresenter.onScrollToEndOfMovies();
+        searchPresenter.onScrollToEndOfTelevisionShows();
+        searchPresenter.onScrollToEndOfPersons();
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        verifyZeroInteractions(mockSearchView);
+        verifyZeroInteractions(mockSearchRepository);
+    }
+
+    @Test
+    public void onScrollToEndOfMovies_shouldLoadAndAppendPage_whenMorePagesExist() {
+        // 1. (Given) Set up conditions required for the test
+        displaySearch(getListOfMovies(1, 20), false);
+        MoviesPage moviesPage = new MoviesPage(getListOfMovies(21, 20), 2, false, new Date());
+        when(mockSearchRepository.getMoviesSearchPage(anyString(), anyInt())).thenReturn(Observable.just(moviesPage));
+
+        // 2. (When) Then perform one or more actions
+        searchPresenter.onScrollToEndOfMovies();
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        verify(mockSearchRepository).getMoviesSearchPage("Jennifer", 2);
+        verify(mockSearchView).addMoviesToAdapter(moviesPage.getMovies());
+        assertFalse(searchPresenter.isMoviesPageLoading());
+        assertFalse(searchPresenter.isMoviesLastPage());
+    }
+
+    @Test
+    public void onScrollToEndOfMovies_shouldStopLoadingPages_whenLastPageIsLoaded() {
+        // 1. (Given) Set up conditions required for the test
+        displaySearch(getListOfMovies(1, 20), false);
+        MoviesPage moviesPage = new MoviesPage(getListOfMovies(21, 5), 2, true, new Date());
+        when(mockSearchRepository.getMoviesSearchPage(anyString(), anyInt())).thenReturn(Observable.just(moviesPage));
+
+        // 2. (When) Then perform one or more actions
+        searchPresenter.onScrollToEndOfMovies();
+        searchPresenter.onScrollToEndOfMovies();
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        verify(mockSearchRepository, times(1)).getMoviesSearchPage(anyString(), anyInt());
+        verify(mockSearchView, times(1)).addMoviesToAdapter(moviesPage.getMovies());
+        assertTrue(searchPresenter.isMoviesLastPage());
+    }
+
+    @Test
+    public void onScrollToEndOfMovies_shouldDropDuplicates_whenPageRepeatsDisplayedMovies() {
+        // 1. (Given) Set up conditions required for the test
+        // The first page followed by two local matches, which page 2 also has
+        List<Movie> displayedMovies = getListOfMovies(1, 20);
+        displayedMovies.addAll(getListOfMovies(30, 2));
+        displaySearch(displayedMovies, false);
+
+        List<Movie> newMovies = getListOfMovies(21, 9);
+        List<Movie> pageMovies = new ArrayList<>(newMovies);
+        pageMovies.addAll(getListOfMovies(30, 2));
+        when(mockSearchRepository.getMoviesSearchPage(anyString(), anyInt()))
+                .thenReturn(Observable.just(new MoviesPage(pageMovies, 2, false, new Date())));
+
+        // 2. (When) Then perform one or more actions
+        searchPresenter.onScrollToEndOfMovies();
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        verify(mockSearchView).addMoviesToAdapter(newMovies);
+        verify(mockSearchView, never()).addMoviesToAdapter(pageMovies);
+    }
+
+    @Test
+    public void onScrollToEndOfMovies_shouldNotLoadPage_whenRequestIsInFlight() {
+        // 1. (Given) Set up conditions required for the test
+        displaySearch(getListOfMovies(1, 20), false);
+        when(mockSearchRepository.getMoviesSearchPage(anyString(), anyInt())).thenReturn(Observable.<MoviesPage>never());
+
+        // 2. (When) Then perform one or more actions
+        searchPresenter.onScrollToEndOfMovies();
+        searchPresenter.onScrollToEndOfMovies();
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        verify(mockSearchRepository, times(1)).getMoviesSearchPage(eq("Jennifer"), anyInt());
+        assertTrue(searchPresenter.isMoviesPageLoading());
+    }
+
     @Test
     public void onDestroyView_shouldNotHaveInteractions() {
         // 1. (Given) Set up conditions required for the test
@@ -169,6 +317,24 @@ public class SearchPresenterTest {
     // endregion
 
     // region Helper Methods
+    private void displaySearch(List<Movie> movies, boolean isMoviesLastPage){
+        searchWrapper = new SearchWrapper("Jennifer", movies, getListOfTelevisionShows(0), getListOfPersons(0));
+        searchWrapper.setMoviesLastPage(isMoviesLastPage);
+        when(mockSearchRepository.getSearch(anyString())).thenReturn(Observable.just(searchWrapper));
+
+        searchPresenter.onLoadSearch(Observable.<CharSequence>just("Jennifer"));
+    }
+
+    private List<Movie> getListOfMovies(int firstId, int numOfMovies){
+        List<Movie> movies = new ArrayList<>();
+        for(int i=0; i<numOfMovies; i++){
+            Movie movie = new Movie();
+            movie.setId(firstId + i);
+            movies.add(movie);
+        }
+        return movies;
+    }
+
     private List<Movie> getListOfMovies(int numOfMovies){
         List<Movie> movies = new ArrayList<>();
         for(int i=0; i<numOfMovies; i++){
@@ -0,0 +1,134 @@
+package com.etiennelawlor.moviehub;
+
+import com.etiennelawlor.moviehub.data.network.MovieHubService;
+import com.etiennelawlor.moviehub.data.network.response.MoviesEnvelope;
+import com.etiennelawlor.moviehub.data.network.response.PeopleEnvelope;
+import com.etiennelawlor.moviehub.data.network.response.TelevisionShowsEnvelope;
+import com.etiennelawlor.moviehub.data.repositories.search.SearchRemoteDataSource;
+import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper;
+import com.etiennelawlor.moviehub.data.repositories.search.models.SearchWrapper.CategoryState;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.observers.TestSubscriber;
+import rx.schedulers.TestScheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * The categories of a search are delayed on a {@link TestScheduler} in place of the network.
+ */
+
+public class SearchRemoteDataSourceTest {
+
+    // region Test Doubles
+
+    // Mocks
+    @Mock
+    private MovieHubService mockMovieHubService;
+
+    // endregion
+
+    // region Member Variables
+    private TestScheduler testScheduler;
+    private SearchRemoteDataSource searchRemoteDataSource;
+    // endregion
+
+    @Before
+    public void setUp() {
+        // Mockito has a very convenient way to inject mocks by using the @Mock annotation. To
+        // inject the mocks in the test the initMocks method needs to be called.
+        MockitoAnnotations.initMocks(this);
+
+        testScheduler = new TestScheduler();
+
+        // Get a reference to the class under test
+        searchRemoteDataSource = new SearchRemoteDataSource(mockMovieHubService, testScheduler);
+    }
+
+    // region Test Methods
+    @Test
+    public void getSearch_shouldEmitFastestCategoryFirst_whenCategoriesAreInFlightTogether() {
+        // 1. (Given) Set up conditions required for the test
+        when(mockMovieHubService.searchMovies(anyString(), anyInt()))
+                .thenReturn(Observable.just(getMoviesEnvelope()).delay(3, TimeUnit.SECONDS, testScheduler));
+        when(mockMovieHubService.searchTelevisionShows(anyString(), anyInt()))
+                .thenReturn(Observable.just(getTelevisionShowsEnvelope()).delay(1, TimeUnit.SECONDS, testScheduler));
+        when(mockMovieHubService.searchPeople(anyString(), anyInt()))
+                .thenReturn(Observable.just(getPeopleEnvelope()).delay(2, TimeUnit.SECONDS, testScheduler));
+        TestSubscriber<SearchWrapper> testSubscriber = new TestSubscriber<>();
+
+        // 2. (When) Then perform one or more actions
+        searchRemoteDataSource.getSearch("Jennifer").subscribe(testSubscriber);
+        testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        List<SearchWrapper> searchWrappers = testSubscriber.getOnNextEvents();
+        assertEquals(1, searchWrappers.size());
+        assertEquals(CategoryState.PENDING, searchWrappers.get(0).getMoviesState());
+        assertEquals(CategoryState.LOADED, searchWrappers.get(0).getTelevisionShowsState());
+        assertEquals(CategoryState.PENDING, searchWrappers.get(0).getPersonsState());
+    }
+
+    @Test
+    public void getSearch_shouldTakeSlowestCategoryTime_whenCategoriesAreInFlightTogether() {
+        // 1. (Given) Set up conditions required for the test
+        when(mockMovieHubService.searchMovies(anyString(), anyInt()))
+                .thenReturn(Observable.just(getMoviesEnvelope()).delay(3, TimeUnit.SECONDS, testScheduler));
+        when(mockMovieHubService.searchTelevisionShows(anyString(), anyInt()))
+                .thenReturn(Observable.just(getTelevisionShowsEnvelope()).delay(1, TimeUnit.SECONDS, testScheduler));
+        when(mockMovieHubService.searchPeople(anyString(), anyInt()))
+                .thenReturn(Observable.just(getPeopleEnvelope()).delay(2, TimeUnit.SECONDS, testScheduler));
+        TestSubscriber<SearchWrapper> testSubscriber = new TestSubscriber<>();
+
+        // 2. (When) Then perform one or more actions
+        searchRemoteDataSource.getSearch("Jennifer").subscribe(testSubscriber);
+        testScheduler.advanceTimeBy(3, TimeUnit.SECONDS);
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        testSubscriber.assertCompleted();
+        List<SearchWrapper> searchWrappers = testSubscriber.getOnNextEvents();
+        assertEquals(3, searchWrappers.size());
+        assertEquals(CategoryState.LOADED, searchWrappers.get(1).getPersonsState());
+        assertEquals(CategoryState.PENDING, searchWrappers.get(1).getMoviesState());
+        assertEquals(true, searchWrappers.get(2).isComplete());
+    }
+    // endregion
+
+    // region Helper Methods
+    private MoviesEnvelope getMoviesEnvelope() {
+        MoviesEnvelope moviesEnvelope = new MoviesEnvelope();
+        moviesEnvelope.setMovies(new ArrayList<>());
+        moviesEnvelope.setPage(1);
+        moviesEnvelope.setTotalPages(1);
+        return moviesEnvelope;
+    }
+
+    private TelevisionShowsEnvelope getTelevisionShowsEnvelope() {
+        TelevisionShowsEnvelope televisionShowsEnvelope = new TelevisionShowsEnvelope();
+        televisionShowsEnvelope.setTelevisionShows(new ArrayList<>());
+        televisionShowsEnvelope.setPage(1);
+        televisionShowsEnvelope.setTotalPages(1);
+        return televisionShowsEnvelope;
+    }
+
+    private PeopleEnvelope getPeopleEnvelope() {
+        PeopleEnvelope peopleEnvelope = new PeopleEnvelope();
+        peopleEnvelope.setPersons(new ArrayList<>());
+        peopleEnvelope.setPage(1);
+        peopleEnvelope.setTotalPages(1);
+        return peopleEnvelope;
+    }
+    // endregion
+}
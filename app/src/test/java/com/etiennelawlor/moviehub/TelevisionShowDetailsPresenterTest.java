@@ -21,6 +21,7 @@ import java.util.List;
 import rx.Subscriber;
 
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
@@ -104,6 +105,31 @@ public class TelevisionShowDetailsPresenterTest {
         verify(mockTelevisionShowDetailsView).showTelevisionShowDetails(televisionShowDetailsWrapper);
     }
 
+    @Test
+    public void onLoadTelevisionShowDetails_shouldNotShowTelevisionShowDetailsAgain_whenRefreshedTelevisionShowDetailsArrive() {
+        // 1. (Given) Set up conditions required for the test
+        TelevisionShow televisionShow = new TelevisionShow();
+        televisionShow.setId(1);
+        List<TelevisionShowCredit> cast = new ArrayList<>();
+        List<TelevisionShowCredit> crew = new ArrayList<>();
+        List<TelevisionShow> similarTelevisionShows = new ArrayList<>();
+        String rating = "";
+        televisionShowDetailsWrapper = new TelevisionShowDetailsWrapper(televisionShow, cast, crew, similarTelevisionShows, rating);
+        TelevisionShowDetailsWrapper refreshedTelevisionShowDetailsWrapper = new TelevisionShowDetailsWrapper(televisionShow, cast, crew, similarTelevisionShows, rating);
+
+        // 2. (When) Then perform one or more actions
+        televisionShowDetailsPresenter.onLoadTelevisionShowDetails(televisionShow.getId());
+
+        // 3. (Then) Afterwards, verify that the state you are expecting is actually achieved
+        subscriberArgumentCaptor = ArgumentCaptor.forClass(Subscriber.class);
+        verify(mockTelevisionShowDetailsUseCase).getTelevisionShowDetails(anyInt(), subscriberArgumentCaptor.capture());
+        subscriberArgumentCaptor.getValue().onNext(televisionShowDetailsWrapper);
+        subscriberArgumentCaptor.getValue().onNext(refreshedTelevisionShowDetailsWrapper);
+
+        verify(mockTelevisionShowDetailsView).showTelevisionShowDetails(televisionShowDetailsWrapper);
+        verify(mockTelevisionShowDetailsView, never()).showTelevisionShowDetails(refreshedTelevisionShowDetailsWrapper);
+    }
+
     @Test
     public void onPersonClick_shouldOpenPersonDetails() {
         // 1. (Given) Set up conditions required for the test